@@ -91,299 +91,352 @@ INSERT INTO categories (name, description) VALUES
 ('语文教学', '语文教学相关文章');
 
 -- 插入文章数据
-INSERT INTO articles (title, content, cover_image, category_id, status, article_type, view_count) VALUES
-('提示信息', '提示信息\n请登录！\n如果您的浏览器没有自动跳转，请点击这里', NULL, 84, 'PUBLISHED', 'NEWS', 554),
-('一年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n一年级 - 语文上试卷大全\n一年级上册语文期末试卷汇总\n一年级上册语文第八单元试卷汇总\n一年级上册语文第七单元试卷汇总\n一年级上册语文第六单元试卷汇总\n一年级上册语文第五单元试卷汇总\n一年级上册语文期中试卷汇总\n一年级上册语文第四单元试卷汇总\n一年级上册语文第三单元试卷汇总\n一年级上册语文第二单元试卷汇总\n一年级上册语文第一单元试卷汇总\n新教材人教版一年级上册语文第八单元测试卷三十\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十九\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-07\n总数：\n427\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/22\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 901),
-('一年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n一年级 - 数学上试卷大全\n一年级上册数学期末试卷汇总\n一年级上册数学第五单元试卷汇总\n一年级上册数学第四单元试卷汇总\n一年级上册数学第三单元试卷汇总\n一年级上册数学期中试卷汇总\n一年级上册数学第二单元试卷汇总\n一年级上册数学第一单元试卷汇总\n一年级上册数学数学游戏试卷汇总\n新教材人教版一年级上册数学第五单元测试卷二十\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十九\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十八\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十七\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十六\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十五\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十四\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十三\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十二\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十一\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷九\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷八\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷七\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷六\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷五\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷四\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷三\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷二\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷一\nvideo\n审核时间：\n2025-10-17\n总数：\n369\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/19\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 714),
-('二年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n二年级 - 语文上试卷大全\n二年级上册语文期末各地真题试卷汇总\n二年级上册语文期末模拟试卷汇总\n二年级上册语文第八单元试卷汇总\n二年级上册语文第七单元试卷汇总\n二年级上册语文第六单元试卷汇总\n二年级上册语文第五单元试卷汇总\n二年级上册语文期中试卷汇总\n二年级上册语文第四单元试卷汇总\n二年级上册语文第三单元试卷汇总\n二年级上册语文第二单元试卷汇总\n二年级上册语文第一单元试卷汇总\n新教材人教版二年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷九\nvideo\n审核时间：\n2025-11-10\n总数：\n506\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/26\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 66),
-('二年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n二年级 - 数学上试卷大全\n二年级上册数学期末名校真题试卷汇总\n二年级上册数学期末模拟试卷汇总\n二年级上册数学第五单元试卷汇总\n二年级上册数学第四单元试卷汇总\n二年级上册数学期中试卷汇总\n二年级上册数学校园小导游试卷汇总\n二年级上册数学第三单元试卷汇总\n二年级上册数学第二单元试卷汇总\n二年级上册数学第一单元试卷汇总\n新教材人教版二年级数学上册期末测试卷六十八\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十七\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十六\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十五\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十四\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十三\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十二\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十一\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十九\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十八\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十七\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十六\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十五\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十四\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十三\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十二\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十一\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷四十九\nvideo\n审核时间：\n2025-11-05\n总数：\n427\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/22\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 937),
-('三年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n三年级 - 语文上试卷大全\n三年级上册语文期末真题试卷汇总\n三年级上册语文期末模拟试卷汇总\n三年级上册语文第八单元试卷汇总\n三年级上册语文第七单元试卷汇总\n三年级上册语文第六单元试卷汇总\n三年级上册语文第五单元试卷汇总\n三年级上册语文期中试卷汇总\n三年级上册语文第四单元试卷汇总\n三年级上册语文第三单元试卷汇总\n三年级上册语文第二单元试卷汇总\n三年级上册语文第一单元试卷汇总\n新教材人教版三年级上册语文第八单元测试卷三十\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十九\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-15\n总数：\n582\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/30\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 902),
-('三年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n三年级 - 数学上试卷大全\n三年级上册数学期末全国各地真题试卷汇总\n三年级上册数学期末模拟试卷汇总\n三年级上册数学第六单元试卷汇总\n三年级上册数学第五单元试卷汇总\n三年级上册数学第四单元试卷汇总\n三年级上册数学期中试卷汇总\n三年级上册数学曹冲称象的故事试卷汇总\n三年级上册数学第三单元试卷汇总\n三年级上册数学第二单元试卷汇总\n三年级上册数学第一单元试卷汇总\n新教材人教版三年级数学上册第六单元测试卷二十八\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十七\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十六\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十五\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十四\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十三\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十二\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十一\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十九\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十八\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十七\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十六\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十五\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十四\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十三\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十二\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十一\nvideo\n审核时间：\n2025-10-24\n新教材人教版三年级数学上册第六单元测试卷十\nvideo\n审核时间：\n2025-10-24\n新教材人教版三年级数学上册第六单元测试卷九\nvideo\n审核时间：\n2025-10-24\n总数：\n562\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/29\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 789),
-('新教材人教版三年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n三年级\n>\n英语\n>\n新教材人教版三年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教PEP版三年级上册英语期中测试卷一\n新教材人教PEP版三年级上册英语期中测试卷二\n新教材人教PEP版三年级上册英语期中测试卷三\n新教材人教PEP版三年级上册英语期中测试卷四\n新教材人教PEP版三年级上册英语期中测试卷五\n新教材人教PEP版三年级上册英语期中测试卷六\n新教材人教PEP版三年级上册英语期中测试卷七\n新教材人教PEP版三年级上册英语期中测试卷八\n新教材人教PEP版三年级上册英语期中测试卷九\n新教材人教PEP版三年级上册英语期中测试卷十\n新教材人教PEP版三年级上册英语期中测试卷十一\n新教材人教PEP版三年级上册英语期中测试卷十二\n新教材人教PEP版三年级上册英语期中测试卷十三\n新教材人教PEP版三年级上册英语期中测试卷十四\n新教材人教PEP版三年级上册英语期中测试卷十五\n新教材人教PEP版三年级上册英语期中测试卷十六\n新教材人教PEP版三年级上册英语期中测试卷十七\n新教材人教PEP版三年级上册英语期中测试卷十八\n新教材人教PEP版三年级上册英语期中测试卷十九\n新教材人教PEP版三年级上册英语期中测试卷二十\n新教材人教PEP版三年级上册英语期中测试卷二十一\n新教材人教PEP版三年级上册英语期中测试卷二十二\n新教材人教PEP版三年级上册英语期中测试卷二十三\n新教材人教PEP版三年级上册英语期中测试卷二十四\n新教材人教PEP版三年级上册英语期中测试卷二十五\n新教材人教PEP版三年级上册英语期中测试卷二十六\n新教材人教PEP版三年级上册英语期中测试卷一\n新教材人教PEP版三年级上册英语期中测试卷二\n新教材人教PEP版三年级上册英语期中测试卷三\n新教材人教PEP版三年级上册英语期中测试卷四\n新教材人教PEP版三年级上册英语期中测试卷五\n新教材人教PEP版三年级上册英语期中测试卷八\n新教材人教PEP版三年级上册英语期中测试卷六\n新教材人教PEP版三年级上册英语期中测试卷七\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS', 278),
-('一年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文期中测试卷一\n新教材人教版一年级上册语文期中测试卷二\n新教材人教版一年级上册语文期中测试卷三\n新教材人教版一年级上册语文期中测试卷四\n新教材人教版一年级上册语文期中测试卷五\n新教材人教版一年级上册语文期中测试卷六\n新教材人教版一年级上册语文期中测试卷七\n新教材人教版一年级上册语文期中测试卷八\n新教材人教版一年级上册语文期中测试卷九\n新教材人教版一年级上册语文期中测试卷十\n新教材人教版一年级上册语文期中测试卷十一\n新教材人教版一年级上册语文期中测试卷十二\n新教材人教版一年级上册语文期中测试卷十三\n新教材人教版一年级上册语文期中测试卷十四\n新教材人教版一年级上册语文期中测试卷十五\n新教材人教版一年级上册语文期中测试卷十六\n新教材人教版一年级上册语文期中测试卷十七\n新教材人教版一年级上册语文期中测试卷十八\n新教材人教版一年级上册语文期中测试卷十九\n新教材人教版一年级上册语文期中测试卷二十\n新教材人教版一年级上册语文期中测试卷二十一\n新教材人教版一年级上册语文期中测试卷二十二\n新教材人教版一年级上册语文期中测试卷二十三\n新教材人教版一年级上册语文期中测试卷二十四\n新教材人教版一年级上册语文期中测试卷二十五\n新教材人教版一年级上册语文期中测试卷二十六\n新教材人教版一年级上册语文期中测试卷二十七\n新教材人教版一年级上册语文期中测试卷二十八\n新教材人教版一年级上册语文期中测试卷二十九\n新教材人教版一年级上册语文期中测试卷三十\n新教材人教版一年级上册语文期中测试卷三十一\n新教材人教版一年级上册语文期中测试卷三十二\n新教材人教版一年级上册语文期中测试卷一\n新教材人教版一年级上册语文期中测试卷二\n新教材人教版一年级上册语文期中测试卷三\n新教材人教版一年级上册语文期中测试卷四\n新教材人教版一年级上册语文期中测试卷五\n新教材人教版一年级上册语文期中测试卷六\n新教材人教版一年级上册语文期中测试卷七\n新教材人教版一年级上册语文期中测试卷八\n新教材人教版一年级上册语文期中测试卷九\n新教材人教版一年级上册语文期中测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 915),
-('一年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学期中测试卷一\n新教材人教版一年级上册数学期中测试卷二\n新教材人教版一年级上册数学期中测试卷三\n新教材人教版一年级上册数学期中测试卷四\n新教材人教版一年级上册数学期中测试卷五\n新教材人教版一年级上册数学期中测试卷六\n新教材人教版一年级上册数学期中测试卷七\n新教材人教版一年级上册数学期中测试卷八\n新教材人教版一年级上册数学期中测试卷九\n新教材人教版一年级上册数学期中测试卷十\n新教材人教版一年级上册数学期中测试卷十一\n新教材人教版一年级上册数学期中测试卷十二\n新教材人教版一年级上册数学期中测试卷十三\n新教材人教版一年级上册数学期中测试卷十四\n新教材人教版一年级上册数学期中测试卷十五\n新教材人教版一年级上册数学期中测试卷十六\n新教材人教版一年级上册数学期中测试卷十七\n新教材人教版一年级上册数学期中测试卷十八\n新教材人教版一年级上册数学期中测试卷十九\n新教材人教版一年级上册数学期中测试卷二十\n新教材人教版一年级上册数学期中测试卷二十一\n新教材人教版一年级上册数学期中测试卷二十二\n新教材人教版一年级上册数学期中测试卷二十三\n新教材人教版一年级上册数学期中测试卷二十四\n新教材人教版一年级上册数学期中测试卷二十五\n新教材人教版一年级上册数学期中测试卷二十六\n新教材人教版一年级上册数学期中测试卷二十七\n新教材人教版一年级上册数学期中测试卷二十八\n新教材人教版一年级上册数学期中测试卷一\n新教材人教版一年级上册数学期中测试卷二\n新教材人教版一年级上册数学期中测试卷三\n新教材人教版一年级上册数学期中测试卷四\n新教材人教版一年级上册数学期中测试卷五\n新教材人教版一年级上册数学期中测试卷六\n新教材人教版一年级上册数学期中测试卷七\n新教材人教版一年级上册数学期中测试卷八\n新教材人教版一年级上册数学期中测试卷九\n新教材人教版一年级上册数学期中测试卷十\n新教材人教版一年级上册数学期中测试卷十一\n新教材人教版一年级上册数学期中测试卷十二\n新教材人教版一年级上册数学期中测试卷十三\n新教材人教版一年级上册数学期中测试卷十四\n新教材人教版一年级上册数学期中测试卷十五\n新教材人教版一年级上册数学期中测试卷十六\n新教材人教版一年级上册数学期中测试卷十七\n新教材人教版一年级上册数学期中测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 558),
-('人教版五年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n五年级\n>\n英语\n>\n人教版五年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n人教PEP版五年级上册英语期中测试卷一\n人教PEP版五年级上册英语期中测试卷二\n人教PEP版五年级上册英语期中测试卷三\n人教PEP版五年级上册英语期中测试卷四\n人教PEP版五年级上册英语期中测试卷五\n人教PEP版五年级上册英语期中测试卷六\n人教PEP版五年级上册英语期中测试卷七\n人教PEP版五年级上册英语期中测试卷八\n人教PEP版五年级上册英语期中测试卷九\n人教PEP版五年级上册英语期中测试卷十\n人教PEP版五年级上册英语期中综合测试卷一\n人教PEP版五年级上册英语期中综合测试卷二\n人教PEP版五年级上册英语期中综合测试卷三\n人教PEP版五年级上册英语期中综合测试卷四\n人教PEP版五年级上册英语期中综合测试卷五\n人教PEP版五年级上册英语期中综合测试卷六\n人教PEP版五年级上册英语期中综合测试卷七\n人教PEP版五年级上册英语期中综合测试卷八\n人教PEP版五年级上册英语期中综合测试卷九\n人教PEP版五年级上册英语期中综合测试卷十\n人教PEP版五年级上册英语期中综合测试卷十一\n人教PEP版五年级上册英语期中综合测试卷十二\n人教PEP版五年级上册英语期中综合测试卷十三\n人教PEP版五年级上册英语期中综合测试卷十四\n人教PEP版五年级上册英语期中综合测试卷十五\n人教PEP版五年级上册英语期中综合测试卷十六\n人教PEP版五年级上册英语期中综合测试卷十七\n人教PEP版五年级上册英语期中综合测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS', 477),
-('人教版六年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n六年级\n>\n英语\n>\n人教版六年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n人教PEP版六年级上册英语期中测试卷一\n人教PEP版六年级上册英语期中测试卷二\n人教PEP版六年级上册英语期中测试卷三\n人教PEP版六年级上册英语期中测试卷五\n人教PEP版六年级上册英语期中测试卷六\n人教PEP版六年级上册英语期中测试卷八\n人教PEP版六年级上册英语期中测试卷九\n人教PEP版六年级上册英语期中测试卷十\n人教PEP版六年级上册英语期中测试卷十一\n人教PEP版六年级上册英语期中测试卷十二\n人教PEP版六年级上册英语期中测试卷十三\n人教PEP版六年级上册英语期中测试卷十四\n人教PEP版六年级上册英语期中测试卷十五\n人教PEP版六年级上册英语期中测试卷七\n人教PEP版六年级上册英语期中测试卷一\n人教PEP版六年级上册英语期中测试卷二\n人教PEP版六年级上册英语期中测试卷三\n人教PEP版六年级上册英语期中测试卷四\n人教PEP版六年级上册英语期中测试卷五\n人教PEP版六年级上册英语期中测试卷六\n人教PEP版六年级上册英语期中测试卷七\n人教PEP版六年级上册英语期中测试卷八\n人教PEP版六年级上册英语期中测试卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS', 973),
-('人教版四年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n四年级\n>\n英语\n>\n人教版四年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教PEP版四年级上册英语期中测试卷一\n新教材人教PEP版四年级上册英语期中测试卷二\n新教材人教PEP版四年级上册英语期中测试卷三\n新教材人教PEP版四年级上册英语期中测试卷四\n新教材人教PEP版四年级上册英语期中测试卷五\n新教材人教PEP版四年级上册英语期中测试卷六\n新教材人教PEP版四年级上册英语期中测试卷七\n新教材人教PEP版四年级上册英语期中测试卷八\n新教材人教PEP版四年级上册英语期中测试卷九\n新教材人教PEP版四年级上册英语期中测试卷十\n新教材人教PEP版四年级上册英语期中测试卷十一\n新教材人教PEP版四年级上册英语期中测试卷十二\n新教材人教PEP版四年级上册英语期中测试卷十三\n新教材人教PEP版四年级上册英语期中测试卷十四\n新教材人教PEP版四年级上册英语期中测试卷十五\n新教材人教PEP版四年级上册英语期中测试卷十六\n新教材人教PEP版四年级上册英语期中测试卷十七\n新教材人教PEP版四年级上册英语期中测试卷十八\n新教材人教PEP版四年级上册英语期中测试卷十九\n新教材人教PEP版四年级上册英语期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS', 258),
-('六年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n六年级\n>\n语文上\n>\n六年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版六年级上学期语文期中测试卷一\n人教版六年级上学期语文期中测试卷二\n人教版六年级上学期语文期中测试卷三\n人教版六年级上学期语文期中测试卷四\n人教版六年级上学期语文期中测试卷五\n人教版六年级上学期语文期中测试卷六\n人教版六年级上学期语文期中测试卷七\n人教版六年级上学期语文期中测试卷八\n人教版六年级上学期语文期中测试卷九\n人教版六年级上学期语文期中测试卷十\n人教版六年级上学期语文期中测试卷十一\n人教版六年级上学期语文期中测试卷十二\n人教版六年级上学期语文期中测试卷十三\n人教版六年级上册语文期中测试卷十四\n人教版六年级上册语文期中测试卷十五\n人教版六年级上册语文期中测试卷十六\n人教版六年级上册语文期中测试卷十七\n人教版六年级上册语文期中测试卷十八\n人教版六年级上册语文期中测试卷十九\n人教版六年级上册语文期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 681),
-('五年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n五年级\n>\n语文上\n>\n五年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版五年级上册语文期中测试卷一\n人教版五年级上册语文期中测试卷二\n人教版五年级上册语文期中测试卷三\n人教版五年级上册语文期中测试卷四\n人教版五年级上册语文期中测试卷五\n人教版五年级上册语文期中测试卷六\n人教版五年级上册语文期中测试卷七\n人教版五年级上册语文期中测试卷九\n人教版五年级上册语文期中测试卷十\n人教版五年级上册语文期中测试卷十一\n人教版五年级第一学期语文期中测试卷十二\n人教版五年级第一学期语文期中测试卷十三\n人教版五年级第一学期语文期中测试卷十四\n教版五年级第一学期语文期中测试卷十五\n教版五年级第一学期语文期中测试卷十六\n人教版五年级第一学期语文期中测试卷十七\n人教版五年级第一学期语文期中测试卷十八\n人教版五年级第一学期语文期中测试卷十九\n人教版五年级第一学期语文期中测试卷二十\n人教版五年级上学期语文期中测试卷二十一\n人教版五年级上学期语文期中测试卷二十二\n人教版五年级上学期语文期中测试卷二十三\n人教版五年级上学期语文期中测试卷二十四\n人教版五年级上册语文期中测试卷八\n人教版五年级上学期语文期中测试卷二十五\n人教版五年级上学期语文期中测试卷二十六\n人教版五年级上学期语文期中测试卷二十七\n人教版五年级上学期语文期中测试卷二十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 989),
-('五年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n五年级\n>\n数学上\n>\n五年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版五年级上册数学期中测试卷一\n人教版五年级上册数学期中测试卷三\n人教版五年级上册数学期中测试卷四\n人教版五年级上册数学期中测试卷五\n人教版五年级上册数学期中测试卷六\n人教版五年级上册数学期中测试卷七\n人教版五年级上册数学期中测试卷八\n人教版五年级上册数学期中测试卷九\n人教版五年级上学期数学期中测试卷十三\n人教版五年级上学期数学期中测试卷十四\n人教版五年级上学期数学期中测试卷十五\n人教版五年级上学期数学期中测试卷十六\n人教版五年级上学期数学期中测试卷十七\n人教版五年级上学期数学期中测试卷十八\n人教版五年级上学期数学期中测试卷十九\n人教版五年级上学期数学期中测试卷二十\n人教版五年级上册数学期中测试卷二\n人教版五年级上册数学期中测试卷十\n人教版五年级上学期数学期中测试卷十一\n人教版五年级上学期数学期中测试卷十二\n人教版五年级上册数学期中测试卷七\n人教版五年级上册数学期中测试卷八\n人教版五年级上册数学期中测试卷九\n人教版五年级上册数学期中测试卷十二\n人教版五年级上册数学期中测试卷十三\n人教版五年级上册数学期中测试卷十六\n人教版五年级上册数学期中测试卷十四\n教版五年级上册数学期中测试卷十五\n人教版五年级上册数学期中测试卷一\n人教版五年级上册数学期中测试卷二\n人教版五年级上册数学期中测试卷三\n教版五年级上册数学期中测试卷四\n人教版五年级上册数学期中测试卷五\n人教版五年级上册数学期中测试卷六\n人教版五年级上册数学期中测试卷十\n人教版五年级上册数学期中测试卷十一\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 175),
-('六年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n六年级\n>\n数学上\n>\n六年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版六年级上册数学期中测试卷一\n人教版六年级上册数学期中测试卷三\n人教版六年级上册数学期中测试卷四\n人教版六年级上册数学期中测试卷五\n人教版六年级上册数学期中测试卷六\n人教版六年级上册数学期中测试卷七\n人教版六年级上册数学期中测试卷八\n人教版六年级上册数学期中测试卷九\n人教版六年级上册数学期中测试卷十\n人教版六年级上册数学期中测试卷十一\n人教版六年级上学期数学期中测试卷十三\n人教版六年级上学期数学期中测试卷十四\n人教版六年级上学期数学期中测试卷十五\n人教版六年级上学期数学期中测试卷十六\n人教版六年级上学期数学期中测试卷十七\n人教版六年级上学期数学期中测试卷十八\n人教版六年级上册数学期中测试卷十二\n人教版六年级上册数学期中测试卷二\n人教版六年级上册数学期中测试卷一\n人教版六年级上册数学期中测试卷二\n人教版六年级上册数学期中测试卷五\n人教版六年级上册数学期中测试卷十二\n人教版六年级上册数学期中测试卷十三\n人教版六年级上册数学期中测试卷十六\n人教版六年级上册数学期中测试卷七\n人教版六年级上册数学期中测试卷八\n人教版六年级上册数学期中测试卷十四\n人教版六年级上册数学期中测试卷十五\n人教版六年级上册数学期中测试卷三\n人教版六年级上册数学期中测试卷四\n人教版六年级上册数学期中测试卷六\n人教版六年级上册数学期中测试卷十一\n人教版六年级上册数学期中测试卷九\n人教版六年级上册数学期中测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 294),
-('四年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n四年级\n>\n语文上\n>\n四年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版四年级上册语文期中测试卷一\n人教版四年级上册语文期中测试卷二\n人教版四年级上册语文期中测试卷三\n人教版四年级上册语文期中测试卷四\n人教版四年级上册语文期中测试卷五\n人教版四年级上册语文期中测试卷六\n人教版四年级上册语文期中测试卷七\n人教版四年级上册语文期中测试卷八\n人教版四年级上册语文期中测试卷九\n人教版四年级上册语文期中测试卷十\n人教版四年级上册语文期中测试卷十一\n人教版四年级第一学期语文期中测试卷二十三\n人教版四年级上学期语文期中测试卷十二\n人教版四年级上学期语文期中测试卷十三\n人教版四年级上学期语文期中测试卷十四\n人教版四年级上学期语文期中测试卷二十一\n人教版四年级上学期语文期中测试卷十五\n人教版四年级上学期语文期中测试卷十六\n人教版四年级上学期语文期中测试卷十七\n人教版四年级上学期语文期中测试卷十八\n人教版四年级上学期语文期中测试卷十九\n人教版四年级上学期语文期中测试卷二十\n人教版四年级第一学期语文期中测试卷二十二\n人教版四年级第一学期语文期中测试卷二十四\n人教版四年级第一学期语文期中测试卷二十五\n人教版四年级第一学期语文期中测试卷二十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 386),
-('三年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n三年级\n>\n语文上\n>\n三年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版三年级上册语文期中测试卷一\n新教材人教版三年级上册语文期中测试卷二\n新教材人教版三年级上册语文期中测试卷三\n新教材人教版三年级上册语文期中测试卷四\n新教材人教版三年级上册语文期中测试卷五\n新教材人教版三年级上册语文期中测试卷六\n新教材人教版三年级上册语文期中测试卷七\n新教材人教版三年级上册语文期中测试卷八\n新教材人教版三年级上册语文期中测试卷九\n新教材人教版三年级上册语文期中测试卷十\n新教材人教版三年级上册语文期中测试卷十一\n新教材人教版三年级上册语文期中测试卷十二\n新教材人教版三年级上册语文期中测试卷十三\n新教材人教版三年级上册语文期中测试卷十四\n新教材人教版三年级上册语文期中测试卷十五\n新教材人教版三年级上册语文期中测试卷十六\n新教材人教版三年级上册语文期中测试卷十七\n新教材人教版三年级上册语文期中测试卷十八\n新教材人教版三年级上册语文期中测试卷十九\n新教材人教版三年级上册语文期中测试卷二十一\n新教材人教版三年级上册语文期中测试卷二十\n新教材人教版三年级上册语文期中测试卷二十五\n新教材人教版三年级上册语文期中测试卷二十二\n新教材人教版三年级上册语文期中测试卷二十三\n新教材人教版三年级上册语文期中测试卷二十四\n新教材人教版三年级上册语文期中测试卷二十六\n新教材人教版三年级上册语文期中测试卷二十七\n新教材人教版三年级上册语文期中测试卷二十八\n人教版三年级上册语文期中考试测试卷一\n人教版三年级上册语文期中考试测试卷二\n人教版三年级上册语文期中考试测试卷三\n人教版三年级上册语文期中考试测试卷四\n人教版三年级上册语文期中考试测试卷五\n人教版三年级上册语文期中考试测试卷六\n人教版三年级上册语文期中考试测试卷七\n人教版三年级上册语文期中考试测试卷八\n人教版三年级上册语文期中考试测试卷九\n人教版三年级上册语文期中考试测试卷十\n人教版三年级上册语文期中考试测试卷十一\n人教版三年级上册语文期中考试测试卷十二\n人教版三年级上学期语文期中考试测试卷十三\n人教版三年级上学期语文期中考试测试卷十四\n人教版三年级上学期语文期中考试测试卷十五\n人教版三年级上学期语文期中考试测试卷十六\n人教版三年级上学期语文期中考试测试卷十七\n人教版三年级上学期语文期中考试测试卷十八\n人教版三年级上学期语文期中考试测试卷十九\n人教版三年级上学期语文期中考试测试卷二十三\n人教版三年级上学期语文期中考试测试卷二十\n人教版三年级上学期语文期中考试测试卷二十一\n人教版三年级上学期语文期中考试测试卷二十二\n人教版三年级第一学期语文期中考试测试卷二十七\n人教版三年级第一学期语文期中考试测试卷二十四\n人教版三年级第一学期语文期中考试测试卷二十五\n人教版三年级第一学期语文期中考试测试卷二十六\n人教版三年级第一学期语文期中考试测试卷二十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 201),
-('三年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n三年级\n>\n数学上\n>\n三年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版三年级数学上册期中测试卷一\n新教材人教版三年级数学上册期中测试卷二\n新教材人教版三年级数学上册期中测试卷三\n新教材人教版三年级数学上册期中测试卷四\n新教材人教版三年级数学上册期中测试卷五\n新教材人教版三年级数学上册期中测试卷六\n新教材人教版三年级数学上册期中测试卷七\n新教材人教版三年级数学上册期中测试卷八\n新教材人教版三年级数学上册期中测试卷九\n新教材人教版三年级数学上册期中测试卷十\n新教材人教版三年级数学上册期中测试卷十一\n新教材人教版三年级数学上册期中测试卷十二\n新教材人教版三年级数学上册期中测试卷十三\n新教材人教版三年级数学上册期中测试卷十四\n新教材人教版三年级数学上册期中测试卷十五\n新教材人教版三年级数学上册期中测试卷十六\n新教材人教版三年级数学上册期中测试卷十七\n新教材人教版三年级数学上册期中测试卷十八\n新教材人教版三年级数学上册期中测试卷十九\n新教材人教版三年级数学上册期中测试卷二十\n新教材人教版三年级数学上册期中测试卷二十一\n新教材人教版三年级数学上册期中测试卷二十二\n新教材人教版三年级数学上册期中测试卷二十三\n新教材人教版三年级数学上册期中测试卷二十四\n新教材人教版三年级数学上册期中测试卷二十五\n新教材人教版三年级数学上册期中测试卷二十六\n新教材人教版三年级数学上册期中测试卷二十七\n新教材人教版三年级数学上册期中测试卷二十八\n新教材人教版三年级数学上册期中测试卷二十九\n新教材人教版三年级数学上册期中测试卷三十\n新教材人教版三年级数学上册期中测试卷三十一\n新教材人教版三年级数学上册期中测试卷三十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 435),
-('二年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n二年级\n>\n语文上\n>\n二年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版二年级上册语文期中测试卷一\n新教材人教版二年级上册语文期中测试卷二\n新教材人教版二年级上册语文期中测试卷三\n新教材人教版二年级上册语文期中测试卷四\n新教材人教版二年级上册语文期中测试卷五\n新教材人教版二年级上册语文期中测试卷六\n新教材人教版二年级上册语文期中测试卷七\n新教材人教版二年级上册语文期中测试卷八\n新教材人教版二年级上册语文期中测试卷九\n新教材人教版二年级上册语文期中测试卷十\n新教材人教版二年级上册语文期中测试卷十一\n新教材人教版二年级上册语文期中测试卷十二\n新教材人教版二年级上册语文期中测试卷十三\n新教材人教版二年级上册语文期中测试卷十四\n新教材人教版二年级上册语文期中测试卷十五\n新教材人教版二年级上册语文期中测试卷十六\n新教材人教版二年级上册语文期中测试卷十七\n新教材人教版二年级上册语文期中测试卷十八\n新教材人教版二年级上册语文期中测试卷十九\n新教材人教版二年级上册语文期中测试卷二十\n新教材人教版二年级上册语文期中测试卷二十一\n新教材人教版二年级上册语文期中测试卷二十二\n新教材人教版二年级上册语文期中测试卷二十三\n新教材人教版二年级上册语文期中测试卷二十四\n新教材人教版二年级上册语文期中测试卷二十五\n新教材人教版二年级上册语文期中测试卷二十六\n新教材人教版二年级上册语文期中测试卷二十七\n新教材人教版二年级上册语文期中测试卷二十八\n人教版二年级上册语文期中测试卷一\n人教版二年级上册语文期中测试卷二\n人教版二年级上册语文期中测试卷三\n人教版二年级上册语文期中测试卷四\n人教版二年级上册语文期中测试卷五\n人教版二年级上册语文期中测试卷六\n人教版二年级上册语文期中测试卷七\n人教版二年级上册语文期中测试卷八\n人教版二年级上册语文期中测试卷十\n人教版二年级第一学期语文期中测试卷十一\n人教版二年级第一学期语文期中测试卷十四\n人教版二年级第一学期语文期中测试卷十五\n人教版二年级第一学期语文期中测试卷十六\n人教版二年级第一学期语文期中测试卷十八\n人教版二年级上册语文期中测试卷九\n人教版二年级第一学期语文期中测试卷十二\n人教版二年级第一学期语文期中测试卷十三\n人教版二年级第一学期语文期中测试卷十七\n人教版二年级第一学期语文期中测试卷十九\n人教版二年级第一学期语文期中测试卷二十\n人教版二年级上学期语文期中测试卷二十一\n人教版二年级上学期语文期中测试卷二十三\n人教版二年级上学期语文期中测试卷二十四\n人教版二年级上学期语文期中测试卷二十五\n人教版二年级上册语文期中测试卷二十六\n人教版二年级上学期语文期中测试卷二十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 923),
-('二年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n二年级\n>\n数学上\n>\n二年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版二年级数学上册期中测试卷一\n新教材人教版二年级数学上册期中测试卷二\n新教材人教版二年级数学上册期中测试卷三\n新教材人教版二年级数学上册期中测试卷四\n新教材人教版二年级数学上册期中测试卷五\n新教材人教版二年级数学上册期中测试卷六\n新教材人教版二年级数学上册期中测试卷七\n新教材人教版二年级数学上册期中测试卷八\n新教材人教版二年级数学上册期中测试卷九\n新教材人教版二年级数学上册期中测试卷十\n新教材人教版二年级数学上册期中测试卷十一\n新教材人教版二年级数学上册期中测试卷十二\n新教材人教版二年级数学上册期中测试卷十三\n新教材人教版二年级数学上册期中测试卷十四\n新教材人教版二年级数学上册期中测试卷十五\n新教材人教版二年级数学上册期中测试卷十六\n新教材人教版二年级数学上册期中测试卷十七\n新教材人教版二年级数学上册期中测试卷十八\n新教材人教版二年级数学上册期中测试卷十九\n新教材人教版二年级数学上册期中测试卷二十\n新教材人教版二年级数学上册期中测试卷二十一\n新教材人教版二年级数学上册期中测试卷二十二\n新教材人教版二年级数学上册期中测试卷二十三\n新教材人教版二年级数学上册期中测试卷二十四\n新教材人教版二年级数学上册期中测试卷二十五\n新教材人教版二年级数学上册期中测试卷二十六\n新教材人教版二年级数学上册期中测试卷二十七\n新教材人教版二年级数学上册期中测试卷二十八\n新教材人教版二年级数学上册期中测试卷二十九\n新教材人教版二年级数学上册期中测试卷三十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 559),
-('四年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n四年级\n>\n数学上\n>\n四年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版四年级上册数学期中考试综合测试卷一\n人教版四年级上册数学期中考试综合测试卷二\n人教版四年级上册数学期中考试综合测试卷三\n人教版四年级上册数学期中考试综合测试卷四\n人教版四年级上册数学期中考试综合测试卷五\n人教版四年级上册数学期中考试综合测试卷六\n人教版四年级上册数学期中考试综合测试卷七\n人教版四年级上册数学期中考试综合测试卷八\n人教版四年级上册数学期中考试综合测试卷九\n人教版四年级上册数学期中考试综合测试卷十\n人教版四年级上册数学期中考试综合测试卷十一\n人教版四年级上册数学期中考试综合测试卷十二\n人教版四年级上册数学期中考试综合测试卷十三\n人教版四年级上册数学期中考试综合测试卷十四\n人教版四年级上册数学期中考试综合测试卷十五\n人教版四年级上册数学期中考试综合测试卷十六\n人教版四年级上册数学期中考试综合测试卷十七\n人教版四年级上册数学期中考试综合测试卷十八\n人教版四年级上册数学期中测试卷四\n人教版四年级上册数学期中测试卷八\n人教版四年级上册数学期中测试卷九\n人教版四年级上册数学期中测试卷十二\n人教版四年级上册数学期中测试卷十三\n人教版四年级上册数学期中测试卷十四\n人教版四年级上册数学期中测试卷十五\n人教版四年级上册数学期中测试卷十六\n人教版四年级上册数学期中测试卷一\n人教版四年级上册数学期中测试卷二\n人教版四年级上册数学期中测试卷三\n人教版四年级上册数学期中测试卷五\n人教版四年级上册数学期中测试卷六\n人教版四年级上册数学期中测试卷七\n人教版四年级上册数学期中测试卷十\n人教版四年级上册数学期中测试卷十一\n人教版四年级上册数学期中考试综合测试卷十九\n人教版四年级上册数学期中考试综合测试卷二十\n人教版四年级上册数学期中考试综合测试卷二十一\n人教版四年级上册数学期中考试综合测试卷二十二\n人教版四年级上册数学期中考试综合测试卷二十三\n人教版四年级上册数学期中考试综合测试卷二十七\n人教版四年级上册数学期中考试综合测试卷二十四\n人教版四年级上册数学期中考试综合测试卷二十五\n人教版四年级上册数学期中考试综合测试卷二十六\n人教版四年级上册数学期中考试综合测试卷二十八\n人教版四年级上册数学期中考试综合测试卷二十九\n人教版四年级上册数学期中考试综合测试卷三十一\n人教版四年级上册数学期中考试综合测试卷三十\n人教版四年级上册数学期中考试综合测试卷三十二\n人教版四年级上册数学期中考试综合测试卷三十三\n人教版四年级上册数学期中考试综合测试卷三十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 100),
-('课程-小学试卷网', '未登录\n下载币\n0\n邀请好友得30下载币\n邀请记录\n积分/下载币攻略\n每邀请\n1\n位好友！得\n30\n下载币，还送\n5\n天题库会员！\n一年级\n语文\n一年级下册部编版语文第一单元 2.2姓氏歌同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 2.1姓氏歌同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 1.2春夏秋冬同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 1.1春夏秋冬同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第八单元 语文园地八同步视频教学\n2022-04-08\n播放\n数学\n一年级下册人教版数学欢乐购物街（简单的计算）同步教学\n2025-05-28\n播放\n一年级下册人教版数学欢乐购物街（认识人民币）同步教学\n2025-05-28\n播放\n一年级下册人教版数学第六单元数量间的加减关系同步教学\n2025-04-20\n播放\n一年级下册人教版数学第五单元5.4解决问题同步教学\n2025-04-06\n播放\n一年级下册人教版数学第五单元5.3不退位减和退位减同步教学\n2025-04-06\n播放\n二年级\n语文\n二年级下册部编版语文第八单元 语文园地八 第2节同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 语文园地八 第1节同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 25.2羿射九日同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 25.1羿射九日同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 24.2当世界年纪还小的时候同步视\n2022-04-12\n播放\n数学\n二年级下册人教版数学第九单元9.1数学广角-推理同步教学\n2022-04-10\n播放\n二年级下册人教版数学第八单元8.1克和千克同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.5 整百、整千数加减运算同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.4 万以内数的大小认识同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.3 10000以内数的认识同步教学\n2022-04-10\n播放\n三年级\n语文\n三年级下册人教版语文第七单元语文园地七同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元24.2火烧云同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元24.1火烧云同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元23.2海底世界同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元23.1海底世界同步视频教学\n2022-05-29\n播放\n数学\n三年级下册人教版数学第八单元8.1数学广角-搭配同步教学\n2022-04-12\n播放\n三年级下册人教版数学第七单元7.2简单的小数加、减法同步教学\n2022-04-12\n播放\n三年级下册人教版数学第七单元7.1认识小数同步教学\n2022-04-12\n播放\n三年级下册人教版数学第六单元6.2 24时计时法同步教学\n2022-04-12\n播放\n三年级下册人教版数学第六单元6.1年、月、日同步教学\n2022-04-12\n播放\n英语\n三年级下册人教版英语第四单元Lesson6综合练习同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson5我的小船在哪里同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson4如何确认物品在哪里同步教\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson2认识方位介词同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson1我的小汽车在哪同步教学\n2022-04-10\n播放\n四年级\n语文\n四年级下册部编版语文第七单元语文园地七 第2节同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元语文园地七 第1节同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元24黄继光同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元23.2诺曼底号遇难记同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元23.1诺曼底号遇难记同步视频教学\n2022-05-29\n播放\n数学\n四年级下册人教版数学第九单元9.1数学广角-鸡兔同笼同步教学\n2022-04-16\n播放\n四年级下册人教版数学第八单元8.2复式条形统计图同步教学\n2022-04-16\n播放\n四年级下册人教版数学第八单元8.1平均数同步教学\n2022-04-16\n播放\n四年级下册人教版数学第七单元7.2平移同步教学\n2022-04-16\n播放\n四年级下册人教版数学第七单元7.1轴对称同步教学\n2022-04-16\n播放\n英语\n四年级下册人教版英语第二单元lesson6综合练习同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson5一天的作息安排同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson4不同时间里的不同活动同步\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson3拼读练习同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson2到了上英语课的时间了同步\n2022-01-29\n播放\n五年级\n语文\n五年级下册部编版语文第七单元语文园地七 第2节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元语文园地七 第1节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元20金字塔 第2节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元20金字塔 第1节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元19.2牧场之国 第2节同步视频教学\n2022-06-03\n播放\n数学\n五年级下册人教版数学第四单元4.10通分同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.9解决问题同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.8最小公倍数同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.7约分同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.6解决问题同步教学\n2022-01-24\n播放\n英语\n五年级下册人教版英语第二单元lesson7综合练习同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson6认识四季里的各种活动同步\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson5你为什么喜欢夏天同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson4拼读小练习同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson3拼读小练习同步教学\n2022-01-29\n播放\n六年级\n语文\n六年级下册部编版语文第四单元语文园地四同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元13.2金色的鱼钩同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元13.1金色的鱼钩同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元12.2为人民服务同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元12.1为人民服务同步视频教学\n2022-05-04\n播放\n数学\n六年级下册人教版数学第三单元3.6圆锥的体积同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.5圆锥的认识同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.4解决问题同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.3圆柱的体积同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.2圆柱的表面积同步教学\n2022-01-26\n播放\n英语\n六年级下册人教版英语第二单元lesson6单元小练习同步教学\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson5综合练习同步教学\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson4你喜欢昨天的电影吗同步教\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson3我想买期新的电影杂志同步\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson2你周末做了什么同步教学\n2022-01-29\n播放\n手机扫一扫\n资料下载，随身携带\n热门课程\n人教版一年级下册数学第三单元3.1数数 数...\n2025-04-06\n立即观看\n小学试卷\n我的题库\n语文上\n章节专项突破\n进入做题\n数学上\n海量试题免费做\n进入做题\n语文下\n真题实战演练\n进入做题\n数学下\n每天10题练习\n进入做题\n英语\n英语试卷大全\n进入做题', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 838),
-('人教版一年级下册数学第三单元3.1数数 数的组成同步视频教学_数学_小学试卷网', '全部课程\n一年级\n数学\n人教版一年级下册数学第三单元3.1数数 数的组成同步视频教学\n免费\n2025-04-06 23:35:14\n0\n人看过\n分享\n收藏\n点击观看视频\n相关视频\n人教版一年级下册数学第三单元3.2数的顺序 比较大小同步视频教学\n免费\n数学\n2025-04-06\n开始播放\n人教版一年级下册数学第二单元2.4解决问题同步视频教学\n免费\n数学\n2025-04-06\n开始播放', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 723),
-('一年级上册语文期末试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文期末试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文期末测试卷一\n新教材人教版一年级上册语文期末测试卷二\n新教材人教版一年级上册语文期末测试卷三\n新教材人教版一年级上册语文期末测试卷四\n新教材人教版一年级上册语文期末测试卷五\n新教材人教版一年级上册语文期末测试卷六\n教材人教版一年级上册语文期末测试卷七\n新教材人教版一年级上册语文期末测试卷八\n新教材人教版一年级上册语文期末测试卷九\n新教材人教版一年级上册语文期末测试卷十\n新教材人教版一年级上册语文期末测试卷十一\n新教材人教版一年级上册语文期末测试卷十二\n新教材人教版一年级上册语文期末测试卷十三\n新教材人教版一年级上册语文期末测试卷十四\n教材人教版一年级上册语文期末测试卷十五\n新教材人教版一年级上册语文期末测试卷十六\n新教材人教版一年级上册语文期末测试卷十七\n新教材人教版一年级上册语文期末测试卷十八\n新教材人教版一年级上册语文期末测试卷十九\n新教材人教版一年级上册语文期末测试卷二十\n新教材人教版一年级上册语文期末测试卷二十一\n新教材人教版一年级上册语文期末测试卷二十二\n新教材人教版一年级上册语文期末测试卷二十三\n新教材人教版一年级上册语文期末测试卷二十四\n新教材人教版一年级上册语文期末测试卷二十五\n新教材人教版一年级上册语文期末测试卷二十六\n新教材人教版一年级上册语文期末测试卷二十七\n新教材人教版一年级上册语文期末测试卷二十八\n新教材人教版一年级上册语文期末测试卷二十九\n新教材人教版一年级上册语文期末测试卷三十\n新教材人教版一年级上册语文期末测试卷三十一\n新教材人教版一年级上册语文期末测试卷三十二\n新教材人教版一年级上册语文期末测试卷三十三\n新教材人教版一年级上册语文期末测试卷三十四\n新教材人教版一年级上册语文期末测试卷三十五\n新教材人教版一年级上册语文期末测试卷三十六\n新教材人教版一年级上册语文期末测试卷三十七\n新教材人教版一年级上册语文期末测试卷三十八\n新教材人教版一年级上册语文期末测试卷三十九\n新教材人教版一年级上册语文期末测试卷四十\n新教材人教版一年级上册语文期末测试卷四十一\n新教材人教版一年级上册语文期末测试卷四十二\n新教材人教版一年级上册语文期末测试卷四十三\n新教材人教版一年级上册语文期末测试卷四十四\n教材人教版一年级上册语文期末测试卷四十五\n新教材人教版一年级上册语文期末测试卷四十六\n新教材人教版一年级上册语文期末测试卷四十七\n新教材人教版一年级上册语文期末测试卷四十八\n新教材人教版一年级上册语文期末测试卷四十九\n新教材人教版一年级上册语文期末测试卷五十\n新教材人教版一年级上册语文期末测试卷五十一\n新教材人教版一年级上册语文期末测试卷五十二\n新教材人教版一年级上册语文期末测试卷五十三\n新教材人教版一年级上册语文期末测试卷五十四\n新教材人教版一年级上册语文期末测试卷五十五\n新教材人教版一年级上册语文期末测试卷五十六\n新教材人教版一年级上册语文期末测试卷五十七\n新教材人教版一年级上册语文期末测试卷五十八\n新教材人教版一年级上册语文期末测试卷五十九\n人教版一年级上册语文期末真题测试卷一\n人教版一年级上册语文期末真题测试卷二\n人教版一年级上册语文期末真题测试卷三\n人教版一年级上册语文期末真题测试卷四\n人教版一年级上册语文期末真题测试卷五\n人教版一年级上册语文期末真题测试卷六\n人教版一年级上册语文期末真题测试卷七\n人教版一年级上册语文期末真题测试卷八\n人教版一年级上册语文期末真题测试卷九\n人教版一年级上册语文期末真题测试卷十\n人教版一年级上册语文期末真题测试卷十一\n人教版一年级上册语文期末真题测试卷十二\n人教版一年级上册语文期末真题测试卷十三\n人教版一年级上册语文期末真题测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 436),
-('一年级上册语文第八单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第八单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第八单元测试卷一\n新教材人教版一年级上册语文第八单元测试卷二\n新教材人教版一年级上册语文第八单元测试卷三\n新教材人教版一年级上册语文第八单元测试卷四\n新教材人教版一年级上册语文第八单元测试卷五\n新教材人教版一年级上册语文第八单元测试卷六\n新教材人教版一年级上册语文第八单元测试卷七\n新教材人教版一年级上册语文第八单元测试卷八\n新教材人教版一年级上册语文第八单元测试卷九\n新教材人教版一年级上册语文第八单元测试卷十\n新教材人教版一年级上册语文第八单元测试卷十一\n新教材人教版一年级上册语文第八单元测试卷十二\n新教材人教版一年级上册语文第八单元测试卷十三\n新教材人教版一年级上册语文第八单元测试卷十四\n新教材人教版一年级上册语文第八单元测试卷十五\n新教材人教版一年级上册语文第八单元测试卷十六\n新教材人教版一年级上册语文第八单元测试卷十七\n新教材人教版一年级上册语文第八单元测试卷十八\n新教材人教版一年级上册语文第八单元测试卷十九\n新教材人教版一年级上册语文第八单元测试卷二十\n新教材人教版一年级上册语文第八单元测试卷二十一\n新教材人教版一年级上册语文第八单元测试卷二十二\n新教材人教版一年级上册语文第八单元测试卷二十三\n新教材人教版一年级上册语文第八单元测试卷二十四\n新教材人教版一年级上册语文第八单元测试卷二十五\n新教材人教版一年级上册语文第八单元测试卷二十六\n新教材人教版一年级上册语文第八单元测试卷二十七\n新教材人教版一年级上册语文第八单元测试卷二十八\n新教材人教版一年级上册语文第八单元测试卷二十九\n新教材人教版一年级上册语文第八单元测试卷三十\n新教材人教版一年级上册语文第八单元测试卷一\n新教材人教版一年级上册语文第八单元测试卷二\n新教材人教版一年级上册语文第八单元测试卷三\n新教材人教版一年级上册语文第八单元测试卷四\n、\n新教材人教版一年级上册语文第八单元测试卷五\n新教材人教版一年级上册语文第八单元测试卷六\n新教材人教版一年级上册语文第八单元测试卷七\n新教材人教版一年级上册语文第八单元测试卷八\n新教材人教版一年级上册语文第八单元测试卷九\n新教材人教版一年级上册语文第八单元测试卷十\n新教材人教版一年级上册语文第八单元测试卷十一\n新教材人教版一年级上册语文第八单元测试卷十二\n新教材人教版一年级上册语文第八单元测试卷十三\n新教材人教版一年级上册语文第八单元测试卷十四\n新教材人教版一年级上册语文第八单元测试卷十五\n新教材人教版一年级上册语文第八单元测试卷十六\n新教材人教版一年级上册语文第八单元测试卷十七\n新教材人教版一年级上册语文第八单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 483),
-('一年级上册语文第七单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第七单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第七单元测试卷一\n新教材人教版一年级上册语文第七单元测试卷二\n新教材人教版一年级上册语文第七单元测试卷三\n新教材人教版一年级上册语文第七单元测试卷四\n新教材人教版一年级上册语文第七单元测试卷五\n新教材人教版一年级上册语文第七单元测试卷六\n新教材人教版一年级上册语文第七单元测试卷七\n新教材人教版一年级上册语文第七单元测试卷八\n新教材人教版一年级上册语文第七单元测试卷九\n新教材人教版一年级上册语文第七单元测试卷十\n新教材人教版一年级上册语文第七单元测试卷十一\n新教材人教版一年级上册语文第七单元测试卷十二\n新教材人教版一年级上册语文第七单元测试卷十三\n新教材人教版一年级上册语文第七单元测试卷十四\n新教材人教版一年级上册语文第七单元测试卷十五\n新教材人教版一年级上册语文第七单元测试卷十六\n新教材人教版一年级上册语文第七单元测试卷十七\n新教材人教版一年级上册语文第七单元测试卷十八\n新教材人教版一年级上册语文第七单元测试卷十九\n新教材人教版一年级上册语文第七单元测试卷二十\n新教材人教版一年级上册语文第七单元测试卷二十一\n新教材人教版一年级上册语文第七单元测试卷二十二\n新教材人教版一年级上册语文第七单元测试卷二十三\n新教材人教版一年级上册语文第七单元测试卷二十四\n新教材人教版一年级上册语文第七单元测试卷二十五\n新教材人教版一年级上册语文第七单元测试卷二十六\n新教材人教版一年级上册语文第七单元测试卷二十七\n新教材人教版一年级上册语文第七单元测试卷二十八\n新教材人教版一年级上册语文第七单元测试卷一\n新教材人教版一年级上册语文第七单元测试卷二\n新教材人教版一年级上册语文第七单元测试卷三\n新教材人教版一年级上册语文第七单元测试卷四\n新教材人教版一年级上册语文第七单元测试卷五\n新教材人教版一年级上册语文第七单元测试卷六\n新教材人教版一年级上册语文第七单元测试卷七\n新教材人教版一年级上册语文第七单元测试卷八\n新教材人教版一年级上册语文第七单元测试卷九\n新教材人教版一年级上册语文第七单元测试卷十\n新教材人教版一年级上册语文第七单元测试卷十一\n新教材人教版一年级上册语文第七单元测试卷十二\n新教材人教版一年级上册语文第七单元测试卷十三\n新教材人教版一年级上册语文第七单元测试卷十四\n新教材人教版一年级上册语文第七单元测试卷十五\n新教材人教版一年级上册语文第七单元测试卷十六\n新教材人教版一年级上册语文第七单元测试卷十七\n新教材人教版一年级上册语文第七单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 803),
-('一年级上册语文第六单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第六单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第六单元测试卷一\n新教材人教版一年级上册语文第六单元测试卷二\n新教材人教版一年级上册语文第六单元测试卷三\n新教材人教版一年级上册语文第六单元测试卷四\n新教材人教版一年级上册语文第六单元测试卷五\n新教材人教版一年级上册语文第六单元测试卷六\n新教材人教版一年级上册语文第六单元测试卷七\n新教材人教版一年级上册语文第六单元测试卷八\n新教材人教版一年级上册语文第六单元测试卷九\n新教材人教版一年级上册语文第六单元测试卷十\n新教材人教版一年级上册语文第六单元测试卷十一\n新教材人教版一年级上册语文第六单元测试卷十二\n新教材人教版一年级上册语文第六单元测试卷十三\n新教材人教版一年级上册语文第六单元测试卷十四\n新教材人教版一年级上册语文第六单元测试卷十五\n新教材人教版一年级上册语文第六单元测试卷十六\n新教材人教版一年级上册语文第六单元测试卷十七\n新教材人教版一年级上册语文第六单元测试卷十八\n新教材人教版一年级上册语文第六单元测试卷十九\n新教材人教版一年级上册语文第六单元测试卷二十\n新教材人教版一年级上册语文第六单元测试卷二十一\n新教材人教版一年级上册语文第六单元测试卷二十二\n新教材人教版一年级上册语文第六单元测试卷二十三\n新教材人教版一年级上册语文第六单元测试卷二十四\n新教材人教版一年级上册语文第六单元测试卷二十五\n新教材人教版一年级上册语文第六单元测试卷二十六\n新教材人教版一年级上册语文第六单元测试卷一\n新教材人教版一年级上册语文第六单元测试卷二\n新教材人教版一年级上册语文第六单元测试卷三\n新教材人教版一年级上册语文第六单元测试卷四\n新教材人教版一年级上册语文第六单元测试卷五\n新教材人教版一年级上册语文第六单元测试卷六\n新教材人教版一年级上册语文第六单元测试卷七\n新教材人教版一年级上册语文第六单元测试卷八\n新教材人教版一年级上册语文第六单元测试卷九\n新教材人教版一年级上册语文第六单元测试卷十\n新教材人教版一年级上册语文第六单元测试卷十一\n新教材人教版一年级上册语文第六单元测试卷十二\n新教材人教版一年级上册语文第六单元测试卷十三\n新教材人教版一年级上册语文第六单元测试卷十四\n新教材人教版一年级上册语文第六单元测试卷十五\n新教材人教版一年级上册语文第六单元测试卷十六\n新教材人教版一年级上册语文第六单元测试卷十七\n新教材人教版一年级上册语文第六单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 357),
-('一年级上册语文第五单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第五单元测试卷一\n新教材人教版一年级上册语文第五单元测试卷二\n新教材人教版一年级上册语文第五单元测试卷三\n新教材人教版一年级上册语文第五单元测试卷四\n新教材人教版一年级上册语文第五单元测试卷五\n新教材人教版一年级上册语文第五单元测试卷六\n新教材人教版一年级上册语文第五单元测试卷七\n新教材人教版一年级上册语文第五单元测试卷八\n新教材人教版一年级上册语文第五单元测试卷九\n新教材人教版一年级上册语文第五单元测试卷十\n新教材人教版一年级上册语文第五单元测试卷十一\n新教材人教版一年级上册语文第五单元测试卷十二\n新教材人教版一年级上册语文第五单元测试卷十三\n新教材人教版一年级上册语文第五单元测试卷十四\n新教材人教版一年级上册语文第五单元测试卷十五\n新教材人教版一年级上册语文第五单元测试卷十六\n新教材人教版一年级上册语文第五单元测试卷十七\n新教材人教版一年级上册语文第五单元测试卷十八\n新教材人教版一年级上册语文第五单元测试卷十九\n新教材人教版一年级上册语文第五单元测试卷二十\n新教材人教版一年级上册语文第五单元测试卷二十一\n新教材人教版一年级上册语文第五单元测试卷二十二\n新教材人教版一年级上册语文第五单元测试卷二十三\n新教材人教版一年级上册语文第五单元测试卷二十四\n新教材人教版一年级上册语文第五单元测试卷一\n新教材人教版一年级上册语文第五单元测试卷二\n新教材人教版一年级上册语文第五单元测试卷三\n新教材人教版一年级上册语文第五单元测试卷四\n新教材人教版一年级上册语文第五单元测试卷五\n新教材人教版一年级上册语文第五单元测试卷六\n新教材人教版一年级上册语文第五单元测试卷七\n新教材人教版一年级上册语文第五单元测试卷八\n新教材人教版一年级上册语文第五单元测试卷九\n新教材人教版一年级上册语文第五单元测试卷十\n新教材人教版一年级上册语文第五单元测试卷十一\n新教材人教版一年级上册语文第五单元测试卷十二\n新教材人教版一年级上册语文第五单元测试卷十三\n新教材人教版一年级上册语文第五单元测试卷十四\n新教材人教版一年级上册语文第五单元测试卷十五\n新教材人教版一年级上册语文第五单元测试卷十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 537),
-('一年级上册语文第四单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第四单元测试卷一\n新教材人教版一年级上册语文第四单元测试卷二\n新教材人教版一年级上册语文第四单元测试卷三\n新教材人教版一年级上册语文第四单元测试卷四\n新教材人教版一年级上册语文第四单元测试卷五\n新教材人教版一年级上册语文第四单元测试卷六\n新教材人教版一年级上册语文第四单元测试卷七\n新教材人教版一年级上册语文第四单元测试卷八\n新教材人教版一年级上册语文第四单元测试卷九\n新教材人教版一年级上册语文第四单元测试卷十\n新教材人教版一年级上册语文第四单元测试卷十一\n新教材人教版一年级上册语文第四单元测试卷十二\n新教材人教版一年级上册语文第四单元测试卷十三\n新教材人教版一年级上册语文第四单元测试卷十四\n新教材人教版一年级上册语文第四单元测试卷十五\n新教材人教版一年级上册语文第四单元测试卷十六\n新教材人教版一年级上册语文第四单元测试卷一\n新教材人教版一年级上册语文第四单元测试卷二\n新教材人教版一年级上册语文第四单元测试卷三\n新教材人教版一年级上册语文第四单元测试卷四\n新教材人教版一年级上册语文第四单元测试卷五\n新教材人教版一年级上册语文第四单元测试卷六\n新教材人教版一年级上册语文第四单元测试卷七\n新教材人教版一年级上册语文第四单元测试卷八\n新教材人教版一年级上册语文第四单元测试卷九\n新教材人教版一年级上册语文第四单元测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 889),
-('一年级上册语文第三单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第三单元测试卷一\n新教材人教版一年级上册语文第三单元测试卷二\n新教材人教版一年级上册语文第三单元测试卷三\n新教材人教版一年级上册语文第三单元测试卷四\n新教材人教版一年级上册语文第三单元测试卷五\n新教材人教版一年级上册语文第三单元测试卷六\n新教材人教版一年级上册语文第三单元测试卷七\n新教材人教版一年级上册语文第三单元测试卷八\n新教材人教版一年级上册语文第三单元测试卷九\n新教材人教版一年级上册语文第三单元测试卷十\n新教材人教版一年级上册语文第三单元测试卷十一\n新教材人教版一年级上册语文第三单元测试卷十二\n新教材人教版一年级上册语文第三单元测试卷十三\n新教材人教版一年级上册语文第三单元测试卷十四\n新教材人教版一年级上册语文第三单元测试卷十五\n新教材人教版一年级上册语文第三单元测试卷十六\n新教材人教版一年级上册语文第三单元测试卷十七\n新教材人教版一年级上册语文第三单元测试卷十八\n新教材人教版一年级上册语文第三单元测试卷十九\n新教材人教版一年级上册语文第三单元测试卷二十\n新教材人教版一年级上册语文第三单元测试卷一\n新教材人教版一年级上册语文第三单元测试卷二\n新教材人教版一年级上册语文第三单元测试卷三\n新教材人教版一年级上册语文第三单元测试卷四\n新教材人教版一年级上册语文第三单元测试卷五\n新教材人教版一年级上册语文第三单元测试卷六\n新教材人教版一年级上册语文第三单元测试卷七\n新教材人教版一年级上册语文第三单元测试卷八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 803),
-('一年级上册语文第二单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第二单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第二单元测试卷一\n新教材人教版一年级上册语文第二单元测试卷二\n新教材人教版一年级上册语文第二单元测试卷三\n新教材人教版一年级上册语文第二单元测试卷四\n新教材人教版一年级上册语文第二单元测试卷五\n新教材人教版一年级上册语文第二单元测试卷六\n新教材人教版一年级上册语文第二单元测试卷七\n新教材人教版一年级上册语文第二单元测试卷八\n新教材人教版一年级上册语文第二单元测试卷九\n新教材人教版一年级上册语文第二单元测试卷十\n新教材人教版一年级上册语文第二单元测试卷十一\n新教材人教版一年级上册语文第二单元测试卷十二\n新教材人教版一年级上册语文第二单元测试卷十三\n新教材人教版一年级上册语文第二单元测试卷十四\n新教材人教版一年级上册语文第二单元测试卷十五\n新教材人教版一年级上册语文第二单元测试卷十六\n新教材人教版一年级上册语文第二单元测试卷十七\n新教材人教版一年级上册语文第二单元测试卷十八\n新教材人教版一年级上册语文第二单元测试卷一\n新教材人教版一年级上册语文第二单元测试卷二\n新教材人教版一年级上册语文第二单元测试卷三\n新教材人教版一年级上册语文第二单元测试卷四\n新教材人教版一年级上册语文第二单元测试卷五\n新教材人教版一年级上册语文第二单元测试卷六\n新教材人教版一年级上册语文第二单元测试卷七\n新教材人教版一年级上册语文第二单元测试卷八\n新教材人教版一年级上册语文第二单元测试卷九\n新教材人教版一年级上册语文第二单元测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 27),
-('一年级上册语文第一单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第一单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第一单元测试卷一\n新教材人教版一年级上册语文第一单元测试卷二\n新教材人教版一年级上册语文第一单元测试卷三\n新教材人教版一年级上册语文第一单元测试卷四\n新教材人教版一年级上册语文第一单元测试卷五\n新教材人教版一年级上册语文第一单元测试卷六\n新教材人教版一年级上册语文第一单元测试卷七\n新教材人教版一年级上册语文第一单元测试卷八\n新教材人教版一年级上册语文第一单元测试卷九\n新教材人教版一年级上册语文第一单元测试卷十\n新教材人教版一年级上册语文第一单元测试卷十一\n新教材人教版一年级上册语文第一单元测试卷十二\n新教材人教版一年级上册语文第一单元测试卷十三\n新教材人教版一年级上册语文第一单元测试卷十四\n新教材人教版一年级上册语文第一单元测试卷十五\n新教材人教版一年级上册语文第一单元测试卷十六\n新教材人教版一年级上册语文第一单元测试卷十七\n新教材人教版一年级上册语文第一单元测试卷十八\n新教材人教版一年级上册语文第一单元测试卷十九\n新教材人教版一年级上册语文第一单元测试卷二十\n新教材人教版一年级上册语文第一单元测试卷一\n新教材人教版一年级上册语文第一单元测试卷二\n新教材人教版一年级上册语文第一单元测试卷三\n新教材人教版一年级上册语文第一单元测试卷四\n新教材人教版一年级上册语文第一单元测试卷五\n新教材人教版一年级上册语文第一单元测试卷六\n新教材人教版一年级上册语文第一单元测试卷七\n新教材人教版一年级上册语文第一单元测试卷八\n新教材人教版一年级上册语文第一单元测试卷九\n新教材人教版一年级上册语文第一单元测试卷十\n新教材人教版一年级上册语文第一单元测试卷十一\n新教材人教版一年级上册语文第一单元测试卷十二\n新教材人教版一年级上册语文第一单元测试卷十三\n新教材人教版一年级上册语文第一单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS', 586),
-('一年级上册数学期末试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学期末试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学期末测试卷一\n新教材人教版一年级上册数学期末测试卷二\n新教材人教版一年级上册数学期末测试卷三\n新教材人教版一年级上册数学期末测试卷四\n新教材人教版一年级上册数学期末测试卷五\n新教材人教版一年级上册数学期末测试卷六\n新教材人教版一年级上册数学期末测试卷七\n新教材人教版一年级上册数学期末测试卷八\n新教材人教版一年级上册数学期末测试卷九\n新教材人教版一年级上册数学期末测试卷十\n新教材人教版一年级上册数学期末测试卷十一\n新教材人教版一年级上册数学期末测试卷十二\n新教材人教版一年级上册数学期末测试卷十三\n新教材人教版一年级上册数学期末测试卷十四\n新教材人教版一年级上册数学期末测试卷十五\n新教材人教版一年级上册数学期末测试卷十六\n新教材人教版一年级上册数学期末测试卷十七\n教材人教版一年级上册数学期末测试卷十八\n新教材人教版一年级上册数学期末测试卷十九\n新教材人教版一年级上册数学期末测试卷二十\n新教材人教版一年级上册数学期末测试卷二十一\n新教材人教版一年级上册数学期末测试卷二十二\n新教材人教版一年级上册数学期末测试卷二十三\n新教材人教版一年级上册数学期末测试卷二十四\n新教材人教版一年级上册数学期末测试卷二十五\n新教材人教版一年级上册数学期末测试卷二十六\n新教材人教版一年级上册数学期末测试卷二十七\n新教材人教版一年级上册数学期末测试卷二十八\n新教材人教版一年级上册数学期末测试卷二十九\n新教材人教版一年级上册数学期末测试卷三十\n新教材人教版一年级上册数学期末测试卷三十一\n新教材人教版一年级上册数学期末测试卷三十二\n新教材人教版一年级上册数学期末测试卷三十三\n新教材人教版一年级上册数学期末测试卷三十四\n新教材人教版一年级上册数学期末测试卷三十五\n新教材人教版一年级上册数学期末测试卷三十六\n新教材人教版一年级上册数学期末测试卷三十七\n新教材人教版一年级上册数学期末测试卷三十八\n新教材人教版一年级上册数学期末测试卷三十九\n新教材人教版一年级上册数学期末测试卷四十\n新教材人教版一年级上册数学期末测试卷四十一\n新教材人教版一年级上册数学期末测试卷四十二\n新教材人教版一年级上册数学期末测试卷四十三\n新教材人教版一年级上册数学期末测试卷四十四\n新教材人教版一年级上册数学期末测试卷四十五\n新教材人教版一年级上册数学期末测试卷四十六\n新教材人教版一年级上册数学期末测试卷四十七\n新教材人教版一年级上册数学期末测试卷四十八\n新教材人教版一年级上册数学期末测试卷四十九\n教材人教版一年级上册数学期末测试卷五十\n新教材人教版一年级上册数学期末测试卷五十一\n新教材人教版一年级上册数学期末测试卷五十二\n新教材人教版一年级上册数学期末测试卷五十三\n新教材人教版一年级上册数学期末测试卷五十四\n新教材人教版一年级上册数学期末测试卷五十五\n新教材人教版一年级上册数学期末测试卷五十六\n新教材人教版一年级上册数学期末测试卷五十七\n新教材人教版一年级上册数学期末测试卷五十八\n新教材人教版一年级上册数学期末测试卷五十九\n新教材人教版一年级上册数学期末测试卷六十\n新教材人教版一年级上册数学期末测试卷六十一\n新教材人教版一年级上册数学期末测试卷六十二\n新教材人教版一年级上册数学期末测试卷六十三\n新教材人教版一年级上册数学期末测试卷六十四\n新教材人教版一年级上册数学期末测试卷六十五\n教材人教版一年级上册数学期末测试卷六十六\n新教材人教版一年级上册数学期末测试卷六十七\n新教材人教版一年级上册数学期末测试卷六十八\n新教材人教版一年级上册数学期末测试卷六十九\n新教材人教版一年级上册数学期末测试卷七十\n新教材人教版一年级上册数学期末测试卷七十一\n新教材人教版一年级上册数学期末测试卷七十二\n新教材人教版一年级上册数学期末测试卷七十三\n新教材人教版一年级上册数学期末测试卷七十四\n新教材人教版一年级上册数学期末测试卷七十五\n新教材人教版一年级上册数学期末测试卷七十六\n新教材人教版一年级上册数学期末测试卷七十七\n新教材人教版一年级上册数学期末测试卷七十八\n新教材人教版一年级上册数学期末测试卷七十九\n新教材人教版一年级上册数学期末测试卷八十\n新教材人教版一年级上册数学期末测试卷八十一\n新教材人教版一年级上册数学期末测试卷八十二\n新教材人教版一年级上册数学期末测试卷八十三\n新教材人教版一年级上册数学期末测试卷八十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 492),
-('一年级上册数学第五单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第五单元测试卷一\n新教材人教版一年级上册数学第五单元测试卷二\n新教材人教版一年级上册数学第五单元测试卷三\n新教材人教版一年级上册数学第五单元测试卷四\n新教材人教版一年级上册数学第五单元测试卷五\n新教材人教版一年级上册数学第五单元测试卷六\n新教材人教版一年级上册数学第五单元测试卷七\n新教材人教版一年级上册数学第五单元测试卷八\n新教材人教版一年级上册数学第五单元测试卷九\n新教材人教版一年级上册数学第五单元测试卷十\n新教材人教版一年级上册数学第五单元测试卷十一\n新教材人教版一年级上册数学第五单元测试卷十二\n新教材人教版一年级上册数学第五单元测试卷十三\n新教材人教版一年级上册数学第五单元测试卷十四\n新教材人教版一年级上册数学第五单元测试卷十五\n新教材人教版一年级上册数学第五单元测试卷十六\n新教材人教版一年级上册数学第五单元测试卷十七\n新教材人教版一年级上册数学第五单元测试卷十八\n新教材人教版一年级上册数学第五单元测试卷十九\n新教材人教版一年级上册数学第五单元测试卷二十\n新教材人教版一年级上册数学第五单元测试卷一\n新教材人教版一年级上册数学第五单元测试卷二\n新教材人教版一年级上册数学第五单元测试卷三\n新教材人教版一年级上册数学第五单元测试卷四\n新教材人教版一年级上册数学第五单元测试卷五\n新教材人教版一年级上册数学第五单元测试卷六\n新教材人教版一年级上册数学第五单元测试卷七\n新教材人教版一年级上册数学第五单元测试卷八\n新教材人教版一年级上册数学第五单元测试卷十九\n新教材人教版一年级上册数学第五单元测试卷二十\n新教材人教版一年级上册数学第五单元测试卷二十一\n新教材人教版一年级上册数学第五单元测试卷二十二\n教材人教版一年级上册数学第五单元测试卷二十三\n新教材人教版一年级上册数学第五单元测试卷二十四\n新教材人教版一年级上册数学第五单元测试卷二十五\n新教材人教版一年级上册数学第五单元测试卷二十六\n新教材人教版一年级上册数学第五单元测试卷九\n新教材人教版一年级上册数学第五单元测试卷十\n新教材人教版一年级上册数学第五单元测试卷十一\n新教材人教版一年级上册数学第五单元测试卷十二\n新教材人教版一年级上册数学第五单元测试卷十三\n教材人教版一年级上册数学第五单元测试卷十四\n新教材人教版一年级上册数学第五单元测试卷十五\n新教材人教版一年级上册数学第五单元测试卷十六\n新教材人教版一年级上册数学第五单元测试卷十七\n新教材人教版一年级上册数学第五单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 113),
-('一年级上册数学第四单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第四单元测试卷一\n新教材人教版一年级上册数学第四单元测试卷二\n新教材人教版一年级上册数学第四单元测试卷三\n新教材人教版一年级上册数学第四单元测试卷四\n新教材人教版一年级上册数学第四单元测试卷五\n新教材人教版一年级上册数学第四单元测试卷六\n新教材人教版一年级上册数学第四单元测试卷七\n新教材人教版一年级上册数学第四单元测试卷八\n新教材人教版一年级上册数学第四单元测试卷九\n新教材人教版一年级上册数学第四单元测试卷十\n新教材人教版一年级上册数学第四单元测试卷十一\n新教材人教版一年级上册数学第四单元测试卷十二\n新教材人教版一年级上册数学第四单元测试卷十三\n新教材人教版一年级上册数学第四单元测试卷十四\n新教材人教版一年级上册数学第四单元测试卷十五\n新教材人教版一年级上册数学第四单元测试卷十六\n新教材人教版一年级上册数学第四单元测试卷十七\n新教材人教版一年级上册数学第四单元测试卷十八\n新教材人教版一年级上册数学第四单元测试卷十九\n新教材人教版一年级上册数学第四单元测试卷二十\n新教材人教版一年级上册数学第四单元测试卷二十一\n新教材人教版一年级上册数学第四单元测试卷二十二\n新教材人教版一年级上册数学第四单元测试卷一\n新教材人教版一年级上册数学第四单元测试卷二\n新教材人教版一年级上册数学第四单元测试卷三\n新教材人教版一年级上册数学第四单元测试卷四\n新教材人教版一年级上册数学第四单元测试卷五\n新教材人教版一年级上册数学第四单元测试卷六\n新教材人教版一年级上册数学第四单元测试卷七\n新教材人教版一年级上册数学第四单元测试卷八\n新教材人教版一年级上册数学第四单元测试卷九\n新教材人教版一年级上册数学第四单元测试卷十\n新教材人教版一年级上册数学第四单元测试卷十一\n新教材人教版一年级上册数学第四单元测试卷十二\n新教材人教版一年级上册数学第四单元测试卷十九\n新教材人教版一年级上册数学第四单元测试卷二十\n新教材人教版一年级上册数学第四单元测试卷二十一\n新教材人教版一年级上册数学第四单元测试卷二十二\n新教材人教版一年级上册数学第四单元测试卷二十三\n新教材人教版一年级上册数学第四单元测试卷二十四\n新教材人教版一年级上册数学第四单元测试卷二十五\n新教材人教版一年级上册数学第四单元测试卷二十六\n新教材人教版一年级上册数学第四单元测试卷十三\n新教材人教版一年级上册数学第四单元测试卷十四\n新教材人教版一年级上册数学第四单元测试卷十五\n新教材人教版一年级上册数学第四单元测试卷十六\n新教材人教版一年级上册数学第四单元测试卷十七\n新教材人教版一年级上册数学第四单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 532),
-('一年级上册数学第三单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第三单元测试卷一\n新教材人教版一年级上册数学第三单元测试卷二\n新教材人教版一年级上册数学第三单元测试卷三\n新教材人教版一年级上册数学第三单元测试卷四\n新教材人教版一年级上册数学第三单元测试卷五\n新教材人教版一年级上册数学第三单元测试卷六\n新教材人教版一年级上册数学第三单元测试卷七\n新教材人教版一年级上册数学第三单元测试卷八\n新教材人教版一年级上册数学第三单元测试卷九\n新教材人教版一年级上册数学第三单元测试卷十\n新教材人教版一年级上册数学第三单元测试卷十一\n新教材人教版一年级上册数学第三单元测试卷十二\n新教材人教版一年级上册数学第三单元测试卷十三\n新教材人教版一年级上册数学第三单元测试卷十四\n新教材人教版一年级上册数学第三单元测试卷十五\n新教材人教版一年级上册数学第三单元测试卷十六\n新教材人教版一年级上册数学第三单元测试卷十七\n新教材人教版一年级上册数学第三单元测试卷十八\n新教材人教版一年级上册数学第三单元测试卷十九\n新教材人教版一年级上册数学第三单元测试卷二十\n新教材人教版一年级上册数学第三单元测试卷二十一\n新教材人教版一年级上册数学第三单元测试卷二十二\n新教材人教版一年级上册数学第三单元测试卷一\n新教材人教版一年级上册数学第三单元测试卷二\n新教材人教版一年级上册数学第三单元测试卷三\n新教材人教版一年级上册数学第三单元测试卷四\n新教材人教版一年级上册数学第三单元测试卷五\n新教材人教版一年级上册数学第三单元测试卷六\n新教材人教版一年级上册数学第三单元测试卷七\n新教材人教版一年级上册数学第三单元测试卷八\n新教材人教版一年级上册数学第三单元测试卷九\n新教材人教版一年级上册数学第三单元测试卷十\n新教材人教版一年级上册数学第三单元测试卷十五\n新教材人教版一年级上册数学第三单元测试卷十六\n新教材人教版一年级上册数学第三单元测试卷十一\n新教材人教版一年级上册数学第三单元测试卷十二\n新教材人教版一年级上册数学第三单元测试卷十三\n新教材人教版一年级上册数学第三单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 418),
-('一年级上册数学第二单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第二单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第二单元测试卷一\n新教材人教版一年级上册数学第二单元测试卷二\n新教材人教版一年级上册数学第二单元测试卷三\n新教材人教版一年级上册数学第二单元测试卷四\n新教材人教版一年级上册数学第二单元测试卷五\n新教材人教版一年级上册数学第二单元测试卷六\n新教材人教版一年级上册数学第二单元测试卷七\n新教材人教版一年级上册数学第二单元测试卷八\n新教材人教版一年级上册数学第二单元测试卷九\n新教材人教版一年级上册数学第二单元测试卷十\n新教材人教版一年级上册数学第二单元测试卷十一\n新教材人教版一年级上册数学第二单元测试卷十二\n新教材人教版一年级上册数学第二单元测试卷十三\n新教材人教版一年级上册数学第二单元测试卷十四\n新教材人教版一年级上册数学第二单元测试卷十五\n新教材人教版一年级上册数学第二单元测试卷十六\n新教材人教版一年级上册数学第二单元测试卷十七\n新教材人教版一年级上册数学第二单元测试卷十八\n新教材人教版一年级上册数学第二单元测试卷一\n新教材人教版一年级上册数学第二单元测试卷二\n新教材人教版一年级上册数学第二单元测试卷三\n新教材人教版一年级上册数学第二单元测试卷四\n新教材人教版一年级上册数学第二单元测试卷五\n新教材人教版一年级上册数学第二单元测试卷六\n新教材人教版一年级上册数学第二单元测试卷七\n新教材人教版一年级上册数学第二单元测试卷八\n新教材人教版一年级上册数学第二单元测试卷九\n新教材人教版一年级上册数学第二单元测试卷十\n新教材人教版一年级上册数学第二单元测试卷十一\n新教材人教版一年级上册数学第二单元测试卷十二\n新教材人教版一年级上册数学第二单元测试卷十三\n新教材人教版一年级上册数学第二单元测试卷十四\n新教材人教版一年级上册数学第二单元测试卷十五\n新教材人教版一年级上册数学第二单元测试卷十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 205),
-('一年级上册数学第一单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第一单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第一单元测试卷一\n新教材人教版一年级上册数学第一单元测试卷二\n新教材人教版一年级上册数学第一单元测试卷三\n新教材人教版一年级上册数学第一单元测试卷四\n新教材人教版一年级上册数学第一单元测试卷五\n新教材人教版一年级上册数学第一单元测试卷六\n新教材人教版一年级上册数学第一单元测试卷七\n新教材人教版一年级上册数学第一单元测试卷八\n新教材人教版一年级上册数学第一单元测试卷九\n新教材人教版一年级上册数学第一单元测试卷十\n新教材人教版一年级上册数学第一单元测试卷十一\n新教材人教版一年级上册数学第一单元测试卷十二\n新教材人教版一年级上册数学第一单元测试卷十三\n新教材人教版一年级上册数学第一单元测试卷十四\n新教材人教版一年级上册数学第一单元测试卷十五\n新教材人教版一年级上册数学第一单元测试卷十六\n新教材人教版一年级上册数学第一单元测试卷十七\n新教材人教版一年级上册数学第一单元测试卷十八\n新教材人教版一年级上册数学第一单元测试卷十九\n新教材人教版一年级上册数学第一单元测试卷二十\n新教材人教版一年级上册数学第一单元测试卷二十一\n新教材人教版一年级上册数学第一单元测试卷二十二\n新教材人教版一年级上册数学第一单元测试卷七\n新教材人教版一年级上册数学第一单元测试卷八\n新教材人教版一年级上册数学第一单元测试卷一\n新教材人教版一年级上册数学第一单元测试卷二\n新教材人教版一年级上册数学第一单元测试卷三\n新教材人教版一年级上册数学第一单元测试卷四\n新教材人教版一年级上册数学第一单元测试卷五\n新教材人教版一年级上册数学第一单元测试卷六\n新教材人教版一年级上册数学第一单元测试卷九\n新教材人教版一年级上册数学第一单元测试卷十\n新教材人教版一年级上册数学第一单元测试卷十一\n新教材人教版一年级上册数学第一单元测试卷十二\n新教材人教版一年级上册数学第一单元测试卷十三\n新教材人教版一年级上册数学第一单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 862),
-('一年级上册数学数学游戏试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学数学游戏试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学《数学游戏》测试卷一\n新教材人教版一年级上册数学《数学游戏》测试卷二\n新教材人教版一年级上册数学《数学游戏》测试卷三\n新教材人教版一年级上册数学《数学游戏》测试卷四\n新教材人教版一年级上册数学《数学游戏》测试卷五\n新教材人教版一年级上册数学《数学游戏》测试卷六\n新教材人教版一年级上册数学《数学游戏》测试卷七\n新教材人教版一年级上册数学《数学游戏》测试卷八\n新教材人教版一年级上册数学《数学游戏》测试卷九\n新教材人教版一年级上册数学《数学游戏》测试卷十\n新教材人教版一年级上册数学《数学游戏》测试卷十一\n新教材人教版一年级上册数学《数学游戏》测试卷十二\n新教材人教版一年级上册数学《数学游戏》测试卷十三\n新教材人教版一年级上册数学《数学游戏》测试卷十四\n新教材人教版一年级上册数学《数学游戏》测试卷一\n新教材人教版一年级上册数学《数学游戏》测试卷二\n新教材人教版一年级上册数学《数学游戏》测试卷三\n新教材人教版一年级上册数学《数学游戏》测试卷四\n新教材人教版一年级上册数学《数学游戏》测试卷五\n新教材人教版一年级上册数学《数学游戏》测试卷六\n新教材人教版一年级上册数学《数学游戏》测试卷七\n新教材人教版一年级上册数学《数学游戏》测试卷八\n新教材人教版一年级上册数学《数学游戏》测试卷九\n新教材人教版一年级上册数学《数学游戏》测试卷十\n新教材人教版一年级上册数学《数学游戏》测试卷十一\n新教材人教版一年级上册数学《数学游戏》测试卷十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 59),
-('新教材北师版一年级上册数学《记录我的一天》试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学《记录我的一天》试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册《记录我的一天》测试卷一\n新教材北师版一年级数学上册《记录我的一天》测试卷二\n新教材北师版一年级数学上册《记录我的一天》测试卷三\n新教材北师版一年级数学上册《记录我的一天》测试卷四\n新教材北师版一年级数学上册《记录我的一天》测试卷五\n新教材北师版一年级数学上册《记录我的一天》测试卷六\n新教材北师版一年级数学上册《记录我的一天》测试卷七\n新教材北师版一年级数学上册《记录我的一天》测试卷八\n新教材北师版一年级数学上册《记录我的一天》测试卷九\n新教材北师版一年级数学上册《记录我的一天》测试卷十\n新教材北师版一年级数学上册《记录我的一天》测试卷十一\n新教材北师版一年级数学上册《记录我的一天》测试卷十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 851),
-('新教材北师版一年级上册数学第五单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册第五单元测试卷一\n新教材北师版一年级数学上册第五单元测试卷二\n新教材北师版一年级数学上册第五单元测试卷三\n新教材北师版一年级数学上册第五单元测试卷四\n新教材北师版一年级数学上册第五单元测试卷五\n新教材北师版一年级数学上册第五单元测试卷六\n新教材北师版一年级数学上册第五单元测试卷七\n新教材北师版一年级数学上册第五单元测试卷八\n新教材北师版一年级数学上册第五单元测试卷九\n新教材北师版一年级数学上册第五单元测试卷十\n新教材北师版一年级数学上册第五单元测试卷十一\n新教材北师版一年级数学上册第五单元测试卷十二\n新教材北师版一年级数学上册第五单元测试卷十三\n新教材北师版一年级数学上册第五单元测试卷十四\n新教材北师版一年级数学上册第五单元测试卷十五\n新教材北师版一年级数学上册第五单元测试卷十六\n新教材北师版一年级数学上册第五单元测试卷十七\n新教材北师版一年级数学上册第五单元测试卷十八\n新教材北师版一年级数学上册第五单元测试卷十九\n新教材北师版一年级数学上册第五单元测试卷二十\n北师版一年级数学上学期第五单元检测卷一\n北师版一年级数学上学期第五单元检测卷二\n北师版一年级数学上学期第五单元检测卷三\n北师版一年级数学上学期第五单元检测卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 558),
-('新教材北师版一年级上册数学第四单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册第四单元测试卷一\n新教材北师版一年级数学上册第四单元测试卷二\n新教材北师版一年级数学上册第四单元测试卷三\n新教材北师版一年级数学上册第四单元测试卷四\n新教材北师版一年级数学上册第四单元测试卷五\n新教材北师版一年级数学上册第四单元测试卷六\n新教材北师版一年级数学上册第四单元测试卷七\n新教材北师版一年级数学上册第四单元测试卷八\n新教材北师版一年级数学上册第四单元测试卷九\n新教材北师版一年级数学上册第四单元测试卷十\n新教材北师版一年级数学上册第四单元测试卷十一\n新教材北师版一年级数学上册第四单元测试卷十二\n新教材北师版一年级数学上册第四单元测试卷十三\n新教材北师版一年级数学上册第四单元测试卷十四\n新教材北师版一年级数学上册第四单元测试卷十五\n新教材北师版一年级数学上册第四单元测试卷十六\n新教材北师版一年级数学上册第四单元测试卷十七\n新教材北师版一年级数学上册第四单元测试卷十八\n新教材北师版一年级数学上册第四单元测试卷十九\n新教材北师版一年级数学上册第四单元测试卷二十\n师版一年级数学上学期第四单元过关检测卷一\n北师版一年级数学上学期第四单元过关检测卷二\n北师版一年级数学上学期第四单元过关检测卷三\n北师版一年级数学上学期第四单元过关检测卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 561),
-('新教材北师版一年级上册数学期中试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册期中测试卷一\n新教材北师版一年级数学上册期中测试卷二\n新教材北师版一年级数学上册期中测试卷三\n新教材北师版一年级数学上册期中测试卷四\n新教材北师版一年级数学上册期中测试卷五\n新教材北师版一年级数学上册期中测试卷六\n新教材北师版一年级数学上册期中测试卷七\n新教材北师版一年级数学上册期中测试卷八\n新教材北师版一年级数学上册期中测试卷九\n新教材北师版一年级数学上册期中测试卷十\n新教材北师版一年级数学上册期中测试卷十一\n新教材北师版一年级数学上册期中测试卷十二\n新教材北师版一年级数学上册期中测试卷十三\n新教材北师版一年级数学上册期中测试卷十四\n新教材北师版一年级数学上册期中测试卷十五\n新教材北师版一年级数学上册期中测试卷十六\n新教材北师版一年级数学上册期中测试卷十七\n新教材北师版一年级数学上册期中测试卷十八\n新教材北师版一年级数学上册期中测试卷十九\n新教材北师版一年级数学上册期中测试卷二十\n新教材北师版一年级数学上册期中测试卷二十一\n新教材北师版一年级数学上册期中测试卷二十二\n新教材北师版一年级数学上册期中测试卷二十三\n新教材北师版一年级数学上册期中测试卷二十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 669),
-('北师版数学一年级上册我上学啦到第三单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n北师版数学一年级上册我上学啦到第三单元试卷汇总\n点击相应的试卷图片进入下载\n我上学啦\n新教材北师版一年级数学上册我上学啦测试卷一\n新教材北师版一年级数学上册我上学啦测试卷二\n新教材北师版一年级数学上册我上学啦测试卷三\n新教材北师版一年级数学上册我上学啦测试卷四\n新教材北师版一年级数学上册我上学啦测试卷五\n新教材北师版一年级数学上册我上学啦测试卷六\n新教材北师版一年级数学上册我上学啦测试卷七\n新教材北师版一年级数学上册我上学啦测试卷八\n第一单元\n新教材北师版一年级数学上册第一单元测试卷一\n新教材北师版一年级数学上册第一单元测试卷二\n新教材北师版一年级数学上册第一单元测试卷三\n新教材北师版一年级数学上册第一单元测试卷四\n新教材北师版一年级数学上册第一单元测试卷五\n新教材北师版一年级数学上册第一单元测试卷六\n新教材北师版一年级数学上册第一单元测试卷七\n新教材北师版一年级数学上册第一单元测试卷八\n新教材北师版一年级数学上册第一单元测试卷九\n新教材北师版一年级数学上册第一单元测试卷十\n新教材北师版一年级数学上册第一单元测试卷十一\n新教材北师版一年级数学上册第一单元测试卷十二\n第二单元\n新教材北师版一年级数学上册第二单元测试卷一\n新教材北师版一年级数学上册第二单元测试卷二\n新教材北师版一年级数学上册第二单元测试卷三\n新教材北师版一年级数学上册第二单元测试卷四\n新教材北师版一年级数学上册第二单元测试卷五\n新教材北师版一年级数学上册第二单元测试卷六\n新教材北师版一年级数学上册第二单元测试卷七\n新教材北师版一年级数学上册第二单元测试卷八\n第三单元\n新教材北师版一年级数学上册第三单元测试卷一\n新教材北师版一年级数学上册第三单元测试卷二\n新教材北师版一年级数学上册第三单元测试卷三\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 462),
-('苏教版一年级上册数学第五单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第五单元测试卷一\n新教材苏教版一年级数学上学期第五单元测试卷二\n新教材苏教版一年级数学上学期第五单元测试卷三\n新教材苏教版一年级数学上学期第五单元测试卷四\n新教材苏教版一年级数学上学期第五单元测试卷五\n新教材苏教版一年级数学上学期第五单元测试卷六\n新教材苏教版一年级数学上学期第五单元测试卷七\n新教材苏教版一年级数学上学期第五单元测试卷八\n新教材苏教版一年级数学上学期第五单元测试卷九\n新教材苏教版一年级数学上学期第五单元测试卷十\n新教材苏教版一年级数学上学期第五单元测试卷十一\n新教材苏教版一年级数学上学期第五单元测试卷十二\n新教材苏教版一年级数学上学期第五单元测试卷十三\n新教材苏教版一年级数学上学期第五单元测试卷十四\n新教材苏教版一年级数学上学期第五单元测试卷十五\n新教材苏教版一年级数学上学期第五单元测试卷十六\n新教材苏教版一年级数学上学期第五单元测试卷十七\n新教材苏教版一年级数学上学期第五单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 847),
-('苏教版一年级上册数学第四单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第三单元测试卷一\n新教材苏教版一年级数学上学期第三单元测试卷二\n新教材苏教版一年级数学上学期第三单元测试卷三\n新教材苏教版一年级数学上学期第三单元测试卷四\n新教材苏教版一年级数学上学期第三单元测试卷五\n新教材苏教版一年级数学上学期第三单元测试卷六\n新教材苏教版一年级数学上学期第三单元测试卷七\n新教材苏教版一年级数学上学期第三单元测试卷八\n新教材苏教版一年级数学上学期第三单元测试卷九\n新教材苏教版一年级数学上学期第三单元测试卷十\n新教材苏教版一年级数学上学期第三单元测试卷十一\n新教材苏教版一年级数学上学期第三单元测试卷十二\n新教材苏教版一年级数学上学期第三单元测试卷十三\n新教材苏教版一年级数学上学期第三单元测试卷十四\n新教材苏教版一年级数学上学期第三单元测试卷十五\n新教材苏教版一年级数学上学期第三单元测试卷十六\n新教材苏教版一年级数学上学期第三单元测试卷十七\n新教材苏教版一年级数学上学期第三单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 43),
-('苏教版一年级上册数学第三单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第三单元测试卷一\n新教材苏教版一年级数学上学期第三单元测试卷二\n新教材苏教版一年级数学上学期第三单元测试卷三\n新教材苏教版一年级数学上学期第三单元测试卷四\n新教材苏教版一年级数学上学期第三单元测试卷五\n新教材苏教版一年级数学上学期第三单元测试卷六\n新教材苏教版一年级数学上学期第三单元测试卷七\n新教材苏教版一年级数学上学期第三单元测试卷八\n新教材苏教版一年级数学上学期第三单元测试卷九\n新教材苏教版一年级数学上学期第三单元测试卷十\n新教材苏教版一年级数学上学期第三单元测试卷十一\n新教材苏教版一年级数学上学期第三单元测试卷十二\n新教材苏教版一年级数学上学期第三单元测试卷十三\n新教材苏教版一年级数学上学期第三单元测试卷十四\n新教材苏教版一年级数学上学期第三单元测试卷十五\n新教材苏教版一年级数学上学期第三单元测试卷十六\n新教材苏教版一年级数学上学期第三单元测试卷十七\n新教材苏教版一年级数学上学期第三单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 290),
-('苏教版一年级上册数学期中试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期期中测试卷一\n新教材苏教版一年级数学上学期期中测试卷二\n新教材苏教版一年级数学上学期期中测试卷三\n新教材苏教版一年级数学上学期期中测试卷四\n新教材苏教版一年级数学上学期期中测试卷五\n新教材苏教版一年级数学上学期期中测试卷六\n新教材苏教版一年级数学上学期期中测试卷七\n新教材苏教版一年级数学上学期期中测试卷八\n新教材苏教版一年级数学上学期期中测试卷九\n新教材苏教版一年级数学上学期期中测试卷十\n新教材苏教版一年级数学上学期期中测试卷十一\n新教材苏教版一年级数学上学期期中测试卷十二\n新教材苏教版一年级数学上学期期中测试卷十三\n新教材苏教版一年级数学上学期期中测试卷十四\n新教材苏教版一年级数学上学期期中测试卷十五\n新教材苏教版一年级数学上学期期中测试卷十六\n新教材苏教版一年级数学上学期期中测试卷十七\n新教材苏教版一年级数学上学期期中测试卷十八\n新教材苏教版一年级数学上学期期中测试卷十九\n新教材苏教版一年级数学上学期期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS', 370);
+INSERT INTO articles (title, content, cover_image, category_id, status, article_type) VALUES
+('提示信息', '提示信息\n请登录！\n如果您的浏览器没有自动跳转，请点击这里', NULL, 84, 'PUBLISHED', 'NEWS'),
+('一年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n一年级 - 语文上试卷大全\n一年级上册语文期末试卷汇总\n一年级上册语文第八单元试卷汇总\n一年级上册语文第七单元试卷汇总\n一年级上册语文第六单元试卷汇总\n一年级上册语文第五单元试卷汇总\n一年级上册语文期中试卷汇总\n一年级上册语文第四单元试卷汇总\n一年级上册语文第三单元试卷汇总\n一年级上册语文第二单元试卷汇总\n一年级上册语文第一单元试卷汇总\n新教材人教版一年级上册语文第八单元测试卷三十\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十九\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-07\n新教材人教版一年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-07\n总数：\n427\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/22\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n一年级 - 数学上试卷大全\n一年级上册数学期末试卷汇总\n一年级上册数学第五单元试卷汇总\n一年级上册数学第四单元试卷汇总\n一年级上册数学第三单元试卷汇总\n一年级上册数学期中试卷汇总\n一年级上册数学第二单元试卷汇总\n一年级上册数学第一单元试卷汇总\n一年级上册数学数学游戏试卷汇总\n新教材人教版一年级上册数学第五单元测试卷二十\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十九\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十八\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十七\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十六\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十五\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十四\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十三\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十二\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十一\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷十\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷九\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷八\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷七\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷六\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷五\nvideo\n审核时间：\n2025-10-18\n新教材人教版一年级上册数学第五单元测试卷四\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷三\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷二\nvideo\n审核时间：\n2025-10-17\n新教材人教版一年级上册数学第五单元测试卷一\nvideo\n审核时间：\n2025-10-17\n总数：\n369\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/19\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('二年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n二年级 - 语文上试卷大全\n二年级上册语文期末各地真题试卷汇总\n二年级上册语文期末模拟试卷汇总\n二年级上册语文第八单元试卷汇总\n二年级上册语文第七单元试卷汇总\n二年级上册语文第六单元试卷汇总\n二年级上册语文第五单元试卷汇总\n二年级上册语文期中试卷汇总\n二年级上册语文第四单元试卷汇总\n二年级上册语文第三单元试卷汇总\n二年级上册语文第二单元试卷汇总\n二年级上册语文第一单元试卷汇总\n新教材人教版二年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷十\nvideo\n审核时间：\n2025-11-10\n新教材人教版二年级上册语文第八单元测试卷九\nvideo\n审核时间：\n2025-11-10\n总数：\n506\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/26\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('二年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n二年级 - 数学上试卷大全\n二年级上册数学期末名校真题试卷汇总\n二年级上册数学期末模拟试卷汇总\n二年级上册数学第五单元试卷汇总\n二年级上册数学第四单元试卷汇总\n二年级上册数学期中试卷汇总\n二年级上册数学校园小导游试卷汇总\n二年级上册数学第三单元试卷汇总\n二年级上册数学第二单元试卷汇总\n二年级上册数学第一单元试卷汇总\n新教材人教版二年级数学上册期末测试卷六十八\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十七\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十六\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十五\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十四\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十三\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十二\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十一\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷六十\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十九\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十八\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十七\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十六\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十五\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十四\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十三\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十二\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十一\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷五十\nvideo\n审核时间：\n2025-11-05\n新教材人教版二年级数学上册期末测试卷四十九\nvideo\n审核时间：\n2025-11-05\n总数：\n427\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/22\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('三年级语文上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n三年级 - 语文上试卷大全\n三年级上册语文期末真题试卷汇总\n三年级上册语文期末模拟试卷汇总\n三年级上册语文第八单元试卷汇总\n三年级上册语文第七单元试卷汇总\n三年级上册语文第六单元试卷汇总\n三年级上册语文第五单元试卷汇总\n三年级上册语文期中试卷汇总\n三年级上册语文第四单元试卷汇总\n三年级上册语文第三单元试卷汇总\n三年级上册语文第二单元试卷汇总\n三年级上册语文第一单元试卷汇总\n新教材人教版三年级上册语文第八单元测试卷三十\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十九\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十八\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十七\nvideo\n审核时间：\n2025-11-16\n新教材人教版三年级上册语文第八单元测试卷二十六\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十五\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十四\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十三\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十二\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十一\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷二十\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十九\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十八\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十七\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十六\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十五\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十四\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十三\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十二\nvideo\n审核时间：\n2025-11-15\n新教材人教版三年级上册语文第八单元测试卷十一\nvideo\n审核时间：\n2025-11-15\n总数：\n582\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/30\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('三年级数学上试卷下载-小学试卷网', '首页\n课程\n热门课程\n一年级\n语文\n数学\n二年级\n语文\n数学\n三年级\n语文\n数学\n英语\n四年级\n语文\n数学\n英语\n五年级\n语文\n数学\n英语\n六年级\n语文\n数学\n英语\n教辅\n一年级\n二年级\n三年级\n四年级\n五年级\n六年级\n考卷\n热门课程\n一年级\n语文上\n语文下\n数学上\n数学下\n二年级\n语文上\n数学上\n黑板报\n语文下\n数学下\n三年级\n语文上\n数学上\n英语\n语文下\n数学下\n四年级\n语文上\n数学上\n英语\n语文下\n数学下\n五年级\n语文上\n数学上\n英语\n语文下\n数学下\n六年级\n语文上\n数学上\n英语\n语文下\n数学下\n寒暑假\n小升初\n作文\n登录\n|\n注册\n欢迎来到小学试卷网，\n请登录！\n签到领积分>\n我的服务\n信息管理\n我的收藏\n会员中心\n我的账户\n账号设置\n退出\n0\n购点充值\n0\n0\n课程收藏\n考卷下载\n试卷版本\n苏教版\n北师版\n其他试卷\n教辅\n首页\n我的课程\n三年级语文\n三年级数学\n三年级英语\n个人管理\n文章收藏\n信息管理\n账户安全\n试卷版本\n苏教版\n北师版\n其他试卷\n三年级 - 数学上试卷大全\n三年级上册数学期末全国各地真题试卷汇总\n三年级上册数学期末模拟试卷汇总\n三年级上册数学第六单元试卷汇总\n三年级上册数学第五单元试卷汇总\n三年级上册数学第四单元试卷汇总\n三年级上册数学期中试卷汇总\n三年级上册数学曹冲称象的故事试卷汇总\n三年级上册数学第三单元试卷汇总\n三年级上册数学第二单元试卷汇总\n三年级上册数学第一单元试卷汇总\n新教材人教版三年级数学上册第六单元测试卷二十八\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十七\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十六\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十五\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十四\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十三\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十二\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十一\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷二十\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十九\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十八\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十七\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十六\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十五\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十四\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十三\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十二\nvideo\n审核时间：\n2025-10-25\n新教材人教版三年级数学上册第六单元测试卷十一\nvideo\n审核时间：\n2025-10-24\n新教材人教版三年级数学上册第六单元测试卷十\nvideo\n审核时间：\n2025-10-24\n新教材人教版三年级数学上册第六单元测试卷九\nvideo\n审核时间：\n2025-10-24\n总数：\n562\n首页\n上一页\n下一页\n尾页\n页次：\n1\n/29\n关于我们\n┊\n联系方式\n┊\n充值说明\n┊\n版权声明\n┊\n触屏版\n如果您发现本网站上有侵犯您的合法权益的内容，请联系我们，本网站将立即予以删除！\n广告合作QQ：748492175 | 邮箱：748492175@qq.com\n版权所有©2019-2021\n小学试卷网\nAll Rights Reserved', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('新教材人教版三年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n三年级\n>\n英语\n>\n新教材人教版三年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教PEP版三年级上册英语期中测试卷一\n新教材人教PEP版三年级上册英语期中测试卷二\n新教材人教PEP版三年级上册英语期中测试卷三\n新教材人教PEP版三年级上册英语期中测试卷四\n新教材人教PEP版三年级上册英语期中测试卷五\n新教材人教PEP版三年级上册英语期中测试卷六\n新教材人教PEP版三年级上册英语期中测试卷七\n新教材人教PEP版三年级上册英语期中测试卷八\n新教材人教PEP版三年级上册英语期中测试卷九\n新教材人教PEP版三年级上册英语期中测试卷十\n新教材人教PEP版三年级上册英语期中测试卷十一\n新教材人教PEP版三年级上册英语期中测试卷十二\n新教材人教PEP版三年级上册英语期中测试卷十三\n新教材人教PEP版三年级上册英语期中测试卷十四\n新教材人教PEP版三年级上册英语期中测试卷十五\n新教材人教PEP版三年级上册英语期中测试卷十六\n新教材人教PEP版三年级上册英语期中测试卷十七\n新教材人教PEP版三年级上册英语期中测试卷十八\n新教材人教PEP版三年级上册英语期中测试卷十九\n新教材人教PEP版三年级上册英语期中测试卷二十\n新教材人教PEP版三年级上册英语期中测试卷二十一\n新教材人教PEP版三年级上册英语期中测试卷二十二\n新教材人教PEP版三年级上册英语期中测试卷二十三\n新教材人教PEP版三年级上册英语期中测试卷二十四\n新教材人教PEP版三年级上册英语期中测试卷二十五\n新教材人教PEP版三年级上册英语期中测试卷二十六\n新教材人教PEP版三年级上册英语期中测试卷一\n新教材人教PEP版三年级上册英语期中测试卷二\n新教材人教PEP版三年级上册英语期中测试卷三\n新教材人教PEP版三年级上册英语期中测试卷四\n新教材人教PEP版三年级上册英语期中测试卷五\n新教材人教PEP版三年级上册英语期中测试卷八\n新教材人教PEP版三年级上册英语期中测试卷六\n新教材人教PEP版三年级上册英语期中测试卷七\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS'),
+('一年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文期中测试卷一\n新教材人教版一年级上册语文期中测试卷二\n新教材人教版一年级上册语文期中测试卷三\n新教材人教版一年级上册语文期中测试卷四\n新教材人教版一年级上册语文期中测试卷五\n新教材人教版一年级上册语文期中测试卷六\n新教材人教版一年级上册语文期中测试卷七\n新教材人教版一年级上册语文期中测试卷八\n新教材人教版一年级上册语文期中测试卷九\n新教材人教版一年级上册语文期中测试卷十\n新教材人教版一年级上册语文期中测试卷十一\n新教材人教版一年级上册语文期中测试卷十二\n新教材人教版一年级上册语文期中测试卷十三\n新教材人教版一年级上册语文期中测试卷十四\n新教材人教版一年级上册语文期中测试卷十五\n新教材人教版一年级上册语文期中测试卷十六\n新教材人教版一年级上册语文期中测试卷十七\n新教材人教版一年级上册语文期中测试卷十八\n新教材人教版一年级上册语文期中测试卷十九\n新教材人教版一年级上册语文期中测试卷二十\n新教材人教版一年级上册语文期中测试卷二十一\n新教材人教版一年级上册语文期中测试卷二十二\n新教材人教版一年级上册语文期中测试卷二十三\n新教材人教版一年级上册语文期中测试卷二十四\n新教材人教版一年级上册语文期中测试卷二十五\n新教材人教版一年级上册语文期中测试卷二十六\n新教材人教版一年级上册语文期中测试卷二十七\n新教材人教版一年级上册语文期中测试卷二十八\n新教材人教版一年级上册语文期中测试卷二十九\n新教材人教版一年级上册语文期中测试卷三十\n新教材人教版一年级上册语文期中测试卷三十一\n新教材人教版一年级上册语文期中测试卷三十二\n新教材人教版一年级上册语文期中测试卷一\n新教材人教版一年级上册语文期中测试卷二\n新教材人教版一年级上册语文期中测试卷三\n新教材人教版一年级上册语文期中测试卷四\n新教材人教版一年级上册语文期中测试卷五\n新教材人教版一年级上册语文期中测试卷六\n新教材人教版一年级上册语文期中测试卷七\n新教材人教版一年级上册语文期中测试卷八\n新教材人教版一年级上册语文期中测试卷九\n新教材人教版一年级上册语文期中测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学期中测试卷一\n新教材人教版一年级上册数学期中测试卷二\n新教材人教版一年级上册数学期中测试卷三\n新教材人教版一年级上册数学期中测试卷四\n新教材人教版一年级上册数学期中测试卷五\n新教材人教版一年级上册数学期中测试卷六\n新教材人教版一年级上册数学期中测试卷七\n新教材人教版一年级上册数学期中测试卷八\n新教材人教版一年级上册数学期中测试卷九\n新教材人教版一年级上册数学期中测试卷十\n新教材人教版一年级上册数学期中测试卷十一\n新教材人教版一年级上册数学期中测试卷十二\n新教材人教版一年级上册数学期中测试卷十三\n新教材人教版一年级上册数学期中测试卷十四\n新教材人教版一年级上册数学期中测试卷十五\n新教材人教版一年级上册数学期中测试卷十六\n新教材人教版一年级上册数学期中测试卷十七\n新教材人教版一年级上册数学期中测试卷十八\n新教材人教版一年级上册数学期中测试卷十九\n新教材人教版一年级上册数学期中测试卷二十\n新教材人教版一年级上册数学期中测试卷二十一\n新教材人教版一年级上册数学期中测试卷二十二\n新教材人教版一年级上册数学期中测试卷二十三\n新教材人教版一年级上册数学期中测试卷二十四\n新教材人教版一年级上册数学期中测试卷二十五\n新教材人教版一年级上册数学期中测试卷二十六\n新教材人教版一年级上册数学期中测试卷二十七\n新教材人教版一年级上册数学期中测试卷二十八\n新教材人教版一年级上册数学期中测试卷一\n新教材人教版一年级上册数学期中测试卷二\n新教材人教版一年级上册数学期中测试卷三\n新教材人教版一年级上册数学期中测试卷四\n新教材人教版一年级上册数学期中测试卷五\n新教材人教版一年级上册数学期中测试卷六\n新教材人教版一年级上册数学期中测试卷七\n新教材人教版一年级上册数学期中测试卷八\n新教材人教版一年级上册数学期中测试卷九\n新教材人教版一年级上册数学期中测试卷十\n新教材人教版一年级上册数学期中测试卷十一\n新教材人教版一年级上册数学期中测试卷十二\n新教材人教版一年级上册数学期中测试卷十三\n新教材人教版一年级上册数学期中测试卷十四\n新教材人教版一年级上册数学期中测试卷十五\n新教材人教版一年级上册数学期中测试卷十六\n新教材人教版一年级上册数学期中测试卷十七\n新教材人教版一年级上册数学期中测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('人教版五年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n五年级\n>\n英语\n>\n人教版五年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n人教PEP版五年级上册英语期中测试卷一\n人教PEP版五年级上册英语期中测试卷二\n人教PEP版五年级上册英语期中测试卷三\n人教PEP版五年级上册英语期中测试卷四\n人教PEP版五年级上册英语期中测试卷五\n人教PEP版五年级上册英语期中测试卷六\n人教PEP版五年级上册英语期中测试卷七\n人教PEP版五年级上册英语期中测试卷八\n人教PEP版五年级上册英语期中测试卷九\n人教PEP版五年级上册英语期中测试卷十\n人教PEP版五年级上册英语期中综合测试卷一\n人教PEP版五年级上册英语期中综合测试卷二\n人教PEP版五年级上册英语期中综合测试卷三\n人教PEP版五年级上册英语期中综合测试卷四\n人教PEP版五年级上册英语期中综合测试卷五\n人教PEP版五年级上册英语期中综合测试卷六\n人教PEP版五年级上册英语期中综合测试卷七\n人教PEP版五年级上册英语期中综合测试卷八\n人教PEP版五年级上册英语期中综合测试卷九\n人教PEP版五年级上册英语期中综合测试卷十\n人教PEP版五年级上册英语期中综合测试卷十一\n人教PEP版五年级上册英语期中综合测试卷十二\n人教PEP版五年级上册英语期中综合测试卷十三\n人教PEP版五年级上册英语期中综合测试卷十四\n人教PEP版五年级上册英语期中综合测试卷十五\n人教PEP版五年级上册英语期中综合测试卷十六\n人教PEP版五年级上册英语期中综合测试卷十七\n人教PEP版五年级上册英语期中综合测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS'),
+('人教版六年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n六年级\n>\n英语\n>\n人教版六年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n人教PEP版六年级上册英语期中测试卷一\n人教PEP版六年级上册英语期中测试卷二\n人教PEP版六年级上册英语期中测试卷三\n人教PEP版六年级上册英语期中测试卷五\n人教PEP版六年级上册英语期中测试卷六\n人教PEP版六年级上册英语期中测试卷八\n人教PEP版六年级上册英语期中测试卷九\n人教PEP版六年级上册英语期中测试卷十\n人教PEP版六年级上册英语期中测试卷十一\n人教PEP版六年级上册英语期中测试卷十二\n人教PEP版六年级上册英语期中测试卷十三\n人教PEP版六年级上册英语期中测试卷十四\n人教PEP版六年级上册英语期中测试卷十五\n人教PEP版六年级上册英语期中测试卷七\n人教PEP版六年级上册英语期中测试卷一\n人教PEP版六年级上册英语期中测试卷二\n人教PEP版六年级上册英语期中测试卷三\n人教PEP版六年级上册英语期中测试卷四\n人教PEP版六年级上册英语期中测试卷五\n人教PEP版六年级上册英语期中测试卷六\n人教PEP版六年级上册英语期中测试卷七\n人教PEP版六年级上册英语期中测试卷八\n人教PEP版六年级上册英语期中测试卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS'),
+('人教版四年级上册英语期中试卷汇总_英语_小学试卷网', '首页\n>\n四年级\n>\n英语\n>\n人教版四年级上册英语期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教PEP版四年级上册英语期中测试卷一\n新教材人教PEP版四年级上册英语期中测试卷二\n新教材人教PEP版四年级上册英语期中测试卷三\n新教材人教PEP版四年级上册英语期中测试卷四\n新教材人教PEP版四年级上册英语期中测试卷五\n新教材人教PEP版四年级上册英语期中测试卷六\n新教材人教PEP版四年级上册英语期中测试卷七\n新教材人教PEP版四年级上册英语期中测试卷八\n新教材人教PEP版四年级上册英语期中测试卷九\n新教材人教PEP版四年级上册英语期中测试卷十\n新教材人教PEP版四年级上册英语期中测试卷十一\n新教材人教PEP版四年级上册英语期中测试卷十二\n新教材人教PEP版四年级上册英语期中测试卷十三\n新教材人教PEP版四年级上册英语期中测试卷十四\n新教材人教PEP版四年级上册英语期中测试卷十五\n新教材人教PEP版四年级上册英语期中测试卷十六\n新教材人教PEP版四年级上册英语期中测试卷十七\n新教材人教PEP版四年级上册英语期中测试卷十八\n新教材人教PEP版四年级上册英语期中测试卷十九\n新教材人教PEP版四年级上册英语期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 82, 'PUBLISHED', 'NEWS'),
+('六年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n六年级\n>\n语文上\n>\n六年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版六年级上学期语文期中测试卷一\n人教版六年级上学期语文期中测试卷二\n人教版六年级上学期语文期中测试卷三\n人教版六年级上学期语文期中测试卷四\n人教版六年级上学期语文期中测试卷五\n人教版六年级上学期语文期中测试卷六\n人教版六年级上学期语文期中测试卷七\n人教版六年级上学期语文期中测试卷八\n人教版六年级上学期语文期中测试卷九\n人教版六年级上学期语文期中测试卷十\n人教版六年级上学期语文期中测试卷十一\n人教版六年级上学期语文期中测试卷十二\n人教版六年级上学期语文期中测试卷十三\n人教版六年级上册语文期中测试卷十四\n人教版六年级上册语文期中测试卷十五\n人教版六年级上册语文期中测试卷十六\n人教版六年级上册语文期中测试卷十七\n人教版六年级上册语文期中测试卷十八\n人教版六年级上册语文期中测试卷十九\n人教版六年级上册语文期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('五年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n五年级\n>\n语文上\n>\n五年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版五年级上册语文期中测试卷一\n人教版五年级上册语文期中测试卷二\n人教版五年级上册语文期中测试卷三\n人教版五年级上册语文期中测试卷四\n人教版五年级上册语文期中测试卷五\n人教版五年级上册语文期中测试卷六\n人教版五年级上册语文期中测试卷七\n人教版五年级上册语文期中测试卷九\n人教版五年级上册语文期中测试卷十\n人教版五年级上册语文期中测试卷十一\n人教版五年级第一学期语文期中测试卷十二\n人教版五年级第一学期语文期中测试卷十三\n人教版五年级第一学期语文期中测试卷十四\n教版五年级第一学期语文期中测试卷十五\n教版五年级第一学期语文期中测试卷十六\n人教版五年级第一学期语文期中测试卷十七\n人教版五年级第一学期语文期中测试卷十八\n人教版五年级第一学期语文期中测试卷十九\n人教版五年级第一学期语文期中测试卷二十\n人教版五年级上学期语文期中测试卷二十一\n人教版五年级上学期语文期中测试卷二十二\n人教版五年级上学期语文期中测试卷二十三\n人教版五年级上学期语文期中测试卷二十四\n人教版五年级上册语文期中测试卷八\n人教版五年级上学期语文期中测试卷二十五\n人教版五年级上学期语文期中测试卷二十六\n人教版五年级上学期语文期中测试卷二十七\n人教版五年级上学期语文期中测试卷二十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('五年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n五年级\n>\n数学上\n>\n五年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版五年级上册数学期中测试卷一\n人教版五年级上册数学期中测试卷三\n人教版五年级上册数学期中测试卷四\n人教版五年级上册数学期中测试卷五\n人教版五年级上册数学期中测试卷六\n人教版五年级上册数学期中测试卷七\n人教版五年级上册数学期中测试卷八\n人教版五年级上册数学期中测试卷九\n人教版五年级上学期数学期中测试卷十三\n人教版五年级上学期数学期中测试卷十四\n人教版五年级上学期数学期中测试卷十五\n人教版五年级上学期数学期中测试卷十六\n人教版五年级上学期数学期中测试卷十七\n人教版五年级上学期数学期中测试卷十八\n人教版五年级上学期数学期中测试卷十九\n人教版五年级上学期数学期中测试卷二十\n人教版五年级上册数学期中测试卷二\n人教版五年级上册数学期中测试卷十\n人教版五年级上学期数学期中测试卷十一\n人教版五年级上学期数学期中测试卷十二\n人教版五年级上册数学期中测试卷七\n人教版五年级上册数学期中测试卷八\n人教版五年级上册数学期中测试卷九\n人教版五年级上册数学期中测试卷十二\n人教版五年级上册数学期中测试卷十三\n人教版五年级上册数学期中测试卷十六\n人教版五年级上册数学期中测试卷十四\n教版五年级上册数学期中测试卷十五\n人教版五年级上册数学期中测试卷一\n人教版五年级上册数学期中测试卷二\n人教版五年级上册数学期中测试卷三\n教版五年级上册数学期中测试卷四\n人教版五年级上册数学期中测试卷五\n人教版五年级上册数学期中测试卷六\n人教版五年级上册数学期中测试卷十\n人教版五年级上册数学期中测试卷十一\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('六年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n六年级\n>\n数学上\n>\n六年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版六年级上册数学期中测试卷一\n人教版六年级上册数学期中测试卷三\n人教版六年级上册数学期中测试卷四\n人教版六年级上册数学期中测试卷五\n人教版六年级上册数学期中测试卷六\n人教版六年级上册数学期中测试卷七\n人教版六年级上册数学期中测试卷八\n人教版六年级上册数学期中测试卷九\n人教版六年级上册数学期中测试卷十\n人教版六年级上册数学期中测试卷十一\n人教版六年级上学期数学期中测试卷十三\n人教版六年级上学期数学期中测试卷十四\n人教版六年级上学期数学期中测试卷十五\n人教版六年级上学期数学期中测试卷十六\n人教版六年级上学期数学期中测试卷十七\n人教版六年级上学期数学期中测试卷十八\n人教版六年级上册数学期中测试卷十二\n人教版六年级上册数学期中测试卷二\n人教版六年级上册数学期中测试卷一\n人教版六年级上册数学期中测试卷二\n人教版六年级上册数学期中测试卷五\n人教版六年级上册数学期中测试卷十二\n人教版六年级上册数学期中测试卷十三\n人教版六年级上册数学期中测试卷十六\n人教版六年级上册数学期中测试卷七\n人教版六年级上册数学期中测试卷八\n人教版六年级上册数学期中测试卷十四\n人教版六年级上册数学期中测试卷十五\n人教版六年级上册数学期中测试卷三\n人教版六年级上册数学期中测试卷四\n人教版六年级上册数学期中测试卷六\n人教版六年级上册数学期中测试卷十一\n人教版六年级上册数学期中测试卷九\n人教版六年级上册数学期中测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('四年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n四年级\n>\n语文上\n>\n四年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n人教版四年级上册语文期中测试卷一\n人教版四年级上册语文期中测试卷二\n人教版四年级上册语文期中测试卷三\n人教版四年级上册语文期中测试卷四\n人教版四年级上册语文期中测试卷五\n人教版四年级上册语文期中测试卷六\n人教版四年级上册语文期中测试卷七\n人教版四年级上册语文期中测试卷八\n人教版四年级上册语文期中测试卷九\n人教版四年级上册语文期中测试卷十\n人教版四年级上册语文期中测试卷十一\n人教版四年级第一学期语文期中测试卷二十三\n人教版四年级上学期语文期中测试卷十二\n人教版四年级上学期语文期中测试卷十三\n人教版四年级上学期语文期中测试卷十四\n人教版四年级上学期语文期中测试卷二十一\n人教版四年级上学期语文期中测试卷十五\n人教版四年级上学期语文期中测试卷十六\n人教版四年级上学期语文期中测试卷十七\n人教版四年级上学期语文期中测试卷十八\n人教版四年级上学期语文期中测试卷十九\n人教版四年级上学期语文期中测试卷二十\n人教版四年级第一学期语文期中测试卷二十二\n人教版四年级第一学期语文期中测试卷二十四\n人教版四年级第一学期语文期中测试卷二十五\n人教版四年级第一学期语文期中测试卷二十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('三年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n三年级\n>\n语文上\n>\n三年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版三年级上册语文期中测试卷一\n新教材人教版三年级上册语文期中测试卷二\n新教材人教版三年级上册语文期中测试卷三\n新教材人教版三年级上册语文期中测试卷四\n新教材人教版三年级上册语文期中测试卷五\n新教材人教版三年级上册语文期中测试卷六\n新教材人教版三年级上册语文期中测试卷七\n新教材人教版三年级上册语文期中测试卷八\n新教材人教版三年级上册语文期中测试卷九\n新教材人教版三年级上册语文期中测试卷十\n新教材人教版三年级上册语文期中测试卷十一\n新教材人教版三年级上册语文期中测试卷十二\n新教材人教版三年级上册语文期中测试卷十三\n新教材人教版三年级上册语文期中测试卷十四\n新教材人教版三年级上册语文期中测试卷十五\n新教材人教版三年级上册语文期中测试卷十六\n新教材人教版三年级上册语文期中测试卷十七\n新教材人教版三年级上册语文期中测试卷十八\n新教材人教版三年级上册语文期中测试卷十九\n新教材人教版三年级上册语文期中测试卷二十一\n新教材人教版三年级上册语文期中测试卷二十\n新教材人教版三年级上册语文期中测试卷二十五\n新教材人教版三年级上册语文期中测试卷二十二\n新教材人教版三年级上册语文期中测试卷二十三\n新教材人教版三年级上册语文期中测试卷二十四\n新教材人教版三年级上册语文期中测试卷二十六\n新教材人教版三年级上册语文期中测试卷二十七\n新教材人教版三年级上册语文期中测试卷二十八\n人教版三年级上册语文期中考试测试卷一\n人教版三年级上册语文期中考试测试卷二\n人教版三年级上册语文期中考试测试卷三\n人教版三年级上册语文期中考试测试卷四\n人教版三年级上册语文期中考试测试卷五\n人教版三年级上册语文期中考试测试卷六\n人教版三年级上册语文期中考试测试卷七\n人教版三年级上册语文期中考试测试卷八\n人教版三年级上册语文期中考试测试卷九\n人教版三年级上册语文期中考试测试卷十\n人教版三年级上册语文期中考试测试卷十一\n人教版三年级上册语文期中考试测试卷十二\n人教版三年级上学期语文期中考试测试卷十三\n人教版三年级上学期语文期中考试测试卷十四\n人教版三年级上学期语文期中考试测试卷十五\n人教版三年级上学期语文期中考试测试卷十六\n人教版三年级上学期语文期中考试测试卷十七\n人教版三年级上学期语文期中考试测试卷十八\n人教版三年级上学期语文期中考试测试卷十九\n人教版三年级上学期语文期中考试测试卷二十三\n人教版三年级上学期语文期中考试测试卷二十\n人教版三年级上学期语文期中考试测试卷二十一\n人教版三年级上学期语文期中考试测试卷二十二\n人教版三年级第一学期语文期中考试测试卷二十七\n人教版三年级第一学期语文期中考试测试卷二十四\n人教版三年级第一学期语文期中考试测试卷二十五\n人教版三年级第一学期语文期中考试测试卷二十六\n人教版三年级第一学期语文期中考试测试卷二十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('三年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n三年级\n>\n数学上\n>\n三年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版三年级数学上册期中测试卷一\n新教材人教版三年级数学上册期中测试卷二\n新教材人教版三年级数学上册期中测试卷三\n新教材人教版三年级数学上册期中测试卷四\n新教材人教版三年级数学上册期中测试卷五\n新教材人教版三年级数学上册期中测试卷六\n新教材人教版三年级数学上册期中测试卷七\n新教材人教版三年级数学上册期中测试卷八\n新教材人教版三年级数学上册期中测试卷九\n新教材人教版三年级数学上册期中测试卷十\n新教材人教版三年级数学上册期中测试卷十一\n新教材人教版三年级数学上册期中测试卷十二\n新教材人教版三年级数学上册期中测试卷十三\n新教材人教版三年级数学上册期中测试卷十四\n新教材人教版三年级数学上册期中测试卷十五\n新教材人教版三年级数学上册期中测试卷十六\n新教材人教版三年级数学上册期中测试卷十七\n新教材人教版三年级数学上册期中测试卷十八\n新教材人教版三年级数学上册期中测试卷十九\n新教材人教版三年级数学上册期中测试卷二十\n新教材人教版三年级数学上册期中测试卷二十一\n新教材人教版三年级数学上册期中测试卷二十二\n新教材人教版三年级数学上册期中测试卷二十三\n新教材人教版三年级数学上册期中测试卷二十四\n新教材人教版三年级数学上册期中测试卷二十五\n新教材人教版三年级数学上册期中测试卷二十六\n新教材人教版三年级数学上册期中测试卷二十七\n新教材人教版三年级数学上册期中测试卷二十八\n新教材人教版三年级数学上册期中测试卷二十九\n新教材人教版三年级数学上册期中测试卷三十\n新教材人教版三年级数学上册期中测试卷三十一\n新教材人教版三年级数学上册期中测试卷三十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('二年级上册语文期中试卷汇总_语文上_小学试卷网', '首页\n>\n二年级\n>\n语文上\n>\n二年级上册语文期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版二年级上册语文期中测试卷一\n新教材人教版二年级上册语文期中测试卷二\n新教材人教版二年级上册语文期中测试卷三\n新教材人教版二年级上册语文期中测试卷四\n新教材人教版二年级上册语文期中测试卷五\n新教材人教版二年级上册语文期中测试卷六\n新教材人教版二年级上册语文期中测试卷七\n新教材人教版二年级上册语文期中测试卷八\n新教材人教版二年级上册语文期中测试卷九\n新教材人教版二年级上册语文期中测试卷十\n新教材人教版二年级上册语文期中测试卷十一\n新教材人教版二年级上册语文期中测试卷十二\n新教材人教版二年级上册语文期中测试卷十三\n新教材人教版二年级上册语文期中测试卷十四\n新教材人教版二年级上册语文期中测试卷十五\n新教材人教版二年级上册语文期中测试卷十六\n新教材人教版二年级上册语文期中测试卷十七\n新教材人教版二年级上册语文期中测试卷十八\n新教材人教版二年级上册语文期中测试卷十九\n新教材人教版二年级上册语文期中测试卷二十\n新教材人教版二年级上册语文期中测试卷二十一\n新教材人教版二年级上册语文期中测试卷二十二\n新教材人教版二年级上册语文期中测试卷二十三\n新教材人教版二年级上册语文期中测试卷二十四\n新教材人教版二年级上册语文期中测试卷二十五\n新教材人教版二年级上册语文期中测试卷二十六\n新教材人教版二年级上册语文期中测试卷二十七\n新教材人教版二年级上册语文期中测试卷二十八\n人教版二年级上册语文期中测试卷一\n人教版二年级上册语文期中测试卷二\n人教版二年级上册语文期中测试卷三\n人教版二年级上册语文期中测试卷四\n人教版二年级上册语文期中测试卷五\n人教版二年级上册语文期中测试卷六\n人教版二年级上册语文期中测试卷七\n人教版二年级上册语文期中测试卷八\n人教版二年级上册语文期中测试卷十\n人教版二年级第一学期语文期中测试卷十一\n人教版二年级第一学期语文期中测试卷十四\n人教版二年级第一学期语文期中测试卷十五\n人教版二年级第一学期语文期中测试卷十六\n人教版二年级第一学期语文期中测试卷十八\n人教版二年级上册语文期中测试卷九\n人教版二年级第一学期语文期中测试卷十二\n人教版二年级第一学期语文期中测试卷十三\n人教版二年级第一学期语文期中测试卷十七\n人教版二年级第一学期语文期中测试卷十九\n人教版二年级第一学期语文期中测试卷二十\n人教版二年级上学期语文期中测试卷二十一\n人教版二年级上学期语文期中测试卷二十三\n人教版二年级上学期语文期中测试卷二十四\n人教版二年级上学期语文期中测试卷二十五\n人教版二年级上册语文期中测试卷二十六\n人教版二年级上学期语文期中测试卷二十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('二年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n二年级\n>\n数学上\n>\n二年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版二年级数学上册期中测试卷一\n新教材人教版二年级数学上册期中测试卷二\n新教材人教版二年级数学上册期中测试卷三\n新教材人教版二年级数学上册期中测试卷四\n新教材人教版二年级数学上册期中测试卷五\n新教材人教版二年级数学上册期中测试卷六\n新教材人教版二年级数学上册期中测试卷七\n新教材人教版二年级数学上册期中测试卷八\n新教材人教版二年级数学上册期中测试卷九\n新教材人教版二年级数学上册期中测试卷十\n新教材人教版二年级数学上册期中测试卷十一\n新教材人教版二年级数学上册期中测试卷十二\n新教材人教版二年级数学上册期中测试卷十三\n新教材人教版二年级数学上册期中测试卷十四\n新教材人教版二年级数学上册期中测试卷十五\n新教材人教版二年级数学上册期中测试卷十六\n新教材人教版二年级数学上册期中测试卷十七\n新教材人教版二年级数学上册期中测试卷十八\n新教材人教版二年级数学上册期中测试卷十九\n新教材人教版二年级数学上册期中测试卷二十\n新教材人教版二年级数学上册期中测试卷二十一\n新教材人教版二年级数学上册期中测试卷二十二\n新教材人教版二年级数学上册期中测试卷二十三\n新教材人教版二年级数学上册期中测试卷二十四\n新教材人教版二年级数学上册期中测试卷二十五\n新教材人教版二年级数学上册期中测试卷二十六\n新教材人教版二年级数学上册期中测试卷二十七\n新教材人教版二年级数学上册期中测试卷二十八\n新教材人教版二年级数学上册期中测试卷二十九\n新教材人教版二年级数学上册期中测试卷三十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('四年级上册数学期中试卷汇总_数学上_小学试卷网', '首页\n>\n四年级\n>\n数学上\n>\n四年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n人教版四年级上册数学期中考试综合测试卷一\n人教版四年级上册数学期中考试综合测试卷二\n人教版四年级上册数学期中考试综合测试卷三\n人教版四年级上册数学期中考试综合测试卷四\n人教版四年级上册数学期中考试综合测试卷五\n人教版四年级上册数学期中考试综合测试卷六\n人教版四年级上册数学期中考试综合测试卷七\n人教版四年级上册数学期中考试综合测试卷八\n人教版四年级上册数学期中考试综合测试卷九\n人教版四年级上册数学期中考试综合测试卷十\n人教版四年级上册数学期中考试综合测试卷十一\n人教版四年级上册数学期中考试综合测试卷十二\n人教版四年级上册数学期中考试综合测试卷十三\n人教版四年级上册数学期中考试综合测试卷十四\n人教版四年级上册数学期中考试综合测试卷十五\n人教版四年级上册数学期中考试综合测试卷十六\n人教版四年级上册数学期中考试综合测试卷十七\n人教版四年级上册数学期中考试综合测试卷十八\n人教版四年级上册数学期中测试卷四\n人教版四年级上册数学期中测试卷八\n人教版四年级上册数学期中测试卷九\n人教版四年级上册数学期中测试卷十二\n人教版四年级上册数学期中测试卷十三\n人教版四年级上册数学期中测试卷十四\n人教版四年级上册数学期中测试卷十五\n人教版四年级上册数学期中测试卷十六\n人教版四年级上册数学期中测试卷一\n人教版四年级上册数学期中测试卷二\n人教版四年级上册数学期中测试卷三\n人教版四年级上册数学期中测试卷五\n人教版四年级上册数学期中测试卷六\n人教版四年级上册数学期中测试卷七\n人教版四年级上册数学期中测试卷十\n人教版四年级上册数学期中测试卷十一\n人教版四年级上册数学期中考试综合测试卷十九\n人教版四年级上册数学期中考试综合测试卷二十\n人教版四年级上册数学期中考试综合测试卷二十一\n人教版四年级上册数学期中考试综合测试卷二十二\n人教版四年级上册数学期中考试综合测试卷二十三\n人教版四年级上册数学期中考试综合测试卷二十七\n人教版四年级上册数学期中考试综合测试卷二十四\n人教版四年级上册数学期中考试综合测试卷二十五\n人教版四年级上册数学期中考试综合测试卷二十六\n人教版四年级上册数学期中考试综合测试卷二十八\n人教版四年级上册数学期中考试综合测试卷二十九\n人教版四年级上册数学期中考试综合测试卷三十一\n人教版四年级上册数学期中考试综合测试卷三十\n人教版四年级上册数学期中考试综合测试卷三十二\n人教版四年级上册数学期中考试综合测试卷三十三\n人教版四年级上册数学期中考试综合测试卷三十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('课程-小学试卷网', '未登录\n下载币\n0\n邀请好友得30下载币\n邀请记录\n积分/下载币攻略\n每邀请\n1\n位好友！得\n30\n下载币，还送\n5\n天题库会员！\n一年级\n语文\n一年级下册部编版语文第一单元 2.2姓氏歌同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 2.1姓氏歌同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 1.2春夏秋冬同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第一单元 1.1春夏秋冬同步视频教学\n2025-01-11\n播放\n一年级下册部编版语文第八单元 语文园地八同步视频教学\n2022-04-08\n播放\n数学\n一年级下册人教版数学欢乐购物街（简单的计算）同步教学\n2025-05-28\n播放\n一年级下册人教版数学欢乐购物街（认识人民币）同步教学\n2025-05-28\n播放\n一年级下册人教版数学第六单元数量间的加减关系同步教学\n2025-04-20\n播放\n一年级下册人教版数学第五单元5.4解决问题同步教学\n2025-04-06\n播放\n一年级下册人教版数学第五单元5.3不退位减和退位减同步教学\n2025-04-06\n播放\n二年级\n语文\n二年级下册部编版语文第八单元 语文园地八 第2节同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 语文园地八 第1节同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 25.2羿射九日同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 25.1羿射九日同步视频教学\n2022-04-12\n播放\n二年级下册部编版语文第八单元 24.2当世界年纪还小的时候同步视\n2022-04-12\n播放\n数学\n二年级下册人教版数学第九单元9.1数学广角-推理同步教学\n2022-04-10\n播放\n二年级下册人教版数学第八单元8.1克和千克同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.5 整百、整千数加减运算同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.4 万以内数的大小认识同步教学\n2022-04-10\n播放\n二年级下册人教版数学第七单元7.3 10000以内数的认识同步教学\n2022-04-10\n播放\n三年级\n语文\n三年级下册人教版语文第七单元语文园地七同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元24.2火烧云同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元24.1火烧云同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元23.2海底世界同步视频教学\n2022-05-29\n播放\n三年级下册人教版语文第七单元23.1海底世界同步视频教学\n2022-05-29\n播放\n数学\n三年级下册人教版数学第八单元8.1数学广角-搭配同步教学\n2022-04-12\n播放\n三年级下册人教版数学第七单元7.2简单的小数加、减法同步教学\n2022-04-12\n播放\n三年级下册人教版数学第七单元7.1认识小数同步教学\n2022-04-12\n播放\n三年级下册人教版数学第六单元6.2 24时计时法同步教学\n2022-04-12\n播放\n三年级下册人教版数学第六单元6.1年、月、日同步教学\n2022-04-12\n播放\n英语\n三年级下册人教版英语第四单元Lesson6综合练习同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson5我的小船在哪里同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson4如何确认物品在哪里同步教\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson2认识方位介词同步教学\n2022-04-10\n播放\n三年级下册人教版英语第四单元Lesson1我的小汽车在哪同步教学\n2022-04-10\n播放\n四年级\n语文\n四年级下册部编版语文第七单元语文园地七 第2节同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元语文园地七 第1节同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元24黄继光同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元23.2诺曼底号遇难记同步视频教学\n2022-05-29\n播放\n四年级下册部编版语文第七单元23.1诺曼底号遇难记同步视频教学\n2022-05-29\n播放\n数学\n四年级下册人教版数学第九单元9.1数学广角-鸡兔同笼同步教学\n2022-04-16\n播放\n四年级下册人教版数学第八单元8.2复式条形统计图同步教学\n2022-04-16\n播放\n四年级下册人教版数学第八单元8.1平均数同步教学\n2022-04-16\n播放\n四年级下册人教版数学第七单元7.2平移同步教学\n2022-04-16\n播放\n四年级下册人教版数学第七单元7.1轴对称同步教学\n2022-04-16\n播放\n英语\n四年级下册人教版英语第二单元lesson6综合练习同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson5一天的作息安排同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson4不同时间里的不同活动同步\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson3拼读练习同步教学\n2022-01-29\n播放\n四年级下册人教版英语第二单元lesson2到了上英语课的时间了同步\n2022-01-29\n播放\n五年级\n语文\n五年级下册部编版语文第七单元语文园地七 第2节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元语文园地七 第1节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元20金字塔 第2节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元20金字塔 第1节同步视频教学\n2022-06-03\n播放\n五年级下册部编版语文第七单元19.2牧场之国 第2节同步视频教学\n2022-06-03\n播放\n数学\n五年级下册人教版数学第四单元4.10通分同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.9解决问题同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.8最小公倍数同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.7约分同步教学\n2022-01-24\n播放\n五年级下册人教版数学第四单元4.6解决问题同步教学\n2022-01-24\n播放\n英语\n五年级下册人教版英语第二单元lesson7综合练习同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson6认识四季里的各种活动同步\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson5你为什么喜欢夏天同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson4拼读小练习同步教学\n2022-01-29\n播放\n五年级下册人教版英语第二单元lesson3拼读小练习同步教学\n2022-01-29\n播放\n六年级\n语文\n六年级下册部编版语文第四单元语文园地四同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元13.2金色的鱼钩同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元13.1金色的鱼钩同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元12.2为人民服务同步视频教学\n2022-05-04\n播放\n六年级下册部编版语文第四单元12.1为人民服务同步视频教学\n2022-05-04\n播放\n数学\n六年级下册人教版数学第三单元3.6圆锥的体积同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.5圆锥的认识同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.4解决问题同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.3圆柱的体积同步教学\n2022-01-26\n播放\n六年级下册人教版数学第三单元3.2圆柱的表面积同步教学\n2022-01-26\n播放\n英语\n六年级下册人教版英语第二单元lesson6单元小练习同步教学\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson5综合练习同步教学\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson4你喜欢昨天的电影吗同步教\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson3我想买期新的电影杂志同步\n2022-01-29\n播放\n六年级下册人教版英语第二单元lesson2你周末做了什么同步教学\n2022-01-29\n播放\n手机扫一扫\n资料下载，随身携带\n热门课程\n人教版一年级下册数学第三单元3.1数数 数...\n2025-04-06\n立即观看\n小学试卷\n我的题库\n语文上\n章节专项突破\n进入做题\n数学上\n海量试题免费做\n进入做题\n语文下\n真题实战演练\n进入做题\n数学下\n每天10题练习\n进入做题\n英语\n英语试卷大全\n进入做题', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('人教版一年级下册数学第三单元3.1数数 数的组成同步视频教学_数学_小学试卷网', '全部课程\n一年级\n数学\n人教版一年级下册数学第三单元3.1数数 数的组成同步视频教学\n免费\n2025-04-06 23:35:14\n0\n人看过\n分享\n收藏\n点击观看视频\n相关视频\n人教版一年级下册数学第三单元3.2数的顺序 比较大小同步视频教学\n免费\n数学\n2025-04-06\n开始播放\n人教版一年级下册数学第二单元2.4解决问题同步视频教学\n免费\n数学\n2025-04-06\n开始播放', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册语文期末试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文期末试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文期末测试卷一\n新教材人教版一年级上册语文期末测试卷二\n新教材人教版一年级上册语文期末测试卷三\n新教材人教版一年级上册语文期末测试卷四\n新教材人教版一年级上册语文期末测试卷五\n新教材人教版一年级上册语文期末测试卷六\n教材人教版一年级上册语文期末测试卷七\n新教材人教版一年级上册语文期末测试卷八\n新教材人教版一年级上册语文期末测试卷九\n新教材人教版一年级上册语文期末测试卷十\n新教材人教版一年级上册语文期末测试卷十一\n新教材人教版一年级上册语文期末测试卷十二\n新教材人教版一年级上册语文期末测试卷十三\n新教材人教版一年级上册语文期末测试卷十四\n教材人教版一年级上册语文期末测试卷十五\n新教材人教版一年级上册语文期末测试卷十六\n新教材人教版一年级上册语文期末测试卷十七\n新教材人教版一年级上册语文期末测试卷十八\n新教材人教版一年级上册语文期末测试卷十九\n新教材人教版一年级上册语文期末测试卷二十\n新教材人教版一年级上册语文期末测试卷二十一\n新教材人教版一年级上册语文期末测试卷二十二\n新教材人教版一年级上册语文期末测试卷二十三\n新教材人教版一年级上册语文期末测试卷二十四\n新教材人教版一年级上册语文期末测试卷二十五\n新教材人教版一年级上册语文期末测试卷二十六\n新教材人教版一年级上册语文期末测试卷二十七\n新教材人教版一年级上册语文期末测试卷二十八\n新教材人教版一年级上册语文期末测试卷二十九\n新教材人教版一年级上册语文期末测试卷三十\n新教材人教版一年级上册语文期末测试卷三十一\n新教材人教版一年级上册语文期末测试卷三十二\n新教材人教版一年级上册语文期末测试卷三十三\n新教材人教版一年级上册语文期末测试卷三十四\n新教材人教版一年级上册语文期末测试卷三十五\n新教材人教版一年级上册语文期末测试卷三十六\n新教材人教版一年级上册语文期末测试卷三十七\n新教材人教版一年级上册语文期末测试卷三十八\n新教材人教版一年级上册语文期末测试卷三十九\n新教材人教版一年级上册语文期末测试卷四十\n新教材人教版一年级上册语文期末测试卷四十一\n新教材人教版一年级上册语文期末测试卷四十二\n新教材人教版一年级上册语文期末测试卷四十三\n新教材人教版一年级上册语文期末测试卷四十四\n教材人教版一年级上册语文期末测试卷四十五\n新教材人教版一年级上册语文期末测试卷四十六\n新教材人教版一年级上册语文期末测试卷四十七\n新教材人教版一年级上册语文期末测试卷四十八\n新教材人教版一年级上册语文期末测试卷四十九\n新教材人教版一年级上册语文期末测试卷五十\n新教材人教版一年级上册语文期末测试卷五十一\n新教材人教版一年级上册语文期末测试卷五十二\n新教材人教版一年级上册语文期末测试卷五十三\n新教材人教版一年级上册语文期末测试卷五十四\n新教材人教版一年级上册语文期末测试卷五十五\n新教材人教版一年级上册语文期末测试卷五十六\n新教材人教版一年级上册语文期末测试卷五十七\n新教材人教版一年级上册语文期末测试卷五十八\n新教材人教版一年级上册语文期末测试卷五十九\n人教版一年级上册语文期末真题测试卷一\n人教版一年级上册语文期末真题测试卷二\n人教版一年级上册语文期末真题测试卷三\n人教版一年级上册语文期末真题测试卷四\n人教版一年级上册语文期末真题测试卷五\n人教版一年级上册语文期末真题测试卷六\n人教版一年级上册语文期末真题测试卷七\n人教版一年级上册语文期末真题测试卷八\n人教版一年级上册语文期末真题测试卷九\n人教版一年级上册语文期末真题测试卷十\n人教版一年级上册语文期末真题测试卷十一\n人教版一年级上册语文期末真题测试卷十二\n人教版一年级上册语文期末真题测试卷十三\n人教版一年级上册语文期末真题测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第八单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第八单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第八单元测试卷一\n新教材人教版一年级上册语文第八单元测试卷二\n新教材人教版一年级上册语文第八单元测试卷三\n新教材人教版一年级上册语文第八单元测试卷四\n新教材人教版一年级上册语文第八单元测试卷五\n新教材人教版一年级上册语文第八单元测试卷六\n新教材人教版一年级上册语文第八单元测试卷七\n新教材人教版一年级上册语文第八单元测试卷八\n新教材人教版一年级上册语文第八单元测试卷九\n新教材人教版一年级上册语文第八单元测试卷十\n新教材人教版一年级上册语文第八单元测试卷十一\n新教材人教版一年级上册语文第八单元测试卷十二\n新教材人教版一年级上册语文第八单元测试卷十三\n新教材人教版一年级上册语文第八单元测试卷十四\n新教材人教版一年级上册语文第八单元测试卷十五\n新教材人教版一年级上册语文第八单元测试卷十六\n新教材人教版一年级上册语文第八单元测试卷十七\n新教材人教版一年级上册语文第八单元测试卷十八\n新教材人教版一年级上册语文第八单元测试卷十九\n新教材人教版一年级上册语文第八单元测试卷二十\n新教材人教版一年级上册语文第八单元测试卷二十一\n新教材人教版一年级上册语文第八单元测试卷二十二\n新教材人教版一年级上册语文第八单元测试卷二十三\n新教材人教版一年级上册语文第八单元测试卷二十四\n新教材人教版一年级上册语文第八单元测试卷二十五\n新教材人教版一年级上册语文第八单元测试卷二十六\n新教材人教版一年级上册语文第八单元测试卷二十七\n新教材人教版一年级上册语文第八单元测试卷二十八\n新教材人教版一年级上册语文第八单元测试卷二十九\n新教材人教版一年级上册语文第八单元测试卷三十\n新教材人教版一年级上册语文第八单元测试卷一\n新教材人教版一年级上册语文第八单元测试卷二\n新教材人教版一年级上册语文第八单元测试卷三\n新教材人教版一年级上册语文第八单元测试卷四\n、\n新教材人教版一年级上册语文第八单元测试卷五\n新教材人教版一年级上册语文第八单元测试卷六\n新教材人教版一年级上册语文第八单元测试卷七\n新教材人教版一年级上册语文第八单元测试卷八\n新教材人教版一年级上册语文第八单元测试卷九\n新教材人教版一年级上册语文第八单元测试卷十\n新教材人教版一年级上册语文第八单元测试卷十一\n新教材人教版一年级上册语文第八单元测试卷十二\n新教材人教版一年级上册语文第八单元测试卷十三\n新教材人教版一年级上册语文第八单元测试卷十四\n新教材人教版一年级上册语文第八单元测试卷十五\n新教材人教版一年级上册语文第八单元测试卷十六\n新教材人教版一年级上册语文第八单元测试卷十七\n新教材人教版一年级上册语文第八单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第七单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第七单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第七单元测试卷一\n新教材人教版一年级上册语文第七单元测试卷二\n新教材人教版一年级上册语文第七单元测试卷三\n新教材人教版一年级上册语文第七单元测试卷四\n新教材人教版一年级上册语文第七单元测试卷五\n新教材人教版一年级上册语文第七单元测试卷六\n新教材人教版一年级上册语文第七单元测试卷七\n新教材人教版一年级上册语文第七单元测试卷八\n新教材人教版一年级上册语文第七单元测试卷九\n新教材人教版一年级上册语文第七单元测试卷十\n新教材人教版一年级上册语文第七单元测试卷十一\n新教材人教版一年级上册语文第七单元测试卷十二\n新教材人教版一年级上册语文第七单元测试卷十三\n新教材人教版一年级上册语文第七单元测试卷十四\n新教材人教版一年级上册语文第七单元测试卷十五\n新教材人教版一年级上册语文第七单元测试卷十六\n新教材人教版一年级上册语文第七单元测试卷十七\n新教材人教版一年级上册语文第七单元测试卷十八\n新教材人教版一年级上册语文第七单元测试卷十九\n新教材人教版一年级上册语文第七单元测试卷二十\n新教材人教版一年级上册语文第七单元测试卷二十一\n新教材人教版一年级上册语文第七单元测试卷二十二\n新教材人教版一年级上册语文第七单元测试卷二十三\n新教材人教版一年级上册语文第七单元测试卷二十四\n新教材人教版一年级上册语文第七单元测试卷二十五\n新教材人教版一年级上册语文第七单元测试卷二十六\n新教材人教版一年级上册语文第七单元测试卷二十七\n新教材人教版一年级上册语文第七单元测试卷二十八\n新教材人教版一年级上册语文第七单元测试卷一\n新教材人教版一年级上册语文第七单元测试卷二\n新教材人教版一年级上册语文第七单元测试卷三\n新教材人教版一年级上册语文第七单元测试卷四\n新教材人教版一年级上册语文第七单元测试卷五\n新教材人教版一年级上册语文第七单元测试卷六\n新教材人教版一年级上册语文第七单元测试卷七\n新教材人教版一年级上册语文第七单元测试卷八\n新教材人教版一年级上册语文第七单元测试卷九\n新教材人教版一年级上册语文第七单元测试卷十\n新教材人教版一年级上册语文第七单元测试卷十一\n新教材人教版一年级上册语文第七单元测试卷十二\n新教材人教版一年级上册语文第七单元测试卷十三\n新教材人教版一年级上册语文第七单元测试卷十四\n新教材人教版一年级上册语文第七单元测试卷十五\n新教材人教版一年级上册语文第七单元测试卷十六\n新教材人教版一年级上册语文第七单元测试卷十七\n新教材人教版一年级上册语文第七单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第六单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第六单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第六单元测试卷一\n新教材人教版一年级上册语文第六单元测试卷二\n新教材人教版一年级上册语文第六单元测试卷三\n新教材人教版一年级上册语文第六单元测试卷四\n新教材人教版一年级上册语文第六单元测试卷五\n新教材人教版一年级上册语文第六单元测试卷六\n新教材人教版一年级上册语文第六单元测试卷七\n新教材人教版一年级上册语文第六单元测试卷八\n新教材人教版一年级上册语文第六单元测试卷九\n新教材人教版一年级上册语文第六单元测试卷十\n新教材人教版一年级上册语文第六单元测试卷十一\n新教材人教版一年级上册语文第六单元测试卷十二\n新教材人教版一年级上册语文第六单元测试卷十三\n新教材人教版一年级上册语文第六单元测试卷十四\n新教材人教版一年级上册语文第六单元测试卷十五\n新教材人教版一年级上册语文第六单元测试卷十六\n新教材人教版一年级上册语文第六单元测试卷十七\n新教材人教版一年级上册语文第六单元测试卷十八\n新教材人教版一年级上册语文第六单元测试卷十九\n新教材人教版一年级上册语文第六单元测试卷二十\n新教材人教版一年级上册语文第六单元测试卷二十一\n新教材人教版一年级上册语文第六单元测试卷二十二\n新教材人教版一年级上册语文第六单元测试卷二十三\n新教材人教版一年级上册语文第六单元测试卷二十四\n新教材人教版一年级上册语文第六单元测试卷二十五\n新教材人教版一年级上册语文第六单元测试卷二十六\n新教材人教版一年级上册语文第六单元测试卷一\n新教材人教版一年级上册语文第六单元测试卷二\n新教材人教版一年级上册语文第六单元测试卷三\n新教材人教版一年级上册语文第六单元测试卷四\n新教材人教版一年级上册语文第六单元测试卷五\n新教材人教版一年级上册语文第六单元测试卷六\n新教材人教版一年级上册语文第六单元测试卷七\n新教材人教版一年级上册语文第六单元测试卷八\n新教材人教版一年级上册语文第六单元测试卷九\n新教材人教版一年级上册语文第六单元测试卷十\n新教材人教版一年级上册语文第六单元测试卷十一\n新教材人教版一年级上册语文第六单元测试卷十二\n新教材人教版一年级上册语文第六单元测试卷十三\n新教材人教版一年级上册语文第六单元测试卷十四\n新教材人教版一年级上册语文第六单元测试卷十五\n新教材人教版一年级上册语文第六单元测试卷十六\n新教材人教版一年级上册语文第六单元测试卷十七\n新教材人教版一年级上册语文第六单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第五单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第五单元测试卷一\n新教材人教版一年级上册语文第五单元测试卷二\n新教材人教版一年级上册语文第五单元测试卷三\n新教材人教版一年级上册语文第五单元测试卷四\n新教材人教版一年级上册语文第五单元测试卷五\n新教材人教版一年级上册语文第五单元测试卷六\n新教材人教版一年级上册语文第五单元测试卷七\n新教材人教版一年级上册语文第五单元测试卷八\n新教材人教版一年级上册语文第五单元测试卷九\n新教材人教版一年级上册语文第五单元测试卷十\n新教材人教版一年级上册语文第五单元测试卷十一\n新教材人教版一年级上册语文第五单元测试卷十二\n新教材人教版一年级上册语文第五单元测试卷十三\n新教材人教版一年级上册语文第五单元测试卷十四\n新教材人教版一年级上册语文第五单元测试卷十五\n新教材人教版一年级上册语文第五单元测试卷十六\n新教材人教版一年级上册语文第五单元测试卷十七\n新教材人教版一年级上册语文第五单元测试卷十八\n新教材人教版一年级上册语文第五单元测试卷十九\n新教材人教版一年级上册语文第五单元测试卷二十\n新教材人教版一年级上册语文第五单元测试卷二十一\n新教材人教版一年级上册语文第五单元测试卷二十二\n新教材人教版一年级上册语文第五单元测试卷二十三\n新教材人教版一年级上册语文第五单元测试卷二十四\n新教材人教版一年级上册语文第五单元测试卷一\n新教材人教版一年级上册语文第五单元测试卷二\n新教材人教版一年级上册语文第五单元测试卷三\n新教材人教版一年级上册语文第五单元测试卷四\n新教材人教版一年级上册语文第五单元测试卷五\n新教材人教版一年级上册语文第五单元测试卷六\n新教材人教版一年级上册语文第五单元测试卷七\n新教材人教版一年级上册语文第五单元测试卷八\n新教材人教版一年级上册语文第五单元测试卷九\n新教材人教版一年级上册语文第五单元测试卷十\n新教材人教版一年级上册语文第五单元测试卷十一\n新教材人教版一年级上册语文第五单元测试卷十二\n新教材人教版一年级上册语文第五单元测试卷十三\n新教材人教版一年级上册语文第五单元测试卷十四\n新教材人教版一年级上册语文第五单元测试卷十五\n新教材人教版一年级上册语文第五单元测试卷十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第四单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第四单元测试卷一\n新教材人教版一年级上册语文第四单元测试卷二\n新教材人教版一年级上册语文第四单元测试卷三\n新教材人教版一年级上册语文第四单元测试卷四\n新教材人教版一年级上册语文第四单元测试卷五\n新教材人教版一年级上册语文第四单元测试卷六\n新教材人教版一年级上册语文第四单元测试卷七\n新教材人教版一年级上册语文第四单元测试卷八\n新教材人教版一年级上册语文第四单元测试卷九\n新教材人教版一年级上册语文第四单元测试卷十\n新教材人教版一年级上册语文第四单元测试卷十一\n新教材人教版一年级上册语文第四单元测试卷十二\n新教材人教版一年级上册语文第四单元测试卷十三\n新教材人教版一年级上册语文第四单元测试卷十四\n新教材人教版一年级上册语文第四单元测试卷十五\n新教材人教版一年级上册语文第四单元测试卷十六\n新教材人教版一年级上册语文第四单元测试卷一\n新教材人教版一年级上册语文第四单元测试卷二\n新教材人教版一年级上册语文第四单元测试卷三\n新教材人教版一年级上册语文第四单元测试卷四\n新教材人教版一年级上册语文第四单元测试卷五\n新教材人教版一年级上册语文第四单元测试卷六\n新教材人教版一年级上册语文第四单元测试卷七\n新教材人教版一年级上册语文第四单元测试卷八\n新教材人教版一年级上册语文第四单元测试卷九\n新教材人教版一年级上册语文第四单元测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第三单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第三单元测试卷一\n新教材人教版一年级上册语文第三单元测试卷二\n新教材人教版一年级上册语文第三单元测试卷三\n新教材人教版一年级上册语文第三单元测试卷四\n新教材人教版一年级上册语文第三单元测试卷五\n新教材人教版一年级上册语文第三单元测试卷六\n新教材人教版一年级上册语文第三单元测试卷七\n新教材人教版一年级上册语文第三单元测试卷八\n新教材人教版一年级上册语文第三单元测试卷九\n新教材人教版一年级上册语文第三单元测试卷十\n新教材人教版一年级上册语文第三单元测试卷十一\n新教材人教版一年级上册语文第三单元测试卷十二\n新教材人教版一年级上册语文第三单元测试卷十三\n新教材人教版一年级上册语文第三单元测试卷十四\n新教材人教版一年级上册语文第三单元测试卷十五\n新教材人教版一年级上册语文第三单元测试卷十六\n新教材人教版一年级上册语文第三单元测试卷十七\n新教材人教版一年级上册语文第三单元测试卷十八\n新教材人教版一年级上册语文第三单元测试卷十九\n新教材人教版一年级上册语文第三单元测试卷二十\n新教材人教版一年级上册语文第三单元测试卷一\n新教材人教版一年级上册语文第三单元测试卷二\n新教材人教版一年级上册语文第三单元测试卷三\n新教材人教版一年级上册语文第三单元测试卷四\n新教材人教版一年级上册语文第三单元测试卷五\n新教材人教版一年级上册语文第三单元测试卷六\n新教材人教版一年级上册语文第三单元测试卷七\n新教材人教版一年级上册语文第三单元测试卷八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第二单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第二单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第二单元测试卷一\n新教材人教版一年级上册语文第二单元测试卷二\n新教材人教版一年级上册语文第二单元测试卷三\n新教材人教版一年级上册语文第二单元测试卷四\n新教材人教版一年级上册语文第二单元测试卷五\n新教材人教版一年级上册语文第二单元测试卷六\n新教材人教版一年级上册语文第二单元测试卷七\n新教材人教版一年级上册语文第二单元测试卷八\n新教材人教版一年级上册语文第二单元测试卷九\n新教材人教版一年级上册语文第二单元测试卷十\n新教材人教版一年级上册语文第二单元测试卷十一\n新教材人教版一年级上册语文第二单元测试卷十二\n新教材人教版一年级上册语文第二单元测试卷十三\n新教材人教版一年级上册语文第二单元测试卷十四\n新教材人教版一年级上册语文第二单元测试卷十五\n新教材人教版一年级上册语文第二单元测试卷十六\n新教材人教版一年级上册语文第二单元测试卷十七\n新教材人教版一年级上册语文第二单元测试卷十八\n新教材人教版一年级上册语文第二单元测试卷一\n新教材人教版一年级上册语文第二单元测试卷二\n新教材人教版一年级上册语文第二单元测试卷三\n新教材人教版一年级上册语文第二单元测试卷四\n新教材人教版一年级上册语文第二单元测试卷五\n新教材人教版一年级上册语文第二单元测试卷六\n新教材人教版一年级上册语文第二单元测试卷七\n新教材人教版一年级上册语文第二单元测试卷八\n新教材人教版一年级上册语文第二单元测试卷九\n新教材人教版一年级上册语文第二单元测试卷十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册语文第一单元试卷汇总_语文上_小学试卷网', '首页\n>\n一年级\n>\n语文上\n>\n一年级上册语文第一单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册语文第一单元测试卷一\n新教材人教版一年级上册语文第一单元测试卷二\n新教材人教版一年级上册语文第一单元测试卷三\n新教材人教版一年级上册语文第一单元测试卷四\n新教材人教版一年级上册语文第一单元测试卷五\n新教材人教版一年级上册语文第一单元测试卷六\n新教材人教版一年级上册语文第一单元测试卷七\n新教材人教版一年级上册语文第一单元测试卷八\n新教材人教版一年级上册语文第一单元测试卷九\n新教材人教版一年级上册语文第一单元测试卷十\n新教材人教版一年级上册语文第一单元测试卷十一\n新教材人教版一年级上册语文第一单元测试卷十二\n新教材人教版一年级上册语文第一单元测试卷十三\n新教材人教版一年级上册语文第一单元测试卷十四\n新教材人教版一年级上册语文第一单元测试卷十五\n新教材人教版一年级上册语文第一单元测试卷十六\n新教材人教版一年级上册语文第一单元测试卷十七\n新教材人教版一年级上册语文第一单元测试卷十八\n新教材人教版一年级上册语文第一单元测试卷十九\n新教材人教版一年级上册语文第一单元测试卷二十\n新教材人教版一年级上册语文第一单元测试卷一\n新教材人教版一年级上册语文第一单元测试卷二\n新教材人教版一年级上册语文第一单元测试卷三\n新教材人教版一年级上册语文第一单元测试卷四\n新教材人教版一年级上册语文第一单元测试卷五\n新教材人教版一年级上册语文第一单元测试卷六\n新教材人教版一年级上册语文第一单元测试卷七\n新教材人教版一年级上册语文第一单元测试卷八\n新教材人教版一年级上册语文第一单元测试卷九\n新教材人教版一年级上册语文第一单元测试卷十\n新教材人教版一年级上册语文第一单元测试卷十一\n新教材人教版一年级上册语文第一单元测试卷十二\n新教材人教版一年级上册语文第一单元测试卷十三\n新教材人教版一年级上册语文第一单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 84, 'PUBLISHED', 'NEWS'),
+('一年级上册数学期末试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学期末试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学期末测试卷一\n新教材人教版一年级上册数学期末测试卷二\n新教材人教版一年级上册数学期末测试卷三\n新教材人教版一年级上册数学期末测试卷四\n新教材人教版一年级上册数学期末测试卷五\n新教材人教版一年级上册数学期末测试卷六\n新教材人教版一年级上册数学期末测试卷七\n新教材人教版一年级上册数学期末测试卷八\n新教材人教版一年级上册数学期末测试卷九\n新教材人教版一年级上册数学期末测试卷十\n新教材人教版一年级上册数学期末测试卷十一\n新教材人教版一年级上册数学期末测试卷十二\n新教材人教版一年级上册数学期末测试卷十三\n新教材人教版一年级上册数学期末测试卷十四\n新教材人教版一年级上册数学期末测试卷十五\n新教材人教版一年级上册数学期末测试卷十六\n新教材人教版一年级上册数学期末测试卷十七\n教材人教版一年级上册数学期末测试卷十八\n新教材人教版一年级上册数学期末测试卷十九\n新教材人教版一年级上册数学期末测试卷二十\n新教材人教版一年级上册数学期末测试卷二十一\n新教材人教版一年级上册数学期末测试卷二十二\n新教材人教版一年级上册数学期末测试卷二十三\n新教材人教版一年级上册数学期末测试卷二十四\n新教材人教版一年级上册数学期末测试卷二十五\n新教材人教版一年级上册数学期末测试卷二十六\n新教材人教版一年级上册数学期末测试卷二十七\n新教材人教版一年级上册数学期末测试卷二十八\n新教材人教版一年级上册数学期末测试卷二十九\n新教材人教版一年级上册数学期末测试卷三十\n新教材人教版一年级上册数学期末测试卷三十一\n新教材人教版一年级上册数学期末测试卷三十二\n新教材人教版一年级上册数学期末测试卷三十三\n新教材人教版一年级上册数学期末测试卷三十四\n新教材人教版一年级上册数学期末测试卷三十五\n新教材人教版一年级上册数学期末测试卷三十六\n新教材人教版一年级上册数学期末测试卷三十七\n新教材人教版一年级上册数学期末测试卷三十八\n新教材人教版一年级上册数学期末测试卷三十九\n新教材人教版一年级上册数学期末测试卷四十\n新教材人教版一年级上册数学期末测试卷四十一\n新教材人教版一年级上册数学期末测试卷四十二\n新教材人教版一年级上册数学期末测试卷四十三\n新教材人教版一年级上册数学期末测试卷四十四\n新教材人教版一年级上册数学期末测试卷四十五\n新教材人教版一年级上册数学期末测试卷四十六\n新教材人教版一年级上册数学期末测试卷四十七\n新教材人教版一年级上册数学期末测试卷四十八\n新教材人教版一年级上册数学期末测试卷四十九\n教材人教版一年级上册数学期末测试卷五十\n新教材人教版一年级上册数学期末测试卷五十一\n新教材人教版一年级上册数学期末测试卷五十二\n新教材人教版一年级上册数学期末测试卷五十三\n新教材人教版一年级上册数学期末测试卷五十四\n新教材人教版一年级上册数学期末测试卷五十五\n新教材人教版一年级上册数学期末测试卷五十六\n新教材人教版一年级上册数学期末测试卷五十七\n新教材人教版一年级上册数学期末测试卷五十八\n新教材人教版一年级上册数学期末测试卷五十九\n新教材人教版一年级上册数学期末测试卷六十\n新教材人教版一年级上册数学期末测试卷六十一\n新教材人教版一年级上册数学期末测试卷六十二\n新教材人教版一年级上册数学期末测试卷六十三\n新教材人教版一年级上册数学期末测试卷六十四\n新教材人教版一年级上册数学期末测试卷六十五\n教材人教版一年级上册数学期末测试卷六十六\n新教材人教版一年级上册数学期末测试卷六十七\n新教材人教版一年级上册数学期末测试卷六十八\n新教材人教版一年级上册数学期末测试卷六十九\n新教材人教版一年级上册数学期末测试卷七十\n新教材人教版一年级上册数学期末测试卷七十一\n新教材人教版一年级上册数学期末测试卷七十二\n新教材人教版一年级上册数学期末测试卷七十三\n新教材人教版一年级上册数学期末测试卷七十四\n新教材人教版一年级上册数学期末测试卷七十五\n新教材人教版一年级上册数学期末测试卷七十六\n新教材人教版一年级上册数学期末测试卷七十七\n新教材人教版一年级上册数学期末测试卷七十八\n新教材人教版一年级上册数学期末测试卷七十九\n新教材人教版一年级上册数学期末测试卷八十\n新教材人教版一年级上册数学期末测试卷八十一\n新教材人教版一年级上册数学期末测试卷八十二\n新教材人教版一年级上册数学期末测试卷八十三\n新教材人教版一年级上册数学期末测试卷八十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学第五单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第五单元测试卷一\n新教材人教版一年级上册数学第五单元测试卷二\n新教材人教版一年级上册数学第五单元测试卷三\n新教材人教版一年级上册数学第五单元测试卷四\n新教材人教版一年级上册数学第五单元测试卷五\n新教材人教版一年级上册数学第五单元测试卷六\n新教材人教版一年级上册数学第五单元测试卷七\n新教材人教版一年级上册数学第五单元测试卷八\n新教材人教版一年级上册数学第五单元测试卷九\n新教材人教版一年级上册数学第五单元测试卷十\n新教材人教版一年级上册数学第五单元测试卷十一\n新教材人教版一年级上册数学第五单元测试卷十二\n新教材人教版一年级上册数学第五单元测试卷十三\n新教材人教版一年级上册数学第五单元测试卷十四\n新教材人教版一年级上册数学第五单元测试卷十五\n新教材人教版一年级上册数学第五单元测试卷十六\n新教材人教版一年级上册数学第五单元测试卷十七\n新教材人教版一年级上册数学第五单元测试卷十八\n新教材人教版一年级上册数学第五单元测试卷十九\n新教材人教版一年级上册数学第五单元测试卷二十\n新教材人教版一年级上册数学第五单元测试卷一\n新教材人教版一年级上册数学第五单元测试卷二\n新教材人教版一年级上册数学第五单元测试卷三\n新教材人教版一年级上册数学第五单元测试卷四\n新教材人教版一年级上册数学第五单元测试卷五\n新教材人教版一年级上册数学第五单元测试卷六\n新教材人教版一年级上册数学第五单元测试卷七\n新教材人教版一年级上册数学第五单元测试卷八\n新教材人教版一年级上册数学第五单元测试卷十九\n新教材人教版一年级上册数学第五单元测试卷二十\n新教材人教版一年级上册数学第五单元测试卷二十一\n新教材人教版一年级上册数学第五单元测试卷二十二\n教材人教版一年级上册数学第五单元测试卷二十三\n新教材人教版一年级上册数学第五单元测试卷二十四\n新教材人教版一年级上册数学第五单元测试卷二十五\n新教材人教版一年级上册数学第五单元测试卷二十六\n新教材人教版一年级上册数学第五单元测试卷九\n新教材人教版一年级上册数学第五单元测试卷十\n新教材人教版一年级上册数学第五单元测试卷十一\n新教材人教版一年级上册数学第五单元测试卷十二\n新教材人教版一年级上册数学第五单元测试卷十三\n教材人教版一年级上册数学第五单元测试卷十四\n新教材人教版一年级上册数学第五单元测试卷十五\n新教材人教版一年级上册数学第五单元测试卷十六\n新教材人教版一年级上册数学第五单元测试卷十七\n新教材人教版一年级上册数学第五单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学第四单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第四单元测试卷一\n新教材人教版一年级上册数学第四单元测试卷二\n新教材人教版一年级上册数学第四单元测试卷三\n新教材人教版一年级上册数学第四单元测试卷四\n新教材人教版一年级上册数学第四单元测试卷五\n新教材人教版一年级上册数学第四单元测试卷六\n新教材人教版一年级上册数学第四单元测试卷七\n新教材人教版一年级上册数学第四单元测试卷八\n新教材人教版一年级上册数学第四单元测试卷九\n新教材人教版一年级上册数学第四单元测试卷十\n新教材人教版一年级上册数学第四单元测试卷十一\n新教材人教版一年级上册数学第四单元测试卷十二\n新教材人教版一年级上册数学第四单元测试卷十三\n新教材人教版一年级上册数学第四单元测试卷十四\n新教材人教版一年级上册数学第四单元测试卷十五\n新教材人教版一年级上册数学第四单元测试卷十六\n新教材人教版一年级上册数学第四单元测试卷十七\n新教材人教版一年级上册数学第四单元测试卷十八\n新教材人教版一年级上册数学第四单元测试卷十九\n新教材人教版一年级上册数学第四单元测试卷二十\n新教材人教版一年级上册数学第四单元测试卷二十一\n新教材人教版一年级上册数学第四单元测试卷二十二\n新教材人教版一年级上册数学第四单元测试卷一\n新教材人教版一年级上册数学第四单元测试卷二\n新教材人教版一年级上册数学第四单元测试卷三\n新教材人教版一年级上册数学第四单元测试卷四\n新教材人教版一年级上册数学第四单元测试卷五\n新教材人教版一年级上册数学第四单元测试卷六\n新教材人教版一年级上册数学第四单元测试卷七\n新教材人教版一年级上册数学第四单元测试卷八\n新教材人教版一年级上册数学第四单元测试卷九\n新教材人教版一年级上册数学第四单元测试卷十\n新教材人教版一年级上册数学第四单元测试卷十一\n新教材人教版一年级上册数学第四单元测试卷十二\n新教材人教版一年级上册数学第四单元测试卷十九\n新教材人教版一年级上册数学第四单元测试卷二十\n新教材人教版一年级上册数学第四单元测试卷二十一\n新教材人教版一年级上册数学第四单元测试卷二十二\n新教材人教版一年级上册数学第四单元测试卷二十三\n新教材人教版一年级上册数学第四单元测试卷二十四\n新教材人教版一年级上册数学第四单元测试卷二十五\n新教材人教版一年级上册数学第四单元测试卷二十六\n新教材人教版一年级上册数学第四单元测试卷十三\n新教材人教版一年级上册数学第四单元测试卷十四\n新教材人教版一年级上册数学第四单元测试卷十五\n新教材人教版一年级上册数学第四单元测试卷十六\n新教材人教版一年级上册数学第四单元测试卷十七\n新教材人教版一年级上册数学第四单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学第三单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第三单元测试卷一\n新教材人教版一年级上册数学第三单元测试卷二\n新教材人教版一年级上册数学第三单元测试卷三\n新教材人教版一年级上册数学第三单元测试卷四\n新教材人教版一年级上册数学第三单元测试卷五\n新教材人教版一年级上册数学第三单元测试卷六\n新教材人教版一年级上册数学第三单元测试卷七\n新教材人教版一年级上册数学第三单元测试卷八\n新教材人教版一年级上册数学第三单元测试卷九\n新教材人教版一年级上册数学第三单元测试卷十\n新教材人教版一年级上册数学第三单元测试卷十一\n新教材人教版一年级上册数学第三单元测试卷十二\n新教材人教版一年级上册数学第三单元测试卷十三\n新教材人教版一年级上册数学第三单元测试卷十四\n新教材人教版一年级上册数学第三单元测试卷十五\n新教材人教版一年级上册数学第三单元测试卷十六\n新教材人教版一年级上册数学第三单元测试卷十七\n新教材人教版一年级上册数学第三单元测试卷十八\n新教材人教版一年级上册数学第三单元测试卷十九\n新教材人教版一年级上册数学第三单元测试卷二十\n新教材人教版一年级上册数学第三单元测试卷二十一\n新教材人教版一年级上册数学第三单元测试卷二十二\n新教材人教版一年级上册数学第三单元测试卷一\n新教材人教版一年级上册数学第三单元测试卷二\n新教材人教版一年级上册数学第三单元测试卷三\n新教材人教版一年级上册数学第三单元测试卷四\n新教材人教版一年级上册数学第三单元测试卷五\n新教材人教版一年级上册数学第三单元测试卷六\n新教材人教版一年级上册数学第三单元测试卷七\n新教材人教版一年级上册数学第三单元测试卷八\n新教材人教版一年级上册数学第三单元测试卷九\n新教材人教版一年级上册数学第三单元测试卷十\n新教材人教版一年级上册数学第三单元测试卷十五\n新教材人教版一年级上册数学第三单元测试卷十六\n新教材人教版一年级上册数学第三单元测试卷十一\n新教材人教版一年级上册数学第三单元测试卷十二\n新教材人教版一年级上册数学第三单元测试卷十三\n新教材人教版一年级上册数学第三单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学第二单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第二单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第二单元测试卷一\n新教材人教版一年级上册数学第二单元测试卷二\n新教材人教版一年级上册数学第二单元测试卷三\n新教材人教版一年级上册数学第二单元测试卷四\n新教材人教版一年级上册数学第二单元测试卷五\n新教材人教版一年级上册数学第二单元测试卷六\n新教材人教版一年级上册数学第二单元测试卷七\n新教材人教版一年级上册数学第二单元测试卷八\n新教材人教版一年级上册数学第二单元测试卷九\n新教材人教版一年级上册数学第二单元测试卷十\n新教材人教版一年级上册数学第二单元测试卷十一\n新教材人教版一年级上册数学第二单元测试卷十二\n新教材人教版一年级上册数学第二单元测试卷十三\n新教材人教版一年级上册数学第二单元测试卷十四\n新教材人教版一年级上册数学第二单元测试卷十五\n新教材人教版一年级上册数学第二单元测试卷十六\n新教材人教版一年级上册数学第二单元测试卷十七\n新教材人教版一年级上册数学第二单元测试卷十八\n新教材人教版一年级上册数学第二单元测试卷一\n新教材人教版一年级上册数学第二单元测试卷二\n新教材人教版一年级上册数学第二单元测试卷三\n新教材人教版一年级上册数学第二单元测试卷四\n新教材人教版一年级上册数学第二单元测试卷五\n新教材人教版一年级上册数学第二单元测试卷六\n新教材人教版一年级上册数学第二单元测试卷七\n新教材人教版一年级上册数学第二单元测试卷八\n新教材人教版一年级上册数学第二单元测试卷九\n新教材人教版一年级上册数学第二单元测试卷十\n新教材人教版一年级上册数学第二单元测试卷十一\n新教材人教版一年级上册数学第二单元测试卷十二\n新教材人教版一年级上册数学第二单元测试卷十三\n新教材人教版一年级上册数学第二单元测试卷十四\n新教材人教版一年级上册数学第二单元测试卷十五\n新教材人教版一年级上册数学第二单元测试卷十六\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学第一单元试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学第一单元试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学第一单元测试卷一\n新教材人教版一年级上册数学第一单元测试卷二\n新教材人教版一年级上册数学第一单元测试卷三\n新教材人教版一年级上册数学第一单元测试卷四\n新教材人教版一年级上册数学第一单元测试卷五\n新教材人教版一年级上册数学第一单元测试卷六\n新教材人教版一年级上册数学第一单元测试卷七\n新教材人教版一年级上册数学第一单元测试卷八\n新教材人教版一年级上册数学第一单元测试卷九\n新教材人教版一年级上册数学第一单元测试卷十\n新教材人教版一年级上册数学第一单元测试卷十一\n新教材人教版一年级上册数学第一单元测试卷十二\n新教材人教版一年级上册数学第一单元测试卷十三\n新教材人教版一年级上册数学第一单元测试卷十四\n新教材人教版一年级上册数学第一单元测试卷十五\n新教材人教版一年级上册数学第一单元测试卷十六\n新教材人教版一年级上册数学第一单元测试卷十七\n新教材人教版一年级上册数学第一单元测试卷十八\n新教材人教版一年级上册数学第一单元测试卷十九\n新教材人教版一年级上册数学第一单元测试卷二十\n新教材人教版一年级上册数学第一单元测试卷二十一\n新教材人教版一年级上册数学第一单元测试卷二十二\n新教材人教版一年级上册数学第一单元测试卷七\n新教材人教版一年级上册数学第一单元测试卷八\n新教材人教版一年级上册数学第一单元测试卷一\n新教材人教版一年级上册数学第一单元测试卷二\n新教材人教版一年级上册数学第一单元测试卷三\n新教材人教版一年级上册数学第一单元测试卷四\n新教材人教版一年级上册数学第一单元测试卷五\n新教材人教版一年级上册数学第一单元测试卷六\n新教材人教版一年级上册数学第一单元测试卷九\n新教材人教版一年级上册数学第一单元测试卷十\n新教材人教版一年级上册数学第一单元测试卷十一\n新教材人教版一年级上册数学第一单元测试卷十二\n新教材人教版一年级上册数学第一单元测试卷十三\n新教材人教版一年级上册数学第一单元测试卷十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('一年级上册数学数学游戏试卷汇总_数学上_小学试卷网', '首页\n>\n一年级\n>\n数学上\n>\n一年级上册数学数学游戏试卷汇总\n点击相应的试卷图片进入下载\n新教材人教版一年级上册数学《数学游戏》测试卷一\n新教材人教版一年级上册数学《数学游戏》测试卷二\n新教材人教版一年级上册数学《数学游戏》测试卷三\n新教材人教版一年级上册数学《数学游戏》测试卷四\n新教材人教版一年级上册数学《数学游戏》测试卷五\n新教材人教版一年级上册数学《数学游戏》测试卷六\n新教材人教版一年级上册数学《数学游戏》测试卷七\n新教材人教版一年级上册数学《数学游戏》测试卷八\n新教材人教版一年级上册数学《数学游戏》测试卷九\n新教材人教版一年级上册数学《数学游戏》测试卷十\n新教材人教版一年级上册数学《数学游戏》测试卷十一\n新教材人教版一年级上册数学《数学游戏》测试卷十二\n新教材人教版一年级上册数学《数学游戏》测试卷十三\n新教材人教版一年级上册数学《数学游戏》测试卷十四\n新教材人教版一年级上册数学《数学游戏》测试卷一\n新教材人教版一年级上册数学《数学游戏》测试卷二\n新教材人教版一年级上册数学《数学游戏》测试卷三\n新教材人教版一年级上册数学《数学游戏》测试卷四\n新教材人教版一年级上册数学《数学游戏》测试卷五\n新教材人教版一年级上册数学《数学游戏》测试卷六\n新教材人教版一年级上册数学《数学游戏》测试卷七\n新教材人教版一年级上册数学《数学游戏》测试卷八\n新教材人教版一年级上册数学《数学游戏》测试卷九\n新教材人教版一年级上册数学《数学游戏》测试卷十\n新教材人教版一年级上册数学《数学游戏》测试卷十一\n新教材人教版一年级上册数学《数学游戏》测试卷十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('新教材北师版一年级上册数学《记录我的一天》试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学《记录我的一天》试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册《记录我的一天》测试卷一\n新教材北师版一年级数学上册《记录我的一天》测试卷二\n新教材北师版一年级数学上册《记录我的一天》测试卷三\n新教材北师版一年级数学上册《记录我的一天》测试卷四\n新教材北师版一年级数学上册《记录我的一天》测试卷五\n新教材北师版一年级数学上册《记录我的一天》测试卷六\n新教材北师版一年级数学上册《记录我的一天》测试卷七\n新教材北师版一年级数学上册《记录我的一天》测试卷八\n新教材北师版一年级数学上册《记录我的一天》测试卷九\n新教材北师版一年级数学上册《记录我的一天》测试卷十\n新教材北师版一年级数学上册《记录我的一天》测试卷十一\n新教材北师版一年级数学上册《记录我的一天》测试卷十二\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('新教材北师版一年级上册数学第五单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册第五单元测试卷一\n新教材北师版一年级数学上册第五单元测试卷二\n新教材北师版一年级数学上册第五单元测试卷三\n新教材北师版一年级数学上册第五单元测试卷四\n新教材北师版一年级数学上册第五单元测试卷五\n新教材北师版一年级数学上册第五单元测试卷六\n新教材北师版一年级数学上册第五单元测试卷七\n新教材北师版一年级数学上册第五单元测试卷八\n新教材北师版一年级数学上册第五单元测试卷九\n新教材北师版一年级数学上册第五单元测试卷十\n新教材北师版一年级数学上册第五单元测试卷十一\n新教材北师版一年级数学上册第五单元测试卷十二\n新教材北师版一年级数学上册第五单元测试卷十三\n新教材北师版一年级数学上册第五单元测试卷十四\n新教材北师版一年级数学上册第五单元测试卷十五\n新教材北师版一年级数学上册第五单元测试卷十六\n新教材北师版一年级数学上册第五单元测试卷十七\n新教材北师版一年级数学上册第五单元测试卷十八\n新教材北师版一年级数学上册第五单元测试卷十九\n新教材北师版一年级数学上册第五单元测试卷二十\n北师版一年级数学上学期第五单元检测卷一\n北师版一年级数学上学期第五单元检测卷二\n北师版一年级数学上学期第五单元检测卷三\n北师版一年级数学上学期第五单元检测卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('新教材北师版一年级上册数学第四单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册第四单元测试卷一\n新教材北师版一年级数学上册第四单元测试卷二\n新教材北师版一年级数学上册第四单元测试卷三\n新教材北师版一年级数学上册第四单元测试卷四\n新教材北师版一年级数学上册第四单元测试卷五\n新教材北师版一年级数学上册第四单元测试卷六\n新教材北师版一年级数学上册第四单元测试卷七\n新教材北师版一年级数学上册第四单元测试卷八\n新教材北师版一年级数学上册第四单元测试卷九\n新教材北师版一年级数学上册第四单元测试卷十\n新教材北师版一年级数学上册第四单元测试卷十一\n新教材北师版一年级数学上册第四单元测试卷十二\n新教材北师版一年级数学上册第四单元测试卷十三\n新教材北师版一年级数学上册第四单元测试卷十四\n新教材北师版一年级数学上册第四单元测试卷十五\n新教材北师版一年级数学上册第四单元测试卷十六\n新教材北师版一年级数学上册第四单元测试卷十七\n新教材北师版一年级数学上册第四单元测试卷十八\n新教材北师版一年级数学上册第四单元测试卷十九\n新教材北师版一年级数学上册第四单元测试卷二十\n师版一年级数学上学期第四单元过关检测卷一\n北师版一年级数学上学期第四单元过关检测卷二\n北师版一年级数学上学期第四单元过关检测卷三\n北师版一年级数学上学期第四单元过关检测卷四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('新教材北师版一年级上册数学期中试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n新教材北师版一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材北师版一年级数学上册期中测试卷一\n新教材北师版一年级数学上册期中测试卷二\n新教材北师版一年级数学上册期中测试卷三\n新教材北师版一年级数学上册期中测试卷四\n新教材北师版一年级数学上册期中测试卷五\n新教材北师版一年级数学上册期中测试卷六\n新教材北师版一年级数学上册期中测试卷七\n新教材北师版一年级数学上册期中测试卷八\n新教材北师版一年级数学上册期中测试卷九\n新教材北师版一年级数学上册期中测试卷十\n新教材北师版一年级数学上册期中测试卷十一\n新教材北师版一年级数学上册期中测试卷十二\n新教材北师版一年级数学上册期中测试卷十三\n新教材北师版一年级数学上册期中测试卷十四\n新教材北师版一年级数学上册期中测试卷十五\n新教材北师版一年级数学上册期中测试卷十六\n新教材北师版一年级数学上册期中测试卷十七\n新教材北师版一年级数学上册期中测试卷十八\n新教材北师版一年级数学上册期中测试卷十九\n新教材北师版一年级数学上册期中测试卷二十\n新教材北师版一年级数学上册期中测试卷二十一\n新教材北师版一年级数学上册期中测试卷二十二\n新教材北师版一年级数学上册期中测试卷二十三\n新教材北师版一年级数学上册期中测试卷二十四\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('北师版数学一年级上册我上学啦到第三单元试卷汇总_一年级_小学试卷网', '首页\n>\n北师版\n>\n一年级\n>\n北师版数学一年级上册我上学啦到第三单元试卷汇总\n点击相应的试卷图片进入下载\n我上学啦\n新教材北师版一年级数学上册我上学啦测试卷一\n新教材北师版一年级数学上册我上学啦测试卷二\n新教材北师版一年级数学上册我上学啦测试卷三\n新教材北师版一年级数学上册我上学啦测试卷四\n新教材北师版一年级数学上册我上学啦测试卷五\n新教材北师版一年级数学上册我上学啦测试卷六\n新教材北师版一年级数学上册我上学啦测试卷七\n新教材北师版一年级数学上册我上学啦测试卷八\n第一单元\n新教材北师版一年级数学上册第一单元测试卷一\n新教材北师版一年级数学上册第一单元测试卷二\n新教材北师版一年级数学上册第一单元测试卷三\n新教材北师版一年级数学上册第一单元测试卷四\n新教材北师版一年级数学上册第一单元测试卷五\n新教材北师版一年级数学上册第一单元测试卷六\n新教材北师版一年级数学上册第一单元测试卷七\n新教材北师版一年级数学上册第一单元测试卷八\n新教材北师版一年级数学上册第一单元测试卷九\n新教材北师版一年级数学上册第一单元测试卷十\n新教材北师版一年级数学上册第一单元测试卷十一\n新教材北师版一年级数学上册第一单元测试卷十二\n第二单元\n新教材北师版一年级数学上册第二单元测试卷一\n新教材北师版一年级数学上册第二单元测试卷二\n新教材北师版一年级数学上册第二单元测试卷三\n新教材北师版一年级数学上册第二单元测试卷四\n新教材北师版一年级数学上册第二单元测试卷五\n新教材北师版一年级数学上册第二单元测试卷六\n新教材北师版一年级数学上册第二单元测试卷七\n新教材北师版一年级数学上册第二单元测试卷八\n第三单元\n新教材北师版一年级数学上册第三单元测试卷一\n新教材北师版一年级数学上册第三单元测试卷二\n新教材北师版一年级数学上册第三单元测试卷三\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('苏教版一年级上册数学第五单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第五单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第五单元测试卷一\n新教材苏教版一年级数学上学期第五单元测试卷二\n新教材苏教版一年级数学上学期第五单元测试卷三\n新教材苏教版一年级数学上学期第五单元测试卷四\n新教材苏教版一年级数学上学期第五单元测试卷五\n新教材苏教版一年级数学上学期第五单元测试卷六\n新教材苏教版一年级数学上学期第五单元测试卷七\n新教材苏教版一年级数学上学期第五单元测试卷八\n新教材苏教版一年级数学上学期第五单元测试卷九\n新教材苏教版一年级数学上学期第五单元测试卷十\n新教材苏教版一年级数学上学期第五单元测试卷十一\n新教材苏教版一年级数学上学期第五单元测试卷十二\n新教材苏教版一年级数学上学期第五单元测试卷十三\n新教材苏教版一年级数学上学期第五单元测试卷十四\n新教材苏教版一年级数学上学期第五单元测试卷十五\n新教材苏教版一年级数学上学期第五单元测试卷十六\n新教材苏教版一年级数学上学期第五单元测试卷十七\n新教材苏教版一年级数学上学期第五单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('苏教版一年级上册数学第四单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第四单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第三单元测试卷一\n新教材苏教版一年级数学上学期第三单元测试卷二\n新教材苏教版一年级数学上学期第三单元测试卷三\n新教材苏教版一年级数学上学期第三单元测试卷四\n新教材苏教版一年级数学上学期第三单元测试卷五\n新教材苏教版一年级数学上学期第三单元测试卷六\n新教材苏教版一年级数学上学期第三单元测试卷七\n新教材苏教版一年级数学上学期第三单元测试卷八\n新教材苏教版一年级数学上学期第三单元测试卷九\n新教材苏教版一年级数学上学期第三单元测试卷十\n新教材苏教版一年级数学上学期第三单元测试卷十一\n新教材苏教版一年级数学上学期第三单元测试卷十二\n新教材苏教版一年级数学上学期第三单元测试卷十三\n新教材苏教版一年级数学上学期第三单元测试卷十四\n新教材苏教版一年级数学上学期第三单元测试卷十五\n新教材苏教版一年级数学上学期第三单元测试卷十六\n新教材苏教版一年级数学上学期第三单元测试卷十七\n新教材苏教版一年级数学上学期第三单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('苏教版一年级上册数学第三单元试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学第三单元试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期第三单元测试卷一\n新教材苏教版一年级数学上学期第三单元测试卷二\n新教材苏教版一年级数学上学期第三单元测试卷三\n新教材苏教版一年级数学上学期第三单元测试卷四\n新教材苏教版一年级数学上学期第三单元测试卷五\n新教材苏教版一年级数学上学期第三单元测试卷六\n新教材苏教版一年级数学上学期第三单元测试卷七\n新教材苏教版一年级数学上学期第三单元测试卷八\n新教材苏教版一年级数学上学期第三单元测试卷九\n新教材苏教版一年级数学上学期第三单元测试卷十\n新教材苏教版一年级数学上学期第三单元测试卷十一\n新教材苏教版一年级数学上学期第三单元测试卷十二\n新教材苏教版一年级数学上学期第三单元测试卷十三\n新教材苏教版一年级数学上学期第三单元测试卷十四\n新教材苏教版一年级数学上学期第三单元测试卷十五\n新教材苏教版一年级数学上学期第三单元测试卷十六\n新教材苏教版一年级数学上学期第三单元测试卷十七\n新教材苏教版一年级数学上学期第三单元测试卷十八\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS'),
+('苏教版一年级上册数学期中试卷汇总_一年级_小学试卷网', '首页\n>\n苏教版\n>\n一年级\n>\n苏教版一年级上册数学期中试卷汇总\n点击相应的试卷图片进入下载\n新教材苏教版一年级数学上学期期中测试卷一\n新教材苏教版一年级数学上学期期中测试卷二\n新教材苏教版一年级数学上学期期中测试卷三\n新教材苏教版一年级数学上学期期中测试卷四\n新教材苏教版一年级数学上学期期中测试卷五\n新教材苏教版一年级数学上学期期中测试卷六\n新教材苏教版一年级数学上学期期中测试卷七\n新教材苏教版一年级数学上学期期中测试卷八\n新教材苏教版一年级数学上学期期中测试卷九\n新教材苏教版一年级数学上学期期中测试卷十\n新教材苏教版一年级数学上学期期中测试卷十一\n新教材苏教版一年级数学上学期期中测试卷十二\n新教材苏教版一年级数学上学期期中测试卷十三\n新教材苏教版一年级数学上学期期中测试卷十四\n新教材苏教版一年级数学上学期期中测试卷十五\n新教材苏教版一年级数学上学期期中测试卷十六\n新教材苏教版一年级数学上学期期中测试卷十七\n新教材苏教版一年级数学上学期期中测试卷十八\n新教材苏教版一年级数学上学期期中测试卷十九\n新教材苏教版一年级数学上学期期中测试卷二十\n点评试卷\n0\n条评论', 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png', 80, 'PUBLISHED', 'NEWS');
+
+-- 插入文章计数数据
+INSERT INTO article_stats (article_id, view_count, like_count, share_count) VALUES
+(1, 554, 0, 0),
+(2, 901, 0, 0),
+(3, 714, 0, 0),
+(4, 66, 0, 0),
+(5, 937, 0, 0),
+(6, 902, 0, 0),
+(7, 789, 0, 0),
+(8, 278, 0, 0),
+(9, 915, 0, 0),
+(10, 558, 0, 0),
+(11, 477, 0, 0),
+(12, 973, 0, 0),
+(13, 258, 0, 0),
+(14, 681, 0, 0),
+(15, 989, 0, 0),
+(16, 175, 0, 0),
+(17, 294, 0, 0),
+(18, 386, 0, 0),
+(19, 201, 0, 0),
+(20, 435, 0, 0),
+(21, 923, 0, 0),
+(22, 559, 0, 0),
+(23, 100, 0, 0),
+(24, 838, 0, 0),
+(25, 723, 0, 0),
+(26, 436, 0, 0),
+(27, 483, 0, 0),
+(28, 803, 0, 0),
+(29, 357, 0, 0),
+(30, 537, 0, 0),
+(31, 889, 0, 0),
+(32, 803, 0, 0),
+(33, 27, 0, 0),
+(34, 586, 0, 0),
+(35, 492, 0, 0),
+(36, 113, 0, 0),
+(37, 532, 0, 0),
+(38, 418, 0, 0),
+(39, 205, 0, 0),
+(40, 862, 0, 0),
+(41, 59, 0, 0),
+(42, 851, 0, 0),
+(43, 558, 0, 0),
+(44, 561, 0, 0),
+(45, 669, 0, 0),
+(46, 462, 0, 0),
+(47, 847, 0, 0),
+(48, 43, 0, 0),
+(49, 290, 0, 0),
+(50, 370, 0, 0);
 
 -- 插入文章图片数据
-INSERT INTO article_images (article_id, image_url) VALUES
-(2, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107100449160.jpg'),
-(2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095808301.jpg'),
-(2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095424104.jpg'),
-(2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095057385.jpg'),
-(3, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020615243.jpg'),
-(3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020435816.jpg'),
-(3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020225553.jpg'),
-(3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020048791.jpg'),
-(4, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110103043322.jpg'),
-(4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102818289.jpg'),
-(4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102524222.jpg'),
-(4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102319165.jpg'),
-(5, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(5, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105032332242.jpg'),
-(5, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105032027475.jpg'),
-(5, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105031900116.jpg'),
-(5, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105031542665.jpg'),
-(6, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(6, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116083358593.jpg'),
-(6, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116083150855.jpg'),
-(6, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116082844301.jpg'),
-(6, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116082605799.jpg'),
-(7, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(7, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052608905.jpg'),
-(7, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052247846.jpg'),
-(7, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052005523.jpg'),
-(7, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025051748984.jpg'),
-(8, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(8, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026090704471.jpg'),
-(8, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026114624247.jpg'),
-(8, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026120231403.jpg'),
-(8, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026050409901.jpg'),
-(9, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(9, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093628617.jpg'),
-(9, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093835366.jpg'),
-(9, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093948162.jpg'),
-(9, 'http://www.xiaoxuewang.cn/uploadfile/2025/0930/20250930054916601.jpg'),
-(10, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(10, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103143519.jpg'),
-(10, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103813751.jpg'),
-(10, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103942395.jpg'),
-(10, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913104146584.jpg'),
-(11, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(11, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105105629547.jpg'),
-(11, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105105849547.jpg'),
-(11, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105111059754.jpg'),
-(11, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105111351980.jpg'),
-(12, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(12, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102104519295.jpg'),
-(12, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102104826445.jpg'),
-(12, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102105250277.jpg'),
-(12, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102105620814.jpg'),
-(13, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(13, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023071921860.jpg'),
-(13, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023072753107.jpg'),
-(13, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023073040329.jpg'),
-(13, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023073425317.jpg'),
-(14, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(14, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029042959532.jpg'),
-(14, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029044119288.jpg'),
-(14, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029050237217.jpg'),
-(14, 'http://www.xiaoxuewang.cn/uploadfile/2024/1030/20241030091117559.jpg'),
-(15, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(15, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026075832479.jpg'),
-(15, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026081206358.jpg'),
-(15, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026082233345.jpg'),
-(15, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026082726743.jpg'),
-(16, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(16, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028015156910.jpg'),
-(16, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028050557549.jpg'),
-(16, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028051510743.jpg'),
-(16, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028051726422.jpg'),
-(17, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(17, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101065726336.jpg'),
-(17, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101072101413.jpg'),
-(17, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101101105814.jpg'),
-(17, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101102548994.jpg'),
-(18, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(18, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024104701325.jpg'),
-(18, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024105627162.jpg'),
-(18, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024110028755.jpg'),
-(18, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024112309773.jpg'),
-(19, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(19, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917115358348.jpg'),
-(19, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917120341810.jpg'),
-(19, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917024216890.jpg'),
-(19, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917025100172.jpg'),
-(20, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(20, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023122420527.jpg'),
-(20, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023122739894.jpg'),
-(20, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023123008173.jpg'),
-(20, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023123329226.jpg'),
-(21, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(21, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007071916304.jpg'),
-(21, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007073543805.jpg'),
-(21, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007074235142.jpg'),
-(21, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007074933702.jpg'),
-(22, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(22, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728031225738.jpg'),
-(22, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728032214188.jpg'),
-(22, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728032901720.jpg'),
-(22, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728033516565.jpg'),
-(23, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(23, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024054239356.jpg'),
-(23, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024055641375.jpg'),
-(23, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024091947353.jpg'),
-(23, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024092407429.jpg'),
-(24, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(24, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar2019.png'),
-(24, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/1417543813291.png'),
-(24, 'http://www.xiaoxuewang.cn/uploadfile/2022/0115/20220115123328487.jpg'),
-(25, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(25, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/logo.png'),
-(25, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/live.png'),
-(26, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(26, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927045905845.jpg'),
-(26, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927052056423.jpg'),
-(26, 'http://www.xiaoxuewang.cn/uploadfile/2024/0928/20240928095244758.jpg'),
-(26, 'http://www.xiaoxuewang.cn/uploadfile/2024/0928/20240928104326649.jpg'),
-(27, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(27, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106093044471.jpg'),
-(27, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106093826249.jpg'),
-(27, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106094046606.jpg'),
-(27, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106094309336.jpg'),
-(28, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(28, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027121410175.jpg'),
-(28, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027122643186.jpg'),
-(28, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027122932141.jpg'),
-(28, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027123215831.jpg'),
-(29, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(29, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013083225951.jpg'),
-(29, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013084829950.jpg'),
-(29, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013093901276.jpg'),
-(29, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013094137141.jpg'),
-(30, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(30, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012034832418.jpg'),
-(30, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012065549918.jpg'),
-(30, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012070037688.jpg'),
-(30, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012070400717.jpg'),
-(31, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(31, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091324390.jpg'),
-(31, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091548873.jpg'),
-(31, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091801422.jpg'),
-(31, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091937385.jpg'),
-(32, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(32, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085052195.jpg'),
-(32, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085356985.jpg'),
-(32, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085635869.jpg'),
-(32, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085900995.jpg'),
-(33, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(33, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805124600730.jpg'),
-(33, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805124842307.jpg'),
-(33, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805125349280.jpg'),
-(33, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805125533861.jpg'),
-(34, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(34, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804094634470.jpg'),
-(34, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804094919823.jpg'),
-(34, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804095503659.jpg'),
-(34, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085528173.jpg'),
-(35, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(35, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927013817310.jpg'),
-(35, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927014452504.jpg'),
-(35, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927035921930.jpg'),
-(35, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927042235316.jpg'),
-(36, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(36, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017083815875.jpg'),
-(36, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085037550.jpg'),
-(36, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085214407.jpg'),
-(36, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085525902.jpg'),
-(37, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(37, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016034910713.jpg'),
-(37, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035211846.jpg'),
-(37, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035410373.jpg'),
-(37, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035755360.jpg'),
-(38, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(38, 'http://www.xiaoxuewang.cn/uploadfile/2025/1014/20251014101317252.jpg'),
-(38, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015084423933.jpg'),
-(38, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015084639190.jpg'),
-(38, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015085147440.jpg'),
-(39, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(39, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806080241881.jpg'),
-(39, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806080854530.jpg'),
-(39, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806081030431.jpg'),
-(39, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806095229107.jpg'),
-(40, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(40, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806030529465.jpg'),
-(40, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806030827158.jpg'),
-(40, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806031028624.jpg'),
-(40, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806031344856.jpg'),
-(41, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(41, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806115844268.jpg'),
-(41, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120216885.jpg'),
-(41, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120412342.jpg'),
-(41, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120714564.jpg'),
-(42, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(42, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108040513956.jpg'),
-(42, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108040732717.jpg'),
-(42, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108041156669.jpg'),
-(42, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108041405287.jpg'),
-(43, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(43, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100243586.jpg'),
-(43, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100431275.jpg'),
-(43, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100923532.jpg'),
-(43, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108101440168.jpg'),
-(44, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(44, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091312462.jpg'),
-(44, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091444270.jpg'),
-(44, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091746417.jpg'),
-(44, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091917957.jpg'),
-(45, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(45, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044425795.jpg'),
-(45, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044550418.jpg'),
-(45, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044943950.jpg'),
-(45, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107045246110.jpg'),
-(46, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(46, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007093510898.jpg'),
-(46, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007093721292.jpg'),
-(46, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007094134187.jpg'),
-(46, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007095125745.jpg'),
-(47, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(47, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110090619858.jpg'),
-(47, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091052467.jpg'),
-(47, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091411193.jpg'),
-(47, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091725485.jpg'),
-(48, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(48, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080302783.jpg'),
-(48, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080628388.jpg'),
-(48, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080919887.jpg'),
-(48, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109081154990.jpg'),
-(49, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(49, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052305665.jpg'),
-(49, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052435602.jpg'),
-(49, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052701536.jpg'),
-(49, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052823223.jpg'),
-(50, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
-(50, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100037551.jpg'),
-(50, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100414692.jpg'),
-(50, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100725981.jpg'),
-(50, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100914596.jpg');
\ No newline at end of file
+INSERT INTO article_images (article_id, image_order, image_url) VALUES
+(2, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(2, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107100449160.jpg'),
+(2, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095808301.jpg'),
+(2, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095424104.jpg'),
+(2, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107095057385.jpg'),
+(3, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(3, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020615243.jpg'),
+(3, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020435816.jpg'),
+(3, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020225553.jpg'),
+(3, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1018/20251018020048791.jpg'),
+(4, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(4, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110103043322.jpg'),
+(4, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102818289.jpg'),
+(4, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102524222.jpg'),
+(4, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110102319165.jpg'),
+(5, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(5, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105032332242.jpg'),
+(5, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105032027475.jpg'),
+(5, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105031900116.jpg'),
+(5, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1105/20251105031542665.jpg'),
+(6, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(6, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116083358593.jpg'),
+(6, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116083150855.jpg'),
+(6, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116082844301.jpg'),
+(6, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1116/20251116082605799.jpg'),
+(7, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(7, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052608905.jpg'),
+(7, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052247846.jpg'),
+(7, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025052005523.jpg'),
+(7, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1025/20251025051748984.jpg'),
+(8, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(8, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026090704471.jpg'),
+(8, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026114624247.jpg'),
+(8, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026120231403.jpg'),
+(8, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1026/20251026050409901.jpg'),
+(9, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(9, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093628617.jpg'),
+(9, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093835366.jpg'),
+(9, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0929/20250929093948162.jpg'),
+(9, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0930/20250930054916601.jpg'),
+(10, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(10, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103143519.jpg'),
+(10, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103813751.jpg'),
+(10, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913103942395.jpg'),
+(10, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0913/20250913104146584.jpg'),
+(11, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(11, 1, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105105629547.jpg'),
+(11, 2, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105105849547.jpg'),
+(11, 3, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105111059754.jpg'),
+(11, 4, 'http://www.xiaoxuewang.cn/uploadfile/2023/1105/20231105111351980.jpg'),
+(12, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(12, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102104519295.jpg'),
+(12, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102104826445.jpg'),
+(12, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102105250277.jpg'),
+(12, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1102/20241102105620814.jpg'),
+(13, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(13, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023071921860.jpg'),
+(13, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023072753107.jpg'),
+(13, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023073040329.jpg'),
+(13, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023073425317.jpg'),
+(14, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(14, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029042959532.jpg'),
+(14, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029044119288.jpg'),
+(14, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1029/20241029050237217.jpg'),
+(14, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1030/20241030091117559.jpg'),
+(15, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(15, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026075832479.jpg'),
+(15, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026081206358.jpg'),
+(15, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026082233345.jpg'),
+(15, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1026/20241026082726743.jpg'),
+(16, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(16, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028015156910.jpg'),
+(16, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028050557549.jpg'),
+(16, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028051510743.jpg'),
+(16, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1028/20241028051726422.jpg'),
+(17, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(17, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101065726336.jpg'),
+(17, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101072101413.jpg'),
+(17, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101101105814.jpg'),
+(17, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1101/20241101102548994.jpg'),
+(18, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(18, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024104701325.jpg'),
+(18, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024105627162.jpg'),
+(18, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024110028755.jpg'),
+(18, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024112309773.jpg'),
+(19, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(19, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917115358348.jpg'),
+(19, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917120341810.jpg'),
+(19, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917024216890.jpg'),
+(19, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0917/20250917025100172.jpg'),
+(20, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(20, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023122420527.jpg'),
+(20, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023122739894.jpg'),
+(20, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023123008173.jpg'),
+(20, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1023/20251023123329226.jpg'),
+(21, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(21, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007071916304.jpg'),
+(21, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007073543805.jpg'),
+(21, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007074235142.jpg'),
+(21, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1007/20251007074933702.jpg'),
+(22, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(22, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728031225738.jpg'),
+(22, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728032214188.jpg'),
+(22, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728032901720.jpg'),
+(22, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0728/20250728033516565.jpg'),
+(23, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(23, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024054239356.jpg'),
+(23, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024055641375.jpg'),
+(23, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024091947353.jpg'),
+(23, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1024/20241024092407429.jpg'),
+(24, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(24, 1, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar2019.png'),
+(24, 2, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/1417543813291.png'),
+(24, 3, 'http://www.xiaoxuewang.cn/uploadfile/2022/0115/20220115123328487.jpg'),
+(25, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(25, 1, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/logo.png'),
+(25, 2, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/live.png'),
+(26, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(26, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927045905845.jpg'),
+(26, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927052056423.jpg'),
+(26, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/0928/20240928095244758.jpg'),
+(26, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/0928/20240928104326649.jpg'),
+(27, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(27, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106093044471.jpg'),
+(27, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106093826249.jpg'),
+(27, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106094046606.jpg'),
+(27, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1106/20251106094309336.jpg'),
+(28, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(28, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027121410175.jpg'),
+(28, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027122643186.jpg'),
+(28, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027122932141.jpg'),
+(28, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1027/20251027123215831.jpg'),
+(29, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(29, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013083225951.jpg'),
+(29, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013084829950.jpg'),
+(29, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013093901276.jpg'),
+(29, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1013/20251013094137141.jpg'),
+(30, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(30, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012034832418.jpg'),
+(30, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012065549918.jpg'),
+(30, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012070037688.jpg'),
+(30, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1012/20251012070400717.jpg'),
+(31, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(31, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091324390.jpg'),
+(31, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091548873.jpg'),
+(31, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091801422.jpg'),
+(31, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806091937385.jpg'),
+(32, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(32, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085052195.jpg'),
+(32, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085356985.jpg'),
+(32, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085635869.jpg'),
+(32, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085900995.jpg'),
+(33, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(33, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805124600730.jpg'),
+(33, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805124842307.jpg'),
+(33, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805125349280.jpg'),
+(33, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805125533861.jpg'),
+(34, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(34, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804094634470.jpg'),
+(34, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804094919823.jpg'),
+(34, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0804/20250804095503659.jpg'),
+(34, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0805/20250805085528173.jpg'),
+(35, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(35, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927013817310.jpg'),
+(35, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927014452504.jpg'),
+(35, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927035921930.jpg'),
+(35, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/0927/20240927042235316.jpg'),
+(36, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(36, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017083815875.jpg'),
+(36, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085037550.jpg'),
+(36, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085214407.jpg'),
+(36, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1017/20251017085525902.jpg'),
+(37, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(37, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016034910713.jpg'),
+(37, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035211846.jpg'),
+(37, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035410373.jpg'),
+(37, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1016/20251016035755360.jpg'),
+(38, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(38, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1014/20251014101317252.jpg'),
+(38, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015084423933.jpg'),
+(38, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015084639190.jpg'),
+(38, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1015/20251015085147440.jpg'),
+(39, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(39, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806080241881.jpg'),
+(39, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806080854530.jpg'),
+(39, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806081030431.jpg'),
+(39, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806095229107.jpg'),
+(40, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(40, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806030529465.jpg'),
+(40, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806030827158.jpg'),
+(40, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806031028624.jpg'),
+(40, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806031344856.jpg'),
+(41, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(41, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806115844268.jpg'),
+(41, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120216885.jpg'),
+(41, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120412342.jpg'),
+(41, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/0806/20250806120714564.jpg'),
+(42, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(42, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108040513956.jpg'),
+(42, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108040732717.jpg'),
+(42, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108041156669.jpg'),
+(42, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108041405287.jpg'),
+(43, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(43, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100243586.jpg'),
+(43, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100431275.jpg'),
+(43, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100923532.jpg'),
+(43, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108101440168.jpg'),
+(44, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(44, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091312462.jpg'),
+(44, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091444270.jpg'),
+(44, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091746417.jpg'),
+(44, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107091917957.jpg'),
+(45, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(45, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044425795.jpg'),
+(45, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044550418.jpg'),
+(45, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107044943950.jpg'),
+(45, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1107/20251107045246110.jpg'),
+(46, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(46, 1, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007093510898.jpg'),
+(46, 2, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007093721292.jpg'),
+(46, 3, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007094134187.jpg'),
+(46, 4, 'http://www.xiaoxuewang.cn/uploadfile/2024/1007/20241007095125745.jpg'),
+(47, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(47, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110090619858.jpg'),
+(47, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091052467.jpg'),
+(47, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091411193.jpg'),
+(47, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1110/20251110091725485.jpg'),
+(48, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(48, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080302783.jpg'),
+(48, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080628388.jpg'),
+(48, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109080919887.jpg'),
+(48, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109081154990.jpg'),
+(49, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(49, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052305665.jpg'),
+(49, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052435602.jpg'),
+(49, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052701536.jpg'),
+(49, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1109/20251109052823223.jpg'),
+(50, 0, 'http://www.xiaoxuewang.cn/templates/default/skins/default/images/Avatar.png'),
+(50, 1, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100037551.jpg'),
+(50, 2, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100414692.jpg'),
+(50, 3, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100725981.jpg'),
+(50, 4, 'http://www.xiaoxuewang.cn/uploadfile/2025/1108/20251108100914596.jpg');
\ No newline at end of file
@@ -17,28 +17,117 @@ CREATE TABLE IF NOT EXISTS categories (
 CREATE TABLE IF NOT EXISTS articles (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     title VARCHAR(200) NOT NULL COMMENT '文章标题',
-    content TEXT COMMENT '文章内容',
+    content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）',
     cover_image VARCHAR(500) COMMENT '封面图片',
     category_id BIGINT COMMENT '分类ID',
-    view_count INT DEFAULT 0 COMMENT '浏览量',
+    category_name VARCHAR(50) COMMENT '分类名称（冗余，分类改名/删除后由后台任务同步）',
     status VARCHAR(20) DEFAULT 'PUBLISHED' COMMENT '状态: PUBLISHED-已发布, DRAFT-草稿, ARCHIVED-已归档',
     article_type VARCHAR(50) COMMENT '文章类型: NEWS-新闻, BLOG-博客, TUTORIAL-教程等',
     tag VARCHAR(20) COMMENT '标签: HOT-热门, LATEST-最新',
     create_time DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     update_time DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '版本，每次修改加一',
     FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL,
     INDEX idx_category_id (category_id),
     INDEX idx_status (status),
     INDEX idx_article_type (article_type),
     INDEX idx_tag (tag),
-    INDEX idx_create_time (create_time),
-    INDEX idx_view_count (view_count)
+    INDEX idx_create_time (create_time)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章表';
 
+-- 创建文章计数表（浏览量等高频自增计数与文章宽行分开存放）
+CREATE TABLE IF NOT EXISTS article_stats (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    view_count INT NOT NULL DEFAULT 0 COMMENT '浏览量',
+    like_count INT NOT NULL DEFAULT 0 COMMENT '点赞数',
+    share_count INT NOT NULL DEFAULT 0 COMMENT '分享数',
+    unique_views INT NOT NULL DEFAULT 0 COMMENT '独立访客数（HyperLogLog 估计值）',
+    INDEX idx_view_count (view_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章计数表（文章归档后保留，不设外键）';
+
+-- 创建文章访客草图表（每篇文章一个 HyperLogLog 草图，各节点定期合并写入）
+CREATE TABLE IF NOT EXISTS article_visitor_sketches (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    sketch VARBINARY(4096) NOT NULL COMMENT 'HyperLogLog 寄存器（紧凑编码）',
+    update_time DATETIME NOT NULL COMMENT '最近一次合并时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章访客草图表（与计数表一样不设外键）';
+
+-- 创建文章浏览量汇总表（按小时累加写入，超过保留期的小时桶汇总为天）
+CREATE TABLE IF NOT EXISTS article_view_rollups (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    granularity VARCHAR(10) NOT NULL COMMENT '时间粒度: HOUR, DAY',
+    bucket_start DATETIME NOT NULL COMMENT '时间桶开始时间',
+    views INT NOT NULL COMMENT '时间桶内的浏览量',
+    PRIMARY KEY (article_id, granularity, bucket_start),
+    INDEX idx_granularity_bucket (granularity, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章浏览量时间汇总表（小时桶定期汇总为天桶）';
+
+-- 创建文章签名表（标题和正文的 MinHash 签名，用于计算相关文章）
+CREATE TABLE IF NOT EXISTS article_signatures (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    signature VARBINARY(256) NOT NULL COMMENT '标题和正文的 MinHash 签名（64 个 32 位值）',
+    update_time DATETIME NOT NULL COMMENT '最近一次计算时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章 MinHash 签名表（只含已发布文章）';
+
+-- 创建文章 LSH 桶表（签名每段一行，按段哈希查找候选）
+CREATE TABLE IF NOT EXISTS article_lsh_buckets (
+    band_hash BIGINT NOT NULL COMMENT '签名分段的哈希',
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    PRIMARY KEY (band_hash, article_id),
+    INDEX idx_article_id (article_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章 LSH 桶表（同一桶中的文章互为相关文章候选）';
+
+-- 创建相关文章表（预先计算，按文章ID读取）
+CREATE TABLE IF NOT EXISTS article_related (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    related_id BIGINT NOT NULL COMMENT '相关文章ID',
+    similarity DOUBLE NOT NULL COMMENT 'MinHash 估计的 Jaccard 相似度',
+    PRIMARY KEY (article_id, related_id),
+    INDEX idx_related_id (related_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='相关文章表（每篇文章保留相似度最高的若干篇）';
+
 -- 创建文章图片表（多图支持）
 CREATE TABLE IF NOT EXISTS article_images (
     article_id BIGINT NOT NULL COMMENT '文章ID',
+    image_order INT NOT NULL COMMENT '图片顺序，从0开始',
     image_url VARCHAR(500) NOT NULL COMMENT '图片URL',
-    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE,
-    INDEX idx_article_id (article_id)
+    PRIMARY KEY (article_id, image_order),
+    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章图片表';
+
+-- 创建归档文章表（已归档文章由后台任务从 articles 迁入，id 不变）
+CREATE TABLE IF NOT EXISTS articles_archive (
+    id BIGINT PRIMARY KEY COMMENT '文章ID',
+    title VARCHAR(200) NOT NULL COMMENT '文章标题',
+    content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）',
+    cover_image VARCHAR(500) COMMENT '封面图片',
+    category_id BIGINT COMMENT '分类ID',
+    status VARCHAR(20) COMMENT '迁出前的状态',
+    article_type VARCHAR(50) COMMENT '文章类型',
+    tag VARCHAR(20) COMMENT '标签',
+    create_time DATETIME COMMENT '创建时间',
+    update_time DATETIME COMMENT '更新时间',
+    version BIGINT COMMENT '迁出时的版本',
+    archived_time DATETIME COMMENT '归档时间',
+    INDEX idx_category_id (category_id),
+    INDEX idx_create_time (create_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章表';
+
+-- 创建归档文章图片表
+CREATE TABLE IF NOT EXISTS article_images_archive (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    image_order INT NOT NULL COMMENT '图片顺序，从0开始',
+    image_url VARCHAR(500) NOT NULL COMMENT '图片URL',
+    PRIMARY KEY (article_id, image_order),
+    FOREIGN KEY (article_id) REFERENCES articles_archive(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章图片表';
+
+-- 创建变更日志表（与文章/分类写操作同一事务写入，供下游增量同步）
+CREATE TABLE IF NOT EXISTS change_log (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '变更序号',
+    entity_type VARCHAR(20) NOT NULL COMMENT '对象类型: ARTICLE, CATEGORY',
+    entity_id BIGINT NOT NULL COMMENT '对象ID',
+    change_type VARCHAR(20) NOT NULL COMMENT '变更类型: CREATED, UPDATED, DELETED, ARCHIVED',
+    published BOOLEAN NOT NULL DEFAULT FALSE COMMENT '是否使文章变为已发布',
+    change_time DATETIME NOT NULL COMMENT '变更时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='变更日志表';
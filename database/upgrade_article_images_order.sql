@@ -0,0 +1,18 @@
+-- 为已有的 article_images 数据补充 image_order 列并改为 (article_id, image_order) 主键
+-- 在部署新版本之前执行一次；新建的数据库直接使用 schema.sql 即可
+
+USE article_db;
+
+ALTER TABLE article_images ADD COLUMN image_order INT NULL COMMENT '图片顺序，从0开始' AFTER article_id;
+
+-- 按原有插入顺序为每篇文章的图片编号
+SET @prev_article := 0, @image_order := -1;
+UPDATE article_images
+SET image_order = IF(article_id = @prev_article,
+                     @image_order := @image_order + 1,
+                     (@image_order := 0) + (@prev_article := article_id) * 0)
+ORDER BY article_id;
+
+ALTER TABLE article_images MODIFY COLUMN image_order INT NOT NULL COMMENT '图片顺序，从0开始';
+ALTER TABLE article_images ADD PRIMARY KEY (article_id, image_order);
+ALTER TABLE article_images DROP INDEX idx_article_id;
@@ -0,0 +1,20 @@
+-- 将 articles.view_count 迁移到独立的 article_stats 计数表
+-- 在部署新版本之前执行一次；新建的数据库直接使用 schema.sql 即可
+
+USE article_db;
+
+CREATE TABLE IF NOT EXISTS article_stats (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    view_count INT NOT NULL DEFAULT 0 COMMENT '浏览量',
+    like_count INT NOT NULL DEFAULT 0 COMMENT '点赞数',
+    share_count INT NOT NULL DEFAULT 0 COMMENT '分享数',
+    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE,
+    INDEX idx_view_count (view_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章计数表';
+
+INSERT INTO article_stats (article_id, view_count)
+SELECT id, COALESCE(view_count, 0) FROM articles
+ON DUPLICATE KEY UPDATE view_count = VALUES(view_count);
+
+ALTER TABLE articles DROP INDEX idx_view_count;
+ALTER TABLE articles DROP COLUMN view_count;
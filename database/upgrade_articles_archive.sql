@@ -0,0 +1,31 @@
+-- 创建归档表，并去掉 article_stats 指向 articles 的外键（文章迁入归档表后计数行需要保留）
+-- 在部署新版本之前执行一次；新建的数据库直接使用 schema.sql 即可
+
+USE article_db;
+
+-- 外键名为 MySQL 自动生成的名称，如有不同请先用 SHOW CREATE TABLE article_stats 查看
+ALTER TABLE article_stats DROP FOREIGN KEY article_stats_ibfk_1;
+
+CREATE TABLE IF NOT EXISTS articles_archive (
+    id BIGINT PRIMARY KEY COMMENT '文章ID',
+    title VARCHAR(200) NOT NULL COMMENT '文章标题',
+    content TEXT COMMENT '文章内容',
+    cover_image VARCHAR(500) COMMENT '封面图片',
+    category_id BIGINT COMMENT '分类ID',
+    status VARCHAR(20) DEFAULT 'ARCHIVED' COMMENT '状态',
+    article_type VARCHAR(50) COMMENT '文章类型',
+    tag VARCHAR(20) COMMENT '标签',
+    create_time DATETIME COMMENT '创建时间',
+    update_time DATETIME COMMENT '更新时间',
+    archived_time DATETIME COMMENT '归档时间',
+    INDEX idx_category_id (category_id),
+    INDEX idx_create_time (create_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章表';
+
+CREATE TABLE IF NOT EXISTS article_images_archive (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    image_order INT NOT NULL COMMENT '图片顺序，从0开始',
+    image_url VARCHAR(500) NOT NULL COMMENT '图片URL',
+    PRIMARY KEY (article_id, image_order),
+    FOREIGN KEY (article_id) REFERENCES articles_archive(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章图片表';
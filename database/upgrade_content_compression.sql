@@ -0,0 +1,10 @@
+-- 正文改为压缩存储：content 列由 TEXT 改为 MEDIUMBLOB
+-- 在部署新版本之前执行一次；新建的数据库直接使用 schema.sql 即可
+-- 改类型后原文按 UTF-8 字节保留，新版本可以直接读取。之后以
+-- article.content-compression.migrate-on-startup=true 启动一次，由后台任务（类型 CONTENT_COMPRESSION）
+-- 把存量正文改写为压缩格式，完成后关闭该配置
+
+USE article_db;
+
+ALTER TABLE articles MODIFY content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）';
+ALTER TABLE articles_archive MODIFY content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）';
@@ -8,6 +8,7 @@ set -e  # 遇到错误立即退出
 
 # 默认配置
 SKIP_TESTS=true
+FAST_START=false
 OUTPUT_DIR="${OUTPUT_DIR:-target}"
 
 # 颜色输出
@@ -47,6 +48,7 @@ show_help() {
 
 选项:
   --run-tests           运行测试（默认跳过测试）
+  --fast-start          同时生成快速启动产物（AOT + AppCDS，输出到 target/fast-start）
   --output-dir DIR      输出目录 (默认: target)
   --help                显示帮助信息
 
@@ -57,6 +59,9 @@ show_help() {
   # 编译项目并运行测试
   $0 --run-tests
 
+  # 生成快速启动产物（生产环境扩容时使用）
+  $0 --fast-start
+
   # 指定输出目录
   $0 --output-dir /path/to/output
 EOF
@@ -70,6 +75,10 @@ parse_args() {
                 SKIP_TESTS=false
                 shift
                 ;;
+            --fast-start)
+                FAST_START=true
+                shift
+                ;;
             --output-dir)
                 OUTPUT_DIR="$2"
                 shift 2
@@ -105,6 +114,11 @@ build_project() {
     # 构建Maven命令
     MVN_CMD="mvn clean package"
     
+    if [ "$FAST_START" = true ]; then
+        MVN_CMD="$MVN_CMD -Pfast-start"
+        print_info "生成快速启动产物"
+    fi
+    
     if [ "$SKIP_TESTS" = true ]; then
         MVN_CMD="$MVN_CMD -DskipTests"
         print_info "跳过测试"
@@ -120,7 +134,7 @@ build_project() {
         print_info "项目编译成功"
         
         # 查找生成的JAR文件
-        JAR_FILE=$(find "$OUTPUT_DIR" -name "*.jar" -not -name "*-sources.jar" -not -name "*-javadoc.jar" | head -n 1)
+        JAR_FILE=$(find "$OUTPUT_DIR" -maxdepth 1 -name "*.jar" -not -name "*-sources.jar" -not -name "*-javadoc.jar" | head -n 1)
         
         if [ -n "$JAR_FILE" ]; then
             print_info "JAR包位置: $JAR_FILE"
@@ -128,6 +142,10 @@ build_project() {
         else
             print_warn "未找到生成的JAR文件"
         fi
+        
+        if [ "$FAST_START" = true ]; then
+            print_info "快速启动目录: $OUTPUT_DIR/fast-start（整个目录一起部署，启动方式见 start-prod.sh）"
+        fi
     else
         print_error "项目编译失败"
         exit 1
@@ -144,6 +162,7 @@ main() {
     # 显示配置信息
     print_info "编译配置:"
     print_info "  跳过测试: ${SKIP_TESTS}"
+    print_info "  快速启动: ${FAST_START}"
     print_info "  输出目录: ${OUTPUT_DIR}"
     echo
     
@@ -297,7 +297,7 @@ class XiaoxuewangScraper:
             return "\n".join(sql_lines)
         
         sql_lines.append("-- 插入文章数据")
-        sql_lines.append("INSERT INTO articles (title, content, cover_image, category_id, status, article_type, view_count) VALUES")
+        sql_lines.append("INSERT INTO articles (title, content, cover_image, category_id, status, article_type) VALUES")
         
         article_values = []
         for article in self.articles:
@@ -310,24 +310,34 @@ class XiaoxuewangScraper:
                 cover_image = f"'{cover_image}'"
             
             article_values.append(
-                f"('{title}', '{content}', {cover_image}, {category_id}, 'PUBLISHED', 'NEWS', {hash(article['url']) % 1000})"
+                f"('{title}', '{content}', {cover_image}, {category_id}, 'PUBLISHED', 'NEWS')"
             )
         
         sql_lines.append(",\n".join(article_values) + ";")
         sql_lines.append("")
         
+        # 生成文章计数插入语句（浏览量等计数单独存放在 article_stats 表）
+        sql_lines.append("-- 插入文章计数数据")
+        sql_lines.append("INSERT INTO article_stats (article_id, view_count, like_count, share_count) VALUES")
+        stats_values = [
+            f"({idx + 1}, {hash(article['url']) % 1000}, 0, 0)"
+            for idx, article in enumerate(self.articles)
+        ]
+        sql_lines.append(",\n".join(stats_values) + ";")
+        sql_lines.append("")
+        
         # 生成文章图片插入语句
         sql_lines.append("-- 插入文章图片数据")
-        sql_lines.append("INSERT INTO article_images (article_id, image_url) VALUES")
+        sql_lines.append("INSERT INTO article_images (article_id, image_order, image_url) VALUES")
         
         image_values = []
         article_start_id = 1  # 假设从ID 1开始
         
         for idx, article in enumerate(self.articles):
             article_id = article_start_id + idx
-            for img_url in article.get('images', [])[:5]:  # 每篇文章最多5张图片
+            for order, img_url in enumerate(article.get('images', [])[:5]):  # 每篇文章最多5张图片
                 img_url_escaped = self.escape_sql_string(img_url)
-                image_values.append(f"({article_id}, '{img_url_escaped}')")
+                image_values.append(f"({article_id}, {order}, '{img_url_escaped}')")
         
         if image_values:
             sql_lines.append(",\n".join(image_values) + ";")
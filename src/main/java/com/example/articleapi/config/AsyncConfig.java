@@ -0,0 +1,12 @@
+package com.example.articleapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 启用 @Async，后台任务使用 Spring Boot 自动配置的 applicationTaskExecutor 线程池。
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,12 @@
+package com.example.articleapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 启用 @Scheduled，定时任务使用 Spring Boot 自动配置的 taskScheduler。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
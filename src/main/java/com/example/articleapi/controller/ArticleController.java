@@ -1,12 +1,49 @@
 package com.example.articleapi.controller;
 
+import com.example.articleapi.dto.ArticleBatchDTO;
+import com.example.articleapi.dto.ArticleBatchRequest;
+import com.example.articleapi.dto.ArticleContentPageDTO;
 import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleDeleteResultDTO;
+import com.example.articleapi.dto.ArticleFacetsDTO;
 import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.ArticleViewStatsDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.dto.JobDTO;
 import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.dto.RelatedArticleDTO;
+import com.example.articleapi.service.ArticleContentService;
+import com.example.articleapi.service.ArticleFacetService;
+import com.example.articleapi.service.ArticleResponseCache;
 import com.example.articleapi.service.ArticleService;
+import com.example.articleapi.service.ArticleStreamService;
+import com.example.articleapi.service.ArticleWriteCoalescer;
+import com.example.articleapi.service.BulkDeleteService;
+import com.example.articleapi.service.ChangeLogService;
+import com.example.articleapi.service.RelatedArticleService;
+import com.example.articleapi.service.ViewRollupService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/articles")
@@ -14,6 +51,18 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleController {
     
     private final ArticleService articleService;
+    private final ArticleFacetService articleFacetService;
+    private final ChangeLogService changeLogService;
+    private final ArticleStreamService articleStreamService;
+    private final ArticleWriteCoalescer articleWriteCoalescer;
+    private final BulkDeleteService bulkDeleteService;
+    private final ViewRollupService viewRollupService;
+    private final RelatedArticleService relatedArticleService;
+    private final ArticleContentService articleContentService;
+    
+    /** 客户端保存的访客 id（首次访问时由服务端下发），用于统计独立访客 */
+    static final String VISITOR_COOKIE = "visitor_id";
+    private static final Duration VISITOR_COOKIE_MAX_AGE = Duration.ofDays(365);
     
     @GetMapping
     public ResponseEntity<PageResult<ArticleDTO>> getArticleList(
@@ -22,7 +71,9 @@ public class ArticleController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String articleType,
-            @RequestParam(required = false) String tag) {
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields) {
         
         ArticleListRequest request = new ArticleListRequest();
         request.setPage(page);
@@ -31,20 +82,171 @@ public class ArticleController {
         request.setCategoryId(categoryId);
         request.setArticleType(articleType);
         request.setTag(tag);
+        request.setSort(sort);
+        request.setFields(fields);
         
         PageResult<ArticleDTO> result = articleService.getArticleList(request);
         return ResponseEntity.ok(result);
     }
     
+    @GetMapping("/facets")
+    public ResponseEntity<ArticleFacetsDTO> getArticleFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String articleType,
+            @RequestParam(required = false) String tag) {
+        
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus(status);
+        request.setCategoryId(categoryId);
+        request.setArticleType(articleType);
+        request.setTag(tag);
+        
+        return ResponseEntity.ok(articleFacetService.getFacets(request));
+    }
+    
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(changeLogService.getChanges(since, limit));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPublishedArticles(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String articleType,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return articleStreamService.subscribe(categoryId, articleType, lastEventId);
+    }
+    
+    @GetMapping("/batch")
+    public ResponseEntity<ArticleBatchDTO> getArticlesByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "false") boolean recordViews) {
+        return ResponseEntity.ok(articleService.getArticlesByIds(ids, recordViews));
+    }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<ArticleBatchDTO> getArticlesByIds(@RequestBody ArticleBatchRequest request) {
+        return ResponseEntity.ok(articleService.getArticlesByIds(
+                request.getIds(), Boolean.TRUE.equals(request.getRecordViews())));
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<ArticleDTO> getArticleById(@PathVariable Long id) {
-        ArticleDTO article = articleService.getArticleById(id);
+    public ResponseEntity<ArticleDTO> getArticleById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @CookieValue(value = VISITOR_COOKIE, required = false) String visitorId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        ArticleDTO article = articleService.getArticleById(id, fields, visitorKey(visitorId, request, response));
         return ResponseEntity.ok(article);
     }
     
+    /**
+     * 不带 fields 的 JSON 详情请求直接写出缓存的响应字节，客户端接受时以 gzip 返回；
+     * 其余格式和字段选择由 getArticleById 处理
+     */
+    @GetMapping(value = "/{id}", params = "!fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getArticleByIdCached(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @CookieValue(value = VISITOR_COOKIE, required = false) String visitorId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        articleService.getArticleResponse(id, visitorKey(visitorId, request, response))
+                .writeTo(response, ArticleResponseCache.acceptsGzip(acceptEncoding));
+    }
+    
+    /**
+     * 文章浏览量的时间序列，granularity 为 HOUR 或 DAY
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ArticleViewStatsDTO> getArticleViewStats(
+            @PathVariable Long id,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String granularity) {
+        return ResponseEntity.ok(viewRollupService.getViewStats(id, from, to, granularity));
+    }
+    
+    /**
+     * 预先计算的相关文章，按相似度从高到低排列
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedArticleDTO>> getRelatedArticles(@PathVariable Long id) {
+        return ResponseEntity.ok(relatedArticleService.getRelatedArticles(id));
+    }
+    
+    /**
+     * 以纯文本返回正文，支持 Range 请求；If-Range 与当前 ETag 不一致时忽略 Range，返回完整正文
+     */
+    @GetMapping(value = "/{id}/content", params = "!page")
+    public ResponseEntity<Resource> getArticleContent(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        ArticleContentService.ContentResource content = articleContentService.getContent(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .eTag(content.getETag());
+        if (range == null) {
+            return response.body(content);
+        }
+        if (ifRange != null && !ifRange.equals(content.getETag())) {
+            // InputStreamResource 不参与 Range 处理
+            return response.contentLength(content.contentLength()).body(new InputStreamResource(content.getInputStream()));
+        }
+        // 框架对无法满足的范围返回 416 时仍会写出完整正文，这里提前校验
+        try {
+            HttpRange.toResourceRegions(HttpRange.parseRanges(range), content);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + content.contentLength())
+                    .build();
+        }
+        return response.body(content);
+    }
+    
+    /**
+     * 按段落分页读取正文
+     */
+    @GetMapping(value = "/{id}/content", params = "page")
+    public ResponseEntity<ArticleContentPageDTO> getArticleContentPage(
+            @PathVariable Long id,
+            @RequestParam Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(articleContentService.getContentPage(id, page, size));
+    }
+    
+    /**
+     * 独立访客的标识：优先使用客户端的 visitor_id cookie；首次访问时由客户端地址加 User-Agent 生成并下发，
+     * 之后地址变化仍按同一访客统计。不保存 cookie 的客户端每次按地址加 User-Agent 得到相同的值，不会被重复计数，
+     * 但同一出口地址后相同浏览器的多个访客只算一个，地址变化后算作新访客。
+     * 带 Set-Cookie 的响应标记为 Cache-Control: private，共享缓存不会把它连同 cookie 发给其他访客
+     */
+    static String visitorKey(String visitorId, HttpServletRequest request, HttpServletResponse response) {
+        if (visitorId == null || visitorId.isBlank()) {
+            String source = request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+            visitorId = UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.empty().cachePrivate().getHeaderValue());
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(VISITOR_COOKIE, visitorId)
+                    .path("/")
+                    .maxAge(VISITOR_COOKIE_MAX_AGE)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        return "c:" + visitorId;
+    }
+    
     @PostMapping
     public ResponseEntity<ArticleDTO> createArticle(@RequestBody ArticleDTO articleDTO) {
-        ArticleDTO created = articleService.createArticle(articleDTO);
+        ArticleDTO created = articleWriteCoalescer.isEnabled()
+            ? articleWriteCoalescer.createArticle(articleDTO)
+            : articleService.createArticle(articleDTO);
         return ResponseEntity.ok(created);
     }
     
@@ -52,10 +254,48 @@ public class ArticleController {
     public ResponseEntity<ArticleDTO> updateArticle(
             @PathVariable Long id,
             @RequestBody ArticleDTO articleDTO) {
-        ArticleDTO updated = articleService.updateArticle(id, articleDTO);
+        ArticleDTO updated = articleWriteCoalescer.isEnabled()
+            ? articleWriteCoalescer.updateArticle(id, articleDTO)
+            : articleService.updateArticle(id, articleDTO);
         return ResponseEntity.ok(updated);
     }
     
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ArticleDTO> patchArticle(
+            @PathVariable Long id,
+            @RequestBody Map<String, Object> patch) {
+        ArticleDTO patched = articleService.patchArticle(id, patch);
+        return ResponseEntity.ok(patched);
+    }
+    
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ArticleDeleteResultDTO> deleteArticles(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(bulkDeleteService.deleteArticles(ids));
+    }
+    
+    /**
+     * 按筛选条件删除在后台分块执行，返回 202 和任务信息，进度通过 /jobs/{id} 查询
+     */
+    @DeleteMapping(params = "!ids")
+    public ResponseEntity<JobDTO> deleteArticles(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String articleType,
+            @RequestParam(required = false) String tag) {
+        
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus(status);
+        request.setCategoryId(categoryId);
+        request.setArticleType(articleType);
+        request.setTag(tag);
+        
+        JobDTO job = bulkDeleteService.deleteArticles(request);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/jobs/{id}").buildAndExpand(job.getId()).toUri())
+                .body(job);
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteArticle(@PathVariable Long id) {
         articleService.deleteArticle(id);
@@ -1,10 +1,12 @@
 package com.example.articleapi.controller;
 
 import com.example.articleapi.dto.CategoryDTO;
+import com.example.articleapi.dto.JobDTO;
 import com.example.articleapi.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -16,8 +18,9 @@ public class CategoryController {
     private final CategoryService categoryService;
     
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<CategoryDTO> categories = categoryService.getAllCategories();
+    public ResponseEntity<List<CategoryDTO>> getAllCategories(
+            @RequestParam(required = false) String fields) {
+        List<CategoryDTO> categories = categoryService.getAllCategories(fields);
         return ResponseEntity.ok(categories);
     }
     
@@ -41,9 +44,18 @@ public class CategoryController {
         return ResponseEntity.ok(updated);
     }
     
+    /**
+     * 分类下文章较多时删除在后台执行，返回 202 和任务信息，进度通过 /jobs/{id} 查询
+     */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
-        categoryService.deleteCategory(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<JobDTO> deleteCategory(@PathVariable Long id) {
+        JobDTO job = categoryService.deleteCategory(id);
+        if (job == null) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/jobs/{id}").buildAndExpand(job.getId()).toUri())
+                .body(job);
     }
 }
@@ -0,0 +1,63 @@
+package com.example.articleapi.controller;
+
+import com.example.articleapi.dto.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * 对声明了 fields 请求参数的接口，按参数裁剪响应 JSON 中标注了 @JsonFilter 的 DTO 字段
+ */
+@RestControllerAdvice
+public class FieldSelectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && hasFieldsParameter(returnType);
+    }
+    
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(
+                servletRequest.getServletRequest().getParameter(FieldSelection.FILTER_ID));
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(
+                    FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selection.getFields())));
+        }
+    }
+    
+    private static boolean hasFieldsParameter(MethodParameter returnType) {
+        Method method = returnType.getMethod();
+        if (method == null) {
+            return false;
+        }
+        for (Parameter parameter : method.getParameters()) {
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            String name = requestParam.name().isEmpty() ? parameter.getName() : requestParam.name();
+            if (FieldSelection.FILTER_ID.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
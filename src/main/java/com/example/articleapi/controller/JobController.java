@@ -0,0 +1,27 @@
+package com.example.articleapi.controller;
+
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    
+    private final JobService jobService;
+    
+    @GetMapping
+    public ResponseEntity<List<JobDTO>> getRecentJobs() {
+        return ResponseEntity.ok(jobService.getRecentJobs());
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDTO> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(jobService.getJob(id));
+    }
+}
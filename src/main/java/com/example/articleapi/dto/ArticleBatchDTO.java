@@ -0,0 +1,14 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBatchDTO {
+    private List<ArticleDTO> articles; // 按请求中的 id 顺序排列
+    private List<Long> missingIds; // 不存在的 id
+}
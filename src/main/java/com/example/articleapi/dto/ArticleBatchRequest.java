@@ -0,0 +1,10 @@
+package com.example.articleapi.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class ArticleBatchRequest {
+    private List<Long> ids;
+    private Boolean recordViews = false; // 是否为返回的文章各记一次浏览
+}
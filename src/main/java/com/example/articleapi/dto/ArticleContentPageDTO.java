@@ -0,0 +1,17 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleContentPageDTO {
+    private Long articleId;
+    private Integer page; // 从 0 开始
+    private Integer size;
+    private List<String> paragraphs; // 正文按行切分后的非空段落
+    private Boolean hasMore;
+}
@@ -1,10 +1,12 @@
 package com.example.articleapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@JsonFilter(FieldSelection.FILTER_ID)
 public class ArticleDTO {
     private Long id;
     private String title;
@@ -14,6 +16,9 @@ public class ArticleDTO {
     private Long categoryId;
     private String categoryName;
     private Integer viewCount;
+    private Integer likeCount;
+    private Integer shareCount;
+    private Integer uniqueViews; // 独立访客数，HyperLogLog 估计值
     private String status;
     private String articleType;
     private String tag; // HOT-热门, LATEST-最新
@@ -0,0 +1,14 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleDeleteResultDTO {
+    private int deleted; // 实际删除的文章数（含已归档文章）
+    private List<Long> missingIds; // 不存在的 id
+}
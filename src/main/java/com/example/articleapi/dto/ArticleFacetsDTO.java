@@ -0,0 +1,14 @@
+package com.example.articleapi.dto;
+
+import lombok.Data;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class ArticleFacetsDTO {
+    private Long total;
+    private Map<String, Long> status = new LinkedHashMap<>();
+    private Map<String, Long> articleType = new LinkedHashMap<>();
+    private Map<String, Long> tag = new LinkedHashMap<>();
+    private Map<Long, Long> categoryId = new LinkedHashMap<>();
+}
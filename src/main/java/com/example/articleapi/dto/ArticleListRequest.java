@@ -10,4 +10,6 @@ public class ArticleListRequest {
     private Long categoryId;
     private String articleType; // NEWS, BLOG, TUTORIAL, etc.
     private String tag; // HOT-热门, LATEST-最新
+    private String sort; // trending-按近期热度排序，为空时按标签决定排序
+    private String fields; // 逗号分隔的返回字段，为空时返回全部
 }
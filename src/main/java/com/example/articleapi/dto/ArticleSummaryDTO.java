@@ -0,0 +1,19 @@
+package com.example.articleapi.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 推送给订阅方的文章摘要，不含正文和图片
+ */
+@Data
+public class ArticleSummaryDTO {
+    private Long id;
+    private String title;
+    private String coverImage;
+    private Long categoryId;
+    private String categoryName;
+    private String articleType;
+    private String tag;
+    private LocalDateTime createTime;
+}
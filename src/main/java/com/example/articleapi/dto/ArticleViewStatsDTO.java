@@ -0,0 +1,19 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleViewStatsDTO {
+    private Long articleId;
+    private String granularity; // HOUR-按小时, DAY-按天
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long totalViews;
+    private List<ViewCountPointDTO> points; // 按时间升序，没有浏览的时间桶为 0
+}
@@ -1,9 +1,11 @@
 package com.example.articleapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CategoryDTO {
     private Long id;
     private String name;
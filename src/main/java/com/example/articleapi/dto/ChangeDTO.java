@@ -0,0 +1,19 @@
+package com.example.articleapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class ChangeDTO {
+    private String entityType; // ARTICLE, CATEGORY
+    private Long entityId;
+    private String changeType; // CREATED, UPDATED, DELETED, ARCHIVED
+    private LocalDateTime changeTime;
+
+    // 以下仅供本服务回放变更日志使用，不对外输出
+    @JsonIgnore
+    private Long seq;
+    @JsonIgnore
+    private boolean published;
+}
@@ -0,0 +1,15 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedDTO {
+    private List<ChangeDTO> changes;
+    private String nextToken; // 下次请求的 since，没有新变更时与本次相同
+    private Boolean hasMore;
+}
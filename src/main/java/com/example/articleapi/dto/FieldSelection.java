@@ -0,0 +1,91 @@
+package com.example.articleapi.dto;
+
+import com.example.articleapi.exception.ValidationException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 请求参数 fields 指定的返回字段（逗号分隔），为空时返回全部字段。
+ * <p>
+ * 服务层据此跳过未请求字段的查询和懒加载，JSON 输出由 {@code FieldSelectionResponseBodyAdvice}
+ * 按同一参数裁剪；DTO 上需标注 {@code @JsonFilter(FieldSelection.FILTER_ID)}。id 总是返回。
+ */
+public final class FieldSelection {
+    
+    public static final String FILTER_ID = "fields";
+    
+    public static final FieldSelection ALL = new FieldSelection(null);
+    
+    private final Set<String> fields;
+    
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+    
+    /**
+     * 解析 fields 参数，不属于 dtoType 的字段名视为请求错误
+     */
+    public static FieldSelection parse(String fields, Class<?> dtoType) {
+        FieldSelection selection = parse(fields);
+        if (selection.fields != null) {
+            Set<String> allowed = propertyNames(dtoType);
+            for (String field : selection.fields) {
+                if (!allowed.contains(field)) {
+                    throw new ValidationException("不支持的字段: " + field);
+                }
+            }
+        }
+        return selection;
+    }
+    
+    /**
+     * 解析 fields 参数，不校验字段名
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return new FieldSelection(Collections.unmodifiableSet(names));
+    }
+    
+    public boolean isAll() {
+        return fields == null;
+    }
+    
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+    
+    public boolean includesAny(String... names) {
+        return Arrays.stream(names).anyMatch(this::includes);
+    }
+    
+    /**
+     * 选中的字段名，全部字段时返回 null
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+    
+    private static Set<String> propertyNames(Class<?> dtoType) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Field field : dtoType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                names.add(field.getName());
+            }
+        }
+        return names;
+    }
+}
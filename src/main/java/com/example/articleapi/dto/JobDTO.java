@@ -0,0 +1,17 @@
+package com.example.articleapi.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class JobDTO {
+    private String id;
+    private String type;
+    private String description;
+    private String status; // RUNNING, COMPLETED, FAILED
+    private Long processed;
+    private Long total;
+    private String message;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -1,9 +1,11 @@
 package com.example.articleapi.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class PageResult<T> {
     private List<T> content;
     private Integer page;
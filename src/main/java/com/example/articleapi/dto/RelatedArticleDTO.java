@@ -0,0 +1,20 @@
+package com.example.articleapi.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 相关文章：文章摘要加与当前文章的相似度
+ */
+@Data
+public class RelatedArticleDTO {
+    private Long id;
+    private String title;
+    private String coverImage;
+    private Long categoryId;
+    private String categoryName;
+    private String articleType;
+    private String tag;
+    private LocalDateTime createTime;
+    private Double similarity; // 标题和正文词集合的 Jaccard 相似度估计值，0 到 1
+}
@@ -0,0 +1,14 @@
+package com.example.articleapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewCountPointDTO {
+    private LocalDateTime time; // 时间桶的开始时间
+    private Long views;
+}
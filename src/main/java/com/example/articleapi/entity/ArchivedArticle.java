@@ -0,0 +1,64 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 已归档文章，从 articles 迁出后保存在 articles_archive，id 保持不变。
+ * 行由归档任务用 INSERT ... SELECT 写入，应用中只读取或删除。
+ */
+@Entity
+@Table(name = "articles_archive")
+@Data
+public class ArchivedArticle {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    // 与 articles.content 相同的压缩格式，迁移时按原始字节复制
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private String content;
+
+    @Column(name = "cover_image", length = 500)
+    private String coverImage;
+
+    @ElementCollection
+    @CollectionTable(name = "article_images_archive", joinColumns = @JoinColumn(name = "article_id"))
+    @OrderColumn(name = "image_order")
+    @BatchSize(size = 100)
+    @Column(name = "image_url", length = 500)
+    private List<String> images = new ArrayList<>();
+
+    // 分类名称不冗余保存，读取时按 id 查询分类表
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    // 迁出前的状态：按时间老化归档的已发布文章仍为 PUBLISHED，是否已归档由所在的表区分
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "article_type", length = 50)
+    private String articleType;
+
+    @Column(name = "tag", length = 20)
+    private String tag;
+
+    @Column(name = "create_time")
+    private LocalDateTime createTime;
+
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_time")
+    private LocalDateTime archivedTime;
+}
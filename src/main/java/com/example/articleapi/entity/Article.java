@@ -2,12 +2,17 @@ package com.example.articleapi.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "articles")
+@DynamicUpdate
 @Data
 public class Article {
     @Id
@@ -17,17 +22,30 @@ public class Article {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
+    // 正文懒加载（依赖构建时的字节码增强），只修改元数据时不读取正文；压缩存储，读取时才解压。
+    // 懒加载的字段不参与 toString/equals/hashCode，打印日志或放入集合时不会触发加载
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String content;
 
     @Column(name = "cover_image", length = 500)
     private String coverImage;
 
+    // 有序列表：每行由 (article_id, image_order) 标识，更新时按位置增删改，而不是整表删除重建
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ElementCollection
     @CollectionTable(name = "article_images", joinColumns = @JoinColumn(name = "article_id"))
+    @OrderColumn(name = "image_order")
+    @BatchSize(size = 100)
     @Column(name = "image_url", length = 500)
     private List<String> images = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -35,8 +53,9 @@ public class Article {
     @Column(name = "category_id", insertable = false, updatable = false)
     private Long categoryId;
 
-    @Column(name = "view_count")
-    private Integer viewCount = 0;
+    // 冗余的分类名称，列表读取时无需加载分类；分类改名/删除后由后台任务同步
+    @Column(name = "category_name", length = 50)
+    private String categoryName;
 
     @Column(name = "status", length = 20)
     private String status = "PUBLISHED"; // PUBLISHED, DRAFT, ARCHIVED
@@ -53,13 +72,18 @@ public class Article {
     @Column(name = "update_time")
     private LocalDateTime updateTime;
 
+    /**
+     * 每次修改加一，详情响应缓存按它判断条目是否过期（更新时间只精确到秒）；
+     * 直接执行 UPDATE 修改响应内容的语句也要同时加一
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createTime = LocalDateTime.now();
         updateTime = LocalDateTime.now();
-        if (viewCount == null) {
-            viewCount = 0;
-        }
     }
 
     @PreUpdate
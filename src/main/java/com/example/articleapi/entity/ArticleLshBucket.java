@@ -0,0 +1,35 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * LSH 桶：签名每一段的哈希值一行，段哈希相同的文章互为相关文章的候选
+ */
+@Entity
+@Table(name = "article_lsh_buckets", indexes = @Index(name = "idx_article_id", columnList = "article_id"))
+@IdClass(ArticleLshBucket.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleLshBucket {
+    @Id
+    @Column(name = "band_hash")
+    private Long bandHash;
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long bandHash;
+        private Long articleId;
+    }
+}
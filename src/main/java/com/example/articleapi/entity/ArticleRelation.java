@@ -0,0 +1,38 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 预先计算的相关文章，每篇文章保留相似度最高的若干篇
+ */
+@Entity
+@Table(name = "article_related", indexes = @Index(name = "idx_related_id", columnList = "related_id"))
+@IdClass(ArticleRelation.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleRelation {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Id
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Column(name = "similarity", nullable = false)
+    private Double similarity; // MinHash 估计的 Jaccard 相似度
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long articleId;
+        private Long relatedId;
+    }
+}
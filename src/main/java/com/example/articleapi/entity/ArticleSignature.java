@@ -0,0 +1,28 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 已发布文章标题和正文的 MinHash 签名，计算相关文章时与候选文章逐位比较
+ */
+@Entity
+@Table(name = "article_signatures")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSignature {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "signature", nullable = false, length = 256)
+    private byte[] signature;
+
+    @Column(name = "update_time", nullable = false)
+    private LocalDateTime updateTime;
+}
@@ -0,0 +1,35 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 文章计数，与 articles 宽表分开存放，浏览等高频自增只改写这一窄行
+ */
+@Entity
+@Table(name = "article_stats", indexes = @Index(name = "idx_view_count", columnList = "view_count"))
+@Data
+@NoArgsConstructor
+public class ArticleStats {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount = 0;
+
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount = 0;
+
+    @Column(name = "share_count", nullable = false)
+    private Integer shareCount = 0;
+
+    /** 独立访客数，由 UniqueVisitorService 按访客草图的估计值定期写入 */
+    @Column(name = "unique_views", nullable = false)
+    private Integer uniqueViews = 0;
+
+    public ArticleStats(Long articleId) {
+        this.articleId = articleId;
+    }
+}
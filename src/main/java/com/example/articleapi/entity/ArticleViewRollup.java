@@ -0,0 +1,45 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章浏览量的时间汇总，每行为一篇文章在一个时间桶（HOUR 或 DAY）内的浏览量
+ */
+@Entity
+@Table(name = "article_view_rollups",
+       indexes = @Index(name = "idx_granularity_bucket", columnList = "granularity, bucket_start"))
+@IdClass(ArticleViewRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleViewRollup {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Id
+    @Column(name = "granularity", length = 10)
+    private String granularity; // HOUR-小时, DAY-天
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "views", nullable = false)
+    private Integer views;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long articleId;
+        private String granularity;
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章访客的 HyperLogLog 草图，各节点把本地记录的草图合并进这一行
+ */
+@Entity
+@Table(name = "article_visitor_sketches")
+@Data
+@NoArgsConstructor
+public class ArticleVisitorSketch {
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "sketch", nullable = false, length = 4096)
+    private byte[] sketch;
+
+    @Column(name = "update_time", nullable = false)
+    private LocalDateTime updateTime;
+}
@@ -0,0 +1,38 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * 变更日志中的一条记录，与文章/分类的写操作在同一事务中插入，seq 单调递增
+ */
+@Entity
+@Table(name = "change_log")
+@Data
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType; // ARTICLE, CATEGORY
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_type", nullable = false, length = 20)
+    private String changeType; // CREATED, UPDATED, DELETED, ARCHIVED
+
+    // 这次写操作是否让文章变为已发布，用于新文章推送
+    @Column(name = "published", nullable = false)
+    private boolean published;
+
+    @Column(name = "change_time", nullable = false)
+    private LocalDateTime changeTime;
+
+    @PrePersist
+    protected void onCreate() {
+        changeTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.articleapi.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 正文压缩存储：写入时 deflate 压缩，读取（懒加载触发时）才解压。
+ * <p>
+ * 存储格式为 2 字节头（0x00 + 格式版本）加 raw deflate 数据。没有该头的值是压缩上线前写入的
+ * UTF-8 原文（TEXT 列改为 BLOB 后字节不变），按原文读取，由 ContentCompressionService 在后台逐步改写。
+ * 格式版本为以后引入预置字典留出余地。
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    private static final byte MARKER = 0x00;
+    private static final byte FORMAT_DEFLATE = 0x01;
+    private static final int HEADER_LENGTH = 2;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 16);
+            out.write(MARKER);
+            out.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("未知的正文存储格式: " + stored[1]);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("正文压缩数据不完整");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("正文压缩数据损坏", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 以流的方式读取存储值的 UTF-8 正文，边读边解压，不生成完整的字符串；调用方负责关闭
+     */
+    public static InputStream openStream(byte[] stored) {
+        if (!isCompressed(stored)) {
+            return new ByteArrayInputStream(stored);
+        }
+        if (stored[1] != FORMAT_DEFLATE) {
+            throw new IllegalStateException("未知的正文存储格式: " + stored[1]);
+        }
+        Inflater inflater = new Inflater(true);
+        InputStream source = new ByteArrayInputStream(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+        return new InflaterInputStream(source, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                // 自行传入的 Inflater 不会随流关闭释放
+                super.close();
+                inflater.end();
+            }
+        };
+    }
+
+    /**
+     * 是否为压缩格式；UTF-8 文本不会以 0x00 开头
+     */
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && stored[0] == MARKER;
+    }
+}
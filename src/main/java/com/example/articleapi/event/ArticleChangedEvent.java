@@ -0,0 +1,37 @@
+package com.example.articleapi.event;
+
+import com.example.articleapi.dto.ArticleDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 文章变更事件，由 ArticleService 的写操作及归档任务发布。
+ * before 为变更前的元数据快照（创建时为 null），after 为变更后的完整数据（删除、迁入归档表时为 null）。
+ * partial 为 true 时 after 不含正文和图片（局部更新未读取它们），二者均未发生变化。
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, ARCHIVED
+    }
+
+    private final ChangeType type;
+    private final Long articleId;
+    private final ArticleDTO before;
+    private final ArticleDTO after;
+    private final boolean partial;
+
+    public ArticleChangedEvent(ChangeType type, Long articleId, ArticleDTO before, ArticleDTO after) {
+        this(type, articleId, before, after, false);
+    }
+
+    public boolean wasPublished() {
+        return before != null && "PUBLISHED".equals(before.getStatus());
+    }
+
+    public boolean isPublished() {
+        return after != null && "PUBLISHED".equals(after.getStatus());
+    }
+}
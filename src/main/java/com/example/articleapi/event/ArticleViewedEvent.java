@@ -0,0 +1,20 @@
+package com.example.articleapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 文章详情被浏览时发布，供内存中的统计结构同步浏览量。
+ * visitorKey 标识访客（cookie 或 IP 与 User-Agent），批量获取等无法区分访客的路径为 null
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleViewedEvent {
+    private final Long articleId;
+    private final Integer viewCount;
+    private final String visitorKey;
+
+    public ArticleViewedEvent(Long articleId, Integer viewCount) {
+        this(articleId, viewCount, null);
+    }
+}
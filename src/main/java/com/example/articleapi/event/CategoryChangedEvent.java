@@ -0,0 +1,23 @@
+package com.example.articleapi.event;
+
+import com.example.articleapi.dto.CategoryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 分类变更事件，由 CategoryService 的写操作发布。
+ * before 在创建时为 null，after 在删除时为 null。
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType type;
+    private final Long categoryId;
+    private final CategoryDTO before;
+    private final CategoryDTO after;
+}
@@ -0,0 +1,23 @@
+package com.example.articleapi.event;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ChangeDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 定时回放变更日志时发布，覆盖其他节点提交的写操作，由内存中的缓冲和索引按数据库现状修正。
+ * articleIds 为本轮有变更的文章，articles 为其中仍在 articles 表中的文章的当前元数据（不含标题、正文、图片），
+ * 不在其中的已删除或迁入归档表；categoryIds 为本轮有变更的分类；changes 为本轮按 seq 排列的原始变更记录。
+ */
+@Getter
+@AllArgsConstructor
+public class ChangesReplayedEvent {
+    private final Set<Long> articleIds;
+    private final List<ArticleDTO> articles;
+    private final Set<Long> categoryIds;
+    private final List<ChangeDTO> changes;
+}
@@ -0,0 +1,168 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArchivedArticle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedArticleRepository extends JpaRepository<ArchivedArticle, Long> {
+    
+    @Query("SELECT a FROM ArchivedArticle a WHERE " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag)")
+    Page<ArchivedArticle> findByFilters(
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag,
+        Pageable pageable
+    );
+    
+    @Query(value = "SELECT a FROM ArticleStats s JOIN ArchivedArticle a ON a.id = s.articleId WHERE " +
+                   "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+                   "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+                   "(:tag IS NULL OR a.tag = :tag) " +
+                   "ORDER BY s.viewCount DESC",
+           countQuery = "SELECT COUNT(a) FROM ArticleStats s JOIN ArchivedArticle a ON a.id = s.articleId WHERE " +
+                   "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+                   "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+                   "(:tag IS NULL OR a.tag = :tag)")
+    Page<ArchivedArticle> findByFiltersOrderByViewCount(
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag,
+        Pageable pageable
+    );
+    
+    /**
+     * 按筛选条件分组统计归档表中的全部文章，供 status=ARCHIVED 的分面请求使用，结果列与 ArticleRepository 相同
+     */
+    @Query("SELECT a.status, a.articleType, a.tag, a.categoryId, COUNT(a) FROM ArchivedArticle a WHERE " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag) " +
+           "GROUP BY a.status, a.articleType, a.tag, a.categoryId")
+    List<Object[]> countFacetsByFilters(
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag
+    );
+    
+    /**
+     * 把一批文章复制到归档表，状态保持不变（按时间老化归档的已发布文章仍为 PUBLISHED）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO articles_archive (id, title, content, cover_image, category_id, status, " +
+                   "article_type, tag, create_time, update_time, version, archived_time) " +
+                   "SELECT id, title, content, cover_image, category_id, status, " +
+                   "article_type, tag, create_time, update_time, version, CURRENT_TIMESTAMP " +
+                   "FROM articles WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromArticles(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query(value = "INSERT INTO article_images_archive (article_id, image_order, image_url) " +
+                   "SELECT article_id, image_order, image_url FROM article_images " +
+                   "WHERE article_id IN (:ids)", nativeQuery = true)
+    int copyImagesFromArticles(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 把归档文章复制回 articles，状态为迁出前的状态，分类已删除时清空分类，分类名称取当前值；版本加一，迁出前缓存的详情不再使用
+     */
+    @Modifying
+    @Query(value = "INSERT INTO articles (id, title, content, cover_image, category_id, category_name, status, " +
+                   "article_type, tag, create_time, update_time, version) " +
+                   "SELECT r.id, r.title, r.content, r.cover_image, c.id, c.name, r.status, " +
+                   "r.article_type, r.tag, r.create_time, r.update_time, COALESCE(r.version, 0) + 1 " +
+                   "FROM articles_archive r LEFT JOIN categories c ON c.id = r.category_id " +
+                   "WHERE r.id = :id", nativeQuery = true)
+    int copyToArticles(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "INSERT INTO article_images (article_id, image_order, image_url) " +
+                   "SELECT article_id, image_order, image_url FROM article_images_archive " +
+                   "WHERE article_id = :id", nativeQuery = true)
+    int copyImagesToArticles(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "DELETE FROM article_images_archive WHERE article_id = :id", nativeQuery = true)
+    int deleteImagesById(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "DELETE FROM articles_archive WHERE id = :id", nativeQuery = true)
+    int deleteRowById(@Param("id") Long id);
+    
+    @Modifying
+    @Query(value = "DELETE FROM article_images_archive WHERE article_id IN (:ids)", nativeQuery = true)
+    int deleteImagesByArticleIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query(value = "DELETE FROM articles_archive WHERE id IN (:ids)", nativeQuery = true)
+    int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 读取一批归档文章删除前的元数据，不加载实体及图片集合
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, a.createTime, a.updateTime " +
+           "FROM ArchivedArticle a WHERE a.id IN :ids")
+    List<Object[]> findMetadataByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序读取一批满足筛选条件的归档文章的元数据，供分块删除使用
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, a.createTime, a.updateTime FROM ArchivedArticle a WHERE " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag) ORDER BY a.id")
+    List<Object[]> findMetadataByFilters(
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(a) FROM ArchivedArticle a WHERE " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag)")
+    long countByFilters(
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag
+    );
+    
+    long countByCategoryId(Long categoryId);
+    
+    /**
+     * 按 id 顺序读取分类下的一批归档文章 id，删除分类前逐块解除关联时使用
+     */
+    @Query(value = "SELECT id FROM articles_archive WHERE category_id = :categoryId ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, @Param("limit") int limit);
+    
+    /**
+     * 解除一批归档文章与分类的关联，须在调用方的事务中执行
+     */
+    @Modifying
+    @Query(value = "UPDATE articles_archive SET category_id = NULL WHERE id IN (:ids)", nativeQuery = true)
+    int detachCategory(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT a.id, a.content FROM ArchivedArticle a WHERE a.id IN :ids")
+    List<Object[]> findContentByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(value = "SELECT id FROM articles_archive WHERE id > :afterId AND content IS NOT NULL " +
+                   "AND SUBSTRING(content, 1, 1) <> X'00' ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findUncompressedContentIds(@Param("afterId") Long afterId, @Param("limit") int limit);
+    
+    @Modifying
+    @Query(value = "UPDATE articles_archive SET content = :compressed " +
+                   "WHERE id = :id AND content = :original", nativeQuery = true)
+    int compressContent(@Param("id") Long id, @Param("original") byte[] original, @Param("compressed") byte[] compressed);
+}
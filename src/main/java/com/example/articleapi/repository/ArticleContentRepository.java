@@ -0,0 +1,15 @@
+package com.example.articleapi.repository;
+
+import java.util.Optional;
+
+/**
+ * 按存储格式读取正文，由 ArticleContentRepositoryImpl 用 JDBC 实现
+ */
+public interface ArticleContentRepository {
+    
+    /**
+     * 正文列的原始字节（压缩格式或压缩上线前的原文），不经过 CompressedTextConverter 解码；
+     * 依次查找 articles 与 articles_archive，文章不存在时返回 empty，正文为空时返回长度为 0 的数组
+     */
+    Optional<byte[]> findStoredContent(Long id);
+}
@@ -0,0 +1,30 @@
+package com.example.articleapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ArticleContentRepositoryImpl implements ArticleContentRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public Optional<byte[]> findStoredContent(Long id) {
+        return jdbcTemplate.query("SELECT content FROM articles WHERE id = ? " +
+                "UNION ALL SELECT content FROM articles_archive WHERE id = ?", rs -> {
+                    if (!rs.next()) {
+                        return Optional.empty();
+                    }
+                    try (InputStream in = rs.getBinaryStream(1)) {
+                        return Optional.of(in != null ? in.readAllBytes() : new byte[0]);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, id, id);
+    }
+}
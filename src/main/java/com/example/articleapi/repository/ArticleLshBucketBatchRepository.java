@@ -0,0 +1,12 @@
+package com.example.articleapi.repository;
+
+/**
+ * LSH 桶的批量写入，由 ArticleLshBucketBatchRepositoryImpl 用 JDBC 批处理实现
+ */
+public interface ArticleLshBucketBatchRepository {
+    
+    /**
+     * 写入一篇文章各段的桶行
+     */
+    void insertBuckets(Long articleId, long[] bandHashes);
+}
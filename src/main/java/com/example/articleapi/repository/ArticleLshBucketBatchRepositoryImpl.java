@@ -0,0 +1,24 @@
+package com.example.articleapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ArticleLshBucketBatchRepositoryImpl implements ArticleLshBucketBatchRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertBuckets(Long articleId, long[] bandHashes) {
+        List<Object[]> rows = new ArrayList<>(bandHashes.length);
+        for (long bandHash : bandHashes) {
+            rows.add(new Object[]{bandHash, articleId});
+        }
+        // 不同段的哈希偶尔相同，重复行忽略
+        jdbcTemplate.batchUpdate("INSERT INTO article_lsh_buckets (band_hash, article_id) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE article_id = article_id", rows);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleLshBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleLshBucketRepository
+        extends JpaRepository<ArticleLshBucket, ArticleLshBucket.Key>, ArticleLshBucketBatchRepository {
+    
+    /**
+     * 与给定各段哈希至少有一段相同的文章，共同的段越多越靠前
+     */
+    @Query(value = "SELECT article_id FROM article_lsh_buckets WHERE band_hash IN (:bandHashes) " +
+                   "AND article_id <> :articleId GROUP BY article_id " +
+                   "ORDER BY COUNT(*) DESC, article_id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findCandidates(@Param("bandHashes") Collection<Long> bandHashes,
+                              @Param("articleId") Long articleId,
+                              @Param("limit") int limit);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleLshBucket b WHERE b.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
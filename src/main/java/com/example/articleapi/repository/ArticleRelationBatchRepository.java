@@ -0,0 +1,21 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleRelation;
+
+import java.util.List;
+
+/**
+ * 相关文章行的批量写入和删除，由 ArticleRelationBatchRepositoryImpl 用 JDBC 批处理实现
+ */
+public interface ArticleRelationBatchRepository {
+    
+    /**
+     * 写入相关文章行，已存在时更新相似度
+     */
+    void upsertRelations(List<ArticleRelation> relations);
+    
+    /**
+     * 按 (article_id, related_id) 删除相关文章行
+     */
+    void deleteRelations(List<ArticleRelation> relations);
+}
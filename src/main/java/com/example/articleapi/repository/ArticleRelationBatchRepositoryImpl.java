@@ -0,0 +1,39 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleRelation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ArticleRelationBatchRepositoryImpl implements ArticleRelationBatchRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void upsertRelations(List<ArticleRelation> relations) {
+        if (relations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO article_related (article_id, related_id, similarity) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE similarity = ?", relations, relations.size(), (ps, relation) -> {
+                    ps.setLong(1, relation.getArticleId());
+                    ps.setLong(2, relation.getRelatedId());
+                    ps.setDouble(3, relation.getSimilarity());
+                    ps.setDouble(4, relation.getSimilarity());
+                });
+    }
+    
+    @Override
+    public void deleteRelations(List<ArticleRelation> relations) {
+        if (relations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM article_related WHERE article_id = ? AND related_id = ?",
+                relations, relations.size(), (ps, relation) -> {
+                    ps.setLong(1, relation.getArticleId());
+                    ps.setLong(2, relation.getRelatedId());
+                });
+    }
+}
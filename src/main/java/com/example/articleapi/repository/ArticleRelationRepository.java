@@ -0,0 +1,32 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleRelation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleRelationRepository
+        extends JpaRepository<ArticleRelation, ArticleRelation.Key>, ArticleRelationBatchRepository {
+    
+    /**
+     * 一篇文章的相关文章，按主键前缀读取
+     */
+    List<ArticleRelation> findByArticleIdOrderBySimilarityDescRelatedIdDesc(Long articleId);
+    
+    List<ArticleRelation> findByArticleIdIn(Collection<Long> articleIds);
+    
+    /**
+     * 删除这些文章自己的相关文章行，以及其他文章指向它们的行
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleRelation r WHERE r.articleId IN :articleIds OR r.relatedId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
@@ -1,17 +1,24 @@
 package com.example.articleapi.repository;
 
 import com.example.articleapi.entity.Article;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleContentRepository {
     
     Page<Article> findByStatus(String status, Pageable pageable);
     
@@ -40,5 +47,208 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
         Pageable pageable
     );
     
+    /**
+     * 热门列表：从计数表按浏览量倒序扫描（idx_view_count）再连接文章表筛选
+     */
+    @Query(value = "SELECT a FROM ArticleStats s JOIN Article a ON a.id = s.articleId WHERE " +
+                   "(:status IS NULL OR a.status = :status) AND " +
+                   "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+                   "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+                   "(:tag IS NULL OR a.tag = :tag) " +
+                   "ORDER BY s.viewCount DESC",
+           countQuery = "SELECT COUNT(a) FROM ArticleStats s JOIN Article a ON a.id = s.articleId WHERE " +
+                   "(:status IS NULL OR a.status = :status) AND " +
+                   "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+                   "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+                   "(:tag IS NULL OR a.tag = :tag)")
+    Page<Article> findByFiltersOrderByViewCount(
+        @Param("status") String status,
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag,
+        Pageable pageable
+    );
+    
     Optional<Article> findByIdAndStatus(Long id, String status);
+    
+    /**
+     * 批量读取正文 (id, content)，列表页用一条查询代替逐行触发正文的懒加载
+     */
+    @Query("SELECT a.id, a.content FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findContentByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 计算相关文章用的文本 (id, status, title, content)
+     */
+    @Query("SELECT a.id, a.status, a.title, a.content FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findTextByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序找出一批尚未计算签名的已发布文章
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.status = 'PUBLISHED' AND a.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM ArticleSignature s WHERE s.articleId = a.id) ORDER BY a.id")
+    List<Long> findUnsignedPublishedIds(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 相关文章的摘要 (id, title, coverImage, categoryId, categoryName, articleType, tag, createTime)，只含已发布文章
+     */
+    @Query("SELECT a.id, a.title, a.coverImage, a.categoryId, a.categoryName, a.articleType, a.tag, a.createTime " +
+           "FROM Article a WHERE a.id IN :ids AND a.status = 'PUBLISHED'")
+    List<Object[]> findPublishedSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序找出一批仍以原文存储的正文，压缩格式以 0x00 开头
+     */
+    @Query(value = "SELECT id FROM articles WHERE id > :afterId AND content IS NOT NULL " +
+                   "AND SUBSTRING(content, 1, 1) <> X'00' ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findUncompressedContentIds(@Param("afterId") Long afterId, @Param("limit") int limit);
+    
+    /**
+     * 把原文改写为压缩格式；正文在此期间被修改过（不再等于 original）时不更新，也不改变 update_time
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET content = :compressed, update_time = update_time " +
+                   "WHERE id = :id AND content = :original", nativeQuery = true)
+    int compressContent(@Param("id") Long id, @Param("original") byte[] original, @Param("compressed") byte[] compressed);
+    
+    /**
+     * 按 id 顺序分块读取列表筛选所需的元数据列，用于初始化内存列存
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, COALESCE(s.viewCount, 0), a.createTime " +
+           "FROM Article a LEFT JOIN ArticleStats s ON s.articleId = a.id WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findMetadataAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 与 findMetadataAfter 相同的列，按 id 读取，供回放变更日志使用
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, COALESCE(s.viewCount, 0), a.createTime " +
+           "FROM Article a LEFT JOIN ArticleStats s ON s.articleId = a.id WHERE a.id IN :ids")
+    List<Object[]> findMetadataWithViewsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按筛选条件分组统计，用于分面索引未就绪时的回退
+     */
+    @Query("SELECT a.status, a.articleType, a.tag, a.categoryId, COUNT(a) FROM Article a WHERE " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag) " +
+           "GROUP BY a.status, a.articleType, a.tag, a.categoryId")
+    List<Object[]> countFacetsByFilters(
+        @Param("status") String status,
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag
+    );
+    
+    long countByCategoryId(Long categoryId);
+    
+    /**
+     * 按 id 顺序读取一批待归档文章的元数据：状态为 ARCHIVED，或最后更新早于 cutoff（cutoff 为空时不按时间归档）
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, a.createTime FROM Article a WHERE " +
+           "a.status = 'ARCHIVED' OR (:cutoff IS NOT NULL AND a.updateTime < :cutoff) ORDER BY a.id")
+    List<Object[]> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    @Query("SELECT COUNT(a) FROM Article a WHERE " +
+           "a.status = 'ARCHIVED' OR (:cutoff IS NOT NULL AND a.updateTime < :cutoff)")
+    long countArchivable(@Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * 读取一批文章删除前的元数据，不加载实体及图片集合
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, a.createTime, a.updateTime " +
+           "FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findMetadataByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序读取一批满足筛选条件的文章的元数据，供分块删除使用
+     */
+    @Query("SELECT a.id, a.categoryId, a.status, a.articleType, a.tag, a.createTime, a.updateTime FROM Article a WHERE " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag) ORDER BY a.id")
+    List<Object[]> findMetadataByFilters(
+        @Param("status") String status,
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(a) FROM Article a WHERE " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:categoryId IS NULL OR a.categoryId = :categoryId) AND " +
+           "(:articleType IS NULL OR a.articleType = :articleType) AND " +
+           "(:tag IS NULL OR a.tag = :tag)")
+    long countByFilters(
+        @Param("status") String status,
+        @Param("categoryId") Long categoryId,
+        @Param("articleType") String articleType,
+        @Param("tag") String tag
+    );
+    
+    @Modifying
+    @Query(value = "DELETE FROM article_images WHERE article_id IN (:ids)", nativeQuery = true)
+    int deleteImagesByArticleIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query(value = "DELETE FROM articles WHERE id IN (:ids)", nativeQuery = true)
+    int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序读取分类下 afterId 之后的一批文章 id，走 category_id 索引，分块同步时不重复扫描已处理的行
+     */
+    @Query(value = "SELECT id FROM articles WHERE category_id = :categoryId AND id > :afterId " +
+                   "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                        @Param("afterId") Long afterId,
+                                        @Param("limit") int limit);
+    
+    /**
+     * 将一批文章的冗余分类名称同步为分类表中的当前名称，返回本批更新行数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE articles SET category_name = (SELECT c.name FROM categories c WHERE c.id = :categoryId), " +
+                   "version = version + 1 " +
+                   "WHERE id IN (:ids) AND category_id = :categoryId AND (category_name IS NULL " +
+                   "OR category_name <> (SELECT c.name FROM categories c WHERE c.id = :categoryId))", nativeQuery = true)
+    int syncCategoryName(@Param("categoryId") Long categoryId, @Param("ids") Collection<Long> ids);
+    
+    /**
+     * 按 id 顺序读取 afterId 之后一批分类为空但仍残留分类名称的文章 id（由外键置空 category_id 的文章），
+     * 走 category_id 索引
+     */
+    @Query(value = "SELECT id FROM articles WHERE category_id IS NULL AND category_name IS NOT NULL " +
+                   "AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findOrphanCategoryNameIds(@Param("afterId") Long afterId, @Param("limit") int limit);
+    
+    /**
+     * 清除一批文章残留的分类名称，返回本批更新行数
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE articles SET category_name = NULL, version = version + 1 " +
+                   "WHERE id IN (:ids) AND category_id IS NULL",
+           nativeQuery = true)
+    int clearOrphanCategoryNames(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 加行锁按 id 顺序读取分类下的一批文章，删除分类前逐块解除关联时使用（不加载正文和图片）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Article a WHERE a.categoryId = :categoryId ORDER BY a.id")
+    List<Article> findByCategoryIdForUpdate(@Param("categoryId") Long categoryId, Pageable pageable);
+    
+    /**
+     * 解除一批文章与分类的关联，不改变文章的更新时间（版本加一），须在调用方的事务中执行
+     */
+    @Modifying
+    @Query(value = "UPDATE articles SET category_id = NULL, category_name = NULL, update_time = update_time, " +
+                   "version = version + 1 " +
+                   "WHERE id IN (:ids)", nativeQuery = true)
+    int detachCategory(@Param("ids") Collection<Long> ids);
 }
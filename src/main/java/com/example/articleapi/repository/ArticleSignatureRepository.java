@@ -0,0 +1,20 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public interface ArticleSignatureRepository extends JpaRepository<ArticleSignature, Long> {
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleSignature s WHERE s.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
@@ -0,0 +1,67 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleStatsRepository extends JpaRepository<ArticleStats, Long> {
+    
+    /**
+     * 在数据库中原子地累加计数，计数行不存在时先创建
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO article_stats (article_id, view_count, like_count, share_count, unique_views) " +
+                   "VALUES (:articleId, :views, :likes, :shares, 0) " +
+                   "ON DUPLICATE KEY UPDATE view_count = view_count + :views, " +
+                   "like_count = like_count + :likes, share_count = share_count + :shares", nativeQuery = true)
+    int increment(@Param("articleId") Long articleId,
+                  @Param("views") int views,
+                  @Param("likes") int likes,
+                  @Param("shares") int shares);
+    
+    /**
+     * 一条语句为多篇文章各加一次浏览量，计数行由创建文章和启动补建保证存在
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE article_stats SET view_count = view_count + 1 WHERE article_id IN (:articleIds)", nativeQuery = true)
+    int incrementViews(@Param("articleIds") Collection<Long> articleIds);
+    
+    /**
+     * 写入独立访客数的估计值，只改这一列
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE article_stats SET unique_views = :uniqueViews WHERE article_id = :articleId", nativeQuery = true)
+    int setUniqueViews(@Param("articleId") Long articleId, @Param("uniqueViews") int uniqueViews);
+    
+    /**
+     * 给定 id 中仍有计数行（即文章未被删除）的 id
+     */
+    @Query("SELECT s.articleId FROM ArticleStats s WHERE s.articleId IN :articleIds")
+    List<Long> findExistingIds(@Param("articleIds") Collection<Long> articleIds);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleStats s WHERE s.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+    
+    /**
+     * 为缺少计数行的文章补建计数行，热门排序按计数表连接文章表，需要每篇文章都有一行
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO article_stats (article_id, view_count, like_count, share_count, unique_views) " +
+                   "SELECT a.id, 0, 0, 0, 0 FROM articles a " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM article_stats s WHERE s.article_id = a.id)", nativeQuery = true)
+    int insertMissing();
+}
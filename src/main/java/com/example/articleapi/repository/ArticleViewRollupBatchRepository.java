@@ -0,0 +1,16 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleViewRollup;
+
+import java.util.List;
+
+/**
+ * 浏览量汇总的批量写入，由 ArticleViewRollupBatchRepositoryImpl 用 JDBC 批处理实现
+ */
+public interface ArticleViewRollupBatchRepository {
+    
+    /**
+     * 把各行的浏览量累加到对应的时间桶，行不存在时创建；语句按批发送
+     */
+    void addViews(List<ArticleViewRollup> rows);
+}
@@ -0,0 +1,34 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleViewRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ArticleViewRollupBatchRepositoryImpl implements ArticleViewRollupBatchRepository {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void addViews(List<ArticleViewRollup> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // 与 JPA 共用当前事务的连接
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO article_view_rollups (article_id, granularity, bucket_start, views) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE views = views + ?",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.getArticleId());
+                    ps.setString(2, row.getGranularity());
+                    ps.setTimestamp(3, Timestamp.valueOf(row.getBucketStart()));
+                    ps.setInt(4, row.getViews());
+                    ps.setInt(5, row.getViews());
+                });
+    }
+}
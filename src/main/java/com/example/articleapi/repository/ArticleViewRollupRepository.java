@@ -0,0 +1,62 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleViewRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleViewRollupRepository
+        extends JpaRepository<ArticleViewRollup, ArticleViewRollup.Key>, ArticleViewRollupBatchRepository {
+    
+    /**
+     * 一篇文章在 [from, to) 内的全部汇总行（两种粒度），按主键范围读取
+     */
+    @Query("SELECT r FROM ArticleViewRollup r WHERE r.articleId = :articleId " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<ArticleViewRollup> findRange(@Param("articleId") Long articleId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+    
+    @Query("SELECT MIN(r.bucketStart) FROM ArticleViewRollup r WHERE r.granularity = 'HOUR' AND r.bucketStart < :cutoff")
+    LocalDateTime findOldestHourlyBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    @Query("SELECT COUNT(r) FROM ArticleViewRollup r WHERE r.granularity = 'HOUR' AND r.bucketStart < :cutoff")
+    long countHourlyBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * [from, to) 内小时桶按文章汇总的浏览量，返回 articleId, SUM(views), 行数
+     */
+    @Query("SELECT r.articleId, SUM(r.views), COUNT(r) FROM ArticleViewRollup r WHERE r.granularity = 'HOUR' " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.articleId ORDER BY r.articleId")
+    List<Object[]> sumHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * 按 [from, now] 内的小时桶计算热度排名：各桶浏览量乘以 0.5^(桶开始到 now 的分钟数 / halfLife) 后按文章求和，
+     * 只包含仍在 articles 中的文章，返回热度最高的 limit 篇的 id
+     */
+    @Query(value = "SELECT r.article_id FROM article_view_rollups r JOIN articles a ON a.id = r.article_id " +
+                   "WHERE r.granularity = 'HOUR' AND r.bucket_start >= :from AND r.bucket_start <= :now " +
+                   "GROUP BY r.article_id " +
+                   "ORDER BY SUM(r.views * POWER(0.5, TIMESTAMPDIFF(MINUTE, r.bucket_start, :now) / :halfLife)) DESC, " +
+                   "r.article_id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findTrending(@Param("from") LocalDateTime from, @Param("now") LocalDateTime now,
+                            @Param("halfLife") double halfLifeMinutes, @Param("limit") int limit);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleViewRollup r WHERE r.granularity = 'HOUR' AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleViewRollup r WHERE r.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
@@ -0,0 +1,43 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ArticleVisitorSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArticleVisitorSketchRepository extends JpaRepository<ArticleVisitorSketch, Long> {
+    
+    /**
+     * 草图行不存在时写入给定草图，已存在时不做改动；随后加锁读取即可在行上合并
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO article_visitor_sketches (article_id, sketch, update_time) " +
+                   "VALUES (:articleId, :sketch, :updateTime) " +
+                   "ON DUPLICATE KEY UPDATE article_id = article_id", nativeQuery = true)
+    int insertIfAbsent(@Param("articleId") Long articleId,
+                       @Param("sketch") byte[] sketch,
+                       @Param("updateTime") LocalDateTime updateTime);
+    
+    /**
+     * 加行锁读取，多个节点同时合并同一篇文章时依次进行
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ArticleVisitorSketch s WHERE s.articleId = :articleId")
+    Optional<ArticleVisitorSketch> findForUpdate(@Param("articleId") Long articleId);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ArticleVisitorSketch s WHERE s.articleId IN :articleIds")
+    int deleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
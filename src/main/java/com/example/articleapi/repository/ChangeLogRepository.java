@@ -0,0 +1,27 @@
+package com.example.articleapi.repository;
+
+import com.example.articleapi.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, ChangeLogVisibilityRepository {
+    List<ChangeLogEntry> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+    
+    Optional<ChangeLogEntry> findFirstByOrderBySeqAsc();
+    
+    Optional<ChangeLogEntry> findFirstByOrderBySeqDesc();
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChangeLogEntry e WHERE e.seq <= :seq")
+    int deleteUpTo(@Param("seq") Long seq);
+}
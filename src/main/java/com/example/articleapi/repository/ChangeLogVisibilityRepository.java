@@ -0,0 +1,18 @@
+package com.example.articleapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 判断变更序号空洞能否越过所需的事务信息，由 ChangeLogVisibilityRepositoryImpl 查询 information_schema.innodb_trx
+ */
+public interface ChangeLogVisibilityRepository {
+    
+    /**
+     * 数据库当前时间，以及其他连接上最早开始的活动事务的开始时间（没有时为 null）。
+     * 不是 MySQL 或缺少 PROCESS 权限时抛出 DataAccessException
+     */
+    ActiveTransactions findActiveTransactions();
+    
+    record ActiveTransactions(LocalDateTime now, LocalDateTime oldestStarted) {
+    }
+}
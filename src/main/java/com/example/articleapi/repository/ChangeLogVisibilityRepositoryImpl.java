@@ -0,0 +1,21 @@
+package com.example.articleapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class ChangeLogVisibilityRepositoryImpl implements ChangeLogVisibilityRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public ActiveTransactions findActiveTransactions() {
+        return jdbcTemplate.queryForObject(
+                "SELECT NOW(6), (SELECT MIN(trx_started) FROM information_schema.innodb_trx " +
+                "WHERE trx_mysql_thread_id <> CONNECTION_ID())",
+                (rs, rowNum) -> new ActiveTransactions(rs.getObject(1, LocalDateTime.class),
+                        rs.getObject(2, LocalDateTime.class)));
+    }
+}
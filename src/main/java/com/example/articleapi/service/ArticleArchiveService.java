@@ -0,0 +1,268 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.entity.ArchivedArticle;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.entity.Category;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 文章冷热分层。
+ * <p>
+ * 状态为 ARCHIVED 的文章（以及配置了 max-age-days 时长期未更新的文章）由后台任务分块迁移到
+ * articles_archive / article_images_archive，每块一个事务，使 articles 及其索引只包含在用文章。
+ * 计数仍保留在 article_stats 中。归档表中的文章保留迁出前的状态，按时间老化归档的已发布文章仍为 PUBLISHED，
+ * 读取按所在的表而不是状态区分：详情查询在 articles 中找不到时回退到归档表，
+ * status=ARCHIVED 的列表查询返回归档表中的全部文章；修改归档文章时先把它迁回 articles。
+ */
+@Slf4j
+@Service
+public class ArticleArchiveService {
+
+    private final ArticleRepository articleRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final CategoryRepository categoryRepository;
+    private final ArticleStatsService articleStatsService;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxAgeDays;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+
+    public ArticleArchiveService(ArticleRepository articleRepository,
+                                 ArchivedArticleRepository archivedArticleRepository,
+                                 CategoryRepository categoryRepository,
+                                 ArticleStatsService articleStatsService,
+                                 JobService jobService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${article.archive.enabled:true}") boolean enabled,
+                                 @Value("${article.archive.max-age-days:0}") int maxAgeDays,
+                                 @Value("${article.archive.chunk-size:500}") int chunkSize) {
+        this.articleRepository = articleRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.categoryRepository = categoryRepository;
+        this.articleStatsService = articleStatsService;
+        this.jobService = jobService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAgeDays = maxAgeDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 文章被改为 ARCHIVED 后立即触发一次迁移，不必等下一次定时执行
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getAfter() != null && "ARCHIVED".equals(event.getAfter().getStatus())) {
+            archive();
+        }
+    }
+
+    /**
+     * 迁移全部待归档文章。已有任务在执行时只做标记，由它结束前再跑一轮。
+     */
+    @Scheduled(fixedDelayString = "${article.archive.interval:PT1H}",
+               initialDelayString = "${article.archive.initial-delay:PT1M}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            pending.set(true);
+            return;
+        }
+        try {
+            do {
+                pending.set(false);
+                runArchiveJob();
+            } while (pending.get());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runArchiveJob() {
+        LocalDateTime cutoff = maxAgeDays > 0 ? LocalDateTime.now().minusDays(maxAgeDays) : null;
+        long total = articleRepository.countArchivable(cutoff);
+        if (total == 0) {
+            return;
+        }
+        JobService.Job job = jobService.start("ARTICLE_ARCHIVE", "迁移已归档文章到归档表", total);
+        try {
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+                job.progress(moved);
+            } while (moved >= chunkSize);
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e);
+        }
+    }
+
+    private int moveChunk(LocalDateTime cutoff) {
+        List<Object[]> rows = articleRepository.findArchivable(cutoff, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+        archivedArticleRepository.copyFromArticles(ids);
+        archivedArticleRepository.copyImagesFromArticles(ids);
+        articleRepository.deleteImagesByArticleIdIn(ids);
+        articleRepository.deleteRowsByIdIn(ids);
+        // 事务提交后各内存结构把这些文章当作已移出 articles
+        for (Object[] row : rows) {
+            ArticleDTO before = new ArticleDTO();
+            before.setId((Long) row[0]);
+            before.setCategoryId((Long) row[1]);
+            before.setStatus((String) row[2]);
+            before.setArticleType((String) row[3]);
+            before.setTag((String) row[4]);
+            before.setCreateTime((LocalDateTime) row[5]);
+            eventPublisher.publishEvent(new ArticleChangedEvent(ChangeType.ARCHIVED, before.getId(), before, null));
+        }
+        return ids.size();
+    }
+
+    /**
+     * 按 id 读取归档文章，不含计数
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleDTO> getArticle(Long id) {
+        return archivedArticleRepository.findById(id)
+                .map(article -> convertToDTO(article, categoryNames(List.of(article))));
+    }
+
+    /**
+     * 按 id 批量读取归档文章，不含计数；不在归档表中的 id 直接跳过
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleDTO> getArticles(Collection<Long> ids) {
+        List<ArchivedArticle> articles = archivedArticleRepository.findAllById(ids);
+        Map<Long, String> names = categoryNames(articles);
+        return articles.stream()
+                .map(article -> convertToDTO(article, names))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * status=ARCHIVED 的列表查询，返回归档表中满足其余条件的全部文章，HOT 按浏览量排序，其余按创建时间倒序
+     */
+    @Transactional(readOnly = true)
+    public PageResult<ArticleDTO> getArticleList(ArticleListRequest request, int page, int size) {
+        Page<ArchivedArticle> pageResult = "HOT".equals(request.getTag())
+            ? archivedArticleRepository.findByFiltersOrderByViewCount(
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag(),
+                PageRequest.of(page, size)
+            )
+            : archivedArticleRepository.findByFilters(
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag(),
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createTime"))
+            );
+        List<ArchivedArticle> articles = pageResult.getContent();
+        Map<Long, String> names = categoryNames(articles);
+        Map<Long, ArticleStats> stats = articleStatsService.getStats(
+                articles.stream().map(ArchivedArticle::getId).collect(Collectors.toList()));
+        List<ArticleDTO> content = articles.stream()
+                .map(article -> {
+                    ArticleDTO dto = convertToDTO(article, names);
+                    ArticleStatsService.copyCounts(stats.get(article.getId()), dto);
+                    return dto;
+                })
+                .collect(Collectors.toList());
+        return new PageResult<>(content, pageResult.getNumber(), pageResult.getSize(), pageResult.getTotalElements());
+    }
+
+    /**
+     * 把归档文章迁回 articles 并返回加载后的实体，须在调用方的事务中执行
+     */
+    @Transactional
+    public Optional<Article> restore(Long id) {
+        if (archivedArticleRepository.copyToArticles(id) == 0) {
+            return Optional.empty();
+        }
+        archivedArticleRepository.copyImagesToArticles(id);
+        archivedArticleRepository.deleteImagesById(id);
+        archivedArticleRepository.deleteRowById(id);
+        log.info("归档文章 {} 已迁回 articles", id);
+        return articleRepository.findById(id);
+    }
+
+    private Map<Long, String> categoryNames(List<ArchivedArticle> articles) {
+        List<Long> categoryIds = articles.stream()
+                .map(ArchivedArticle::getCategoryId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, String> names = new HashMap<>();
+        if (!categoryIds.isEmpty()) {
+            for (Category category : categoryRepository.findAllById(categoryIds)) {
+                names.put(category.getId(), category.getName());
+            }
+        }
+        return names;
+    }
+
+    private ArticleDTO convertToDTO(ArchivedArticle article, Map<Long, String> categoryNames) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setId(article.getId());
+        dto.setTitle(article.getTitle());
+        dto.setContent(article.getContent());
+        dto.setCoverImage(article.getCoverImage());
+        dto.setImages(article.getImages() != null ? new ArrayList<>(article.getImages()) : new ArrayList<>());
+        // 分类已删除时归档行中的 category_id 不再有效，不返回
+        if (article.getCategoryId() != null && categoryNames.containsKey(article.getCategoryId())) {
+            dto.setCategoryId(article.getCategoryId());
+            dto.setCategoryName(categoryNames.get(article.getCategoryId()));
+        }
+        dto.setStatus(article.getStatus());
+        dto.setArticleType(article.getArticleType());
+        dto.setTag(article.getTag());
+        dto.setCreateTime(article.getCreateTime());
+        dto.setUpdateTime(article.getUpdateTime());
+        return dto;
+    }
+}
@@ -0,0 +1,520 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArticleRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 文章筛选元数据的列式内存副本，用于在不访问数据库的情况下完成列表的筛选、排序与分页。
+ * <p>
+ * 每一列是一个基本类型数组，行按文章 id 升序排列，id 到行号通过二分查找定位，不为每行创建对象。
+ * 分类 id 和 status/articleType/tag 使用字典编码，编码 0 表示 null，每行约 30 字节，500 万篇文章约 150MB。
+ * 查询只返回当前页的 id 列表，由调用方从数据库或缓存中加载完整数据。
+ * 浏览量先记入待更新表，定时批量写入，查询的全表扫描不会阻塞浏览请求；
+ * 其他节点的写操作在回放变更日志时按数据库现状覆盖。
+ */
+@Slf4j
+@Component
+public class ArticleColumnStore {
+
+    private static final int SEED_CHUNK = 5000;
+    /** 已删除行的状态编码，在压缩前保留位置以保持 id 有序 */
+    private static final byte DELETED = -1;
+    /** 查询编码：不按该列筛选 */
+    private static final int ANY = -1;
+    /** 查询编码：筛选值在字典中不存在，结果必为空 */
+    private static final int MISSING = -2;
+
+    private final ArticleRepository articleRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Dictionary<Long> categories = new Dictionary<>(Integer.MAX_VALUE - 1);
+    private final Dictionary<String> statuses = new Dictionary<>(Byte.MAX_VALUE);
+    private final Dictionary<String> articleTypes = new Dictionary<>(Short.MAX_VALUE);
+    private final Dictionary<String> tags = new Dictionary<>(Short.MAX_VALUE);
+
+    private long[] ids = new long[1024];
+    private int[] categoryCodes = new int[1024];
+    private byte[] statusCodes = new byte[1024];
+    private short[] typeCodes = new short[1024];
+    private short[] tagCodes = new short[1024];
+    private int[] viewCounts = new int[1024];
+    private long[] createTimes = new long[1024];
+    private int rows = 0;
+    private int deletedRows = 0;
+    /** 尚未写入 viewCounts 的浏览量，文章 id 到最新值 */
+    private final Map<Long, Integer> pendingViews = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public ArticleColumnStore(ArticleRepository articleRepository,
+                              @Value("${article.column-store.enabled:true}") boolean enabled) {
+        this.articleRepository = articleRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 启动后按 id 分块加载全部文章的元数据列。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = articleRepository.findMetadataAfter(afterId, PageRequest.of(0, SEED_CHUNK));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : chunk) {
+                    upsertRow((Long) row[0], (Long) row[1], (String) row[2], (String) row[3], (String) row[4],
+                            (Integer) row[5], (LocalDateTime) row[6]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                afterId = (Long) chunk.get(chunk.size() - 1)[0];
+            }
+        } while (chunk.size() == SEED_CHUNK);
+        ready = true;
+        log.info("文章列存加载完成，行数: {}，耗时: {}ms", size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.getAfter() == null) {
+                markDeleted(event.getArticleId());
+                compactIfSparse();
+            } else {
+                ArticleDTO after = event.getAfter();
+                upsertRow(after.getId(), after.getCategoryId(), after.getStatus(), after.getArticleType(),
+                        after.getTag(), after.getViewCount(), after.getCreateTime());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 分类删除时数据库通过 ON DELETE SET NULL 清空文章的 category_id，列存同步清空。
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!enabled || event.getType() != CategoryChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int category = categories.find(event.getCategoryId(), MISSING);
+            if (category == MISSING) {
+                return;
+            }
+            for (int row = 0; row < rows; row++) {
+                if (categoryCodes[row] == category) {
+                    categoryCodes[row] = 0;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 回放变更日志时按数据库中的当前元数据覆盖，其他节点的写操作由此进入列存
+     */
+    @EventListener
+    public void onChangesReplayed(ChangesReplayedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> removed = new HashSet<>(event.getArticleIds());
+        lock.writeLock().lock();
+        try {
+            for (ArticleDTO article : event.getArticles()) {
+                removed.remove(article.getId());
+                upsertRow(article.getId(), article.getCategoryId(), article.getStatus(), article.getArticleType(),
+                        article.getTag(), article.getViewCount(), article.getCreateTime());
+            }
+            for (Long articleId : removed) {
+                markDeleted(articleId);
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 浏览在请求线程上只记入待更新表，不获取写锁，由 applyViews 批量写入列
+     */
+    @EventListener
+    public void onArticleViewed(ArticleViewedEvent event) {
+        if (!enabled || event.getViewCount() == null) {
+            return;
+        }
+        pendingViews.merge(event.getArticleId(), event.getViewCount(), Math::max);
+    }
+
+    /**
+     * 把累积的浏览量一次写入，热门排序最多落后一个间隔。浏览量只增不减，与列中已有的值取较大者
+     */
+    @Scheduled(fixedDelayString = "${article.column-store.view-refresh-interval:PT1S}")
+    public void applyViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long articleId : pendingViews.keySet()) {
+                Integer viewCount = pendingViews.remove(articleId);
+                int row = findRow(articleId);
+                if (viewCount != null && row >= 0) {
+                    viewCounts[row] = Math.max(viewCounts[row], viewCount);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 按与 ArticleRepository.findByFilters 相同的语义筛选，返回指定页的 id 及总数。
+     * 存储未就绪时返回 empty，由调用方回退到数据库。
+     */
+    public Optional<IdPage> query(String status, Long categoryId, String articleType, String tag,
+                                  boolean byViewCount, int page, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int statusCode = status == null ? ANY : statuses.find(status, MISSING);
+            int category = categoryId == null ? ANY : categories.find(categoryId, MISSING);
+            int typeCode = articleType == null ? ANY : articleTypes.find(articleType, MISSING);
+            int tagCode = tag == null ? ANY : tags.find(tag, MISSING);
+
+            long offset = (long) page * size;
+            int limit = (int) Math.min(offset + size, Integer.MAX_VALUE);
+            TopRows top = new TopRows(limit, byViewCount);
+            long total = 0;
+            for (int row = 0; row < rows; row++) {
+                byte code = statusCodes[row];
+                if (code == DELETED
+                        || (statusCode != ANY && code != statusCode)
+                        || (category != ANY && categoryCodes[row] != category)
+                        || (typeCode != ANY && typeCodes[row] != typeCode)
+                        || (tagCode != ANY && tagCodes[row] != tagCode)) {
+                    continue;
+                }
+                total++;
+                top.offer(row);
+            }
+
+            int[] ordered = top.sorted();
+            List<Long> pageIds = new ArrayList<>(size);
+            for (long i = offset; i < ordered.length; i++) {
+                pageIds.add(ids[ordered[(int) i]]);
+            }
+            return Optional.of(new IdPage(pageIds, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 按与 query 相同的筛选语义过滤给定的 id，保持原有顺序，不在存储中的 id 被丢弃。
+     * 存储未就绪时返回 empty，由调用方回退到数据库。
+     */
+    public Optional<List<Long>> filter(List<Long> candidates, String status, Long categoryId,
+                                       String articleType, String tag) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int statusCode = status == null ? ANY : statuses.find(status, MISSING);
+            int category = categoryId == null ? ANY : categories.find(categoryId, MISSING);
+            int typeCode = articleType == null ? ANY : articleTypes.find(articleType, MISSING);
+            int tagCode = tag == null ? ANY : tags.find(tag, MISSING);
+
+            List<Long> matched = new ArrayList<>();
+            for (Long id : candidates) {
+                int row = findRow(id);
+                if (row < 0) {
+                    continue;
+                }
+                byte code = statusCodes[row];
+                if (code == DELETED
+                        || (statusCode != ANY && code != statusCode)
+                        || (category != ANY && categoryCodes[row] != category)
+                        || (typeCode != ANY && typeCodes[row] != typeCode)
+                        || (tagCode != ANY && tagCodes[row] != tagCode)) {
+                    continue;
+                }
+                matched.add(id);
+            }
+            return Optional.of(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows - deletedRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsertRow(Long id, Long categoryId, String status, String articleType, String tag,
+                           Integer viewCount, LocalDateTime createTime) {
+        int row = findRow(id);
+        if (row < 0) {
+            row = -row - 1;
+            ensureCapacity(rows + 1);
+            if (row < rows) {
+                // 并发事务可能乱序提交，较小的 id 需要插入到中间以保持有序
+                shift(row);
+            }
+            rows++;
+            ids[row] = id;
+        } else if (statusCodes[row] == DELETED) {
+            deletedRows--;
+        }
+        categoryCodes[row] = categories.encode(categoryId);
+        statusCodes[row] = (byte) statuses.encode(status);
+        typeCodes[row] = (short) articleTypes.encode(articleType);
+        tagCodes[row] = (short) tags.encode(tag);
+        viewCounts[row] = viewCount == null ? 0 : viewCount;
+        createTimes[row] = createTime == null ? 0 : createTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private void markDeleted(Long id) {
+        int row = findRow(id);
+        if (row >= 0 && statusCodes[row] != DELETED) {
+            statusCodes[row] = DELETED;
+            deletedRows++;
+        }
+    }
+
+    private void compactIfSparse() {
+        if (deletedRows > 1024 && deletedRows > rows / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * 二分查找 id 所在行；不存在时返回 -(插入位置) - 1。
+     */
+    private int findRow(long id) {
+        return Arrays.binarySearch(ids, 0, rows, id);
+    }
+
+    private void shift(int row) {
+        int length = rows - row;
+        System.arraycopy(ids, row, ids, row + 1, length);
+        System.arraycopy(categoryCodes, row, categoryCodes, row + 1, length);
+        System.arraycopy(statusCodes, row, statusCodes, row + 1, length);
+        System.arraycopy(typeCodes, row, typeCodes, row + 1, length);
+        System.arraycopy(tagCodes, row, tagCodes, row + 1, length);
+        System.arraycopy(viewCounts, row, viewCounts, row + 1, length);
+        System.arraycopy(createTimes, row, createTimes, row + 1, length);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        tagCodes = Arrays.copyOf(tagCodes, capacity);
+        viewCounts = Arrays.copyOf(viewCounts, capacity);
+        createTimes = Arrays.copyOf(createTimes, capacity);
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < rows; row++) {
+            if (statusCodes[row] == DELETED) {
+                continue;
+            }
+            ids[target] = ids[row];
+            categoryCodes[target] = categoryCodes[row];
+            statusCodes[target] = statusCodes[row];
+            typeCodes[target] = typeCodes[row];
+            tagCodes[target] = tagCodes[row];
+            viewCounts[target] = viewCounts[row];
+            createTimes[target] = createTimes[row];
+            target++;
+        }
+        rows = target;
+        deletedRows = 0;
+    }
+
+    @Getter
+    public static class IdPage {
+        private final List<Long> ids;
+        private final long totalElements;
+
+        public IdPage(List<Long> ids, long totalElements) {
+            this.ids = ids;
+            this.totalElements = totalElements;
+        }
+    }
+
+    /**
+     * 值到小整数编码的字典，编码 0 保留给 null。分类 id 为 BIGINT，同样编码后存入 int 列，不会截断
+     */
+    private static final class Dictionary<T> {
+        private final int maxCode;
+        private final Map<T, Integer> codes = new HashMap<>();
+
+        Dictionary(int maxCode) {
+            this.maxCode = maxCode;
+        }
+
+        int encode(T value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (codes.size() >= maxCode) {
+                    throw new IllegalStateException("字典编码已满: " + value);
+                }
+                code = codes.size() + 1;
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        int find(T value, int missing) {
+            Integer code = codes.get(value);
+            return code == null ? missing : code;
+        }
+    }
+
+    /**
+     * 只保留排序最靠前的 limit 行的小顶堆，堆顶是当前保留行中排序最靠后的一行。
+     */
+    private final class TopRows {
+        private final int limit;
+        private final boolean byViewCount;
+        private int[] heap = new int[16];
+        private int count = 0;
+
+        TopRows(int limit, boolean byViewCount) {
+            this.limit = limit;
+            this.byViewCount = byViewCount;
+        }
+
+        /** 正数表示 a 排在 b 前面 */
+        private int compare(int a, int b) {
+            int result = byViewCount
+                    ? Integer.compare(viewCounts[a], viewCounts[b])
+                    : Long.compare(createTimes[a], createTimes[b]);
+            return result != 0 ? result : Long.compare(ids[a], ids[b]);
+        }
+
+        void offer(int row) {
+            if (limit == 0) {
+                return;
+            }
+            if (count < limit) {
+                if (count == heap.length) {
+                    heap = Arrays.copyOf(heap, Math.min(limit, count * 2));
+                }
+                heap[count] = row;
+                siftUp(count++);
+            } else if (compare(row, heap[0]) > 0) {
+                heap[0] = row;
+                siftDown(0, count);
+            }
+        }
+
+        int[] sorted() {
+            int[] result = new int[count];
+            int n = count;
+            while (n > 0) {
+                result[n - 1] = heap[0];
+                heap[0] = heap[--n];
+                siftDown(0, n);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (compare(heap[i], heap[parent]) >= 0) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int n) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= n) {
+                    return;
+                }
+                int smallest = left + 1 < n && compare(heap[left + 1], heap[left]) < 0 ? left + 1 : left;
+                if (compare(heap[smallest], heap[i]) >= 0) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
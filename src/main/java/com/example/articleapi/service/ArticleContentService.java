@@ -0,0 +1,136 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleContentPageDTO;
+import com.example.articleapi.entity.CompressedTextConverter;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 单独读取文章正文，供 GET /articles/{id}/content 使用。
+ * <p>
+ * 详情接口把正文解码为完整的字符串再放进 JSON；这里只读取正文列存储的字节（压缩后通常为原文的几分之一），
+ * 写出响应时边解压边发送，完整的正文字符串不会出现在堆中。正文以 Resource 返回，由 Spring MVC 处理
+ * Range 请求（206、多段范围、416）；范围按解压后的 UTF-8 字节计算，需要总长度时解压一遍计数，不保留结果。
+ * 按段落分页时只解压到所需段落为止。
+ * <p>
+ * 不记录浏览量：客户端通常先请求详情再读取正文，按 Range 续传时也不应重复计数。
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleContentService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 文章正文；不在 articles 中时回退到归档表
+     */
+    public ContentResource getContent(Long id) {
+        byte[] stored = articleRepository.findStoredContent(id)
+                .orElseThrow(() -> new ResourceNotFoundException("文章不存在"));
+        return new ContentResource(id, stored);
+    }
+
+    /**
+     * 按段落分页读取正文：正文按行切分，空行不计为段落，page 从 0 开始
+     */
+    public ArticleContentPageDTO getContentPage(Long id, Integer page, Integer size) {
+        int pageNumber = Math.max(0, page != null ? page : 0);
+        int pageSize = size != null && size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        ContentResource content = getContent(id);
+
+        long skip = (long) pageNumber * pageSize;
+        long index = 0;
+        List<String> paragraphs = new ArrayList<>();
+        boolean hasMore = false;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(content.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || index++ < skip) {
+                    continue;
+                }
+                if (paragraphs.size() == pageSize) {
+                    hasMore = true;
+                    break;
+                }
+                paragraphs.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArticleContentPageDTO(id, pageNumber, pageSize, paragraphs, hasMore);
+    }
+
+    /**
+     * 一篇文章正文的存储字节，每次 getInputStream 重新解压；总长度首次使用时计算
+     */
+    public static class ContentResource extends AbstractResource {
+
+        private final Long articleId;
+        private final byte[] stored;
+        private long length = -1;
+
+        ContentResource(Long articleId, byte[] stored) {
+            this.articleId = articleId;
+            this.stored = stored;
+        }
+
+        /**
+         * 由存储字节计算的强 ETag，正文不变时不变，可用于 If-Range 和 If-None-Match
+         */
+        public String getETag() {
+            CRC32C crc = new CRC32C();
+            crc.update(stored);
+            return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(stored.length) + "\"";
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return CompressedTextConverter.openStream(stored);
+        }
+
+        /**
+         * 解压后的 UTF-8 字节数
+         */
+        @Override
+        public long contentLength() throws IOException {
+            if (length < 0) {
+                if (CompressedTextConverter.isCompressed(stored)) {
+                    try (InputStream in = getInputStream()) {
+                        length = in.transferTo(OutputStream.nullOutputStream());
+                    }
+                } else {
+                    length = stored.length;
+                }
+            }
+            return length;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public String getDescription() {
+            return "文章 " + articleId + " 的正文";
+        }
+    }
+}
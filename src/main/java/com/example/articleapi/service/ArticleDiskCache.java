@@ -0,0 +1,386 @@
+package com.example.articleapi.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * 详情响应缓存的本地磁盘层：把 ArticleResponseCache 的条目（含正文、不含计数的 JSON 及其 CRC32、deflate 数据）
+ * 追加写入内存映射的段文件，内存中只保存文章 id 到记录偏移的索引。进程重启后扫描段文件重建索引，
+ * 热门文章直接从操作系统的页缓存读取，不需要再从数据库加载正文、图片并重新序列化。
+ * <p>
+ * 每条记录带有写入时文章的版本（@Version 列），由 ArticleResponseCache 与数据库中的当前版本比较，
+ * 因此其他节点的修改、停机期间的修改都不会读到旧数据。本节点的文章变更提交后从索引中移除，重新写入时
+ * 追加新记录；失效和覆盖留下的无效记录由后台压缩清除：有效记录在锁外复制到新文件，
+ * 再在锁内补上复制期间的写入和失效，原子替换原文件并切换到新的映射。
+ * 文件写满后不再追加，直到压缩腾出空间。
+ * <p>
+ * 记录带 CRC 校验，启动时遇到不完整或损坏的记录即停止扫描，之后的空间重新使用。
+ * 目录由一个进程独占，已被其他进程占用时不启用。
+ */
+@Slf4j
+@Component
+public class ArticleDiskCache {
+
+    private static final String SEGMENT_FILE = "articles.seg";
+    private static final String LOCK_FILE = "articles.lock";
+    private static final int MAGIC = 0x41525443;
+    private static final int FORMAT_VERSION = 3;
+    private static final int FILE_HEADER_LENGTH = 16;
+    /** 记录头：长度、CRC、文章 id、文章版本、JSON 的 CRC32 */
+    private static final int RECORD_HEADER_LENGTH = 28;
+    private static final long NULL_VALUE = Long.MIN_VALUE;
+
+    private final Path dir;
+    private final int capacity;
+    private FileChannel lockChannel;
+    private volatile Segment segment;
+    /** 上次追加因空间不足失败 */
+    private boolean full;
+    /** 同一时间只进行一次压缩 */
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    public ArticleDiskCache(@Value("${article.disk-cache.enabled:false}") boolean enabled,
+                            @Value("${article.disk-cache.dir:cache}") String dir,
+                            @Value("${article.disk-cache.max-size:256MB}") DataSize maxSize) {
+        this.dir = dir != null ? Paths.get(dir) : null;
+        this.capacity = maxSize != null ? (int) Math.min(Integer.MAX_VALUE, maxSize.toBytes()) : 0;
+        if (enabled) {
+            open();
+        }
+    }
+
+    public boolean isEnabled() {
+        return segment != null;
+    }
+
+    public int size() {
+        Segment current = segment;
+        return current != null ? current.index.size() : 0;
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(dir);
+            lockChannel = FileChannel.open(dir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (!tryLock()) {
+                log.warn("磁盘缓存目录 {} 已被其他进程使用，不启用磁盘缓存", dir.toAbsolutePath());
+                lockChannel.close();
+                return;
+            }
+            segment = load(dir.resolve(SEGMENT_FILE));
+            log.info("磁盘缓存已加载: {} 篇文章，已用 {} / {} 字节", segment.index.size(), segment.position, capacity);
+        } catch (IOException | RuntimeException e) {
+            log.warn("磁盘缓存无法打开，不启用: {}", e.getMessage());
+            segment = null;
+            close();
+        }
+    }
+
+    private boolean tryLock() throws IOException {
+        try {
+            return lockChannel.tryLock() != null;
+        } catch (OverlappingFileLockException e) {
+            // 同一进程中的另一个实例已持有锁
+            return false;
+        }
+    }
+
+    /**
+     * 映射段文件并按顺序扫描记录重建索引，同一篇文章以最后一条记录为准
+     */
+    private Segment load(Path file) throws IOException {
+        Segment loaded = map(file);
+        ByteBuffer buffer = loaded.buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            return initialize(loaded);
+        }
+        int offset = FILE_HEADER_LENGTH;
+        while (capacity - offset >= RECORD_HEADER_LENGTH) {
+            int length = buffer.getInt(offset);
+            if (length < RECORD_HEADER_LENGTH || length > capacity - offset || !checksumMatches(buffer, offset, length)) {
+                break;
+            }
+            loaded.index(buffer.getLong(offset + 8), offset, length);
+            offset += length;
+        }
+        loaded.position = offset;
+        terminate(loaded);
+        return loaded;
+    }
+
+    private Segment map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 关闭通道后映射仍然有效
+            return new Segment(channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        }
+    }
+
+    private Segment initialize(Segment empty) {
+        empty.buffer.putInt(0, MAGIC);
+        empty.buffer.putInt(4, FORMAT_VERSION);
+        empty.position = FILE_HEADER_LENGTH;
+        terminate(empty);
+        return empty;
+    }
+
+    /**
+     * 在末尾写入长度 0 作为结束标记，重启扫描不会读到之前留下的字节
+     */
+    private void terminate(Segment target) {
+        if (capacity - target.position >= 4) {
+            target.buffer.putInt(target.position, 0);
+        }
+    }
+
+    /**
+     * 文章最近一次写入的条目，条目中的数据为映射文件的视图；版本由调用方校验
+     */
+    public ArticleResponseCache.Entry get(Long articleId) {
+        Segment current = segment;
+        if (current == null) {
+            return null;
+        }
+        Integer offset = current.index.get(articleId);
+        return offset != null ? read(current.buffer, offset) : null;
+    }
+
+    /**
+     * 追加一条记录，同一篇文章之前的记录变为无效
+     */
+    public synchronized void put(Long articleId, ArticleResponseCache.Entry entry) {
+        Segment current = segment;
+        if (current == null) {
+            return;
+        }
+        ByteBuffer json = entry.jsonPrefix();
+        ByteBuffer deflated = entry.deflatedPrefix();
+        long length = RECORD_HEADER_LENGTH + 4 + json.remaining() + 4 + deflated.remaining();
+        // 结束标记也要放得下
+        if (length + 4 > capacity - current.position) {
+            if (!full) {
+                log.warn("磁盘缓存已满（{} 字节），等待压缩后再写入", capacity);
+                full = true;
+            }
+            return;
+        }
+        int offset = current.position;
+        ByteBuffer out = current.buffer.duplicate();
+        out.position(offset + 8);
+        out.putLong(articleId);
+        out.putLong(entry.version() != null ? entry.version() : NULL_VALUE);
+        out.putInt(entry.jsonCrc());
+        out.putInt(json.remaining());
+        out.put(json);
+        out.putInt(deflated.remaining());
+        out.put(deflated);
+        out.putInt(offset + 4, checksum(current.buffer, offset, (int) length));
+        out.putInt(offset, (int) length);
+
+        current.position = offset + (int) length;
+        terminate(current);
+        current.index(articleId, offset, (int) length);
+    }
+
+    /**
+     * 文章变更后移除索引，记录留在文件中由压缩清除
+     */
+    public synchronized void invalidate(Long articleId) {
+        Segment current = segment;
+        if (current != null) {
+            current.remove(articleId);
+        }
+    }
+
+    /**
+     * 无效记录不少于有效记录，或文件已满且有无效记录时，把有效记录复制到新文件后替换原文件。
+     * 复制在锁外进行，期间的写入、失效照常作用于原文件，替换前在锁内补上；读取继续使用原来的映射
+     */
+    @Scheduled(fixedDelayString = "${article.disk-cache.compaction-interval:PT10M}",
+               initialDelayString = "${article.disk-cache.compaction-interval:PT10M}")
+    public void compact() {
+        compact(() -> { });
+    }
+
+    /**
+     * duringCopy 在锁外复制完成、补写之前执行，供测试模拟压缩期间的写入
+     */
+    void compact(Runnable duringCopy) {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactSegment(duringCopy);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void compactSegment(Runnable duringCopy) {
+        Segment current;
+        int copiedUpTo;
+        List<Map.Entry<Long, Integer>> live;
+        synchronized (this) {
+            current = segment;
+            if (current == null) {
+                return;
+            }
+            long dead = current.position - FILE_HEADER_LENGTH - current.liveBytes;
+            if (dead == 0 || (dead < current.liveBytes && !full)) {
+                return;
+            }
+            copiedUpTo = current.position;
+            live = new ArrayList<>(Map.copyOf(current.index).entrySet());
+        }
+        long started = System.currentTimeMillis();
+        Path file = dir.resolve(SEGMENT_FILE);
+        Path temp = dir.resolve(SEGMENT_FILE + ".tmp");
+        try {
+            Files.deleteIfExists(temp);
+            Segment compacted = initialize(map(temp));
+            // 已写入的记录不再修改，可以在锁外读取；按偏移顺序复制，保持记录的先后顺序
+            copy(current, live, compacted);
+            duringCopy.run();
+            synchronized (this) {
+                if (segment != current) {
+                    // 复制期间已关闭
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+                // 以原文件的当前索引为准：复制期间失效或重新写入的文章去掉复制的旧记录（留待下次压缩清除），再补上新记录
+                for (Long articleId : List.copyOf(compacted.index.keySet())) {
+                    Integer offset = current.index.get(articleId);
+                    if (offset == null || offset >= copiedUpTo) {
+                        compacted.remove(articleId);
+                    }
+                }
+                List<Map.Entry<Long, Integer>> appended = new ArrayList<>();
+                for (Map.Entry<Long, Integer> record : current.index.entrySet()) {
+                    if (record.getValue() >= copiedUpTo) {
+                        appended.add(Map.entry(record.getKey(), record.getValue()));
+                    }
+                }
+                copy(current, appended, compacted);
+                terminate(compacted);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                segment = compacted;
+                full = false;
+            }
+            log.info("磁盘缓存压缩完成: 保留 {} 篇文章，{} 字节 -> {} 字节，耗时 {}ms", compacted.index.size(),
+                    current.position, compacted.position, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException e) {
+            log.warn("磁盘缓存压缩失败，继续使用原文件: {}", e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 下次压缩前会再次删除
+            }
+        }
+    }
+
+    /**
+     * 按偏移顺序把记录追加到目标段；压缩期间补写的记录放不下时放弃本次压缩
+     */
+    private void copy(Segment source, List<Map.Entry<Long, Integer>> records, Segment target) throws IOException {
+        records.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Integer> record : records) {
+            int length = source.buffer.getInt(record.getValue());
+            if (length + 4 > capacity - target.position) {
+                throw new IOException("压缩后的文件放不下有效记录");
+            }
+            target.buffer.put(target.position, source.buffer, record.getValue(), length);
+            target.index(record.getKey(), target.position, length);
+            target.position += length;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        Segment current = segment;
+        segment = null;
+        try {
+            if (current != null) {
+                current.buffer.force();
+            }
+            if (lockChannel != null) {
+                // 关闭通道同时释放文件锁
+                lockChannel.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("关闭磁盘缓存失败: {}", e.getMessage());
+        }
+    }
+
+    private static ArticleResponseCache.Entry read(ByteBuffer buffer, int offset) {
+        long version = buffer.getLong(offset + 16);
+        int jsonCrc = buffer.getInt(offset + 24);
+        int position = offset + RECORD_HEADER_LENGTH;
+        int jsonLength = buffer.getInt(position);
+        ByteBuffer json = buffer.slice(position + 4, jsonLength);
+        position += 4 + jsonLength;
+        ByteBuffer deflated = buffer.slice(position + 4, buffer.getInt(position));
+        return new ArticleResponseCache.Entry(json, jsonCrc, deflated, version != NULL_VALUE ? version : null);
+    }
+
+    private static boolean checksumMatches(ByteBuffer buffer, int offset, int length) {
+        return buffer.getInt(offset + 4) == checksum(buffer, offset, length);
+    }
+
+    /**
+     * 记录中长度和校验和之后部分的 CRC32
+     */
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + 8, length - 8));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 一个段文件的映射及其索引；写入由 ArticleDiskCache 加锁，读取只经过索引和映射。
+     * 压缩中的新段只由压缩线程写入，切换前对其他线程不可见
+     */
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final Map<Long, Integer> index = new ConcurrentHashMap<>();
+        private int position;
+        private long liveBytes;
+
+        private Segment(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void index(Long articleId, int offset, int length) {
+            remove(articleId);
+            index.put(articleId, offset);
+            liveBytes += length;
+        }
+
+        private void remove(Long articleId) {
+            Integer previous = index.remove(articleId);
+            if (previous != null) {
+                liveBytes -= buffer.getInt(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleFacetsDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 文章列表的分面计数。
+ * <p>
+ * 为 status、articleType、tag、categoryId 的每个取值维护一个以文章 id 为成员的 Roaring 位图，
+ * 计数时先对筛选条件对应的位图求交，再与各取值的位图求交集基数，不访问数据库。
+ * 位图在文章写操作提交后增量维护，其他节点的写操作在回放变更日志时修正；启动加载完成前回退到数据库分组统计。
+ * 位图成员是 32 位整数，出现超过 Integer.MAX_VALUE 的文章 id 时停用位图，改为数据库分组统计，
+ * 不把 id 折回后与其他文章混在一起。
+ * <p>
+ * 位图只包含 articles 中的文章。与列表相同，status=ARCHIVED 的请求统计归档表中的全部文章
+ * （各文章保留迁出前的状态，分面中的 status 按此统计），其他请求不包含已迁入归档表的文章。
+ */
+@Slf4j
+@Service
+public class ArticleFacetService {
+
+    private static final int SEED_CHUNK = 5000;
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final ArticleRepository articleRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byStatus = new HashMap<>();
+    private final Map<String, RoaringBitmap> byArticleType = new HashMap<>();
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private volatile boolean ready = false;
+    /** 出现超出位图范围的文章 id 后不再维护位图 */
+    private volatile boolean overflowed = false;
+
+    public ArticleFacetService(ArticleRepository articleRepository,
+                               ArchivedArticleRepository archivedArticleRepository,
+                               @Value("${article.facets.bitmap-enabled:true}") boolean enabled) {
+        this.articleRepository = articleRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = articleRepository.findMetadataAfter(afterId, PageRequest.of(0, SEED_CHUNK));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : chunk) {
+                    if (!fits((Long) row[0])) {
+                        return;
+                    }
+                    add(((Long) row[0]).intValue(), (String) row[2], (String) row[3], (String) row[4], (Long) row[1]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!chunk.isEmpty()) {
+                afterId = (Long) chunk.get(chunk.size() - 1)[0];
+            }
+        } while (chunk.size() == SEED_CHUNK);
+        ready = !overflowed;
+        log.info("文章分面位图加载完成，文章数: {}，耗时: {}ms", all.getCardinality(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!enabled || overflowed) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!fits(event.getArticleId())) {
+                return;
+            }
+            int id = event.getArticleId().intValue();
+            ArticleDTO before = event.getBefore();
+            if (before != null) {
+                remove(id, before.getStatus(), before.getArticleType(), before.getTag(), before.getCategoryId());
+            }
+            ArticleDTO after = event.getAfter();
+            if (after != null) {
+                add(id, after.getStatus(), after.getArticleType(), after.getTag(), after.getCategoryId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 回放变更日志时不知道文章原来的取值，先从全部位图中移除，再按数据库中的当前元数据加入
+     */
+    @EventListener
+    public void onChangesReplayed(ChangesReplayedEvent event) {
+        if (!enabled || overflowed) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long articleId : event.getArticleIds()) {
+                if (!fits(articleId)) {
+                    return;
+                }
+                int id = articleId.intValue();
+                all.remove(id);
+                removeFromAll(byStatus, id);
+                removeFromAll(byArticleType, id);
+                removeFromAll(byTag, id);
+                removeFromAll(byCategory, id);
+            }
+            for (ArticleDTO article : event.getArticles()) {
+                add(article.getId().intValue(), article.getStatus(), article.getArticleType(), article.getTag(),
+                        article.getCategoryId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 分类删除后对应文章的 category_id 被数据库置空，直接丢弃该分类的位图。
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (!enabled || event.getType() != CategoryChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            byCategory.remove(event.getCategoryId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 统计满足筛选条件的文章在各维度取值上的数量，空值不计入分面。
+     */
+    public ArticleFacetsDTO getFacets(ArticleListRequest request) {
+        if ("ARCHIVED".equals(request.getStatus())) {
+            return toFacets(archivedArticleRepository.countFacetsByFilters(
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag()
+            ));
+        }
+        if (!ready) {
+            return toFacets(articleRepository.countFacetsByFilters(
+                request.getStatus(),
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag()
+            ));
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = all.clone();
+            filter(matched, byStatus, request.getStatus());
+            filter(matched, byArticleType, request.getArticleType());
+            filter(matched, byTag, request.getTag());
+            filter(matched, byCategory, request.getCategoryId());
+
+            ArticleFacetsDTO facets = new ArticleFacetsDTO();
+            facets.setTotal((long) matched.getCardinality());
+            count(matched, byStatus, facets.getStatus());
+            count(matched, byArticleType, facets.getArticleType());
+            count(matched, byTag, facets.getTag());
+            count(matched, byCategory, facets.getCategoryId());
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 数据库按 (status, articleType, tag, categoryId) 分组统计的结果汇总为各维度的计数
+     */
+    private static ArticleFacetsDTO toFacets(List<Object[]> groups) {
+        Map<String, Long> status = new TreeMap<>();
+        Map<String, Long> articleType = new TreeMap<>();
+        Map<String, Long> tag = new TreeMap<>();
+        Map<Long, Long> category = new TreeMap<>();
+        long total = 0;
+        for (Object[] group : groups) {
+            long count = (Long) group[4];
+            total += count;
+            merge(status, (String) group[0], count);
+            merge(articleType, (String) group[1], count);
+            merge(tag, (String) group[2], count);
+            merge(category, (Long) group[3], count);
+        }
+        ArticleFacetsDTO facets = new ArticleFacetsDTO();
+        facets.setTotal(total);
+        facets.getStatus().putAll(status);
+        facets.getArticleType().putAll(articleType);
+        facets.getTag().putAll(tag);
+        facets.getCategoryId().putAll(category);
+        return facets;
+    }
+
+    private static <K> void merge(Map<K, Long> counts, K key, long count) {
+        if (key != null) {
+            counts.merge(key, count, Long::sum);
+        }
+    }
+
+    private static <K> void filter(RoaringBitmap matched, Map<K, RoaringBitmap> index, K value) {
+        if (value != null) {
+            matched.and(index.getOrDefault(value, EMPTY));
+        }
+    }
+
+    private static <K extends Comparable<K>> void count(RoaringBitmap matched, Map<K, RoaringBitmap> index,
+                                                        Map<K, Long> target) {
+        new TreeMap<>(index).forEach((value, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(matched, bitmap);
+            if (count > 0) {
+                target.put(value, count);
+            }
+        });
+    }
+
+    /**
+     * id 能否作为位图成员；不能时停用位图并清空，之后的请求由数据库统计。须持有写锁
+     */
+    private boolean fits(Long articleId) {
+        if (articleId <= Integer.MAX_VALUE) {
+            return true;
+        }
+        if (!overflowed) {
+            log.error("文章 id {} 超出分面位图的范围，停用位图，分面统计改为查询数据库", articleId);
+        }
+        overflowed = true;
+        ready = false;
+        all.clear();
+        byStatus.clear();
+        byArticleType.clear();
+        byTag.clear();
+        byCategory.clear();
+        return false;
+    }
+
+    private void add(int id, String status, String articleType, String tag, Long categoryId) {
+        all.add(id);
+        addTo(byStatus, status, id);
+        addTo(byArticleType, articleType, id);
+        addTo(byTag, tag, id);
+        addTo(byCategory, categoryId, id);
+    }
+
+    private void remove(int id, String status, String articleType, String tag, Long categoryId) {
+        all.remove(id);
+        removeFrom(byStatus, status, id);
+        removeFrom(byArticleType, articleType, id);
+        removeFrom(byTag, tag, id);
+        removeFrom(byCategory, categoryId, id);
+    }
+
+    private static <K> void removeFromAll(Map<K, RoaringBitmap> index, int id) {
+        index.values().removeIf(bitmap -> bitmap.checkedRemove(id) && bitmap.isEmpty());
+    }
+
+    private static <K> void addTo(Map<K, RoaringBitmap> index, K value, int id) {
+        if (value != null) {
+            index.computeIfAbsent(value, v -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> index, K value, int id) {
+        if (value == null) {
+            return;
+        }
+        RoaringBitmap bitmap = index.get(value);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                index.remove(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.FieldSelection;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 文章详情响应的字节缓存：保存序列化好的 JSON 和它的 gzip 压缩结果，命中时跳过正文、图片的加载、
+ * DTO 转换、序列化和压缩，直接写出字节。
+ * <p>
+ * 计数每次浏览都会变化，不放入缓存：缓存的 JSON 不含计数字段且去掉了结尾的 "}"，
+ * gzip 版本是这段 JSON 以 SYNC_FLUSH 结束的 deflate 数据，条目同时保存这段 JSON 的 CRC32。
+ * 请求时把计数拼在 JSON 末尾，gzip 响应只需另外压缩这几十字节、计算它们的 CRC32，
+ * 再与缓存的 CRC32 合并（crc32Combine），不必重新扫描整段正文。
+ * <p>
+ * 条目记录写入时文章的版本（@Version 列，每次修改加一），读取时与文章的当前版本比较，
+ * 其他节点的修改和直接执行 UPDATE 的修改同样不会读到旧数据。本节点的文章变更提交后条目失效；
+ * 读取期间发生过失效的结果不放入内存，以免旧数据在失效之后写回。条目同时写入 ArticleDiskCache，
+ * 内存中没有时从磁盘缓存读取，重启后同样可以命中。磁盘缓存只在 entries 的锁外访问，
+ * 写文件不会阻塞其他请求读取内存中的条目。
+ */
+@Component
+public class ArticleResponseCache {
+
+    private static final Set<String> COUNT_FIELDS = Set.of("viewCount", "likeCount", "shareCount", "uniqueViews");
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final ObjectWriter writer;
+    private final ArticleDiskCache diskCache;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ArticleResponseCache(ObjectMapper objectMapper,
+                                ArticleDiskCache diskCache,
+                                @Value("${article.response-cache.max-entries:1000}") int maxEntries) {
+        this.diskCache = diskCache;
+        this.writer = objectMapper.writer(new SimpleFilterProvider().addFilter(
+                FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.serializeAllExcept(COUNT_FIELDS)));
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 读取文章之前取得的失效序号，写入缓存时用来判断期间是否有文章变更
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * 查找与文章当前版本一致的缓存条目，没有时返回 null
+     */
+    public Entry find(Article article) {
+        Entry entry = entries.get(article.getId());
+        if (entry == null) {
+            // 磁盘缓存中的条目只是映射文件的视图，放入内存不复制正文
+            entry = diskCache.get(article.getId());
+            if (entry != null && entry.matches(article)) {
+                entries.put(article.getId(), entry);
+            }
+        }
+        return entry != null && entry.matches(article) ? entry : null;
+    }
+
+    /**
+     * 序列化并压缩文章，stamp 之后没有发生失效时放入缓存
+     */
+    public Entry put(long stamp, Article article, ArticleDTO dto) {
+        Entry entry = render(dto, article.getVersion());
+        boolean cached;
+        synchronized (entries) {
+            cached = invalidations.get() == stamp;
+            if (cached) {
+                entries.put(article.getId(), entry);
+            }
+        }
+        if (cached) {
+            // 与失效交错时磁盘上可能留下旧版本的记录，读取时按版本校验，不会被使用
+            diskCache.put(article.getId(), entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 不放入缓存的响应，用于归档文章
+     */
+    public Response uncached(ArticleDTO dto) {
+        ArticleStats stats = new ArticleStats(dto.getId());
+        stats.setViewCount(dto.getViewCount());
+        stats.setLikeCount(dto.getLikeCount());
+        stats.setShareCount(dto.getShareCount());
+        stats.setUniqueViews(dto.getUniqueViews());
+        return new Response(render(dto, null), stats);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(event.getArticleId());
+        }
+        diskCache.invalidate(event.getArticleId());
+    }
+
+    /**
+     * Accept-Encoding 是否接受 gzip（q=0 表示拒绝）
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry render(ArticleDTO dto, Long version) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("文章序列化失败: " + dto.getId(), e);
+        }
+        int prefixLength = json.length - 1;
+        CRC32 crc = new CRC32();
+        crc.update(json, 0, prefixLength);
+
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(prefixLength / 3 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            // 以 SYNC_FLUSH 结束且不写最后一个块，之后可以追加另一段独立压缩的 deflate 数据
+            DeflaterOutputStream out = new DeflaterOutputStream(deflated, deflater, 8192, true);
+            out.write(json, 0, prefixLength);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return new Entry(ByteBuffer.wrap(json, 0, prefixLength).slice(), (int) crc.getValue(),
+                ByteBuffer.wrap(deflated.toByteArray()), version);
+    }
+
+    private static byte[] deflateFinal(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + 16);
+            byte[] buffer = new byte[256];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 由两段数据各自的 CRC32 得到拼接后的 CRC32，len2 为第二段的长度。做法与 zlib 的 crc32_combine 相同：
+     * 在 GF(2) 上把"追加一个 0 位"的 32x32 矩阵反复平方，按 len2 的二进制位作用到 crc1 上，
+     * 相当于在第一段后追加 len2 个 0 字节，再与 crc2 异或；耗时只与 len2 的位数有关
+     */
+    static int crc32Combine(int crc1, int crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        int[] even = new int[32];
+        int[] odd = new int[32];
+        // 追加一个 0 位的算子：第 0 行为反射后的 CRC-32 多项式，其余行为移位
+        odd[0] = 0xedb88320;
+        int row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        // 两个 0 位、四个 0 位，此后每次平方对应一个 len2 的二进制位，首轮即一个 0 字节
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static int gf2MatrixTimes(int[] matrix, int vector) {
+        int sum = 0;
+        for (int i = 0; vector != 0; i++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(int[] square, int[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+
+    /**
+     * 写出缓冲区的剩余内容，不改变缓冲区的位置；映射文件的视图经小块数组中转
+     */
+    private static void write(OutputStream out, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            return;
+        }
+        ByteBuffer source = buffer.duplicate();
+        byte[] chunk = new byte[Math.min(8192, source.remaining())];
+        while (source.hasRemaining()) {
+            int n = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, n);
+            out.write(chunk, 0, n);
+        }
+    }
+
+    private static void writeIntLE(OutputStream out, long value) throws IOException {
+        out.write((int) value & 0xff);
+        out.write((int) (value >> 8) & 0xff);
+        out.write((int) (value >> 16) & 0xff);
+        out.write((int) (value >> 24) & 0xff);
+    }
+
+    /**
+     * 缓存条目：不含计数、去掉结尾 "}" 的 JSON 及其 CRC32，和这段 JSON 以 SYNC_FLUSH 结束的 deflate 数据。
+     * 两者可以指向堆内数组或磁盘缓存的映射文件，写入后不再修改；堆内数组写出时不复制
+     */
+    public static final class Entry {
+        private final ByteBuffer jsonPrefix;
+        private final int jsonCrc;
+        private final ByteBuffer deflatedPrefix;
+        private final Long version;
+
+        Entry(ByteBuffer jsonPrefix, int jsonCrc, ByteBuffer deflatedPrefix, Long version) {
+            this.jsonPrefix = jsonPrefix;
+            this.jsonCrc = jsonCrc;
+            this.deflatedPrefix = deflatedPrefix;
+            this.version = version;
+        }
+
+        ByteBuffer jsonPrefix() {
+            return jsonPrefix.duplicate();
+        }
+
+        int jsonCrc() {
+            return jsonCrc;
+        }
+
+        ByteBuffer deflatedPrefix() {
+            return deflatedPrefix.duplicate();
+        }
+
+        Long version() {
+            return version;
+        }
+
+        private boolean matches(Article article) {
+            return version != null && version.equals(article.getVersion());
+        }
+    }
+
+    /**
+     * 一次详情响应：缓存条目加本次请求的计数
+     */
+    public static final class Response {
+        private final Entry entry;
+        private final ArticleStats stats;
+
+        public Response(Entry entry, ArticleStats stats) {
+            this.entry = entry;
+            this.stats = stats;
+        }
+
+        public void writeTo(HttpServletResponse response, boolean gzip) throws IOException {
+            byte[] tail = String.format(",\"viewCount\":%d,\"likeCount\":%d,\"shareCount\":%d,\"uniqueViews\":%d}",
+                    stats.getViewCount(), stats.getLikeCount(), stats.getShareCount(), stats.getUniqueViews())
+                    .getBytes(StandardCharsets.UTF_8);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            OutputStream out = response.getOutputStream();
+            int prefixLength = entry.jsonPrefix.remaining();
+            if (!gzip) {
+                response.setContentLength(prefixLength + tail.length);
+                write(out, entry.jsonPrefix);
+                out.write(tail);
+                return;
+            }
+
+            byte[] deflatedTail = deflateFinal(tail);
+            CRC32 tailCrc = new CRC32();
+            tailCrc.update(tail);
+            int crc = crc32Combine(entry.jsonCrc, (int) tailCrc.getValue(), tail.length);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(GZIP_HEADER.length + entry.deflatedPrefix.remaining() + deflatedTail.length + 8);
+            out.write(GZIP_HEADER);
+            write(out, entry.deflatedPrefix);
+            out.write(deflatedTail);
+            writeIntLE(out, crc);
+            writeIntLE(out, prefixLength + tail.length);
+        }
+    }
+}
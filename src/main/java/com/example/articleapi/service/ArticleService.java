@@ -1,15 +1,26 @@
 package com.example.articleapi.service;
 
+import com.example.articleapi.dto.ArticleBatchDTO;
 import com.example.articleapi.dto.ArticleDTO;
 import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.FieldSelection;
 import com.example.articleapi.dto.PageResult;
 import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
 import com.example.articleapi.entity.Category;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.event.ChangesReplayedEvent;
 import com.example.articleapi.exception.ResourceNotFoundException;
 import com.example.articleapi.exception.ValidationException;
 import com.example.articleapi.repository.ArticleRepository;
 import com.example.articleapi.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,22 +29,43 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
     
+    private static final int MAX_BATCH_SIZE = 100;
+    /** 按元数据筛选热度排名时每条查询的 id 数 */
+    private static final int METADATA_CHUNK = 1000;
+    /** 最新文章缓冲中保存的字段：不含正文，计数在返回前合并 */
+    private static final FieldSelection FEED_FIELDS = FieldSelection.parse("images");
+    
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+        "title", "content", "coverImage", "images", "categoryId", "status", "articleType", "tag"
+    );
+    
     private final ArticleRepository articleRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LatestFeedCache latestFeedCache;
+    private final ArticleColumnStore articleColumnStore;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleArchiveService articleArchiveService;
+    private final ArticleResponseCache articleResponseCache;
+    private final BulkDeleteService bulkDeleteService;
+    private final TrendingService trendingService;
     
     public PageResult<ArticleDTO> getArticleList(ArticleListRequest request) {
-        // 根据标签确定排序方式：热门按浏览量，其他按创建时间
-        Sort sort = "HOT".equals(request.getTag()) 
-            ? Sort.by(Sort.Direction.DESC, "viewCount")
-            : Sort.by(Sort.Direction.DESC, "createTime");
+        FieldSelection fields = FieldSelection.parse(request.getFields(), ArticleDTO.class);
         
         // 确保分页参数有效
         int page = Math.max(0, request.getPage() != null ? request.getPage() : 0);
@@ -41,38 +73,283 @@ public class ArticleService {
             ? Math.min(request.getSize(), 100) // 限制最大页面大小为100
             : 10;
         
-        Pageable pageable = PageRequest.of(page, size, sort);
+        if (request.getSort() != null) {
+            if (!"trending".equals(request.getSort())) {
+                throw new ValidationException("不支持的排序方式: " + request.getSort());
+            }
+            return getTrendingList(request, fields, page, size);
+        }
+        
+        // 已归档文章已迁出 articles，直接查询归档表
+        if ("ARCHIVED".equals(request.getStatus())) {
+            return articleArchiveService.getArticleList(request, page, size);
+        }
         
-        Page<Article> pageResult = articleRepository.findByFilters(
+        // 已发布文章按时间倒序的前几页直接由内存缓冲提供
+        Optional<PageResult<ArticleDTO>> cached = latestFeedCache.findPage(request, page, size);
+        if (cached.isPresent()) {
+            return withCurrentValues(cached.get(), fields);
+        }
+        
+        // 其余请求优先在内存列存中完成筛选排序，只从数据库加载当前页
+        Optional<ArticleColumnStore.IdPage> idPage = articleColumnStore.query(
             request.getStatus(),
             request.getCategoryId(),
             request.getArticleType(),
             request.getTag(),
-            pageable
+            "HOT".equals(request.getTag()),
+            page,
+            size
         );
+        if (idPage.isPresent()) {
+            return new PageResult<>(
+                loadInOrder(idPage.get().getIds(), fields),
+                page,
+                size,
+                idPage.get().getTotalElements()
+            );
+        }
         
-        List<ArticleDTO> content = pageResult.getContent().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // 根据标签确定排序方式：热门按浏览量（计数表），其他按创建时间
+        Page<Article> pageResult = "HOT".equals(request.getTag())
+            ? articleRepository.findByFiltersOrderByViewCount(
+                request.getStatus(),
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag(),
+                PageRequest.of(page, size)
+            )
+            : articleRepository.findByFilters(
+                request.getStatus(),
+                request.getCategoryId(),
+                request.getArticleType(),
+                request.getTag(),
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createTime"))
+            );
         
         return new PageResult<>(
-            content,
+            convertToListDTOs(pageResult.getContent(), fields),
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements()
         );
     }
     
-    @Transactional
+    /**
+     * 按近期热度排序的列表：排名来自 TrendingService，筛选条件在内存列存中匹配，列存未就绪时按元数据查询匹配
+     */
+    private PageResult<ArticleDTO> getTrendingList(ArticleListRequest request, FieldSelection fields, int page, int size) {
+        if (!trendingService.isEnabled()) {
+            throw new ValidationException("热度排序未开启");
+        }
+        List<Long> ranked = trendingService.getRanking();
+        List<Long> matching = ranked;
+        if (request.getStatus() != null || request.getCategoryId() != null
+                || request.getArticleType() != null || request.getTag() != null) {
+            matching = articleColumnStore.filter(ranked, request.getStatus(), request.getCategoryId(),
+                    request.getArticleType(), request.getTag())
+                .orElseGet(() -> filterByMetadata(ranked, request));
+        }
+        int from = (int) Math.min((long) page * size, matching.size());
+        int to = Math.min(from + size, matching.size());
+        return new PageResult<>(loadInOrder(matching.subList(from, to), fields), page, size, (long) matching.size());
+    }
+    
+    /**
+     * 缓冲中只有摘要，计数停留在文章写入时：返回前按当前页批量加载正文、合并 article_stats 的当前值。
+     * 缓冲中的 DTO 被其他请求共享，合并到副本上
+     */
+    private PageResult<ArticleDTO> withCurrentValues(PageResult<ArticleDTO> cached, FieldSelection fields) {
+        boolean counts = fields.includesAny("viewCount", "likeCount", "shareCount", "uniqueViews");
+        boolean body = fields.includes("content");
+        if (cached.getContent().isEmpty() || (!counts && !body)) {
+            return cached;
+        }
+        List<Long> ids = cached.getContent().stream().map(ArticleDTO::getId).collect(Collectors.toList());
+        Map<Long, ArticleStats> stats = counts ? articleStatsService.getStats(ids) : new HashMap<>();
+        Map<Long, String> contents = new HashMap<>();
+        if (body) {
+            for (Object[] row : articleRepository.findContentByIdIn(ids)) {
+                contents.put((Long) row[0], (String) row[1]);
+            }
+        }
+        List<ArticleDTO> content = new ArrayList<>(cached.getContent().size());
+        for (ArticleDTO item : cached.getContent()) {
+            ArticleDTO copy = new ArticleDTO();
+            BeanUtils.copyProperties(item, copy);
+            if (counts) {
+                ArticleStatsService.copyCounts(stats.get(item.getId()), copy);
+            }
+            if (body) {
+                copy.setContent(contents.get(item.getId()));
+            }
+            content.add(copy);
+        }
+        return new PageResult<>(content, cached.getPage(), cached.getSize(), cached.getTotalElements());
+    }
+    
+    private List<Long> filterByMetadata(List<Long> ids, ArticleListRequest request) {
+        Set<Long> matched = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += METADATA_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + METADATA_CHUNK, ids.size()));
+            for (Object[] row : articleRepository.findMetadataByIdIn(chunk)) {
+                if ((request.getCategoryId() == null || request.getCategoryId().equals(row[1]))
+                        && (request.getStatus() == null || request.getStatus().equals(row[2]))
+                        && (request.getArticleType() == null || request.getArticleType().equals(row[3]))
+                        && (request.getTag() == null || request.getTag().equals(row[4]))) {
+                    matched.add((Long) row[0]);
+                }
+            }
+        }
+        return ids.stream().filter(matched::contains).collect(Collectors.toList());
+    }
+    
     public ArticleDTO getArticleById(Long id) {
-        Article article = articleRepository.findById(id)
+        return getArticleById(id, null);
+    }
+    
+    public ArticleDTO getArticleById(Long id, String fieldList) {
+        return getArticleById(id, fieldList, null);
+    }
+    
+    /**
+     * 获取文章详情，fields 未包含正文、图片时不会加载它们；visitorKey 不为空时计入独立访客
+     */
+    @Transactional
+    public ArticleDTO getArticleById(Long id, String fieldList, String visitorKey) {
+        FieldSelection fields = FieldSelection.parse(fieldList, ArticleDTO.class);
+        Optional<Article> article = articleRepository.findById(id);
+        // 不在 articles 中时回退到归档表
+        ArticleDTO archived = article.isPresent() ? null : articleArchiveService.getArticle(id)
                 .orElseThrow(() -> new ResourceNotFoundException("文章不存在"));
         
-        // 增加浏览量
-        article.setViewCount((article.getViewCount() != null ? article.getViewCount() : 0) + 1);
-        articleRepository.save(article);
+        ArticleStats stats = recordView(id, visitorKey);
+        if (archived != null) {
+            ArticleStatsService.copyCounts(stats, archived);
+            return archived;
+        }
+        return convertToDTO(article.get(), stats, fields);
+    }
+    
+    /**
+     * 详情接口的 JSON 快速路径：与 getArticleById 一样记录浏览，文章未变化时直接复用缓存的响应字节，
+     * 不加载正文和图片；归档文章不缓存
+     */
+    public ArticleResponseCache.Response getArticleResponse(Long id) {
+        return getArticleResponse(id, null);
+    }
+    
+    @Transactional
+    public ArticleResponseCache.Response getArticleResponse(Long id, String visitorKey) {
+        long stamp = articleResponseCache.stamp();
+        Optional<Article> article = articleRepository.findById(id);
+        if (article.isEmpty()) {
+            return articleResponseCache.uncached(getArticleById(id, null, visitorKey));
+        }
         
-        return convertToDTO(article);
+        ArticleStats stats = recordView(id, visitorKey);
+        ArticleResponseCache.Entry entry = articleResponseCache.find(article.get());
+        if (entry == null) {
+            entry = articleResponseCache.put(stamp, article.get(), convertToDTO(article.get(), stats));
+        }
+        return new ArticleResponseCache.Response(entry, stats);
+    }
+    
+    /**
+     * 启动预热：按详情快速路径加载正文、图片并写入响应缓存，不记录浏览；文章不存在时返回 false
+     */
+    @Transactional(readOnly = true)
+    public boolean preloadArticleResponse(Long id) {
+        long stamp = articleResponseCache.stamp();
+        Optional<Article> article = articleRepository.findById(id);
+        if (article.isEmpty()) {
+            return false;
+        }
+        if (articleResponseCache.find(article.get()) == null) {
+            articleResponseCache.put(stamp, article.get(), convertToDTO(article.get(), articleStatsService.getStats(id)));
+        }
+        return true;
+    }
+    
+    /**
+     * 增加浏览量：只累加计数表，不改写文章行
+     */
+    private ArticleStats recordView(Long id, String visitorKey) {
+        ArticleStats stats = articleStatsService.recordView(id);
+        eventPublisher.publishEvent(new ArticleViewedEvent(id, stats.getViewCount(), visitorKey));
+        return stats;
+    }
+    
+    /**
+     * 按 id 批量获取文章，结果按请求顺序排列，重复的 id 只返回一次。
+     * 文章、正文、计数各一条查询，图片由 @BatchSize 批量加载，分类名称使用冗余列；
+     * 只有不在 articles 中的 id 才会再查一次归档表。recordViews 为 true 时用一条 UPDATE 记录浏览，
+     * 计数随 UPDATE 后的查询一并取回。
+     */
+    @Transactional
+    public ArticleBatchDTO getArticlesByIds(List<Long> ids, boolean recordViews) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidationException("文章 id 不能为空");
+        }
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new ValidationException("文章 id 不能为空");
+            }
+            requested.add(id);
+        }
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("一次最多获取 " + MAX_BATCH_SIZE + " 篇文章");
+        }
+        
+        // 先执行浏览量 UPDATE 再加载实体，原生更新引起的刷新不会打断图片的批量加载；
+        // 计数行随文章删除，不存在的 id 不会被计数
+        Map<Long, ArticleStats> stats = recordViews ? articleStatsService.recordViews(requested) : null;
+        
+        Map<Long, Article> articles = new HashMap<>();
+        for (Article article : articleRepository.findAllById(requested)) {
+            articles.put(article.getId(), article);
+        }
+        Map<Long, ArticleDTO> archived = new HashMap<>();
+        List<Long> notLoaded = requested.stream()
+                .filter(id -> !articles.containsKey(id))
+                .collect(Collectors.toList());
+        if (!notLoaded.isEmpty()) {
+            for (ArticleDTO dto : articleArchiveService.getArticles(notLoaded)) {
+                archived.put(dto.getId(), dto);
+            }
+        }
+        
+        List<Long> found = requested.stream()
+                .filter(id -> articles.containsKey(id) || archived.containsKey(id))
+                .collect(Collectors.toList());
+        if (stats == null) {
+            stats = articleStatsService.getStats(found);
+        } else {
+            for (Long id : found) {
+                eventPublisher.publishEvent(new ArticleViewedEvent(id, stats.get(id).getViewCount()));
+            }
+        }
+        
+        Map<Long, ArticleDTO> dtos = new HashMap<>(archived);
+        for (ArticleDTO dto : convertToListDTOs(new ArrayList<>(articles.values()), stats, FieldSelection.ALL)) {
+            dtos.put(dto.getId(), dto);
+        }
+        for (ArticleDTO dto : archived.values()) {
+            ArticleStatsService.copyCounts(stats.get(dto.getId()), dto);
+        }
+        
+        List<ArticleDTO> result = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            ArticleDTO dto = dtos.get(id);
+            if (dto != null) {
+                result.add(dto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ArticleBatchDTO(result, missingIds);
     }
     
     @Transactional
@@ -87,21 +364,25 @@ public class ArticleService {
             Category category = categoryRepository.findById(articleDTO.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("分类不存在"));
             article.setCategory(category);
+            article.setCategoryName(category.getName());
         }
         
         Article saved = articleRepository.save(article);
-        return convertToDTO(saved);
+        articleStatsService.create(saved.getId());
+        ArticleDTO result = convertToDTO(saved, new ArticleStats(saved.getId()));
+        eventPublisher.publishEvent(new ArticleChangedEvent(ChangeType.CREATED, saved.getId(), null, result));
+        return result;
     }
     
     @Transactional
     public ArticleDTO updateArticle(Long id, ArticleDTO articleDTO) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("文章不存在"));
+        Article article = findForUpdate(id);
+        ArticleDTO before = snapshot(article);
         
         article.setTitle(articleDTO.getTitle());
         article.setContent(articleDTO.getContent());
         article.setCoverImage(articleDTO.getCoverImage());
-        article.setImages(articleDTO.getImages() != null ? articleDTO.getImages() : new ArrayList<>());
+        mergeImages(article, articleDTO.getImages() != null ? articleDTO.getImages() : new ArrayList<>());
         article.setStatus(articleDTO.getStatus() != null ? articleDTO.getStatus() : "PUBLISHED");
         article.setArticleType(articleDTO.getArticleType());
         article.setTag(articleDTO.getTag());
@@ -109,41 +390,342 @@ public class ArticleService {
         // 处理分类更新：如果categoryId为null，清除分类；如果不同，更新分类
         if (articleDTO.getCategoryId() == null) {
             article.setCategory(null);
+            article.setCategoryName(null);
         } else if (!Objects.equals(articleDTO.getCategoryId(), article.getCategoryId())) {
             Category category = categoryRepository.findById(articleDTO.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("分类不存在"));
             article.setCategory(category);
+            article.setCategoryName(category.getName());
         }
+        // category_id 列只读，手动同步以免本次请求中拿到旧值
+        article.setCategoryId(articleDTO.getCategoryId());
         
         Article updated = articleRepository.save(article);
-        return convertToDTO(updated);
+        ArticleDTO result = convertToDTO(updated, articleStatsService.getStats(id));
+        eventPublisher.publishEvent(new ArticleChangedEvent(ChangeType.UPDATED, id, before, result));
+        return result;
     }
     
+    /**
+     * 按 JSON Merge Patch（RFC 7396）语义局部更新：只修改请求中出现的字段，值为 null 表示清空。
+     * 实体启用了 @DynamicUpdate，UPDATE 只包含实际变化的列；未修改正文和图片时不会读取它们，
+     * 返回结果中这两个字段也为 null。
+     */
     @Transactional
+    public ArticleDTO patchArticle(Long id, Map<String, Object> patch) {
+        for (String field : patch.keySet()) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new ValidationException("不支持修改的字段: " + field);
+            }
+        }
+        
+        Article article = findForUpdate(id);
+        ArticleDTO before = snapshot(article);
+        
+        if (patch.containsKey("title")) {
+            String title = patchString(patch, "title");
+            if (title == null || title.trim().isEmpty()) {
+                throw new ValidationException("文章标题不能为空");
+            }
+            article.setTitle(title);
+        }
+        if (patch.containsKey("content")) {
+            article.setContent(patchString(patch, "content"));
+        }
+        if (patch.containsKey("coverImage")) {
+            article.setCoverImage(patchString(patch, "coverImage"));
+        }
+        if (patch.containsKey("images")) {
+            mergeImages(article, patchImages(patch.get("images")));
+        }
+        if (patch.containsKey("status")) {
+            String status = patchString(patch, "status");
+            article.setStatus(status != null ? status : "PUBLISHED");
+        }
+        if (patch.containsKey("articleType")) {
+            article.setArticleType(patchString(patch, "articleType"));
+        }
+        if (patch.containsKey("tag")) {
+            article.setTag(patchString(patch, "tag"));
+        }
+        if (patch.containsKey("categoryId")) {
+            Long categoryId = patchLong(patch, "categoryId");
+            if (categoryId == null) {
+                article.setCategory(null);
+                article.setCategoryName(null);
+            } else if (!Objects.equals(categoryId, before.getCategoryId())) {
+                Category category = categoryRepository.findById(categoryId)
+                        .orElseThrow(() -> new ResourceNotFoundException("分类不存在"));
+                article.setCategory(category);
+                article.setCategoryName(category.getName());
+            }
+            article.setCategoryId(categoryId);
+        }
+        
+        Article updated = articleRepository.save(article);
+        
+        // 新发布或换了分类的文章要放入最新文章缓冲，需要完整数据；其余情况不读取正文和图片
+        boolean bodyChanged = patch.containsKey("content") || patch.containsKey("images");
+        boolean enteringFeed = "PUBLISHED".equals(updated.getStatus())
+                && (!"PUBLISHED".equals(before.getStatus())
+                    || !Objects.equals(before.getCategoryId(), updated.getCategoryId()));
+        boolean partial = !bodyChanged && !enteringFeed;
+        ArticleStats stats = articleStatsService.getStats(id);
+        ArticleDTO result = partial ? convertToSummaryDTO(updated, stats) : convertToDTO(updated, stats);
+        eventPublisher.publishEvent(new ArticleChangedEvent(ChangeType.UPDATED, id, before, result, partial));
+        return result;
+    }
+    
+    private static String patchString(Map<String, Object> patch, String field) {
+        Object value = patch.get(field);
+        if (value != null && !(value instanceof String)) {
+            throw new ValidationException("字段 " + field + " 必须是字符串");
+        }
+        return (String) value;
+    }
+    
+    private static Long patchLong(Map<String, Object> patch, String field) {
+        Object value = patch.get(field);
+        if (value != null && !(value instanceof Number)) {
+            throw new ValidationException("字段 " + field + " 必须是数字");
+        }
+        return value != null ? ((Number) value).longValue() : null;
+    }
+    
+    private static List<String> patchImages(Object value) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        if (!(value instanceof List<?> list) || list.stream().anyMatch(item -> !(item instanceof String))) {
+            throw new ValidationException("字段 images 必须是字符串数组");
+        }
+        return list.stream().map(String.class::cast).collect(Collectors.toList());
+    }
+    
+    /**
+     * 按集合语句删除图片行、文章行和计数行，不加载实体
+     */
     public void deleteArticle(Long id) {
-        if (!articleRepository.existsById(id)) {
+        if (bulkDeleteService.deleteArticles(List.of(id)).getDeleted() == 0) {
             throw new ResourceNotFoundException("文章不存在");
         }
-        articleRepository.deleteById(id);
     }
     
-    private ArticleDTO convertToDTO(Article article) {
+    /**
+     * 加载待修改的文章，已归档的文章先迁回 articles
+     */
+    private Article findForUpdate(Long id) {
+        return articleRepository.findById(id)
+                .or(() -> articleArchiveService.restore(id))
+                .orElseThrow(() -> new ResourceNotFoundException("文章不存在"));
+    }
+    
+    /**
+     * 启动后用数据库中最新的已发布文章填充内存缓冲。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seedLatestFeeds() {
+        Pageable newest = PageRequest.of(0, latestFeedCache.getCapacity(), Sort.by(Sort.Direction.DESC, "createTime"));
+        seedLatestFeed(null, newest);
+        for (Category category : categoryRepository.findAll()) {
+            seedLatestFeed(category.getId(), newest);
+        }
+        latestFeedCache.markReady();
+    }
+    
+    /**
+     * 回放变更日志时把其他节点的写操作应用到缓冲：按文章 id 移出旧版本、放回当前仍为已发布的文章，
+     * 涉及的缓冲（全局、文章现在和原来所在的分类）总数按数据库重新计数，缩小到不足一页时才重新加载。
+     * 有变更的分类刷新名称，已删除的分类丢弃缓冲
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onChangesReplayed(ChangesReplayedEvent event) {
+        if (!latestFeedCache.isReady()) {
+            return;
+        }
+        if (!event.getCategoryIds().isEmpty()) {
+            Map<Long, String> names = categoryRepository.findAllById(event.getCategoryIds()).stream()
+                    .collect(Collectors.toMap(Category::getId, Category::getName));
+            for (Long categoryId : event.getCategoryIds()) {
+                if (names.containsKey(categoryId)) {
+                    latestFeedCache.rename(categoryId, names.get(categoryId));
+                } else {
+                    latestFeedCache.drop(categoryId);
+                }
+            }
+        }
+        if (event.getArticleIds().isEmpty()) {
+            return;
+        }
+        
+        List<Long> publishedIds = event.getArticles().stream()
+                .filter(article -> "PUBLISHED".equals(article.getStatus()))
+                .map(ArticleDTO::getId)
+                .collect(Collectors.toList());
+        List<ArticleDTO> published = publishedIds.isEmpty()
+                ? new ArrayList<>()
+                : convertToListDTOs(articleRepository.findAllById(publishedIds), FEED_FIELDS);
+        Set<Long> categoryIds = new HashSet<>(latestFeedCache.findCategories(event.getArticleIds()));
+        published.stream()
+                .map(ArticleDTO::getCategoryId)
+                .filter(Objects::nonNull)
+                .forEach(categoryIds::add);
+        
+        applyToLatestFeed(null, event.getArticleIds(), published);
+        for (Long categoryId : categoryIds) {
+            applyToLatestFeed(categoryId, event.getArticleIds(), published.stream()
+                    .filter(article -> categoryId.equals(article.getCategoryId()))
+                    .collect(Collectors.toList()));
+        }
+    }
+    
+    private void applyToLatestFeed(Long categoryId, Set<Long> articleIds, List<ArticleDTO> published) {
+        latestFeedCache.apply(categoryId, articleIds, published,
+                articleRepository.countByFilters("PUBLISHED", categoryId, null, null));
+        if (latestFeedCache.needsReseed(categoryId)) {
+            seedLatestFeed(categoryId,
+                    PageRequest.of(0, latestFeedCache.getCapacity(), Sort.by(Sort.Direction.DESC, "createTime")));
+        }
+    }
+    
+    private void seedLatestFeed(Long categoryId, Pageable newest) {
+        Page<Article> page = articleRepository.findByFilters("PUBLISHED", categoryId, null, null, newest);
+        latestFeedCache.seed(categoryId, convertToListDTOs(page.getContent(), FEED_FIELDS), page.getTotalElements());
+    }
+    
+    /**
+     * 原地合并图片列表：只改写内容变化的位置、追加新增的、截断多余的。
+     * 替换集合实例会让 Hibernate 删除全部图片后重新插入，列表未变化时这里不产生任何 SQL。
+     */
+    private void mergeImages(Article article, List<String> desired) {
+        List<String> images = article.getImages();
+        if (images == null) {
+            article.setImages(new ArrayList<>(desired));
+            return;
+        }
+        for (int i = 0; i < desired.size(); i++) {
+            if (i >= images.size()) {
+                images.add(desired.get(i));
+            } else if (!Objects.equals(images.get(i), desired.get(i))) {
+                images.set(i, desired.get(i));
+            }
+        }
+        while (images.size() > desired.size()) {
+            images.remove(images.size() - 1);
+        }
+    }
+    
+    /**
+     * 按给定 id 顺序加载文章，期间被删除的文章直接跳过
+     */
+    private List<ArticleDTO> loadInOrder(List<Long> ids, FieldSelection fields) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Article> byId = new HashMap<>();
+        for (Article article : articleRepository.findAllById(ids)) {
+            byId.put(article.getId(), article);
+        }
+        return convertToListDTOs(ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), fields);
+    }
+    
+    /**
+     * 列表页转换：正文用一条批量查询取回，图片由 @BatchSize 分批加载，避免每行各触发一次懒加载；
+     * fields 未包含的正文、图片、计数不会查询
+     */
+    private List<ArticleDTO> convertToListDTOs(List<Article> articles, FieldSelection fields) {
+        if (articles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ArticleStats> stats = fields.includesAny("viewCount", "likeCount", "shareCount", "uniqueViews")
+                ? articleStatsService.getStats(articles.stream().map(Article::getId).collect(Collectors.toList()))
+                : new HashMap<>();
+        return convertToListDTOs(articles, stats, fields);
+    }
+    
+    private List<ArticleDTO> convertToListDTOs(List<Article> articles, Map<Long, ArticleStats> stats,
+                                               FieldSelection fields) {
+        if (articles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, String> contents = new HashMap<>();
+        if (fields.includes("content")) {
+            List<Long> ids = articles.stream().map(Article::getId).collect(Collectors.toList());
+            for (Object[] row : articleRepository.findContentByIdIn(ids)) {
+                contents.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return articles.stream()
+                .map(article -> {
+                    ArticleDTO dto = convertToSummaryDTO(article, stats.get(article.getId()));
+                    if (fields.includes("content")) {
+                        dto.setContent(contents.get(article.getId()));
+                    }
+                    if (fields.includes("images")) {
+                        dto.setImages(article.getImages() != null ? new ArrayList<>(article.getImages()) : new ArrayList<>());
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 变更前的元数据快照，只包含事件监听方需要的字段
+     */
+    static ArticleDTO snapshot(Article article) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setId(article.getId());
+        dto.setCategoryId(article.getCategoryId());
+        dto.setStatus(article.getStatus());
+        dto.setArticleType(article.getArticleType());
+        dto.setTag(article.getTag());
+        dto.setCreateTime(article.getCreateTime());
+        dto.setUpdateTime(article.getUpdateTime());
+        return dto;
+    }
+    
+    private ArticleDTO convertToDTO(Article article, ArticleStats stats) {
+        return convertToDTO(article, stats, FieldSelection.ALL);
+    }
+    
+    private ArticleDTO convertToDTO(Article article, ArticleStats stats, FieldSelection fields) {
+        ArticleDTO dto = convertToSummaryDTO(article, stats);
+        if (fields.includes("content")) {
+            dto.setContent(article.getContent());
+        }
+        if (fields.includes("images")) {
+            // 复制一份，DTO 会被内存缓冲持有，不能引用与会话绑定的持久化集合
+            dto.setImages(article.getImages() != null ? new ArrayList<>(article.getImages()) : new ArrayList<>());
+        }
+        return dto;
+    }
+    
+    /**
+     * 不含正文和图片的 DTO，不会触发它们的懒加载
+     */
+    static ArticleDTO convertToSummaryDTO(Article article, ArticleStats stats) {
         ArticleDTO dto = new ArticleDTO();
         dto.setId(article.getId());
         dto.setTitle(article.getTitle());
-        dto.setContent(article.getContent());
         dto.setCoverImage(article.getCoverImage());
-        dto.setImages(article.getImages() != null ? article.getImages() : new ArrayList<>());
         // categoryId是只读字段，从category关系或直接字段获取
         Long categoryId = article.getCategoryId();
         if (categoryId == null && article.getCategory() != null) {
             categoryId = article.getCategory().getId();
         }
         dto.setCategoryId(categoryId);
-        if (article.getCategory() != null) {
-            dto.setCategoryName(article.getCategory().getName());
+        // 使用冗余的分类名称，不触发分类的懒加载；分类已删除但名称尚未清理时不返回
+        if (categoryId != null) {
+            dto.setCategoryName(article.getCategoryName());
+        }
+        if (stats != null) {
+            ArticleStatsService.copyCounts(stats, dto);
         }
-        dto.setViewCount(article.getViewCount() != null ? article.getViewCount() : 0);
         dto.setStatus(article.getStatus());
         dto.setArticleType(article.getArticleType());
         dto.setTag(article.getTag());
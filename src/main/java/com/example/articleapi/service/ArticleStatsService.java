@@ -0,0 +1,115 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import com.example.articleapi.repository.ArticleViewRollupRepository;
+import com.example.articleapi.repository.ArticleVisitorSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 文章的浏览、点赞、分享计数。
+ * <p>
+ * 计数存放在以 article_id 为主键的窄表 article_stats 中，自增在数据库中原子完成，
+ * 不会改写 articles 宽行，也不会改变文章的 update_time。读取时按 id 批量查询后合并到 DTO。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleStatsService {
+    
+    private final ArticleStatsRepository articleStatsRepository;
+    private final ArticleVisitorSketchRepository articleVisitorSketchRepository;
+    private final ArticleViewRollupRepository articleViewRollupRepository;
+    
+    /**
+     * 浏览量加一，返回累加后的计数
+     */
+    @Transactional
+    public ArticleStats recordView(Long articleId) {
+        articleStatsRepository.increment(articleId, 1, 0, 0);
+        return getStats(articleId);
+    }
+    
+    /**
+     * 多篇文章的浏览量各加一，只执行一条 UPDATE，返回累加后的计数
+     */
+    @Transactional
+    public Map<Long, ArticleStats> recordViews(Collection<Long> articleIds) {
+        if (!articleIds.isEmpty()) {
+            articleStatsRepository.incrementViews(articleIds);
+        }
+        return getStats(articleIds);
+    }
+    
+    /**
+     * 新文章创建计数行
+     */
+    @Transactional
+    public void create(Long articleId) {
+        articleStatsRepository.increment(articleId, 0, 0, 0);
+    }
+    
+    /**
+     * 删除多篇文章的计数行、访客草图和浏览量汇总，各执行一条 DELETE
+     */
+    @Transactional
+    public void delete(Collection<Long> articleIds) {
+        if (!articleIds.isEmpty()) {
+            // 与 UniqueVisitorService 写入时的加锁顺序一致：先草图行，后计数行
+            articleVisitorSketchRepository.deleteByArticleIdIn(articleIds);
+            articleViewRollupRepository.deleteByArticleIdIn(articleIds);
+            articleStatsRepository.deleteByArticleIdIn(articleIds);
+        }
+    }
+    
+    public ArticleStats getStats(Long articleId) {
+        return articleStatsRepository.findById(articleId).orElseGet(() -> new ArticleStats(articleId));
+    }
+    
+    /**
+     * 一次查询取回多篇文章的计数，没有计数行的文章按 0 处理
+     */
+    public Map<Long, ArticleStats> getStats(Collection<Long> articleIds) {
+        Map<Long, ArticleStats> stats = new HashMap<>();
+        for (ArticleStats row : articleStatsRepository.findAllById(articleIds)) {
+            stats.put(row.getArticleId(), row);
+        }
+        for (Long articleId : articleIds) {
+            stats.computeIfAbsent(articleId, ArticleStats::new);
+        }
+        return stats;
+    }
+    
+    /**
+     * 把计数合并到 DTO
+     */
+    public static void copyCounts(ArticleStats stats, ArticleDTO dto) {
+        dto.setViewCount(stats.getViewCount());
+        dto.setLikeCount(stats.getLikeCount());
+        dto.setShareCount(stats.getShareCount());
+        dto.setUniqueViews(stats.getUniqueViews());
+    }
+    
+    /**
+     * 启动时为历史文章补建计数行，已全部存在时只执行一次空插入
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int inserted = articleStatsRepository.insertMissing();
+        if (inserted > 0) {
+            log.info("已为 {} 篇文章补建计数行", inserted);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleSummaryDTO;
+import com.example.articleapi.dto.ChangeDTO;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 新发布文章的 SSE 推送。
+ * <p>
+ * 事件来自回放的变更日志（ChangesReplayedEvent），本节点和其他节点的写操作都从这里得知：
+ * 让文章变为已发布的变更记录带有 published 标记，事件 id 为该记录的 seq。seq 全局有序，
+ * 各节点发出的事件及其 id 相同，客户端重连到任一节点都可以按 Last-Event-ID 补发，
+ * 代价是推送最多延迟一个回放间隔。
+ * <p>
+ * 摘要只序列化一次，同一份字节分发给所有匹配的订阅方。每个连接有一个有界发送队列，
+ * 由共享线程池发送；队列写满说明客户端跟不上，直接断开。servlet 的写是阻塞的，
+ * 单次发送超过 send-timeout 的连接由心跳任务断开，并为发送线程池临时补一个线程，
+ * 卡住的线程在容器的写超时后返回，不会占满发送线程。
+ */
+@Slf4j
+@Service
+public class ArticleStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final ArticleRepository articleRepository;
+    private final Executor sender;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int bufferSize;
+    private final int replaySize;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Deque<Frame> replay = new ArrayDeque<>();
+
+    @Autowired
+    public ArticleStreamService(ObjectMapper objectMapper,
+                                ArticleRepository articleRepository,
+                                @Value("${article.stream.timeout:PT30M}") Duration timeout,
+                                @Value("${article.stream.send-timeout:PT10S}") Duration sendTimeout,
+                                @Value("${article.stream.buffer-size:256}") int bufferSize,
+                                @Value("${article.stream.replay-size:1000}") int replaySize,
+                                @Value("${article.stream.send-threads:4}") int sendThreads) {
+        this(objectMapper, articleRepository, newSender(sendThreads), timeout, sendTimeout, bufferSize, replaySize);
+    }
+
+    ArticleStreamService(ObjectMapper objectMapper, ArticleRepository articleRepository, Executor sender,
+                         Duration timeout, Duration sendTimeout, int bufferSize, int replaySize) {
+        this.objectMapper = objectMapper;
+        this.articleRepository = articleRepository;
+        this.sender = sender;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+    }
+
+    private static ExecutorService newSender(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "article-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 建立订阅，lastEventId 不为空时先补发其后仍保留在内存中的事件
+     */
+    public SseEmitter subscribe(Long categoryId, String articleType, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(emitter, categoryId, articleType, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, Long categoryId, String articleType, String lastEventId) {
+        long resumeAfter = parseEventId(lastEventId);
+        // 补发与加入订阅列表在同一把锁内完成，期间发布的事件既不会丢也不会重复
+        synchronized (replay) {
+            List<Frame> missed = new ArrayList<>();
+            if (resumeAfter >= 0) {
+                for (Frame frame : replay) {
+                    if (frame.id() > resumeAfter && matches(frame, categoryId, articleType)) {
+                        missed.add(frame);
+                    }
+                }
+            }
+            // 补发的事件不占用实时事件的缓冲额度
+            Subscriber subscriber = new Subscriber(emitter, categoryId, articleType, bufferSize + missed.size());
+            emitter.onCompletion(() -> subscribers.remove(subscriber));
+            emitter.onTimeout(() -> subscribers.remove(subscriber));
+            emitter.onError(error -> subscribers.remove(subscriber));
+            subscribers.add(subscriber);
+            for (Frame frame : missed) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    /**
+     * 推送本轮回放中变为已发布、且现在仍是已发布的文章，按 seq 顺序发出
+     */
+    @EventListener
+    public void onChangesReplayed(ChangesReplayedEvent event) {
+        // 同一篇文章在一轮中多次变为已发布时以最后一次为准
+        Map<Long, Long> publishedAt = new LinkedHashMap<>();
+        for (ChangeDTO change : event.getChanges()) {
+            if (change.isPublished()) {
+                publishedAt.remove(change.getEntityId());
+                publishedAt.put(change.getEntityId(), change.getSeq());
+            }
+        }
+        if (publishedAt.isEmpty()) {
+            return;
+        }
+        Map<Long, Article> articles = articleRepository.findAllById(publishedAt.keySet()).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        publishedAt.forEach((articleId, seq) -> {
+            Article article = articles.get(articleId);
+            if (article != null && "PUBLISHED".equals(article.getStatus())) {
+                publish(seq, convertToSummary(article));
+            }
+        });
+    }
+
+    private void publish(long seq, ArticleSummaryDTO summary) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            log.warn("文章 {} 推送事件序列化失败", summary.getId(), e);
+            return;
+        }
+        synchronized (replay) {
+            Frame frame = new Frame(seq, summary.getCategoryId(), summary.getArticleType(),
+                    SseEmitter.event().id(String.valueOf(seq)).name("article").data(json).build());
+            replay.addLast(frame);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.matches(frame)) {
+                    enqueue(subscriber, frame);
+                }
+            }
+        }
+    }
+
+    /**
+     * 定期发送注释行，及时发现已断开的连接；同时断开单次发送超过 send-timeout 的连接
+     */
+    @Scheduled(fixedDelayString = "${article.stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Frame ping = new Frame(0, null, null, SseEmitter.event().comment("ping").build());
+        for (Subscriber subscriber : subscribers) {
+            if (stalled(subscriber, now)) {
+                log.info("推送连接写入超过 {} ms 未完成，断开该连接", TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.completeWithError(new IllegalStateException("推送连接写入超时"));
+            } else {
+                enqueue(subscriber, ping);
+            }
+        }
+    }
+
+    /**
+     * 发送是否已卡住；卡住的发送仍占着一个发送线程，为线程池临时加一个线程，发送返回后收回
+     */
+    private boolean stalled(Subscriber subscriber, long now) {
+        synchronized (subscriber) {
+            if (subscriber.closed || subscriber.sendStarted == 0 || now - subscriber.sendStarted < sendTimeoutNanos) {
+                return false;
+            }
+            subscriber.stalled = true;
+            subscriber.closed = true;
+            resizeSender(1);
+            return true;
+        }
+    }
+
+    private void resizeSender(int delta) {
+        if (!(sender instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        synchronized (pool) {
+            // 最大线程数不能小于核心线程数，扩大时先调最大值，缩小时先调核心值
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 放入连接的发送队列，队列已满时断开该连接并返回 false
+     */
+    private boolean enqueue(Subscriber subscriber, Frame frame) {
+        if (!subscriber.queue.offer(frame)) {
+            log.info("推送连接发送队列已满，断开慢速客户端");
+            close(subscriber);
+            return false;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Frame frame;
+                while ((frame = subscriber.queue.poll()) != null) {
+                    if (subscriber.closed) {
+                        return;
+                    }
+                    send(subscriber, frame);
+                }
+                subscriber.sending.set(false);
+                // 释放标记后若又有新事件入队且没有其他线程接手，继续发送
+            } while (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true));
+        } catch (Exception e) {
+            // 客户端已断开，容器会结束该异步请求
+            subscribers.remove(subscriber);
+            subscriber.closed = true;
+        }
+    }
+
+    private void send(Subscriber subscriber, Frame frame) throws IOException {
+        subscriber.sendStarted = System.nanoTime();
+        try {
+            subscriber.emitter.send(frame.payload);
+        } finally {
+            synchronized (subscriber) {
+                subscriber.sendStarted = 0;
+                if (subscriber.stalled) {
+                    subscriber.stalled = false;
+                    resizeSender(-1);
+                }
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        subscriber.emitter.complete();
+    }
+
+    private static boolean matches(Frame frame, Long categoryId, String articleType) {
+        return (categoryId == null || categoryId.equals(frame.categoryId()))
+                && (articleType == null || Objects.equals(articleType, frame.articleType()));
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private ArticleSummaryDTO convertToSummary(Article article) {
+        ArticleSummaryDTO summary = new ArticleSummaryDTO();
+        summary.setId(article.getId());
+        summary.setTitle(article.getTitle());
+        summary.setCoverImage(article.getCoverImage());
+        summary.setCategoryId(article.getCategoryId());
+        summary.setCategoryName(article.getCategoryName());
+        summary.setArticleType(article.getArticleType());
+        summary.setTag(article.getTag());
+        summary.setCreateTime(article.getCreateTime());
+        return summary;
+    }
+
+    /**
+     * 一个已序列化好的事件，所有订阅方共享同一份数据
+     */
+    private record Frame(long id, Long categoryId, String articleType, Set<DataWithMediaType> payload) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long categoryId;
+        private final String articleType;
+        private final BlockingQueue<Frame> queue;
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+        // 当前发送开始的 System.nanoTime()，没有在发送时为 0；stalled 由心跳任务在发送超时后设置
+        private volatile long sendStarted = 0;
+        private boolean stalled = false;
+
+        Subscriber(SseEmitter emitter, Long categoryId, String articleType, int bufferSize) {
+            this.emitter = emitter;
+            this.categoryId = categoryId;
+            this.articleType = articleType;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean matches(Frame frame) {
+            return ArticleStreamService.matches(frame, categoryId, articleType);
+        }
+    }
+}
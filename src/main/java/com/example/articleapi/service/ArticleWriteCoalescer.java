@@ -0,0 +1,198 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 文章写入的组提交：把短时间内并发到达的创建、修改请求合并到一个事务中提交，
+ * 提交次数（及 fsync 次数）随批次摊薄，吞吐随并发增长。
+ * <p>
+ * 请求放入队列后由单个提交线程取出：取到第一个请求后最多再等待 window，或凑满 max-batch 个，
+ * 然后在一个事务中依次调用 ArticleService，图片、计数行等语句由 Hibernate 在提交时批量发送；
+ * 每个请求的结果和异常分别返回给各自的调用方，事件在事务提交后照常发布。
+ * <p>
+ * 某一项抛出异常时整个事务回滚（ArticleService 的事务方法会把共享事务标记为只能回滚，
+ * Hibernate 会话在失败后也不能继续使用，因此不用保存点），该项单独重试一次得到它自己的结果，
+ * 其余请求重新合并提交；提交阶段才失败、无法确定是哪一项时，全部请求逐个单独执行。
+ */
+@Slf4j
+@Service
+public class ArticleWriteCoalescer {
+
+    private final ArticleService articleService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread committer;
+
+    public ArticleWriteCoalescer(ArticleService articleService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${article.write-coalescing.enabled:false}") boolean enabled,
+                                 @Value("${article.write-coalescing.max-batch:32}") int maxBatch,
+                                 @Value("${article.write-coalescing.window:PT0.002S}") Duration window) {
+        this.articleService = articleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.windowNanos = window.toNanos();
+        if (enabled) {
+            committer = new Thread(this::run, "article-write-coalescer");
+            committer.setDaemon(true);
+            committer.start();
+        } else {
+            committer = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ArticleDTO createArticle(ArticleDTO articleDTO) {
+        return submit(service -> service.createArticle(articleDTO));
+    }
+
+    public ArticleDTO updateArticle(Long id, ArticleDTO articleDTO) {
+        return submit(service -> service.updateArticle(id, articleDTO));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (committer != null) {
+            committer.interrupt();
+        }
+    }
+
+    private ArticleDTO submit(Function<ArticleService, ArticleDTO> operation) {
+        if (!enabled) {
+            return operation.apply(articleService);
+        }
+        PendingWrite write = new PendingWrite(operation);
+        queue.add(write);
+        try {
+            return write.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("等待文章写入结果时被中断", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("文章写入失败", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatch);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("文章合并写入失败", e);
+            } finally {
+                // 已完成的结果不受影响，只保证调用方不会一直等待
+                for (PendingWrite write : batch) {
+                    write.result.completeExceptionally(new IllegalStateException("文章写入未完成"));
+                }
+                batch.clear();
+            }
+        }
+        queue.forEach(write -> write.result.completeExceptionally(new IllegalStateException("服务正在关闭")));
+    }
+
+    /**
+     * 在一个事务中提交整批请求，失败的项单独执行，其余的重新合并提交
+     */
+    void commit(List<PendingWrite> batch) {
+        List<PendingWrite> remaining = new ArrayList<>(batch);
+        while (remaining.size() > 1) {
+            List<ArticleDTO> results;
+            try {
+                results = transactionTemplate.execute(status -> {
+                    List<ArticleDTO> done = new ArrayList<>(remaining.size());
+                    for (int i = 0; i < remaining.size(); i++) {
+                        try {
+                            done.add(remaining.get(i).operation.apply(articleService));
+                        } catch (RuntimeException e) {
+                            throw new ItemFailure(i, e);
+                        }
+                    }
+                    return done;
+                });
+            } catch (ItemFailure failure) {
+                runAlone(remaining.remove(failure.index));
+                continue;
+            } catch (RuntimeException e) {
+                log.warn("合并提交 {} 个文章写入失败，改为逐个提交: {}", remaining.size(), e.getMessage());
+                remaining.forEach(this::runAlone);
+                return;
+            }
+            for (int i = 0; i < remaining.size(); i++) {
+                remaining.get(i).result.complete(results.get(i));
+            }
+            return;
+        }
+        remaining.forEach(this::runAlone);
+    }
+
+    /**
+     * 单独执行一个请求，使用 ArticleService 自己的事务
+     */
+    private void runAlone(PendingWrite write) {
+        try {
+            write.result.complete(write.operation.apply(articleService));
+        } catch (RuntimeException e) {
+            write.result.completeExceptionally(e);
+        }
+    }
+
+    static final class PendingWrite {
+        private final Function<ArticleService, ArticleDTO> operation;
+        private final CompletableFuture<ArticleDTO> result = new CompletableFuture<>();
+
+        PendingWrite(Function<ArticleService, ArticleDTO> operation) {
+            this.operation = operation;
+        }
+
+        CompletableFuture<ArticleDTO> getResult() {
+            return result;
+        }
+    }
+
+    private static final class ItemFailure extends RuntimeException {
+        private final int index;
+
+        private ItemFailure(int index, RuntimeException cause) {
+            super(cause.getMessage(), cause, false, false);
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleDeleteResultDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 批量删除文章和删除分类。
+ * <p>
+ * 文章按块删除，每块一个短事务：只读取元数据，先用一条语句删除这一块的图片行，再删除文章行和计数行，
+ * 不加载实体，也不逐行删除图片集合；已归档的文章在归档表中同样处理。每篇文章仍发布 DELETED 事件，
+ * 内存结构和变更日志与单篇删除一致。
+ * <p>
+ * 按条件删除和文章较多的分类删除在后台线程中执行，进度通过 JobService 查询。分类删除先分块把文章的
+ * category_id 置空，最后删除分类行，不再由外键的 ON DELETE SET NULL 在一个事务中更新该分类的全部文章。
+ * 解除关联的每篇文章发布 UPDATED 事件，变更日志和各内存结构与单篇修改分类一致。
+ */
+@Service
+public class BulkDeleteService {
+
+    /** 按 id 删除时一次请求最多的 id 数 */
+    private static final int MAX_IDS = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final CategoryRepository categoryRepository;
+    private final ArticleStatsService articleStatsService;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int chunkSize;
+
+    /** 正在执行的分类删除任务，重复请求返回同一个任务 */
+    private final Map<Long, JobService.Job> categoryJobs = new ConcurrentHashMap<>();
+
+    public BulkDeleteService(ArticleRepository articleRepository,
+                             ArchivedArticleRepository archivedArticleRepository,
+                             CategoryRepository categoryRepository,
+                             ArticleStatsService articleStatsService,
+                             JobService jobService,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") Executor executor,
+                             @Value("${article.bulk-delete.chunk-size:500}") int chunkSize) {
+        this.articleRepository = articleRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.categoryRepository = categoryRepository;
+        this.articleStatsService = articleStatsService;
+        this.jobService = jobService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 按 id 删除文章（包括已归档的文章），在调用线程中分块执行
+     */
+    public ArticleDeleteResultDTO deleteArticles(List<Long> ids) {
+        List<Long> requested = ids == null ? List.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (requested.isEmpty()) {
+            throw new ValidationException("请指定要删除的文章 id");
+        }
+        if (requested.size() > MAX_IDS) {
+            throw new ValidationException("一次最多删除 " + MAX_IDS + " 篇文章");
+        }
+        Set<Long> deleted = new HashSet<>();
+        for (int from = 0; from < requested.size(); from += chunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + chunkSize, requested.size()));
+            deleted.addAll(transactionTemplate.execute(status -> deleteChunk(chunk)));
+        }
+        List<Long> missingIds = requested.stream()
+                .filter(id -> !deleted.contains(id))
+                .collect(Collectors.toList());
+        return new ArticleDeleteResultDTO(deleted.size(), missingIds);
+    }
+
+    /**
+     * 按筛选条件删除文章，至少需要一个条件。status 为空或 ARCHIVED 时也删除归档表中满足其余条件的文章。
+     * 任务在后台执行，立即返回任务信息
+     */
+    public JobDTO deleteArticles(ArticleListRequest filters) {
+        String status = filters.getStatus();
+        Long categoryId = filters.getCategoryId();
+        String articleType = filters.getArticleType();
+        String tag = filters.getTag();
+        if (status == null && categoryId == null && articleType == null && tag == null) {
+            throw new ValidationException("按条件删除文章至少需要一个筛选条件");
+        }
+        boolean includeArchived = status == null || "ARCHIVED".equals(status);
+        long total = articleRepository.countByFilters(status, categoryId, articleType, tag)
+                + (includeArchived ? archivedArticleRepository.countByFilters(categoryId, articleType, tag) : 0);
+        JobService.Job job = jobService.start("ARTICLE_BULK_DELETE", "按条件删除文章 " + describe(filters), total);
+        executor.execute(() -> {
+            try {
+                deleteMatching(job, pageable -> articleRepository.findMetadataByFilters(
+                        status, categoryId, articleType, tag, pageable), false);
+                if (includeArchived) {
+                    deleteMatching(job, pageable -> archivedArticleRepository.findMetadataByFilters(
+                            categoryId, articleType, tag, pageable), true);
+                }
+                job.complete();
+            } catch (Exception e) {
+                job.fail(e);
+            }
+        });
+        return job.toDTO();
+    }
+
+    /**
+     * 删除分类。分类下的文章（含归档表中的文章）不超过一块时在当前事务中完成并返回 null；
+     * 否则在后台分块解除文章关联后再删除分类行，返回任务信息，同一分类重复请求返回正在执行的任务
+     */
+    public synchronized JobDTO deleteCategory(Long categoryId) {
+        JobService.Job running = categoryJobs.get(categoryId);
+        if (running != null) {
+            return running.toDTO();
+        }
+        long total = articleRepository.countByCategoryId(categoryId)
+                + archivedArticleRepository.countByCategoryId(categoryId);
+        if (total <= chunkSize) {
+            transactionTemplate.executeWithoutResult(status -> removeCategory(categoryId));
+            return null;
+        }
+        JobService.Job job = jobService.start("CATEGORY_DELETE", "删除分类 " + categoryId + " 并解除文章关联", total);
+        categoryJobs.put(categoryId, job);
+        executor.execute(() -> {
+            try {
+                int detached;
+                do {
+                    detached = transactionTemplate.execute(status -> detachChunk(categoryId));
+                    job.progress(detached);
+                } while (detached >= chunkSize);
+                do {
+                    detached = transactionTemplate.execute(status -> detachArchivedChunk(categoryId));
+                    job.progress(detached);
+                } while (detached >= chunkSize);
+                transactionTemplate.executeWithoutResult(status -> removeCategory(categoryId));
+                job.complete();
+            } catch (Exception e) {
+                job.fail(e);
+            } finally {
+                categoryJobs.remove(categoryId);
+            }
+        });
+        return job.toDTO();
+    }
+
+    /**
+     * 解除剩余文章（后台任务期间新归入的文章）与分类的关联并删除分类行
+     */
+    private void removeCategory(Long categoryId) {
+        int detached;
+        do {
+            detached = detachChunk(categoryId);
+        } while (detached >= chunkSize);
+        do {
+            detached = detachArchivedChunk(categoryId);
+        } while (detached >= chunkSize);
+        categoryRepository.deleteById(categoryId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.DELETED, categoryId, null, null));
+    }
+
+    /**
+     * 解除分类下一块文章的关联，返回本块文章数。事件中的 after 不含正文和图片（二者未变），
+     * 事务提交后各监听方按分类被置空处理
+     */
+    private int detachChunk(Long categoryId) {
+        List<Article> articles = articleRepository.findByCategoryIdForUpdate(categoryId, PageRequest.of(0, chunkSize));
+        if (articles.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = articles.stream().map(Article::getId).collect(Collectors.toList());
+        Map<Long, ArticleStats> stats = articleStatsService.getStats(ids);
+        List<ArticleChangedEvent> events = new ArrayList<>();
+        for (Article article : articles) {
+            ArticleDTO after = ArticleService.convertToSummaryDTO(article, stats.get(article.getId()));
+            after.setCategoryId(null);
+            after.setCategoryName(null);
+            events.add(new ArticleChangedEvent(ChangeType.UPDATED, article.getId(),
+                    ArticleService.snapshot(article), after, true));
+        }
+        articleRepository.detachCategory(ids);
+        events.forEach(eventPublisher::publishEvent);
+        return ids.size();
+    }
+
+    /**
+     * 解除分类下一块归档文章的关联，返回本块文章数。归档文章不在内存缓冲和索引中，不发布事件
+     */
+    private int detachArchivedChunk(Long categoryId) {
+        List<Long> ids = archivedArticleRepository.findIdsByCategoryId(categoryId, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedArticleRepository.detachCategory(ids);
+        return ids.size();
+    }
+
+    private void deleteMatching(JobService.Job job, Function<Pageable, List<Object[]>> finder, boolean archived) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                    status -> deleteRows(finder.apply(PageRequest.of(0, chunkSize)), archived).size());
+            job.progress(deleted);
+        } while (deleted >= chunkSize);
+    }
+
+    private List<Long> deleteChunk(List<Long> ids) {
+        List<Long> deleted = new ArrayList<>(deleteRows(articleRepository.findMetadataByIdIn(ids), false));
+        if (deleted.size() < ids.size()) {
+            List<Long> rest = ids.stream()
+                    .filter(id -> !deleted.contains(id))
+                    .collect(Collectors.toList());
+            deleted.addAll(deleteRows(archivedArticleRepository.findMetadataByIdIn(rest), true));
+        }
+        return deleted;
+    }
+
+    /**
+     * 删除一块文章的图片行、文章行和计数行，事务提交后各监听方按 DELETED 事件更新
+     */
+    private List<Long> deleteRows(List<Object[]> rows, boolean archived) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+        if (archived) {
+            archivedArticleRepository.deleteImagesByArticleIdIn(ids);
+            archivedArticleRepository.deleteRowsByIdIn(ids);
+        } else {
+            articleRepository.deleteImagesByArticleIdIn(ids);
+            articleRepository.deleteRowsByIdIn(ids);
+        }
+        articleStatsService.delete(ids);
+        for (Object[] row : rows) {
+            ArticleDTO before = new ArticleDTO();
+            before.setId((Long) row[0]);
+            before.setCategoryId((Long) row[1]);
+            before.setStatus((String) row[2]);
+            before.setArticleType((String) row[3]);
+            before.setTag((String) row[4]);
+            before.setCreateTime((LocalDateTime) row[5]);
+            before.setUpdateTime((LocalDateTime) row[6]);
+            eventPublisher.publishEvent(new ArticleChangedEvent(ChangeType.DELETED, before.getId(), before, null));
+        }
+        return ids;
+    }
+
+    private static String describe(ArticleListRequest filters) {
+        StringJoiner joiner = new StringJoiner(", ");
+        if (filters.getStatus() != null) {
+            joiner.add("status=" + filters.getStatus());
+        }
+        if (filters.getCategoryId() != null) {
+            joiner.add("categoryId=" + filters.getCategoryId());
+        }
+        if (filters.getArticleType() != null) {
+            joiner.add("articleType=" + filters.getArticleType());
+        }
+        if (filters.getTag() != null) {
+            joiner.add("tag=" + filters.getTag());
+        }
+        return joiner.toString();
+    }
+}
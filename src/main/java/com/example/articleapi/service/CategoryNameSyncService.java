@@ -0,0 +1,78 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 维护 articles.category_name 冗余列。
+ * <p>
+ * 分类改名或删除提交后，在后台线程中按 id 顺序分块执行 UPDATE，每块一个独立的短事务，进度通过 JobService 查询。
+ * 每块都以分类表的当前名称为准，因此连续多次改名时无论任务执行顺序如何都会收敛到最新名称。
+ * 历史数据的补齐由 Flyway 迁移 V6 执行一次，启动时不再检查。
+ */
+@Slf4j
+@Service
+public class CategoryNameSyncService {
+
+    private final ArticleRepository articleRepository;
+    private final JobService jobService;
+    private final int chunkSize;
+
+    public CategoryNameSyncService(ArticleRepository articleRepository,
+                                   JobService jobService,
+                                   @Value("${article.category-sync.chunk-size:1000}") int chunkSize) {
+        this.articleRepository = articleRepository;
+        this.jobService = jobService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getType() == CategoryChangedEvent.ChangeType.UPDATED
+                && !Objects.equals(event.getBefore().getName(), event.getAfter().getName())) {
+            Long categoryId = event.getCategoryId();
+            run("CATEGORY_RENAME", "同步分类 " + categoryId + " 的新名称到文章",
+                    articleRepository.countByCategoryId(categoryId),
+                    (afterId, limit) -> articleRepository.findIdsByCategoryIdAfter(categoryId, afterId, limit),
+                    ids -> articleRepository.syncCategoryName(categoryId, ids));
+        } else if (event.getType() == CategoryChangedEvent.ChangeType.DELETED) {
+            run("CATEGORY_NAME_CLEAR", "清除已删除分类 " + event.getCategoryId() + " 的文章分类名称", -1,
+                    articleRepository::findOrphanCategoryNameIds,
+                    articleRepository::clearOrphanCategoryNames);
+        }
+    }
+
+    /**
+     * 每块先按索引读取 afterId 之后的一批 id，再按 id 更新；下一块从本块最大的 id 之后继续
+     */
+    private void run(String type, String description, long total,
+                     BiFunction<Long, Integer, List<Long>> nextIds, Consumer<List<Long>> update) {
+        JobService.Job job = jobService.start(type, description, total);
+        try {
+            long afterId = 0;
+            List<Long> ids;
+            do {
+                ids = nextIds.apply(afterId, chunkSize);
+                if (!ids.isEmpty()) {
+                    update.accept(ids);
+                    afterId = ids.get(ids.size() - 1);
+                }
+                job.progress(ids.size());
+            } while (ids.size() >= chunkSize);
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e);
+        }
+    }
+}
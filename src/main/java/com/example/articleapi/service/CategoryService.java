@@ -1,11 +1,16 @@
 package com.example.articleapi.service;
 
 import com.example.articleapi.dto.CategoryDTO;
+import com.example.articleapi.dto.FieldSelection;
+import com.example.articleapi.dto.JobDTO;
 import com.example.articleapi.entity.Category;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent.ChangeType;
 import com.example.articleapi.exception.ResourceNotFoundException;
 import com.example.articleapi.exception.ValidationException;
 import com.example.articleapi.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +22,18 @@ import java.util.stream.Collectors;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkDeleteService bulkDeleteService;
     
     public List<CategoryDTO> getAllCategories() {
+        return getAllCategories(null);
+    }
+    
+    /**
+     * 分类行很窄，fields 只校验字段名，响应中的裁剪由 FieldSelectionResponseBodyAdvice 完成
+     */
+    public List<CategoryDTO> getAllCategories(String fields) {
+        FieldSelection.parse(fields, CategoryDTO.class);
         return categoryRepository.findAll().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -40,7 +55,9 @@ public class CategoryService {
         }
         Category category = convertToEntity(categoryDTO);
         Category saved = categoryRepository.save(category);
-        return convertToDTO(saved);
+        CategoryDTO result = convertToDTO(saved);
+        eventPublisher.publishEvent(new CategoryChangedEvent(ChangeType.CREATED, saved.getId(), null, result));
+        return result;
     }
     
     @Transactional
@@ -57,18 +74,23 @@ public class CategoryService {
             throw new ValidationException("分类名称已存在");
         }
         
+        CategoryDTO before = convertToDTO(category);
         category.setName(categoryDTO.getName());
         category.setDescription(categoryDTO.getDescription());
         Category updated = categoryRepository.save(category);
-        return convertToDTO(updated);
+        CategoryDTO result = convertToDTO(updated);
+        eventPublisher.publishEvent(new CategoryChangedEvent(ChangeType.UPDATED, id, before, result));
+        return result;
     }
     
-    @Transactional
-    public void deleteCategory(Long id) {
+    /**
+     * 分类下文章较多时在后台分块解除关联后删除，返回任务信息；否则直接删除并返回 null
+     */
+    public JobDTO deleteCategory(Long id) {
         if (!categoryRepository.existsById(id)) {
             throw new ResourceNotFoundException("分类不存在");
         }
-        categoryRepository.deleteById(id);
+        return bulkDeleteService.deleteCategory(id);
     }
     
     private CategoryDTO convertToDTO(Category category) {
@@ -0,0 +1,202 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ChangeDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.entity.ChangeLogEntry;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ChangeLogRepository;
+import com.example.articleapi.repository.ChangeLogVisibilityRepository.ActiveTransactions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 供下游增量同步的变更日志。
+ * <p>
+ * 监听器是同步的，日志行与触发它的文章/分类写操作在同一事务中插入，一起提交或回滚。
+ * seq 由自增主键分配，分配顺序与提交顺序可能不同：seq 之间的空洞可能属于尚未提交的事务。
+ * 持有空洞的事务在空洞之后的记录写入前就已开始，所以读取前查询 innodb_trx，
+ * 只有该记录写入时仍在运行的事务都已结束，才越过空洞，否则本次只返回到空洞之前。
+ * 查询不到 innodb_trx 时退回按 gap-wait 等待，超过 gap-wait 才提交的事务会被越过。
+ * <p>
+ * 早于 retention 的记录由定时任务分块删除，令牌指向已删除的记录时要求消费方重新全量同步。
+ */
+@Slf4j
+@Service
+public class ChangeLogService {
+
+    private static final int MAX_LIMIT = 1000;
+    private static final int PURGE_CHUNK = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Duration gapWait;
+    private final Duration clockTolerance;
+    private final Duration retention;
+    private final AtomicBoolean fallbackLogged = new AtomicBoolean();
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository,
+                            @Value("${article.changes.gap-wait:PT1M}") Duration gapWait,
+                            @Value("${article.changes.clock-tolerance:PT2S}") Duration clockTolerance,
+                            @Value("${article.changes.retention:P7D}") Duration retention) {
+        this.changeLogRepository = changeLogRepository;
+        this.gapWait = gapWait;
+        this.clockTolerance = clockTolerance;
+        this.retention = retention;
+    }
+
+    @EventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        record("ARTICLE", event.getArticleId(), event.getType().name(), event.isPublished() && !event.wasPublished());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        record("CATEGORY", event.getCategoryId(), event.getType().name(), false);
+    }
+
+    private void record(String entityType, Long entityId, String changeType, boolean published) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setEntityType(entityType);
+        entry.setEntityId(entityId);
+        entry.setChangeType(changeType);
+        entry.setPublished(published);
+        changeLogRepository.save(entry);
+    }
+
+    /**
+     * 返回 since 之后按提交顺序排列的变更，since 为空表示从头开始
+     */
+    public ChangeFeedDTO getChanges(String since, Integer limit) {
+        long position = parseToken(since);
+        int size = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : 100;
+        if (position > 0) {
+            checkRetained(position);
+        }
+
+        // 先查询活动事务再读取变更，读取时仍未提交的事务一定在查询结果中
+        LocalDateTime now = LocalDateTime.now();
+        ActiveTransactions active = findActiveTransactions();
+        List<ChangeLogEntry> entries = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(
+                position, PageRequest.of(0, size + 1));
+        List<ChangeDTO> changes = new ArrayList<>();
+        boolean hasMore = entries.size() > size;
+        for (ChangeLogEntry entry : entries) {
+            if (changes.size() == size) {
+                break;
+            }
+            // 从头拉取时最早的记录之前可能是已清理的记录，不当作空洞
+            if (position > 0 && entry.getSeq() != position + 1 && !gapSettled(entry, now, active)) {
+                hasMore = true;
+                break;
+            }
+            changes.add(convertToDTO(entry));
+            position = entry.getSeq();
+        }
+        return new ChangeFeedDTO(changes, String.valueOf(position), hasMore);
+    }
+
+    /**
+     * 空洞之后的记录 entry 写入时仍在运行的事务是否都已结束。change_time 和 trx_started 只精确到秒，
+     * 应用与数据库的时钟按查询时的差值换算，再留出 clock-tolerance 的余量
+     */
+    private boolean gapSettled(ChangeLogEntry entry, LocalDateTime now, ActiveTransactions active) {
+        if (active == null) {
+            return entry.getChangeTime().isBefore(now.minus(gapWait));
+        }
+        LocalDateTime written = entry.getChangeTime().plus(Duration.between(now, active.now()));
+        LocalDateTime oldest = active.oldestStarted() != null ? active.oldestStarted() : active.now();
+        return written.plus(clockTolerance).isBefore(oldest);
+    }
+
+    private ActiveTransactions findActiveTransactions() {
+        try {
+            return changeLogRepository.findActiveTransactions();
+        } catch (DataAccessException e) {
+            if (fallbackLogged.compareAndSet(false, true)) {
+                log.warn("无法查询 innodb_trx，变更序号空洞改为等待 {} 后越过: {}", gapWait, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 令牌之后的记录已被清理时拒绝，避免消费方悄悄漏掉变更
+     */
+    private void checkRetained(long position) {
+        changeLogRepository.findFirstByOrderBySeqAsc()
+                .filter(oldest -> position < oldest.getSeq() - 1)
+                .ifPresent(oldest -> {
+                    throw new ValidationException("同步令牌之后的变更记录已被清理，请重新全量同步");
+                });
+    }
+
+    /**
+     * 按 seq 从旧到新分块删除早于 retention 的记录，遇到未过期的记录即停止；retention 为 0 时不清理
+     */
+    @Scheduled(fixedDelayString = "${article.changes.purge-interval:PT1H}",
+               initialDelayString = "${article.changes.purge-interval:PT1H}")
+    public void purge() {
+        if (retention.isZero() || retention.isNegative()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long purged = 0;
+        int expired;
+        do {
+            expired = 0;
+            Long upTo = null;
+            for (ChangeLogEntry entry : changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(
+                    0L, PageRequest.of(0, PURGE_CHUNK))) {
+                if (!entry.getChangeTime().isBefore(cutoff)) {
+                    break;
+                }
+                upTo = entry.getSeq();
+                expired++;
+            }
+            if (upTo != null) {
+                purged += changeLogRepository.deleteUpTo(upTo);
+            }
+        } while (expired == PURGE_CHUNK);
+        if (purged > 0) {
+            log.info("清理了 {} 条早于 {} 的变更记录", purged, cutoff);
+        }
+    }
+
+    private static long parseToken(String since) {
+        if (since == null || since.isEmpty()) {
+            return 0;
+        }
+        try {
+            long position = Long.parseLong(since);
+            if (position < 0) {
+                throw new ValidationException("无效的同步令牌: " + since);
+            }
+            return position;
+        } catch (NumberFormatException e) {
+            throw new ValidationException("无效的同步令牌: " + since);
+        }
+    }
+
+    private ChangeDTO convertToDTO(ChangeLogEntry entry) {
+        ChangeDTO dto = new ChangeDTO();
+        dto.setEntityType(entry.getEntityType());
+        dto.setEntityId(entry.getEntityId());
+        dto.setChangeType(entry.getChangeType());
+        dto.setChangeTime(entry.getChangeTime());
+        dto.setSeq(entry.getSeq());
+        dto.setPublished(entry.isPublished());
+        return dto;
+    }
+}
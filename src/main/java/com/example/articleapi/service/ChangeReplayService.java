@@ -0,0 +1,142 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ChangeDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.entity.ChangeLogEntry;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 回放变更日志，让各节点的内存缓冲和索引跟上其他节点提交的写操作。
+ * <p>
+ * 本节点的写操作通过事务提交后的事件即时生效，其他节点的写操作只能从 change_log 得知：
+ * 定时按 seq 拉取新记录（与 /articles/changes 相同的空洞规则），读取涉及文章的当前元数据，
+ * 发布 ChangesReplayedEvent。起点在启动加载之前取得，加载期间提交的变更在就绪后回放。
+ * 本节点自己的写操作也会被回放一次，结果与已应用的相同。
+ */
+@Slf4j
+@Service
+public class ChangeReplayService {
+
+    private static final int REPLAY_CHUNK = 500;
+
+    private final ChangeLogService changeLogService;
+    private final ChangeLogRepository changeLogRepository;
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+
+    private volatile long position = -1;
+    private volatile boolean replaying = false;
+
+    public ChangeReplayService(ChangeLogService changeLogService,
+                               ChangeLogRepository changeLogRepository,
+                               ArticleRepository articleRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${article.changes.replay-enabled:true}") boolean enabled) {
+        this.changeLogService = changeLogService;
+        this.changeLogRepository = changeLogRepository;
+        this.articleRepository = articleRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 在其他 ApplicationReadyEvent 监听器加载缓冲和索引之前记下起点
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        if (enabled) {
+            position = latestSeq();
+        }
+    }
+
+    /**
+     * 全部 ApplicationReadyEvent 监听器返回后就绪状态才变为 ACCEPTING_TRAFFIC，此时加载已完成
+     */
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            replaying = position >= 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${article.changes.replay-interval:PT5S}",
+               initialDelayString = "${article.changes.replay-interval:PT5S}")
+    public void replay() {
+        if (!replaying) {
+            return;
+        }
+        try {
+            ChangeFeedDTO feed;
+            do {
+                feed = changeLogService.getChanges(String.valueOf(position), REPLAY_CHUNK);
+                if (!feed.getChanges().isEmpty()) {
+                    publish(feed.getChanges());
+                }
+                position = Long.parseLong(feed.getNextToken());
+            } while (feed.getHasMore() && !feed.getChanges().isEmpty());
+        } catch (ValidationException e) {
+            // 本节点长时间没有回放，起点之后的记录已被清理，从最新位置继续
+            long latest = latestSeq();
+            log.warn("变更日志回放落后于保留期限，从 {} 跳到 {}，期间其他节点的变更不会同步到内存索引", position, latest);
+            position = latest;
+        }
+    }
+
+    private void publish(List<ChangeDTO> changes) {
+        Set<Long> articleIds = new LinkedHashSet<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (ChangeDTO change : changes) {
+            if ("CATEGORY".equals(change.getEntityType())) {
+                categoryIds.add(change.getEntityId());
+            } else {
+                articleIds.add(change.getEntityId());
+            }
+        }
+        List<ArticleDTO> articles = new ArrayList<>();
+        if (!articleIds.isEmpty()) {
+            for (Object[] row : articleRepository.findMetadataWithViewsByIdIn(articleIds)) {
+                articles.add(metadata(row));
+            }
+        }
+        eventPublisher.publishEvent(new ChangesReplayedEvent(articleIds, articles, categoryIds, changes));
+    }
+
+    private static ArticleDTO metadata(Object[] row) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setId((Long) row[0]);
+        dto.setCategoryId((Long) row[1]);
+        dto.setStatus((String) row[2]);
+        dto.setArticleType((String) row[3]);
+        dto.setTag((String) row[4]);
+        dto.setViewCount((Integer) row[5]);
+        dto.setCreateTime((LocalDateTime) row[6]);
+        return dto;
+    }
+
+    private long latestSeq() {
+        return changeLogRepository.findFirstByOrderBySeqDesc().map(ChangeLogEntry::getSeq).orElse(0L);
+    }
+}
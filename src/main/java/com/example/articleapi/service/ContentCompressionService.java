@@ -0,0 +1,113 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.entity.CompressedTextConverter;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 把压缩上线前以原文存储的正文改写为压缩格式（articles 与 articles_archive）。
+ * <p>
+ * 执行 database/upgrade_content_compression.sql 把 content 列改为 BLOB 后，原文按 UTF-8 字节保留，
+ * 读取时仍可正常解析；本任务按 id 顺序分块改写，每块一个事务，进度通过 JobService 查询。
+ * 改写时以读到的原文为条件，期间被用户修改过的行（已是压缩格式）会被跳过。
+ * 扫描需要读取每行正文的首字节，因此只在配置开启时于启动后执行，迁移完成后应关闭。
+ */
+@Service
+public class ContentCompressionService {
+
+    private final ArticleRepository articleRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+    private final boolean migrateOnStartup;
+    private final int chunkSize;
+
+    public ContentCompressionService(ArticleRepository articleRepository,
+                                     ArchivedArticleRepository archivedArticleRepository,
+                                     JobService jobService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${article.content-compression.migrate-on-startup:false}") boolean migrateOnStartup,
+                                     @Value("${article.content-compression.chunk-size:200}") int chunkSize) {
+        this.articleRepository = articleRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrateOnStartup = migrateOnStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        JobService.Job job = jobService.start("CONTENT_COMPRESSION", "压缩存量文章正文", -1);
+        try {
+            migrate(job, articleRepository::findUncompressedContentIds,
+                    articleRepository::findContentByIdIn, articleRepository::compressContent);
+            migrate(job, archivedArticleRepository::findUncompressedContentIds,
+                    archivedArticleRepository::findContentByIdIn, archivedArticleRepository::compressContent);
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e);
+        }
+    }
+
+    private void migrate(JobService.Job job, IdScan scan, ContentLoader loader, ContentWriter writer) {
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = scan.find(afterId, chunkSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            Integer compressed = transactionTemplate.execute(status -> compressChunk(ids, loader, writer));
+            job.progress(compressed != null ? compressed : 0);
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private int compressChunk(List<Long> ids, ContentLoader loader, ContentWriter writer) {
+        int compressed = 0;
+        for (Object[] row : loader.load(ids)) {
+            String content = (String) row[1];
+            if (content == null) {
+                continue;
+            }
+            // 原文经 UTF-8 解码再编码后与存储的字节一致；不一致（含非法字节）时条件不成立，该行保持原样
+            byte[] original = content.getBytes(StandardCharsets.UTF_8);
+            compressed += writer.write((Long) row[0], original, converter.convertToDatabaseColumn(content));
+        }
+        return compressed;
+    }
+
+    @FunctionalInterface
+    private interface IdScan {
+        List<Long> find(Long afterId, int limit);
+    }
+
+    @FunctionalInterface
+    private interface ContentLoader {
+        List<Object[]> load(Collection<Long> ids);
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        int write(Long id, byte[] original, byte[] compressed);
+    }
+}
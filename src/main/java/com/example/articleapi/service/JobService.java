@@ -0,0 +1,115 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 后台分块任务的进度登记，只保存在内存中，保留最近 MAX_JOBS 个任务。
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private static final int MAX_JOBS = 200;
+
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_JOBS;
+        }
+    });
+
+    public Job start(String type, String description, long total) {
+        Job job = new Job(UUID.randomUUID().toString(), type, description, total);
+        jobs.put(job.id, job);
+        log.info("后台任务开始: {} [{}] {}", type, job.id, description);
+        return job;
+    }
+
+    public JobDTO getJob(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("任务不存在");
+        }
+        return job.toDTO();
+    }
+
+    public List<JobDTO> getRecentJobs() {
+        List<JobDTO> result = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.values().forEach(job -> result.add(job.toDTO()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public static final class Job {
+        private final String id;
+        private final String type;
+        private final String description;
+        private final LocalDateTime startTime = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final long total;
+        private volatile String status = "RUNNING";
+        private volatile String message;
+        private volatile LocalDateTime endTime;
+
+        private Job(String id, String type, String description, long total) {
+            this.id = id;
+            this.type = type;
+            this.description = description;
+            this.total = total;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void progress(long rows) {
+            processed.addAndGet(rows);
+        }
+
+        public void complete(String summary) {
+            message = summary;
+            complete();
+        }
+
+        public void complete() {
+            status = "COMPLETED";
+            endTime = LocalDateTime.now();
+            log.info("后台任务完成: {} [{}] 处理 {} 行", type, id, processed.get());
+        }
+
+        public void fail(Exception e) {
+            status = "FAILED";
+            message = e.getMessage();
+            endTime = LocalDateTime.now();
+            log.error("后台任务失败: {} [{}]", type, id, e);
+        }
+
+        JobDTO toDTO() {
+            JobDTO dto = new JobDTO();
+            dto.setId(id);
+            dto.setType(type);
+            dto.setDescription(description);
+            dto.setStatus(status);
+            dto.setProcessed(processed.get());
+            dto.setTotal(total);
+            dto.setMessage(message);
+            dto.setStartTime(startTime);
+            dto.setEndTime(endTime);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 最新已发布文章的内存环形缓冲：全局一个，每个分类一个。
+ * 每个缓冲只保留按创建时间倒序的最近 capacity 篇，写入通过 CAS 替换不可变快照，读取无锁。
+ * 仅服务 status=PUBLISHED 且按创建时间排序的列表请求，超出缓冲范围的页回退到数据库。
+ * 缓冲只保存不含正文的摘要，正文和计数由调用方在返回前按当前页加载、合并。
+ * 其他节点的写操作由 ArticleService 在回放变更日志时按文章 id 应用到已有的缓冲，
+ * 只有缓冲缩小到不足一页时才从数据库重新加载。
+ */
+@Slf4j
+@Component
+public class LatestFeedCache {
+
+    /** 列表接口的最大页大小，缓冲少于这么多篇且不完整时需要重新加载 */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<ArticleDTO> NEWEST_FIRST = Comparator
+            .comparing(ArticleDTO::getCreateTime, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ArticleDTO::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final int capacity;
+    private final Ring global = new Ring();
+    private final Map<Long, Ring> byCategory = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public LatestFeedCache(@Value("${article.feed.capacity:200}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 用数据库中最新的文章初始化缓冲。categoryId 为 null 表示全局缓冲。
+     */
+    public void seed(Long categoryId, List<ArticleDTO> newest, long total) {
+        ArticleDTO[] items = newest.stream()
+                .sorted(NEWEST_FIRST)
+                .limit(capacity)
+                .toArray(ArticleDTO[]::new);
+        ringFor(categoryId).window.set(new Window(items, total));
+    }
+
+    /**
+     * 缓冲中包含给定文章的分类，回放变更时用来找出文章原来所在的分类缓冲
+     */
+    public Set<Long> findCategories(Collection<Long> articleIds) {
+        Set<Long> categoryIds = new HashSet<>();
+        byCategory.forEach((categoryId, ring) -> {
+            for (Long articleId : articleIds) {
+                if (ring.find(articleId) != null) {
+                    categoryIds.add(categoryId);
+                    return;
+                }
+            }
+        });
+        return categoryIds;
+    }
+
+    /**
+     * 回放变更日志：移出给定文章在缓冲中的旧版本，published 中属于该缓冲的文章按当前数据放回，
+     * total 为该范围内已发布文章的当前总数。categoryId 为 null 表示全局缓冲
+     */
+    public void apply(Long categoryId, Set<Long> articleIds, List<ArticleDTO> published, long total) {
+        ringFor(categoryId).apply(articleIds, published, capacity, total);
+    }
+
+    /**
+     * 缓冲不完整且少于一页时返回 true，由调用方重新加载
+     */
+    public boolean needsReseed(Long categoryId) {
+        Ring ring = categoryId == null ? global : byCategory.get(categoryId);
+        if (ring == null) {
+            return false;
+        }
+        Window window = ring.window.get();
+        return !window.isComplete() && window.items.length < Math.min(capacity, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 丢弃已删除分类的缓冲，该分类的请求回退到数据库；全局缓冲中的文章清空分类
+     */
+    public void drop(Long categoryId) {
+        byCategory.remove(categoryId);
+        global.replace(categoryId, article -> {
+            article.setCategoryId(null);
+            article.setCategoryName(null);
+        });
+    }
+
+    /**
+     * 刷新缓冲中属于该分类的文章的 categoryName
+     */
+    public void rename(Long categoryId, String name) {
+        global.replace(categoryId, article -> article.setCategoryName(name));
+        Ring ring = byCategory.get(categoryId);
+        if (ring != null) {
+            ring.replace(categoryId, article -> article.setCategoryName(name));
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void markReady() {
+        ready = true;
+        log.info("最新文章缓冲初始化完成，分类数: {}", byCategory.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        ArticleDTO after = summary(event.getAfter());
+        if (event.isPartial() && event.isPublished()) {
+            // 局部更新不含图片，沿用缓冲中已有的版本；
+            // 新发布或换到其他分类的文章由 ArticleService 提供完整数据，走到这里说明发布状态没变，
+            // 分类没变或被置空（删除分类时逐块解除关联）
+            ArticleDTO cached = global.find(event.getArticleId());
+            if (cached == null && after.getCategoryId() != null) {
+                Ring ring = byCategory.get(after.getCategoryId());
+                cached = ring != null ? ring.find(event.getArticleId()) : null;
+            }
+            if (cached == null) {
+                // 文章在全局窗口之外，全局缓冲无需变化；分类被置空时仍要从原分类的缓冲中移出
+                Long oldCategoryId = event.getBefore().getCategoryId();
+                if (oldCategoryId != null && !oldCategoryId.equals(after.getCategoryId())) {
+                    Ring ring = byCategory.get(oldCategoryId);
+                    if (ring != null) {
+                        ring.remove(event.getArticleId());
+                    }
+                }
+                return;
+            }
+            after = withImagesFrom(cached, after);
+        }
+        if (event.wasPublished()) {
+            global.remove(event.getArticleId());
+            Long oldCategoryId = event.getBefore().getCategoryId();
+            if (oldCategoryId != null) {
+                ringFor(oldCategoryId).remove(event.getArticleId());
+            }
+        }
+        if (event.isPublished()) {
+            global.add(after, capacity);
+            Long categoryId = after.getCategoryId();
+            if (categoryId != null) {
+                ringFor(categoryId).add(after, capacity);
+            }
+        }
+    }
+
+    private static ArticleDTO withImagesFrom(ArticleDTO cached, ArticleDTO partial) {
+        ArticleDTO merged = new ArticleDTO();
+        BeanUtils.copyProperties(partial, merged);
+        merged.setImages(cached.getImages());
+        return merged;
+    }
+
+    /**
+     * 去掉正文的副本，事件中的 DTO 还会交给其他监听器，不能原地修改
+     */
+    private static ArticleDTO summary(ArticleDTO article) {
+        if (article == null || article.getContent() == null) {
+            return article;
+        }
+        ArticleDTO summary = new ArticleDTO();
+        BeanUtils.copyProperties(article, summary);
+        summary.setContent(null);
+        return summary;
+    }
+
+    /**
+     * 分类改名时刷新缓冲中的 categoryName；分类删除后文章的 category_id 会被置空，对应缓冲直接丢弃。
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        if (event.getType() == CategoryChangedEvent.ChangeType.DELETED) {
+            drop(event.getCategoryId());
+        } else if (event.getType() == CategoryChangedEvent.ChangeType.UPDATED) {
+            rename(event.getCategoryId(), event.getAfter().getName());
+        }
+    }
+
+    /**
+     * 尝试从缓冲中返回一页结果；无法保证结果与数据库一致时返回 empty。
+     */
+    public Optional<PageResult<ArticleDTO>> findPage(ArticleListRequest request, int page, int size) {
+        if (!ready || !"PUBLISHED".equals(request.getStatus()) || "HOT".equals(request.getTag())) {
+            return Optional.empty();
+        }
+        Ring ring = request.getCategoryId() == null ? global : byCategory.get(request.getCategoryId());
+        if (ring == null) {
+            return Optional.empty();
+        }
+
+        Window window = ring.window.get();
+        boolean filtered = request.getArticleType() != null || request.getTag() != null;
+        List<ArticleDTO> matches;
+        long total;
+        if (filtered) {
+            // 附加筛选条件下，只有缓冲覆盖了该分类的全部文章才能得到准确的总数
+            if (!window.isComplete()) {
+                return Optional.empty();
+            }
+            matches = new ArrayList<>();
+            for (ArticleDTO item : window.items) {
+                if ((request.getArticleType() == null || request.getArticleType().equals(item.getArticleType()))
+                        && (request.getTag() == null || request.getTag().equals(item.getTag()))) {
+                    matches.add(item);
+                }
+            }
+            total = matches.size();
+        } else {
+            matches = Arrays.asList(window.items);
+            total = window.total;
+        }
+
+        long from = (long) page * size;
+        long to = from + size;
+        if (to > matches.size() && !window.isComplete()) {
+            return Optional.empty();
+        }
+        int fromIndex = (int) Math.min(from, matches.size());
+        int toIndex = (int) Math.min(to, matches.size());
+        return Optional.of(new PageResult<>(
+                new ArrayList<>(matches.subList(fromIndex, toIndex)), page, size, total));
+    }
+
+    private Ring ringFor(Long categoryId) {
+        return categoryId == null ? global : byCategory.computeIfAbsent(categoryId, id -> new Ring());
+    }
+
+    /**
+     * 不可变快照：items 按创建时间倒序，total 为该范围内已发布文章的总数。
+     */
+    private static final class Window {
+        static final Window EMPTY = new Window(new ArticleDTO[0], 0);
+
+        final ArticleDTO[] items;
+        final long total;
+
+        Window(ArticleDTO[] items, long total) {
+            this.items = items;
+            this.total = total;
+        }
+
+        boolean isComplete() {
+            return items.length >= total;
+        }
+    }
+
+    private static final class Ring {
+        final AtomicReference<Window> window = new AtomicReference<>(Window.EMPTY);
+
+        void add(ArticleDTO article, int capacity) {
+            while (true) {
+                Window current = window.get();
+                ArticleDTO[] items = current.items;
+                int pos = 0;
+                while (pos < items.length && NEWEST_FIRST.compare(items[pos], article) < 0) {
+                    pos++;
+                }
+                long total = current.total + 1;
+                Window next;
+                if (pos == items.length && (items.length >= capacity || !current.isComplete())) {
+                    // 比缓冲中最旧的一篇还旧，且缓冲之后还有数据库中的文章：不能追加，否则会留下空洞
+                    next = new Window(items, total);
+                } else {
+                    int length = Math.min(items.length + 1, capacity);
+                    ArticleDTO[] updated = new ArticleDTO[length];
+                    System.arraycopy(items, 0, updated, 0, pos);
+                    updated[pos] = article;
+                    System.arraycopy(items, pos, updated, pos + 1, length - pos - 1);
+                    next = new Window(updated, total);
+                }
+                if (window.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 按 id 移出旧版本再按顺序放回当前版本，总数取调用方给出的值
+         */
+        void apply(Set<Long> articleIds, List<ArticleDTO> articles, int capacity, long total) {
+            while (true) {
+                Window current = window.get();
+                List<ArticleDTO> items = new ArrayList<>(current.items.length + articles.size());
+                for (ArticleDTO item : current.items) {
+                    if (!articleIds.contains(item.getId())) {
+                        items.add(item);
+                    }
+                }
+                items.addAll(articles);
+                items.sort(NEWEST_FIRST);
+                if (!current.isComplete()) {
+                    // 缓冲之后还有数据库中的文章：比原来最旧一篇还旧的不能放入，否则会留下空洞
+                    ArticleDTO oldest = current.items.length > 0 ? current.items[current.items.length - 1] : null;
+                    items.removeIf(item -> oldest == null || NEWEST_FIRST.compare(item, oldest) > 0);
+                }
+                Window next = new Window(items.stream().limit(capacity).toArray(ArticleDTO[]::new), total);
+                if (window.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 对属于指定分类的条目做写时复制修改，缓冲中的 DTO 可能正在被其他请求序列化，不能原地修改。
+         */
+        void replace(Long categoryId, Consumer<ArticleDTO> change) {
+            while (true) {
+                Window current = window.get();
+                ArticleDTO[] updated = current.items.clone();
+                for (int i = 0; i < updated.length; i++) {
+                    if (Objects.equals(updated[i].getCategoryId(), categoryId)) {
+                        ArticleDTO copy = new ArticleDTO();
+                        BeanUtils.copyProperties(updated[i], copy);
+                        change.accept(copy);
+                        updated[i] = copy;
+                    }
+                }
+                if (window.compareAndSet(current, new Window(updated, current.total))) {
+                    return;
+                }
+            }
+        }
+
+        ArticleDTO find(Long articleId) {
+            for (ArticleDTO item : window.get().items) {
+                if (Objects.equals(item.getId(), articleId)) {
+                    return item;
+                }
+            }
+            return null;
+        }
+
+        void remove(Long articleId) {
+            while (true) {
+                Window current = window.get();
+                ArticleDTO[] items = current.items;
+                int pos = 0;
+                while (pos < items.length && !Objects.equals(items[pos].getId(), articleId)) {
+                    pos++;
+                }
+                ArticleDTO[] updated = items;
+                if (pos < items.length) {
+                    updated = new ArticleDTO[items.length - 1];
+                    System.arraycopy(items, 0, updated, 0, pos);
+                    System.arraycopy(items, pos + 1, updated, pos, items.length - pos - 1);
+                }
+                Window next = new Window(updated, Math.max(0, current.total - 1));
+                if (window.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.articleapi.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 文本的 MinHash 签名及 LSH 分段，用于估计两篇文章词集合的 Jaccard 相似度。
+ * <p>
+ * 分词兼顾中日韩文字：连续的中日韩字符按相邻两字切分（单独一个字时取该字），其余字母数字按单词切分并转为
+ * 小写。签名为 HASHES 个 32 位最小哈希，两个签名相同位置相等的比例即相似度的估计值。
+ * 签名分为 BANDS 段、每段 ROWS 个值，任意一段完全相同的两篇文章互为候选：相似度 0.1 时成为候选的概率
+ * 约 27%，0.2 时约 73%，0.3 以上几乎必定成为候选。
+ */
+public final class MinHash {
+
+    public static final int HASHES = 64;
+    public static final int BANDS = 32;
+    public static final int ROWS = HASHES / BANDS;
+    public static final int SERIALIZED_SIZE = HASHES * 4;
+
+    /** 只取文本开头这么多字符计算签名 */
+    private static final int MAX_TEXT_LENGTH = 20_000;
+
+    private MinHash() {
+    }
+
+    /**
+     * 文本切分后的词集合
+     */
+    public static Set<String> shingles(String text) {
+        Set<String> shingles = new HashSet<>();
+        if (text == null) {
+            return shingles;
+        }
+        String value = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        StringBuilder word = new StringBuilder();
+        int previous = -1;
+        int run = 0;
+        for (int i = 0; i < value.length(); ) {
+            int codePoint = value.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                addWord(shingles, word);
+                if (previous >= 0) {
+                    shingles.add(new String(new int[]{previous, codePoint}, 0, 2));
+                }
+                previous = codePoint;
+                run++;
+                continue;
+            }
+            addSingle(shingles, previous, run);
+            previous = -1;
+            run = 0;
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                addWord(shingles, word);
+            }
+        }
+        addSingle(shingles, previous, run);
+        addWord(shingles, word);
+        return shingles;
+    }
+
+    /**
+     * 词集合的签名；每个词哈希一次，HASHES 个哈希函数由两个 32 位哈希线性组合后再混合得到
+     */
+    public static int[] signature(Collection<String> shingles) {
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = HyperLogLog.hash(shingle);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int value = mix(h1 + i * h2);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    /**
+     * 每段一个哈希值，段号参与哈希，不同段的相同取值不会落入同一个桶
+     */
+    public static long[] bandHashes(int[] signature) {
+        long[] bands = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = 0xcbf29ce484222325L ^ band;
+            for (int row = 0; row < ROWS; row++) {
+                hash = (hash ^ (signature[band * ROWS + row] & 0xffffffffL)) * 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            bands[band] = hash;
+        }
+        return bands;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        byte[] bytes = new byte[SERIALIZED_SIZE];
+        for (int i = 0; i < HASHES; i++) {
+            bytes[i * 4] = (byte) (signature[i] >>> 24);
+            bytes[i * 4 + 1] = (byte) (signature[i] >>> 16);
+            bytes[i * 4 + 2] = (byte) (signature[i] >>> 8);
+            bytes[i * 4 + 3] = (byte) signature[i];
+        }
+        return bytes;
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SERIALIZED_SIZE) {
+            throw new IllegalArgumentException("无效的 MinHash 签名");
+        }
+        int[] signature = new int[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            signature[i] = (bytes[i * 4] & 0xff) << 24 | (bytes[i * 4 + 1] & 0xff) << 16
+                    | (bytes[i * 4 + 2] & 0xff) << 8 | (bytes[i * 4 + 3] & 0xff);
+        }
+        return signature;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void addSingle(Set<String> shingles, int codePoint, int run) {
+        if (run == 1) {
+            shingles.add(new String(new int[]{codePoint}, 0, 1));
+        }
+    }
+
+    private static void addWord(Set<String> shingles, StringBuilder word) {
+        if (word.length() > 1) {
+            shingles.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static int mix(int value) {
+        value ^= value >>> 16;
+        value *= 0x85ebca6b;
+        value ^= value >>> 13;
+        value *= 0xc2b2ae35;
+        value ^= value >>> 16;
+        return value;
+    }
+}
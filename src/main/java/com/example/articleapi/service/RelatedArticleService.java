@@ -0,0 +1,281 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.RelatedArticleDTO;
+import com.example.articleapi.entity.ArticleRelation;
+import com.example.articleapi.entity.ArticleSignature;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.repository.ArticleLshBucketRepository;
+import com.example.articleapi.repository.ArticleRelationRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.ArticleSignatureRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 预先计算的相关文章，供 GET /articles/{id}/related 按主键读取。
+ * <p>
+ * 已发布文章的标题和正文切分为词集合后计算 MinHash 签名，签名各段的哈希写入 LSH 桶表。计算一篇文章时，
+ * 与它至少有一段相同的文章为候选（共同段多的优先，最多 max-candidates 篇），按签名估计相似度，
+ * 保留最高的 top-k 篇；这篇文章也按相似度插入各候选文章的列表，挤掉其中最低的一篇。
+ * <p>
+ * 只有创建、修改过的文章需要重新计算：变更事件把文章 id 记入待处理集合，定时任务按数据库中的当前状态处理，
+ * 短时间内多次修改只计算一次，签名未变化时不改动任何行；取消发布、归档和删除的文章从桶和各列表中移除。
+ * 启动时后台为尚无签名的已发布文章补算。其他文章的列表因移除而不足 top-k 篇时，在它们自身被修改时补齐。
+ */
+@Slf4j
+@Service
+public class RelatedArticleService {
+
+    /** 每批处理的文章数 */
+    private static final int CHUNK_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSignatureRepository signatureRepository;
+    private final ArticleLshBucketRepository bucketRepository;
+    private final ArticleRelationRepository relationRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int topK;
+    private final int maxCandidates;
+    private final double minSimilarity;
+
+    /** 待重新计算的文章 */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public RelatedArticleService(ArticleRepository articleRepository,
+                                 ArticleSignatureRepository signatureRepository,
+                                 ArticleLshBucketRepository bucketRepository,
+                                 ArticleRelationRepository relationRepository,
+                                 JobService jobService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${article.related.enabled:true}") boolean enabled,
+                                 @Value("${article.related.top-k:10}") int topK,
+                                 @Value("${article.related.max-candidates:200}") int maxCandidates,
+                                 @Value("${article.related.min-similarity:0.05}") double minSimilarity) {
+        this.articleRepository = articleRepository;
+        this.signatureRepository = signatureRepository;
+        this.bucketRepository = bucketRepository;
+        this.relationRepository = relationRepository;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.topK = Math.max(1, topK);
+        this.maxCandidates = Math.max(1, maxCandidates);
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * 文章的相关文章，按相似度从高到低排列；只返回仍处于发布状态的文章
+     */
+    @Transactional(readOnly = true)
+    public List<RelatedArticleDTO> getRelatedArticles(Long articleId) {
+        List<ArticleRelation> relations = relationRepository.findByArticleIdOrderBySimilarityDescRelatedIdDesc(articleId);
+        if (relations.isEmpty()) {
+            if (!articleRepository.existsById(articleId)) {
+                throw new ResourceNotFoundException("文章不存在");
+            }
+            return new ArrayList<>();
+        }
+        Map<Long, Object[]> summaries = new HashMap<>();
+        for (Object[] row : articleRepository.findPublishedSummariesByIdIn(
+                relations.stream().map(ArticleRelation::getRelatedId).collect(Collectors.toList()))) {
+            summaries.put((Long) row[0], row);
+        }
+        List<RelatedArticleDTO> result = new ArrayList<>();
+        for (ArticleRelation relation : relations) {
+            Object[] row = summaries.get(relation.getRelatedId());
+            if (row == null) {
+                continue;
+            }
+            RelatedArticleDTO dto = new RelatedArticleDTO();
+            dto.setId((Long) row[0]);
+            dto.setTitle((String) row[1]);
+            dto.setCoverImage((String) row[2]);
+            dto.setCategoryId((Long) row[3]);
+            dto.setCategoryName((String) row[4]);
+            dto.setArticleType((String) row[5]);
+            dto.setTag((String) row[6]);
+            dto.setCreateTime((LocalDateTime) row[7]);
+            dto.setSimilarity(relation.getSimilarity());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    /**
+     * 发布状态的文章被创建、修改，或已发布的文章被取消发布、归档、删除时记入待处理集合
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (enabled && (event.wasPublished() || event.isPublished())) {
+            pending.add(event.getArticleId());
+        }
+    }
+
+    /**
+     * 处理待重新计算的文章
+     */
+    @Scheduled(fixedDelayString = "${article.related.interval:PT5S}",
+               initialDelayString = "${article.related.interval:PT5S}")
+    public void processPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                ids.add(id);
+            }
+        }
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            try {
+                process(chunk);
+            } catch (Exception e) {
+                log.warn("计算相关文章失败，下次重试: {}", e.getMessage());
+                pending.addAll(chunk);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        processPending();
+    }
+
+    /**
+     * 启动时为尚无签名的已发布文章补算签名和相关文章，已全部计算时只执行一次查询
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = articleRepository.findUnsignedPublishedIds(0L, PageRequest.of(0, CHUNK_SIZE));
+        if (ids.isEmpty()) {
+            return;
+        }
+        JobService.Job job = jobService.start("RELATED_ARTICLES_BACKFILL", "计算已发布文章的签名和相关文章", -1);
+        try {
+            while (!ids.isEmpty()) {
+                process(ids);
+                job.progress(ids.size());
+                ids = articleRepository.findUnsignedPublishedIds(ids.get(ids.size() - 1), PageRequest.of(0, CHUNK_SIZE));
+            }
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e);
+        }
+    }
+
+    /**
+     * 按数据库中的当前状态处理一批文章：不再发布的一次移除，其余逐篇各一个事务重新计算。
+     * 定时任务和启动补算共用，串行执行以免同时改写同一篇文章的行
+     */
+    synchronized void process(List<Long> ids) {
+        Map<Long, Object[]> texts = new HashMap<>();
+        for (Object[] row : articleRepository.findTextByIdIn(ids)) {
+            if ("PUBLISHED".equals(row[1])) {
+                texts.put((Long) row[0], row);
+            }
+        }
+        List<Long> removed = ids.stream().filter(id -> !texts.containsKey(id)).collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> remove(removed));
+        }
+        for (Object[] row : texts.values()) {
+            String text = row[2] + "\n" + (row[3] != null ? row[3] : "");
+            transactionTemplate.executeWithoutResult(status -> index((Long) row[0], text));
+        }
+    }
+
+    private void remove(List<Long> ids) {
+        signatureRepository.deleteByArticleIdIn(ids);
+        bucketRepository.deleteByArticleIdIn(ids);
+        relationRepository.deleteByArticleIdIn(ids);
+    }
+
+    private void index(Long articleId, String text) {
+        int[] signature = MinHash.signature(MinHash.shingles(text));
+        byte[] bytes = MinHash.toBytes(signature);
+        ArticleSignature stored = signatureRepository.findById(articleId).orElse(null);
+        if (stored != null && Arrays.equals(stored.getSignature(), bytes)) {
+            return;
+        }
+        if (stored == null) {
+            signatureRepository.save(new ArticleSignature(articleId, bytes, LocalDateTime.now()));
+        } else {
+            stored.setSignature(bytes);
+            stored.setUpdateTime(LocalDateTime.now());
+        }
+        bucketRepository.deleteByArticleIdIn(List.of(articleId));
+        relationRepository.deleteByArticleIdIn(List.of(articleId));
+        long[] bandHashes = MinHash.bandHashes(signature);
+        bucketRepository.insertBuckets(articleId, bandHashes);
+
+        List<Long> candidates = bucketRepository.findCandidates(
+                Arrays.stream(bandHashes).boxed().collect(Collectors.toList()), articleId, maxCandidates);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        List<ArticleRelation> similar = new ArrayList<>();
+        for (ArticleSignature other : signatureRepository.findAllById(candidates)) {
+            double similarity = MinHash.similarity(signature, MinHash.fromBytes(other.getSignature()));
+            if (similarity >= minSimilarity) {
+                similar.add(new ArticleRelation(articleId, other.getArticleId(), similarity));
+            }
+        }
+        Comparator<ArticleRelation> order = Comparator.comparing(ArticleRelation::getSimilarity)
+                .thenComparing(ArticleRelation::getRelatedId).reversed();
+        similar.sort(order);
+        List<ArticleRelation> upserts = new ArrayList<>(similar.subList(0, Math.min(topK, similar.size())));
+
+        // 这篇文章按相似度插入各候选文章的列表，列表已满时替换掉最低的一篇
+        Map<Long, List<ArticleRelation>> lists = relationRepository.findByArticleIdIn(
+                similar.stream().map(ArticleRelation::getRelatedId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(ArticleRelation::getArticleId));
+        List<ArticleRelation> evicted = new ArrayList<>();
+        for (ArticleRelation relation : similar) {
+            ArticleRelation reverse = new ArticleRelation(relation.getRelatedId(), articleId, relation.getSimilarity());
+            List<ArticleRelation> list = lists.getOrDefault(reverse.getArticleId(), List.of());
+            if (list.size() < topK) {
+                upserts.add(reverse);
+                continue;
+            }
+            ArticleRelation lowest = list.stream().min(Comparator.comparing(ArticleRelation::getSimilarity)
+                    .thenComparing(ArticleRelation::getRelatedId)).get();
+            if (order.compare(reverse, lowest) < 0) {
+                upserts.add(reverse);
+                evicted.add(lowest);
+            }
+        }
+        relationRepository.deleteRelations(evicted);
+        relationRepository.upsertRelations(upserts);
+    }
+}
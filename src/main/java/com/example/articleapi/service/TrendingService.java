@@ -0,0 +1,265 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.repository.ArticleViewRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 按近期浏览量计算随时间衰减的热度排名，供 GET /articles?sort=trending 使用。
+ * <p>
+ * 每次浏览计入该文章的环形缓冲区，每个槽位对应一分钟，保留最近 window 分钟；滑出窗口的浏览量按衰减
+ * 折算进一个累计值。热度为各分钟浏览量乘以 2^(-距今分钟数 / 半衰期) 之和，由定时任务统一计算并生成
+ * 排名快照，查询只读取最近一次的快照。
+ * <p>
+ * 开启浏览量汇总（article.view-rollups.enabled）时，排名由各节点共同写入的小时桶计算：
+ * 取 lookback 内的小时桶，按桶开始时间到现在的分钟数衰减后求和排序，所有节点得到相同的排名，
+ * 重启后也不丢失；当前小时的浏览量在汇总写入后（flush-interval）才计入。
+ * <p>
+ * 未开启汇总时按本节点的浏览在内存中计算：每次浏览计入该文章的环形缓冲区，每个槽位对应一分钟，
+ * 保留最近 window 分钟；滑出窗口的浏览量按衰减折算进一个累计值。热度为各分钟浏览量乘以
+ * 2^(-距今分钟数 / 半衰期) 之和。只跟踪近期有浏览的文章：窗口内没有浏览且热度衰减到 MIN_SCORE 以下的文章被移除；
+ * 跟踪数达到 max-tracked 时不再接收新文章，下一次计算移除热度最低的文章腾出空间，内存占用与文章总数无关。
+ * 这种方式下排名只反映本实例的浏览，重启后随新的浏览重新累积。
+ * <p>
+ * 两种方式都由定时任务统一计算并生成排名快照，查询只读取最近一次的快照。
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    /** 窗口内没有浏览且热度低于该值的文章不再跟踪 */
+    private static final double MIN_SCORE = 0.1;
+
+    private final boolean enabled;
+    private final double halfLifeMinutes;
+    private final int maxTracked;
+    private final int rankingSize;
+    private final LongSupplier minuteClock;
+    /** 为 null 时按本节点的浏览在内存中计算 */
+    private final ArticleViewRollupRepository rollupRepository;
+    private final Duration lookback;
+    /** weights[k] 为 k 分钟前浏览量的衰减系数 */
+    private final double[] weights;
+
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+    private volatile List<Long> ranking = List.of();
+
+    @Autowired
+    public TrendingService(@Value("${article.trending.enabled:true}") boolean enabled,
+                           @Value("${article.trending.window:PT1H}") Duration window,
+                           @Value("${article.trending.half-life:PT6H}") Duration halfLife,
+                           @Value("${article.trending.max-tracked:100000}") int maxTracked,
+                           @Value("${article.trending.ranking-size:10000}") int rankingSize,
+                           @Value("${article.trending.lookback:P2D}") Duration lookback,
+                           @Value("${article.view-rollups.enabled:true}") boolean rollupsEnabled,
+                           ArticleViewRollupRepository rollupRepository) {
+        this(enabled, window, halfLife, maxTracked, rankingSize, () -> System.currentTimeMillis() / 60_000,
+                rollupsEnabled ? rollupRepository : null, lookback);
+    }
+
+    TrendingService(boolean enabled, Duration window, Duration halfLife, int maxTracked, int rankingSize,
+                    LongSupplier minuteClock) {
+        this(enabled, window, halfLife, maxTracked, rankingSize, minuteClock, null, null);
+    }
+
+    TrendingService(boolean enabled, Duration window, Duration halfLife, int maxTracked, int rankingSize,
+                    LongSupplier minuteClock, ArticleViewRollupRepository rollupRepository, Duration lookback) {
+        this.enabled = enabled;
+        this.halfLifeMinutes = Math.max(1, halfLife.toMinutes());
+        this.maxTracked = Math.max(1, maxTracked);
+        this.rankingSize = rankingSize;
+        this.minuteClock = minuteClock;
+        this.rollupRepository = rollupRepository;
+        this.lookback = lookback;
+        this.weights = new double[(int) Math.max(1, window.toMinutes())];
+        for (int k = 0; k < weights.length; k++) {
+            weights[k] = decay(k);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 最近一次计算的排名，按热度从高到低排列的文章 id
+     */
+    public List<Long> getRanking() {
+        return ranking;
+    }
+
+    public int getTrackedCount() {
+        return windows.size();
+    }
+
+    @EventListener
+    public void onArticleViewed(ArticleViewedEvent event) {
+        if (!enabled || rollupRepository != null) {
+            return;
+        }
+        long minute = minuteClock.getAsLong();
+        Window window = windows.get(event.getArticleId());
+        if (window == null) {
+            if (windows.size() >= maxTracked) {
+                return;
+            }
+            window = windows.computeIfAbsent(event.getArticleId(), id -> new Window(minute));
+        }
+        window.record(minute);
+    }
+
+    /**
+     * 删除或归档的文章不再参与排名
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (enabled && rollupRepository == null && event.getAfter() == null) {
+            windows.remove(event.getArticleId());
+        }
+    }
+
+    /**
+     * 重新计算全部跟踪文章的热度，移除不活跃的文章并生成新的排名快照
+     */
+    @Scheduled(fixedDelayString = "${article.trending.interval:PT1M}",
+               initialDelayString = "${article.trending.interval:PT1M}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (rollupRepository != null) {
+            refreshFromRollups();
+            return;
+        }
+        long minute = minuteClock.getAsLong();
+        List<Scored> scored = new ArrayList<>(windows.size());
+        windows.forEach((id, window) -> {
+            double score = window.score(minute);
+            if (score < MIN_SCORE && window.isIdle()) {
+                windows.remove(id, window);
+            } else {
+                scored.add(new Scored(id, score));
+            }
+        });
+        scored.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(Scored::id, Comparator.reverseOrder()));
+
+        // 超过上限时移除热度最低的文章，留出一成空间接收新文章
+        int keep = maxTracked - maxTracked / 10;
+        if (scored.size() > keep) {
+            for (Scored evicted : scored.subList(keep, scored.size())) {
+                windows.remove(evicted.id());
+            }
+        }
+        int size = Math.min(rankingSize, Math.min(keep, scored.size()));
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(scored.get(i).id());
+        }
+        ranking = List.copyOf(ids);
+        log.debug("热度排名已更新，跟踪文章数: {}，排名长度: {}", windows.size(), ids.size());
+    }
+
+    /**
+     * 由小时桶计算排名，只包含仍在 articles 中的文章；查询失败时保留上一次的排名
+     */
+    private void refreshFromRollups() {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(minuteClock.getAsLong() * 60),
+                ZoneId.systemDefault());
+        try {
+            ranking = List.copyOf(rollupRepository.findTrending(now.minus(lookback), now, halfLifeMinutes,
+                    rankingSize));
+            log.debug("热度排名已由小时浏览量更新，排名长度: {}", ranking.size());
+        } catch (DataAccessException e) {
+            log.warn("由小时浏览量计算热度排名失败，保留上一次的排名: {}", e.getMessage());
+        }
+    }
+
+    private double decay(double minutes) {
+        return Math.pow(0.5, minutes / halfLifeMinutes);
+    }
+
+    private record Scored(Long id, double score) {
+    }
+
+    /**
+     * 一篇文章的分钟级环形缓冲区，槽位 minute % length 保存该分钟的浏览量
+     */
+    private final class Window {
+        private final int[] counts = new int[weights.length];
+        /** 缓冲区覆盖的最后一分钟，覆盖范围为 (lastMinute - length, lastMinute] */
+        private long lastMinute;
+        /** 滑出窗口的浏览量衰减到 historyMinute 时的累计值 */
+        private double history;
+        private long historyMinute;
+
+        private Window(long minute) {
+            this.lastMinute = minute;
+        }
+
+        synchronized void record(long minute) {
+            advance(minute);
+            if (minute > lastMinute - counts.length) {
+                counts[slot(minute)]++;
+            }
+        }
+
+        synchronized double score(long minute) {
+            advance(minute);
+            double score = history > 0 ? history * decay(lastMinute - historyMinute) : 0;
+            for (int k = 0; k < counts.length; k++) {
+                score += counts[slot(lastMinute - k)] * weights[k];
+            }
+            return score;
+        }
+
+        synchronized boolean isIdle() {
+            for (int count : counts) {
+                if (count > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 把缓冲区推进到 minute，滑出窗口的槽位折算进累计值后清零
+         */
+        private void advance(long minute) {
+            long last = Math.min(minute, lastMinute + counts.length);
+            for (long m = lastMinute + 1; m <= last; m++) {
+                int slot = slot(m);
+                if (counts[slot] > 0) {
+                    long expired = m - counts.length;
+                    history = history > 0 ? history * decay(expired - historyMinute) + counts[slot] : counts[slot];
+                    historyMinute = expired;
+                    counts[slot] = 0;
+                }
+            }
+            lastMinute = Math.max(lastMinute, minute);
+        }
+
+        private int slot(long minute) {
+            return (int) Math.floorMod(minute, (long) counts.length);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.entity.ArticleVisitorSketch;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import com.example.articleapi.repository.ArticleVisitorSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文章的独立访客数。
+ * <p>
+ * 详情浏览带有访客标识时，把标识的哈希记入该文章在内存中的 HyperLogLog 草图，不保存标识本身。
+ * 定时任务把各篇文章待写入的草图合并进 article_visitor_sketches 中的草图行（加行锁，按寄存器取最大值），
+ * 并把合并后的估计值写入计数表的 unique_views；多个节点各自合并，结果与单节点记录全部访客相同，
+ * 重复合并也不会重复计数。每篇文章的草图约 3KB，标准误差约 1.6%。
+ * <p>
+ * 内存中只保存上次写入后有浏览的文章，数量达到 max-pending 时新文章的访客不再记录，直到下一次写入。
+ * 接口返回的 uniqueViews 最多落后一个写入间隔。
+ */
+@Slf4j
+@Service
+public class UniqueVisitorService {
+
+    private final ArticleVisitorSketchRepository sketchRepository;
+    private final ArticleStatsRepository articleStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxPending;
+
+    /** 上次写入后记录的访客草图 */
+    private final Map<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public UniqueVisitorService(ArticleVisitorSketchRepository sketchRepository,
+                                ArticleStatsRepository articleStatsRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${article.unique-visitors.enabled:true}") boolean enabled,
+                                @Value("${article.unique-visitors.max-pending:10000}") int maxPending) {
+        this.sketchRepository = sketchRepository;
+        this.articleStatsRepository = articleStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxPending = Math.max(1, maxPending);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @EventListener
+    public void onArticleViewed(ArticleViewedEvent event) {
+        if (!enabled || event.getVisitorKey() == null) {
+            return;
+        }
+        long hash = HyperLogLog.hash(event.getVisitorKey());
+        // 与 flush 的 remove 互斥，记录不会落在已取走的草图上
+        pending.compute(event.getArticleId(), (id, sketch) -> {
+            if (sketch == null) {
+                if (pending.size() >= maxPending) {
+                    return null;
+                }
+                sketch = new HyperLogLog();
+            }
+            sketch.offer(hash);
+            return sketch;
+        });
+    }
+
+    /**
+     * 已删除文章待写入的草图直接丢弃；草图行随计数行一起删除
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.ChangeType.DELETED) {
+            pending.remove(event.getArticleId());
+        }
+    }
+
+    /**
+     * 把待写入的草图逐篇合并到数据库，每篇一个短事务；失败的草图放回内存，下次重试
+     */
+    @Scheduled(fixedDelayString = "${article.unique-visitors.flush-interval:PT1M}",
+               initialDelayString = "${article.unique-visitors.flush-interval:PT1M}")
+    public void flush() {
+        int flushed = 0;
+        for (Long articleId : pending.keySet()) {
+            HyperLogLog sketch = pending.remove(articleId);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> mergeInto(articleId, sketch));
+                flushed++;
+            } catch (Exception e) {
+                log.warn("写入文章 {} 的访客草图失败，下次重试: {}", articleId, e.getMessage());
+                pending.merge(articleId, sketch, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+            }
+        }
+        if (flushed > 0) {
+            log.debug("已写入 {} 篇文章的访客草图", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void mergeInto(Long articleId, HyperLogLog local) {
+        // 文章已删除时不再创建草图行
+        if (!articleStatsRepository.existsById(articleId)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        sketchRepository.insertIfAbsent(articleId, local.toBytes(), now);
+        ArticleVisitorSketch row = sketchRepository.findForUpdate(articleId)
+                .orElseThrow(() -> new IllegalStateException("访客草图行不存在: " + articleId));
+        HyperLogLog merged;
+        try {
+            merged = HyperLogLog.fromBytes(row.getSketch());
+        } catch (IllegalArgumentException e) {
+            log.warn("文章 {} 的访客草图无法解析，以本次记录重建", articleId);
+            merged = new HyperLogLog();
+        }
+        merged.merge(local);
+        row.setSketch(merged.toBytes());
+        row.setUpdateTime(now);
+        articleStatsRepository.setUniqueViews(articleId, (int) Math.min(Integer.MAX_VALUE, merged.estimate()));
+    }
+}
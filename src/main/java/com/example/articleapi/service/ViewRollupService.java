@@ -0,0 +1,285 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleViewStatsDTO;
+import com.example.articleapi.dto.ViewCountPointDTO;
+import com.example.articleapi.entity.ArticleViewRollup;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import com.example.articleapi.repository.ArticleViewRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 文章浏览量的时间序列，供 GET /articles/{id}/stats 查询。
+ * <p>
+ * 浏览事件在内存中按文章、小时累加，定时任务把累加结果以 JDBC 批处理累加写入窄表 article_view_rollups
+ * 的小时桶（多个实例写同一个桶时在数据库中相加）。每天把超过 hourly-retention 的小时桶按天汇总为
+ * 天桶并删除小时桶，表的行数随文章数和天数增长，而不是随浏览次数增长。
+ * <p>
+ * 查询只按主键范围读取这张汇总表，不读取 articles，也不保存逐次浏览记录；尚未写入的浏览最多落后一个
+ * 写入间隔。
+ */
+@Slf4j
+@Service
+public class ViewRollupService {
+
+    static final String HOUR = "HOUR";
+    static final String DAY = "DAY";
+
+    /** 一次查询最多返回的时间桶数 */
+    private static final int MAX_POINTS = 2000;
+
+    private final ArticleViewRollupRepository rollupRepository;
+    private final ArticleStatsRepository articleStatsRepository;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration hourlyRetention;
+    private final int maxPending;
+    private final Clock clock;
+
+    /** 上次写入后各文章每小时的浏览量 */
+    private final Map<Long, Map<LocalDateTime, Integer>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Autowired
+    public ViewRollupService(ArticleViewRollupRepository rollupRepository,
+                             ArticleStatsRepository articleStatsRepository,
+                             JobService jobService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${article.view-rollups.enabled:true}") boolean enabled,
+                             @Value("${article.view-rollups.hourly-retention:P7D}") Duration hourlyRetention,
+                             @Value("${article.view-rollups.max-pending:100000}") int maxPending) {
+        this(rollupRepository, articleStatsRepository, jobService, transactionManager, enabled, hourlyRetention,
+                maxPending, Clock.systemDefaultZone());
+    }
+
+    ViewRollupService(ArticleViewRollupRepository rollupRepository, ArticleStatsRepository articleStatsRepository,
+                      JobService jobService, PlatformTransactionManager transactionManager, boolean enabled,
+                      Duration hourlyRetention, int maxPending, Clock clock) {
+        this.rollupRepository = rollupRepository;
+        this.articleStatsRepository = articleStatsRepository;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.hourlyRetention = hourlyRetention;
+        this.maxPending = Math.max(1, maxPending);
+        this.clock = clock;
+    }
+
+    @EventListener
+    public void onArticleViewed(ArticleViewedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime hour = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS);
+        // 与 flush 的 remove 互斥，累加不会落在已取走的计数上
+        pending.compute(event.getArticleId(), (id, hours) -> {
+            if (hours == null) {
+                if (pending.size() >= maxPending) {
+                    dropped.incrementAndGet();
+                    return null;
+                }
+                hours = new HashMap<>();
+            }
+            hours.merge(hour, 1, Integer::sum);
+            return hours;
+        });
+    }
+
+    /**
+     * 已删除文章尚未写入的浏览量直接丢弃；已写入的汇总行随计数行一起删除
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.ChangeType.DELETED) {
+            pending.remove(event.getArticleId());
+        }
+    }
+
+    /**
+     * 把内存中的小时浏览量在一个事务中批量累加写入，失败时放回内存，下次重试
+     */
+    @Scheduled(fixedDelayString = "${article.view-rollups.flush-interval:PT1M}",
+               initialDelayString = "${article.view-rollups.flush-interval:PT1M}")
+    public synchronized void flush() {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            log.warn("待写入的文章数达到上限 {}，{} 次浏览未计入浏览量汇总", maxPending, lost);
+        }
+        List<ArticleViewRollup> rows = new ArrayList<>();
+        for (Long articleId : pending.keySet()) {
+            Map<LocalDateTime, Integer> hours = pending.remove(articleId);
+            if (hours != null) {
+                hours.forEach((hour, views) -> rows.add(new ArticleViewRollup(articleId, HOUR, hour, views)));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        // 按主键顺序写入，与删除文章时的加锁顺序一致
+        rows.sort(Comparator.comparing(ArticleViewRollup::getArticleId)
+                .thenComparing(ArticleViewRollup::getBucketStart));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> existing = new HashSet<>(articleStatsRepository.findExistingIds(
+                        rows.stream().map(ArticleViewRollup::getArticleId).distinct().collect(Collectors.toList())));
+                // 期间已被删除的文章不再写入
+                rollupRepository.addViews(rows.stream()
+                        .filter(row -> existing.contains(row.getArticleId()))
+                        .collect(Collectors.toList()));
+            });
+            log.debug("已写入 {} 个小时浏览量汇总", rows.size());
+        } catch (Exception e) {
+            log.warn("写入浏览量汇总失败，下次重试: {}", e.getMessage());
+            for (ArticleViewRollup row : rows) {
+                pending.compute(row.getArticleId(), (id, hours) -> {
+                    Map<LocalDateTime, Integer> merged = hours == null ? new HashMap<>() : hours;
+                    merged.merge(row.getBucketStart(), row.getViews(), Integer::sum);
+                    return merged;
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 把早于 hourly-retention 的小时桶按天汇总，每天一个事务；有待汇总的数据时作为后台任务记录进度
+     */
+    @Scheduled(fixedDelayString = "${article.view-rollups.compaction-interval:PT24H}",
+               initialDelayString = "${article.view-rollups.compaction-initial-delay:PT10M}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(hourlyRetention).truncatedTo(ChronoUnit.DAYS);
+        long total = rollupRepository.countHourlyBefore(cutoff);
+        if (total == 0) {
+            return;
+        }
+        JobService.Job job = jobService.start("VIEW_ROLLUP_COMPACTION", "把 " + cutoff.toLocalDate()
+                + " 之前的小时浏览量汇总为天", total);
+        try {
+            LocalDateTime oldest;
+            while ((oldest = rollupRepository.findOldestHourlyBefore(cutoff)) != null) {
+                LocalDateTime day = oldest.truncatedTo(ChronoUnit.DAYS);
+                job.progress(transactionTemplate.execute(status -> compactDay(day)));
+            }
+            job.complete();
+        } catch (ConcurrencyFailureException e) {
+            // 其他节点正在汇总，本次累加已回滚，剩余的天由它完成
+            log.info("小时浏览量汇总让给其他节点: {}", e.getMessage());
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e);
+        }
+    }
+
+    /**
+     * 把一天的小时桶累加到天桶并删除。汇总是普通读，删除读取最新提交的数据：
+     * 删除行数与汇总时读到的行数不一致，说明其他节点已汇总或写入了这一天，抛出异常回滚本次累加
+     */
+    private int compactDay(LocalDateTime day) {
+        LocalDateTime next = day.plusDays(1);
+        List<ArticleViewRollup> daily = new ArrayList<>();
+        long summed = 0;
+        for (Object[] row : rollupRepository.sumHourly(day, next)) {
+            daily.add(new ArticleViewRollup((Long) row[0], DAY, day, ((Number) row[1]).intValue()));
+            summed += ((Number) row[2]).longValue();
+        }
+        rollupRepository.addViews(daily);
+        int deleted = rollupRepository.deleteHourly(day, next);
+        if (deleted != summed) {
+            throw new ConcurrencyFailureException(day.toLocalDate() + " 的小时桶汇总了 " + summed
+                    + " 行，删除时为 " + deleted + " 行");
+        }
+        return deleted;
+    }
+
+    /**
+     * 文章在 [from, to) 内按小时或按天的浏览量。from、to 为 ISO 日期或日期时间，默认到当前时间为止的
+     * 24 小时（HOUR）或 30 天（DAY）；小时粒度只覆盖 hourly-retention 内的数据
+     */
+    @Transactional(readOnly = true)
+    public ArticleViewStatsDTO getViewStats(Long articleId, String fromParam, String toParam, String granularityParam) {
+        String granularity = granularityParam == null ? DAY : granularityParam.toUpperCase();
+        if (!HOUR.equals(granularity) && !DAY.equals(granularity)) {
+            throw new ValidationException("不支持的时间粒度: " + granularityParam);
+        }
+        ChronoUnit unit = HOUR.equals(granularity) ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        LocalDateTime to = toParam == null ? LocalDateTime.now(clock) : parseTime(toParam);
+        LocalDateTime from = fromParam == null
+                ? (HOUR.equals(granularity) ? to.minusHours(24) : to.minusDays(30))
+                : parseTime(fromParam);
+        from = from.truncatedTo(unit);
+        if (!from.isBefore(to)) {
+            throw new ValidationException("from 必须早于 to");
+        }
+        if (unit.between(from, to) >= MAX_POINTS) {
+            throw new ValidationException("时间范围过大，最多 " + MAX_POINTS + " 个时间桶");
+        }
+        if (!articleStatsRepository.existsById(articleId)) {
+            throw new ResourceNotFoundException("文章不存在");
+        }
+
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        for (LocalDateTime time = from; time.isBefore(to); time = time.plus(1, unit)) {
+            buckets.put(time, 0L);
+        }
+        long total = 0;
+        for (ArticleViewRollup row : rollupRepository.findRange(articleId, from, to)) {
+            // 天桶无法拆分到小时，小时粒度只统计小时桶
+            if (HOUR.equals(granularity) && !HOUR.equals(row.getGranularity())) {
+                continue;
+            }
+            buckets.merge(row.getBucketStart().truncatedTo(unit), (long) row.getViews(), Long::sum);
+            total += row.getViews();
+        }
+        List<ViewCountPointDTO> points = new ArrayList<>(buckets.size());
+        buckets.forEach((time, views) -> points.add(new ViewCountPointDTO(time, views)));
+        return new ArticleViewStatsDTO(articleId, granularity, from, to, total, points);
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("无效的时间: " + value);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleBatchDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.Category;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 启动预热：在就绪探针变为 UP 之前执行有代表性的列表筛选组合、热门文章详情加载和序列化，
+ * 让 JIT、连接池、Hibernate 查询计划缓存和详情响应缓存在接入流量前进入稳定状态。
+ * <p>
+ * 预热在 ApplicationReadyEvent 中同步执行，Spring Boot 在全部监听器返回后才把就绪状态改为
+ * ACCEPTING_TRAFFIC（/actuator/health/readiness）。详情预加载不记录浏览；超过 max-duration 时提前结束。
+ * 耗时和执行的内容记录在日志和类型为 WARM_UP 的后台任务中。
+ */
+@Slf4j
+@Service
+public class WarmUpService {
+
+    private static final List<String> STATUSES = Arrays.asList(null, "PUBLISHED");
+    private static final List<String> TAGS = Arrays.asList(null, "HOT", "LATEST");
+    private static final int PAGES = 2;
+
+    private final ArticleService articleService;
+    private final ArticleRepository articleRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int rounds;
+    private final int topArticles;
+    private final int concurrency;
+    private final Duration maxDuration;
+
+    public WarmUpService(ArticleService articleService,
+                         ArticleRepository articleRepository,
+                         CategoryRepository categoryRepository,
+                         ObjectMapper objectMapper,
+                         JobService jobService,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${article.warm-up.enabled:true}") boolean enabled,
+                         @Value("${article.warm-up.rounds:10}") int rounds,
+                         @Value("${article.warm-up.top-articles:20}") int topArticles,
+                         @Value("${article.warm-up.concurrency:4}") int concurrency,
+                         @Value("${article.warm-up.max-duration:PT60S}") Duration maxDuration) {
+        this.articleService = articleService;
+        this.articleRepository = articleRepository;
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.jobService = jobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.rounds = rounds;
+        this.topArticles = topArticles;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxDuration = maxDuration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    public void warmUp() {
+        JobService.Job job = jobService.start("WARM_UP", "启动预热", -1);
+        long started = System.currentTimeMillis();
+        long deadline = started + maxDuration.toMillis();
+        Counters counters = new Counters();
+        try {
+            List<Article> top = articleRepository.findByFiltersOrderByViewCount(
+                    "PUBLISHED", null, null, null, PageRequest.of(0, Math.max(1, topArticles))).getContent();
+            List<Long> topIds = top.stream().map(Article::getId).toList();
+            List<ArticleListRequest> requests = listRequests(top);
+
+            // 热门文章的详情响应写入缓存，之后的轮次通过批量获取重复正文、图片、计数的加载和 DTO 转换
+            for (Long id : topIds) {
+                if (articleService.preloadArticleResponse(id)) {
+                    counters.details.incrementAndGet();
+                }
+            }
+
+            // 多个线程同时执行，同时占用多个连接
+            ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+            try {
+                List<Future<?>> workers = new ArrayList<>();
+                for (int i = 0; i < concurrency; i++) {
+                    workers.add(executor.submit(() -> runRounds(requests, topIds, deadline, counters, job)));
+                }
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            String summary = String.format(
+                    "耗时 %dms%s：筛选组合 %d 种，列表请求 %d 次，数据库列表查询 %d 次，详情预加载 %d 篇，批量详情 %d 次，序列化 %d 次",
+                    System.currentTimeMillis() - started, counters.timedOut ? "（达到时限提前结束）" : "",
+                    requests.size(), counters.lists.get(), counters.queries.get(), counters.details.get(),
+                    counters.batches.get(), counters.serialized.get());
+            log.info("启动预热完成，{}", summary);
+            job.complete(summary);
+        } catch (Exception e) {
+            // 预热失败不影响启动，未预热的路径在首次请求时照常初始化
+            job.fail(e);
+        }
+    }
+
+    private void runRounds(List<ArticleListRequest> requests, List<Long> topIds, long deadline,
+                           Counters counters, JobService.Job job) {
+        for (int round = 0; round < rounds; round++) {
+            for (ArticleListRequest request : requests) {
+                if (System.currentTimeMillis() > deadline) {
+                    counters.timedOut = true;
+                    return;
+                }
+                // 请求中的列表查询由 open-in-view 保持会话，这里用只读事务代替
+                transactionTemplate.executeWithoutResult(status -> {
+                    serialize(articleService.getArticleList(request), counters);
+                    queryDatabase(request);
+                });
+                counters.lists.incrementAndGet();
+                counters.queries.incrementAndGet();
+                job.progress(2);
+            }
+            if (!topIds.isEmpty()) {
+                ArticleBatchDTO batch = articleService.getArticlesByIds(topIds, false);
+                serialize(batch, counters);
+                counters.batches.incrementAndGet();
+                job.progress(1);
+            }
+        }
+    }
+
+    /**
+     * 列表请求大多由内存缓冲和列存完成，这里直接执行对应的数据库查询，预热查询计划和连接
+     */
+    private void queryDatabase(ArticleListRequest request) {
+        if ("HOT".equals(request.getTag())) {
+            articleRepository.findByFiltersOrderByViewCount(request.getStatus(), request.getCategoryId(),
+                    request.getArticleType(), request.getTag(), PageRequest.of(request.getPage(), request.getSize()));
+        } else {
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(Sort.Direction.DESC, "createTime"));
+            articleRepository.findByFilters(request.getStatus(), request.getCategoryId(),
+                    request.getArticleType(), request.getTag(), pageable);
+        }
+    }
+
+    private void serialize(Object value, Counters counters) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+            counters.serialized.incrementAndGet();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("预热序列化失败", e);
+        }
+    }
+
+    /**
+     * 状态 × 分类 × 类型 × 标签 × 页码的组合，分类和类型取库中实际存在的值
+     */
+    private List<ArticleListRequest> listRequests(List<Article> top) {
+        List<Long> categoryIds = new ArrayList<>();
+        categoryIds.add(null);
+        categoryRepository.findAll(PageRequest.of(0, 1)).getContent().stream()
+                .map(Category::getId)
+                .forEach(categoryIds::add);
+
+        List<String> articleTypes = new ArrayList<>();
+        articleTypes.add(null);
+        top.stream()
+                .map(Article::getArticleType)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .ifPresent(articleTypes::add);
+
+        List<ArticleListRequest> requests = new ArrayList<>();
+        for (String status : STATUSES) {
+            for (Long categoryId : categoryIds) {
+                for (String articleType : articleTypes) {
+                    for (String tag : TAGS) {
+                        for (int page = 0; page < PAGES; page++) {
+                            ArticleListRequest request = new ArticleListRequest();
+                            request.setStatus(status);
+                            request.setCategoryId(categoryId);
+                            request.setArticleType(articleType);
+                            request.setTag(tag);
+                            request.setPage(page);
+                            requests.add(request);
+                        }
+                    }
+                }
+            }
+        }
+        return requests;
+    }
+
+    private static final class Counters {
+        private final AtomicLong lists = new AtomicLong();
+        private final AtomicLong queries = new AtomicLong();
+        private final AtomicLong details = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong serialized = new AtomicLong();
+        private volatile boolean timedOut;
+    }
+}
@@ -0,0 +1,43 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 为 category_name 冗余列上线前写入的文章补齐分类名称，由 Flyway 记录，只执行一次。
+ * 按主键区间分块更新，每块自动提交，不在一个长事务中锁住整张文章表。
+ */
+public class V6__BackfillCategoryNames extends BaseJavaMigration {
+
+    private static final long CHUNK_SIZE = 5000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM articles")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE articles a JOIN categories c ON c.id = a.category_id SET a.category_name = c.name " +
+                "WHERE a.id > ? AND a.id <= ? AND a.category_name IS NULL")) {
+            for (long from = 0; from < maxId; from += CHUNK_SIZE) {
+                update.setLong(1, from);
+                update.setLong(2, from + CHUNK_SIZE);
+                update.executeUpdate();
+            }
+        }
+    }
+}
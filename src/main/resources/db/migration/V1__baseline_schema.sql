@@ -0,0 +1,87 @@
+-- 版本化迁移 V1：与 database/schema.sql 的表结构一致（去掉建库语句，库由数据源 URL 指定）
+-- 仅在 prod 配置下由 Flyway 执行；已有数据且已执行全部 upgrade_*.sql 的库按 V1 基线登记，不会重复执行
+-- 之后的表结构变更新增 V2__xxx.sql 等文件，并同步修改 database/schema.sql
+
+-- 创建分类表
+CREATE TABLE categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE COMMENT '分类名称',
+    description VARCHAR(200) COMMENT '分类描述',
+    create_time DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    update_time DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    INDEX idx_name (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章分类表';
+
+-- 创建文章表
+CREATE TABLE articles (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(200) NOT NULL COMMENT '文章标题',
+    content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）',
+    cover_image VARCHAR(500) COMMENT '封面图片',
+    category_id BIGINT COMMENT '分类ID',
+    category_name VARCHAR(50) COMMENT '分类名称（冗余，分类改名/删除后由后台任务同步）',
+    status VARCHAR(20) DEFAULT 'PUBLISHED' COMMENT '状态: PUBLISHED-已发布, DRAFT-草稿, ARCHIVED-已归档',
+    article_type VARCHAR(50) COMMENT '文章类型: NEWS-新闻, BLOG-博客, TUTORIAL-教程等',
+    tag VARCHAR(20) COMMENT '标签: HOT-热门, LATEST-最新',
+    create_time DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    update_time DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE SET NULL,
+    INDEX idx_category_id (category_id),
+    INDEX idx_status (status),
+    INDEX idx_article_type (article_type),
+    INDEX idx_tag (tag),
+    INDEX idx_create_time (create_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章表';
+
+-- 创建文章计数表（浏览量等高频自增计数与文章宽行分开存放）
+CREATE TABLE article_stats (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    view_count INT NOT NULL DEFAULT 0 COMMENT '浏览量',
+    like_count INT NOT NULL DEFAULT 0 COMMENT '点赞数',
+    share_count INT NOT NULL DEFAULT 0 COMMENT '分享数',
+    INDEX idx_view_count (view_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章计数表（文章归档后保留，不设外键）';
+
+-- 创建文章图片表（多图支持）
+CREATE TABLE article_images (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    image_order INT NOT NULL COMMENT '图片顺序，从0开始',
+    image_url VARCHAR(500) NOT NULL COMMENT '图片URL',
+    PRIMARY KEY (article_id, image_order),
+    FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章图片表';
+
+-- 创建归档文章表（已归档文章由后台任务从 articles 迁入，id 不变）
+CREATE TABLE articles_archive (
+    id BIGINT PRIMARY KEY COMMENT '文章ID',
+    title VARCHAR(200) NOT NULL COMMENT '文章标题',
+    content MEDIUMBLOB COMMENT '文章内容（deflate 压缩存储）',
+    cover_image VARCHAR(500) COMMENT '封面图片',
+    category_id BIGINT COMMENT '分类ID',
+    status VARCHAR(20) DEFAULT 'ARCHIVED' COMMENT '状态',
+    article_type VARCHAR(50) COMMENT '文章类型',
+    tag VARCHAR(20) COMMENT '标签',
+    create_time DATETIME COMMENT '创建时间',
+    update_time DATETIME COMMENT '更新时间',
+    archived_time DATETIME COMMENT '归档时间',
+    INDEX idx_category_id (category_id),
+    INDEX idx_create_time (create_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章表';
+
+-- 创建归档文章图片表
+CREATE TABLE article_images_archive (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    image_order INT NOT NULL COMMENT '图片顺序，从0开始',
+    image_url VARCHAR(500) NOT NULL COMMENT '图片URL',
+    PRIMARY KEY (article_id, image_order),
+    FOREIGN KEY (article_id) REFERENCES articles_archive(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='归档文章图片表';
+
+-- 创建变更日志表（与文章/分类写操作同一事务写入，供下游增量同步）
+CREATE TABLE change_log (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '变更序号',
+    entity_type VARCHAR(20) NOT NULL COMMENT '对象类型: ARTICLE, CATEGORY',
+    entity_id BIGINT NOT NULL COMMENT '对象ID',
+    change_type VARCHAR(20) NOT NULL COMMENT '变更类型: CREATED, UPDATED, DELETED, ARCHIVED',
+    change_time DATETIME NOT NULL COMMENT '变更时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='变更日志表';
@@ -0,0 +1,10 @@
+-- 文章独立访客数：计数表增加估计值列，访客草图单独存放
+
+ALTER TABLE article_stats
+    ADD COLUMN unique_views INT NOT NULL DEFAULT 0 COMMENT '独立访客数（HyperLogLog 估计值）' AFTER share_count;
+
+CREATE TABLE article_visitor_sketches (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    sketch VARBINARY(4096) NOT NULL COMMENT 'HyperLogLog 寄存器（紧凑编码）',
+    update_time DATETIME NOT NULL COMMENT '最近一次合并时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章访客草图表（与计数表一样不设外键）';
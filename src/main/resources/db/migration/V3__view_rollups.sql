@@ -0,0 +1,10 @@
+-- 文章浏览量时间汇总：按小时累加写入，超过保留期的小时桶汇总为天
+
+CREATE TABLE article_view_rollups (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    granularity VARCHAR(10) NOT NULL COMMENT '时间粒度: HOUR, DAY',
+    bucket_start DATETIME NOT NULL COMMENT '时间桶开始时间',
+    views INT NOT NULL COMMENT '时间桶内的浏览量',
+    PRIMARY KEY (article_id, granularity, bucket_start),
+    INDEX idx_granularity_bucket (granularity, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章浏览量时间汇总表（小时桶定期汇总为天桶）';
@@ -0,0 +1,22 @@
+-- 相关文章：MinHash 签名、LSH 桶和预先计算的相关文章列表
+
+CREATE TABLE article_signatures (
+    article_id BIGINT PRIMARY KEY COMMENT '文章ID',
+    signature VARBINARY(256) NOT NULL COMMENT '标题和正文的 MinHash 签名（64 个 32 位值）',
+    update_time DATETIME NOT NULL COMMENT '最近一次计算时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章 MinHash 签名表（只含已发布文章）';
+
+CREATE TABLE article_lsh_buckets (
+    band_hash BIGINT NOT NULL COMMENT '签名分段的哈希',
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    PRIMARY KEY (band_hash, article_id),
+    INDEX idx_article_id (article_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章 LSH 桶表（同一桶中的文章互为相关文章候选）';
+
+CREATE TABLE article_related (
+    article_id BIGINT NOT NULL COMMENT '文章ID',
+    related_id BIGINT NOT NULL COMMENT '相关文章ID',
+    similarity DOUBLE NOT NULL COMMENT 'MinHash 估计的 Jaccard 相似度',
+    PRIMARY KEY (article_id, related_id),
+    INDEX idx_related_id (related_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='相关文章表（每篇文章保留相似度最高的若干篇）';
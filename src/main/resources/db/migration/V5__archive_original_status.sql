@@ -0,0 +1,4 @@
+-- 归档表记录迁出前的状态，按时间老化归档的文章迁回时不再变成 ARCHIVED
+
+ALTER TABLE articles_archive
+    ADD COLUMN original_status VARCHAR(20) COMMENT '迁出前的状态，迁回时恢复' AFTER status;
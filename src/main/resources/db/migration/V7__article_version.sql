@@ -0,0 +1,7 @@
+-- 文章版本：每次修改加一，详情响应缓存按它判断条目是否过期（update_time 只精确到秒）
+
+ALTER TABLE articles
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT '版本，每次修改加一' AFTER update_time;
+
+ALTER TABLE articles_archive
+    ADD COLUMN version BIGINT COMMENT '迁出时的版本' AFTER update_time;
@@ -0,0 +1,4 @@
+-- 变更是否让文章变为已发布：新文章推送按回放的变更日志发送，各节点据此得出相同的事件
+
+ALTER TABLE change_log
+    ADD COLUMN published BOOLEAN NOT NULL DEFAULT FALSE COMMENT '是否使文章变为已发布' AFTER change_type;
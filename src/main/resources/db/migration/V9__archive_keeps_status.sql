@@ -0,0 +1,7 @@
+-- 归档表保留文章迁出前的状态，已归档与否由所在的表区分，不再把状态改写为 ARCHIVED
+
+UPDATE articles_archive SET status = original_status WHERE original_status IS NOT NULL;
+
+ALTER TABLE articles_archive
+    MODIFY COLUMN status VARCHAR(20) COMMENT '迁出前的状态',
+    DROP COLUMN original_status;
@@ -0,0 +1,72 @@
+package com.example.articleapi.config;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.PageResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 比较 JSON、CBOR、Smile 编解码一页文章列表的大小和耗时。类名不以 Test 结尾，不随单元测试运行，需要时单独执行：
+ * <pre>
+ * mvn -q test -Dtest=BinaryFormatBenchmark
+ * </pre>
+ * 每种格式先预热，再测 ROUNDS 轮、每轮 ITERATIONS 次，取每轮平均值的中位数
+ */
+class BinaryFormatBenchmark {
+
+    private static final TypeReference<PageResult<ArticleDTO>> PAGE_TYPE = new TypeReference<>() {};
+    private static final int WARMUP = 5_000;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    void compareEncodeAndDecodeTime() throws Exception {
+        Map<String, AbstractJackson2HttpMessageConverter> converters = new JacksonConfigTest().converters();
+        PageResult<ArticleDTO> page = JacksonConfigTest.samplePage(20, 2_000);
+
+        System.out.printf("%-6s %10s %14s %14s%n", "格式", "字节", "编码 µs/页", "解码 µs/页");
+        for (String format : List.of("json", "cbor", "smile")) {
+            ObjectMapper mapper = converters.get(format).getObjectMapper();
+            byte[] encoded = mapper.writeValueAsBytes(page);
+            for (int i = 0; i < WARMUP; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(page), PAGE_TYPE);
+            }
+
+            double[] encodeMicros = new double[ROUNDS];
+            double[] decodeMicros = new double[ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    encoded = mapper.writeValueAsBytes(page);
+                }
+                encodeMicros[round] = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+                PageResult<ArticleDTO> decoded = null;
+                start = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    decoded = mapper.readValue(encoded, PAGE_TYPE);
+                }
+                decodeMicros[round] = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+                // 使用解码结果，避免循环被优化掉
+                assertEquals(page, decoded, format);
+            }
+
+            System.out.printf("%-6s %10d %14.1f %14.1f%n", format, encoded.length,
+                    median(encodeMicros), median(decodeMicros));
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.articleapi.config;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.FieldSelection;
+import com.example.articleapi.dto.PageResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonConfigTest {
+
+    private static final TypeReference<PageResult<ArticleDTO>> PAGE_TYPE = new TypeReference<>() {};
+
+    private final JacksonConfig config = new JacksonConfig();
+
+    @Test
+    void testBinaryFormatsRoundTripPageResult() throws Exception {
+        // Given
+        PageResult<ArticleDTO> page = samplePage(20, 500);
+        byte[] json = converters().get("json").getObjectMapper().writeValueAsBytes(page);
+
+        for (String format : List.of("cbor", "smile")) {
+            ObjectMapper mapper = converters().get(format).getObjectMapper();
+
+            // When
+            byte[] encoded = mapper.writeValueAsBytes(page);
+            PageResult<ArticleDTO> decoded = mapper.readValue(encoded, PAGE_TYPE);
+
+            // Then
+            assertEquals(page, decoded, format);
+            assertTrue(encoded.length < json.length, format + " 应比 JSON 小");
+        }
+    }
+
+    @Test
+    void testFieldFilterAppliesToBinaryFormats() throws Exception {
+        // Given
+        AbstractJackson2HttpMessageConverter converter = converters().get("cbor");
+        MappingJacksonValue value = new MappingJacksonValue(samplePage(1, 10));
+        value.setFilters(new SimpleFilterProvider().addFilter(
+                FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("id", "title"))));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(value, converter.getSupportedMediaTypes().get(0), output);
+        PageResult<ArticleDTO> decoded = converter.getObjectMapper().readValue(output.getBodyAsBytes(), PAGE_TYPE);
+
+        // Then
+        assertEquals("标题0", decoded.getContent().get(0).getTitle());
+        assertNull(decoded.getContent().get(0).getContent());
+    }
+
+    /**
+     * 与 Spring Boot 相同的构建器配置创建 JSON、CBOR、Smile 三种转换器
+     */
+    Map<String, AbstractJackson2HttpMessageConverter> converters() {
+        return Map.of(
+            "json", new MappingJackson2HttpMessageConverter(builder().build()),
+            "cbor", config.cborHttpMessageConverter(builder()),
+            "smile", config.smileHttpMessageConverter(builder())
+        );
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        config.fieldFilterCustomizer().customize(builder);
+        return builder;
+    }
+
+    static PageResult<ArticleDTO> samplePage(int size, int contentLength) {
+        List<ArticleDTO> articles = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ArticleDTO dto = new ArticleDTO();
+            dto.setId((long) i);
+            dto.setTitle("标题" + i);
+            dto.setContent("正文内容".repeat(contentLength / 4));
+            dto.setCoverImage("https://example.com/cover/" + i + ".jpg");
+            dto.setImages(List.of("https://example.com/images/" + i + "-1.jpg"));
+            dto.setCategoryId(1L);
+            dto.setCategoryName("技术");
+            dto.setViewCount(i * 10);
+            dto.setLikeCount(i);
+            dto.setShareCount(0);
+            dto.setStatus("PUBLISHED");
+            dto.setArticleType("NEWS");
+            dto.setCreateTime(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(i));
+            dto.setUpdateTime(LocalDateTime.of(2024, 1, 2, 10, 0).plusMinutes(i));
+            articles.add(dto);
+        }
+        return new PageResult<>(articles, 0, size, 100L);
+    }
+}
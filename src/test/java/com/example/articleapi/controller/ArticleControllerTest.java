@@ -1,20 +1,49 @@
 package com.example.articleapi.controller;
 
+import com.example.articleapi.dto.ArticleBatchDTO;
+import com.example.articleapi.dto.ArticleBatchRequest;
+import com.example.articleapi.dto.ArticleContentPageDTO;
 import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleDeleteResultDTO;
+import com.example.articleapi.dto.ArticleFacetsDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.ArticleViewStatsDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.dto.JobDTO;
 import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.dto.RelatedArticleDTO;
+import com.example.articleapi.service.ArticleContentService;
+import com.example.articleapi.service.ArticleFacetService;
+import com.example.articleapi.service.ArticleResponseCache;
 import com.example.articleapi.service.ArticleService;
+import com.example.articleapi.service.ArticleStreamService;
+import com.example.articleapi.service.ArticleWriteCoalescer;
+import com.example.articleapi.service.BulkDeleteService;
+import com.example.articleapi.service.ChangeLogService;
+import com.example.articleapi.service.RelatedArticleService;
+import com.example.articleapi.service.ViewRollupService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -26,6 +55,30 @@ class ArticleControllerTest {
     @Mock
     private ArticleService articleService;
 
+    @Mock
+    private ArticleFacetService articleFacetService;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private ArticleStreamService articleStreamService;
+
+    @Mock
+    private ArticleWriteCoalescer articleWriteCoalescer;
+
+    @Mock
+    private BulkDeleteService bulkDeleteService;
+
+    @Mock
+    private ViewRollupService viewRollupService;
+
+    @Mock
+    private RelatedArticleService relatedArticleService;
+
+    @Mock
+    private ArticleContentService articleContentService;
+
     @InjectMocks
     private ArticleController articleController;
 
@@ -45,6 +98,11 @@ class ArticleControllerTest {
         pageResult = new PageResult<>(content, 0, 10, 1L);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void testGetArticleList() {
         // Given
@@ -52,7 +110,7 @@ class ArticleControllerTest {
 
         // When
         ResponseEntity<PageResult<ArticleDTO>> response = articleController.getArticleList(
-            null, null, null, null, null, null);
+            null, null, null, null, null, null, null, null);
 
         // Then
         assertNotNull(response);
@@ -68,21 +126,22 @@ class ArticleControllerTest {
 
         // When
         ResponseEntity<PageResult<ArticleDTO>> response = articleController.getArticleList(
-            0, 10, "PUBLISHED", 1L, "NEWS", "HOT");
+            0, 10, "PUBLISHED", 1L, "NEWS", "HOT", null, "id,title");
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(articleService, times(1)).getArticleList(any());
+        verify(articleService, times(1)).getArticleList(argThat(r -> "id,title".equals(r.getFields())));
     }
 
     @Test
     void testGetArticleById() {
         // Given
-        when(articleService.getArticleById(1L)).thenReturn(articleDTO);
+        when(articleService.getArticleById(1L, null, "c:v-1")).thenReturn(articleDTO);
 
         // When
-        ResponseEntity<ArticleDTO> response = articleController.getArticleById(1L);
+        ResponseEntity<ArticleDTO> response = articleController.getArticleById(1L, null, "v-1",
+                new MockHttpServletRequest(), new MockHttpServletResponse());
 
         // Then
         assertNotNull(response);
@@ -91,6 +150,117 @@ class ArticleControllerTest {
         assertEquals("测试文章", response.getBody().getTitle());
     }
 
+    @Test
+    void testGetArticleViewStats() {
+        // Given
+        ArticleViewStatsDTO stats = new ArticleViewStatsDTO();
+        stats.setTotalViews(12L);
+        when(viewRollupService.getViewStats(1L, "2024-01-01", null, "DAY")).thenReturn(stats);
+
+        // When
+        ResponseEntity<ArticleViewStatsDTO> response = articleController.getArticleViewStats(1L, "2024-01-01", null, "DAY");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(12L, response.getBody().getTotalViews());
+    }
+
+    @Test
+    void testGetRelatedArticles() {
+        // Given
+        RelatedArticleDTO related = new RelatedArticleDTO();
+        related.setId(2L);
+        related.setSimilarity(0.5);
+        when(relatedArticleService.getRelatedArticles(1L)).thenReturn(List.of(related));
+
+        // When
+        ResponseEntity<List<RelatedArticleDTO>> response = articleController.getRelatedArticles(1L);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(2L, response.getBody().get(0).getId());
+    }
+
+    @Test
+    void testGetArticleContentIgnoresRangeWhenIfRangeIsStale() throws Exception {
+        // Given
+        ArticleContentService.ContentResource content = mock(ArticleContentService.ContentResource.class);
+        when(content.getETag()).thenReturn("\"abc-1\"");
+        when(content.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{'a'}));
+        when(articleContentService.getContent(1L)).thenReturn(content);
+
+        // When
+        ResponseEntity<Resource> current = articleController.getArticleContent(1L, null, "\"abc-1\"");
+        ResponseEntity<Resource> stale = articleController.getArticleContent(1L, "bytes=0-9", "\"old-1\"");
+
+        // Then: ETag 一致时返回正文资源，由框架处理 Range；不一致时返回不参与 Range 处理的完整正文
+        assertSame(content, current.getBody());
+        assertEquals("\"abc-1\"", current.getHeaders().getETag());
+        assertEquals("text/plain;charset=UTF-8", current.getHeaders().getContentType().toString());
+        assertInstanceOf(InputStreamResource.class, stale.getBody());
+    }
+
+    @Test
+    void testGetArticleContentRejectsUnsatisfiableRangeWithoutBody() throws Exception {
+        // Given
+        ArticleContentService.ContentResource content = mock(ArticleContentService.ContentResource.class);
+        when(content.getETag()).thenReturn("\"abc-1\"");
+        when(content.contentLength()).thenReturn(10L);
+        when(articleContentService.getContent(1L)).thenReturn(content);
+
+        // When
+        ResponseEntity<Resource> response = articleController.getArticleContent(1L, "bytes=20-", null);
+
+        // Then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */10", response.getHeaders().getFirst("Content-Range"));
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void testGetArticleContentPage() {
+        // Given
+        ArticleContentPageDTO page = new ArticleContentPageDTO(1L, 0, 20, List.of("第一段"), false);
+        when(articleContentService.getContentPage(1L, 0, null)).thenReturn(page);
+
+        // When
+        ResponseEntity<ArticleContentPageDTO> response = articleController.getArticleContentPage(1L, 0, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("第一段"), response.getBody().getParagraphs());
+    }
+
+    @Test
+    void testVisitorCookieIssuedOnFirstVisit() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.8");
+        request.addHeader("User-Agent", "curl/8.0");
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletResponse returning = new MockHttpServletResponse();
+
+        // When
+        String firstKey = ArticleController.visitorKey(null, request, first);
+        String secondKey = ArticleController.visitorKey(null, request, second);
+        String returningKey = ArticleController.visitorKey("abc", request, returning);
+
+        // Then: 没有 cookie 时按地址和 User-Agent 生成固定的 id 并下发，带 cookie 时直接使用
+        String visitorId = firstKey.substring(2);
+        assertTrue(firstKey.startsWith("c:"));
+        assertEquals(firstKey, secondKey);
+        String cookie = first.getHeader("Set-Cookie");
+        assertTrue(cookie.startsWith("visitor_id=" + visitorId + ";"));
+        assertTrue(cookie.contains("Max-Age=31536000"));
+        assertTrue(cookie.contains("HttpOnly"));
+        assertEquals("private", first.getHeader("Cache-Control"));
+        assertEquals("c:abc", returningKey);
+        assertNull(returning.getHeader("Set-Cookie"));
+        assertNull(returning.getHeader("Cache-Control"));
+    }
+
     @Test
     void testCreateArticle() {
         // Given
@@ -140,4 +310,158 @@ class ArticleControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(articleService, times(1)).deleteArticle(1L);
     }
+
+    @Test
+    void testGetArticleFacets() {
+        // Given
+        ArticleFacetsDTO facets = new ArticleFacetsDTO();
+        facets.setTotal(3L);
+        facets.getStatus().put("PUBLISHED", 3L);
+        when(articleFacetService.getFacets(any())).thenReturn(facets);
+
+        // When
+        ResponseEntity<ArticleFacetsDTO> response = articleController.getArticleFacets("PUBLISHED", null, null, null);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3L, response.getBody().getTotal());
+        verify(articleFacetService, times(1)).getFacets(argThat(r -> "PUBLISHED".equals(r.getStatus())));
+    }
+
+    @Test
+    void testPatchArticle() {
+        // Given
+        Map<String, Object> patch = Map.of("status", "DRAFT");
+        when(articleService.patchArticle(1L, patch)).thenReturn(articleDTO);
+
+        // When
+        ResponseEntity<ArticleDTO> response = articleController.patchArticle(1L, patch);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(articleService, times(1)).patchArticle(1L, patch);
+    }
+
+    @Test
+    void testGetChanges() {
+        // Given
+        ChangeFeedDTO feed = new ChangeFeedDTO(new ArrayList<>(), "42", false);
+        when(changeLogService.getChanges("42", 50)).thenReturn(feed);
+
+        // When
+        ResponseEntity<ChangeFeedDTO> response = articleController.getChanges("42", 50);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("42", response.getBody().getNextToken());
+        verify(changeLogService, times(1)).getChanges("42", 50);
+    }
+
+    @Test
+    void testStreamPublishedArticles() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        when(articleStreamService.subscribe(1L, "NEWS", "100")).thenReturn(emitter);
+
+        // When
+        SseEmitter result = articleController.streamPublishedArticles(1L, "NEWS", "100");
+
+        // Then
+        assertSame(emitter, result);
+    }
+
+    @Test
+    void testGetArticlesByIds() {
+        // Given
+        ArticleBatchDTO batch = new ArticleBatchDTO(List.of(articleDTO), List.of(7L));
+        when(articleService.getArticlesByIds(List.of(1L, 7L), false)).thenReturn(batch);
+
+        // When
+        ResponseEntity<ArticleBatchDTO> response = articleController.getArticlesByIds(List.of(1L, 7L), false);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(7L), response.getBody().getMissingIds());
+    }
+
+    @Test
+    void testPostArticlesByIds() {
+        // Given
+        ArticleBatchRequest request = new ArticleBatchRequest();
+        request.setIds(List.of(1L));
+        request.setRecordViews(true);
+        when(articleService.getArticlesByIds(List.of(1L), true))
+                .thenReturn(new ArticleBatchDTO(List.of(articleDTO), List.of()));
+
+        // When
+        ResponseEntity<ArticleBatchDTO> response = articleController.getArticlesByIds(request);
+
+        // Then
+        assertEquals(1, response.getBody().getArticles().size());
+        verify(articleService, times(1)).getArticlesByIds(List.of(1L), true);
+    }
+
+    @Test
+    void testGetArticleByIdCachedWritesGzipWhenAccepted() throws Exception {
+        // Given
+        ArticleResponseCache.Response cached = mock(ArticleResponseCache.Response.class);
+        when(articleService.getArticleResponse(1L, "c:v-1")).thenReturn(cached);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        articleController.getArticleByIdCached(1L, "gzip, deflate", "v-1", new MockHttpServletRequest(), response);
+
+        // Then
+        verify(cached, times(1)).writeTo(response, true);
+    }
+
+    @Test
+    void testCreateArticleThroughWriteCoalescer() {
+        // Given
+        when(articleWriteCoalescer.isEnabled()).thenReturn(true);
+        when(articleWriteCoalescer.createArticle(any(ArticleDTO.class))).thenReturn(articleDTO);
+
+        // When
+        ResponseEntity<ArticleDTO> response = articleController.createArticle(new ArticleDTO());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(articleService, never()).createArticle(any());
+    }
+
+    @Test
+    void testDeleteArticlesByIds() {
+        // Given
+        when(bulkDeleteService.deleteArticles(List.of(1L, 7L))).thenReturn(new ArticleDeleteResultDTO(1, List.of(7L)));
+
+        // When
+        ResponseEntity<ArticleDeleteResultDTO> response = articleController.deleteArticles(List.of(1L, 7L));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getDeleted());
+        assertEquals(List.of(7L), response.getBody().getMissingIds());
+    }
+
+    @Test
+    void testDeleteArticlesByFiltersReturnsJob() {
+        // Given
+        JobDTO job = new JobDTO();
+        job.setId("job-1");
+        when(bulkDeleteService.deleteArticles(any(ArticleListRequest.class))).thenReturn(job);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContextPath("/api");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        ResponseEntity<JobDTO> response = articleController.deleteArticles("DRAFT", 3L, null, null);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("http://localhost/api/jobs/job-1", response.getHeaders().getLocation().toString());
+        verify(bulkDeleteService, times(1)).deleteArticles(argThat((ArticleListRequest r) ->
+                "DRAFT".equals(r.getStatus()) && Long.valueOf(3L).equals(r.getCategoryId())));
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.articleapi.controller;
 
 import com.example.articleapi.dto.CategoryDTO;
+import com.example.articleapi.dto.JobDTO;
 import com.example.articleapi.service.CategoryService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,15 +45,20 @@ class CategoryControllerTest {
         categoryDTO.setUpdateTime(LocalDateTime.now());
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void testGetAllCategories() {
         // Given
         List<CategoryDTO> categories = new ArrayList<>();
         categories.add(categoryDTO);
-        when(categoryService.getAllCategories()).thenReturn(categories);
+        when(categoryService.getAllCategories(null)).thenReturn(categories);
 
         // When
-        ResponseEntity<List<CategoryDTO>> response = categoryController.getAllCategories();
+        ResponseEntity<List<CategoryDTO>> response = categoryController.getAllCategories(null);
 
         // Then
         assertNotNull(response);
@@ -112,14 +122,34 @@ class CategoryControllerTest {
     @Test
     void testDeleteCategory() {
         // Given
-        doNothing().when(categoryService).deleteCategory(1L);
+        when(categoryService.deleteCategory(1L)).thenReturn(null);
 
         // When
-        ResponseEntity<Void> response = categoryController.deleteCategory(1L);
+        ResponseEntity<JobDTO> response = categoryController.deleteCategory(1L);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(categoryService, times(1)).deleteCategory(1L);
     }
+
+    @Test
+    void testDeleteLargeCategoryReturnsJob() {
+        // Given
+        JobDTO job = new JobDTO();
+        job.setId("job-1");
+        job.setStatus("RUNNING");
+        when(categoryService.deleteCategory(1L)).thenReturn(job);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContextPath("/api");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When
+        ResponseEntity<JobDTO> response = categoryController.deleteCategory(1L);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("http://localhost/api/jobs/job-1", response.getHeaders().getLocation().toString());
+        assertEquals("RUNNING", response.getBody().getStatus());
+    }
 }
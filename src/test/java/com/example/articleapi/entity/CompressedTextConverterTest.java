@@ -0,0 +1,69 @@
+package com.example.articleapi.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    void testRoundTripCompressesRepetitiveText() {
+        // Given
+        String content = "<p>Spring Boot 3 带来了许多新特性和改进。</p>".repeat(200);
+
+        // When
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // Then
+        assertTrue(CompressedTextConverter.isCompressed(stored));
+        assertTrue(stored.length < content.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertEquals(content, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void testReadsLegacyPlainText() {
+        // Given
+        byte[] legacy = "压缩上线前写入的正文".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        String content = converter.convertToEntityAttribute(legacy);
+
+        // Then
+        assertFalse(CompressedTextConverter.isCompressed(legacy));
+        assertEquals("压缩上线前写入的正文", content);
+    }
+
+    @Test
+    void testOpenStreamDecodesBothFormats() throws IOException {
+        // Given
+        String content = "第一段\n第二段\n".repeat(500);
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        try (InputStream in = CompressedTextConverter.openStream(converter.convertToDatabaseColumn(content))) {
+            assertArrayEquals(utf8, in.readAllBytes());
+        }
+        try (InputStream in = CompressedTextConverter.openStream(utf8)) {
+            assertArrayEquals(utf8, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testNullAndEmpty() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+        assertEquals("", converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test
+    void testRejectsUnknownFormat() {
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute(new byte[]{0x00, 0x7f, 1}));
+    }
+}
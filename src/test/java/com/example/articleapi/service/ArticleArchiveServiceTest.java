@@ -0,0 +1,152 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.entity.ArchivedArticle;
+import com.example.articleapi.entity.Category;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleArchiveServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArchivedArticleRepository archivedArticleRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ArticleStatsService articleStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+    private ArticleArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        archiveService = new ArticleArchiveService(articleRepository, archivedArticleRepository, categoryRepository,
+                articleStatsService, jobService, eventPublisher, transactionManager, true, 0, 2);
+    }
+
+    private Object[] row(long id, String status) {
+        return new Object[]{id, 1L, status, "NEWS", null, LocalDateTime.of(2024, 1, 1, 0, 0)};
+    }
+
+    @Test
+    void testArchiveMovesInChunksAndPublishesEvents() {
+        // Given
+        when(articleRepository.countArchivable(null)).thenReturn(3L);
+        when(articleRepository.findArchivable(isNull(), any(Pageable.class)))
+                .thenReturn(List.of(row(1, "ARCHIVED"), row(2, "ARCHIVED")))
+                .thenReturn(List.<Object[]>of(row(5, "ARCHIVED")));
+
+        // When
+        archiveService.archive();
+
+        // Then
+        verify(archivedArticleRepository, times(1)).copyFromArticles(List.of(1L, 2L));
+        verify(archivedArticleRepository, times(1)).copyImagesFromArticles(List.of(5L));
+        verify(articleRepository, times(1)).deleteImagesByArticleIdIn(List.of(1L, 2L));
+        verify(articleRepository, times(1)).deleteRowsByIdIn(List.of(5L));
+        ArgumentCaptor<ArticleChangedEvent> events = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        ArticleChangedEvent first = events.getAllValues().get(0);
+        assertEquals(ChangeType.ARCHIVED, first.getType());
+        assertEquals("ARCHIVED", first.getBefore().getStatus());
+        assertNull(first.getAfter());
+
+        JobDTO job = jobService.getRecentJobs().get(0);
+        assertEquals("ARTICLE_ARCHIVE", job.getType());
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(3L, job.getProcessed());
+    }
+
+    @Test
+    void testArchiveSkipsWhenNothingToMove() {
+        // Given
+        when(articleRepository.countArchivable(null)).thenReturn(0L);
+
+        // When
+        archiveService.archive();
+
+        // Then
+        verify(articleRepository, never()).findArchivable(any(), any(Pageable.class));
+        assertTrue(jobService.getRecentJobs().isEmpty());
+    }
+
+    @Test
+    void testArchivedStatusChangeTriggersMove() {
+        // Given
+        ArticleDTO after = new ArticleDTO();
+        after.setId(1L);
+        after.setStatus("ARCHIVED");
+
+        // When
+        archiveService.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 1L, null, after));
+
+        // Then
+        verify(articleRepository, times(1)).countArchivable(null);
+    }
+
+    @Test
+    void testGetArticleDropsDeletedCategory() {
+        // Given
+        ArchivedArticle archived = new ArchivedArticle();
+        archived.setId(7L);
+        archived.setTitle("旧文章");
+        archived.setStatus("ARCHIVED");
+        archived.setCategoryId(3L);
+        archived.setImages(new ArrayList<>(List.of("a.jpg")));
+        when(archivedArticleRepository.findById(7L)).thenReturn(Optional.of(archived));
+        when(categoryRepository.findAllById(List.of(3L))).thenReturn(new ArrayList<Category>());
+
+        // When
+        ArticleDTO result = archiveService.getArticle(7L).get();
+
+        // Then
+        assertEquals("旧文章", result.getTitle());
+        assertNull(result.getCategoryId());
+        assertEquals(List.of("a.jpg"), result.getImages());
+    }
+
+    @Test
+    void testRestoreReturnsEmptyWhenNotArchived() {
+        // Given
+        when(archivedArticleRepository.copyToArticles(8L)).thenReturn(0);
+
+        // When & Then
+        assertTrue(archiveService.restore(8L).isEmpty());
+        verify(archivedArticleRepository, never()).deleteRowById(any());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleColumnStoreTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleColumnStore store;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        store = new ArticleColumnStore(articleRepository, true);
+        base = LocalDateTime.of(2024, 1, 1, 10, 0);
+    }
+
+    private Object[] row(long id, Long categoryId, String status, String tag, int views, int minutes) {
+        return new Object[]{id, categoryId, status, "NEWS", tag, views, base.plusMinutes(minutes)};
+    }
+
+    private void load(Object[]... rows) {
+        List<Object[]> chunk = new ArrayList<>(List.of(rows));
+        when(articleRepository.findMetadataAfter(eq(0L), any(Pageable.class))).thenReturn(chunk);
+        store.load();
+    }
+
+    @Test
+    void testNotReadyBeforeLoad() {
+        assertTrue(store.query(null, null, null, null, false, 0, 10).isEmpty());
+    }
+
+    @Test
+    void testFiltersAndSortsByCreateTime() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 5, 1),
+             row(2, 1L, "DRAFT", null, 9, 2),
+             row(3, 2L, "PUBLISHED", "HOT", 1, 3),
+             row(4, 1L, "PUBLISHED", "HOT", 7, 4));
+
+        // When
+        ArticleColumnStore.IdPage page = store.query("PUBLISHED", 1L, null, null, false, 0, 10).get();
+
+        // Then
+        assertEquals(2L, page.getTotalElements());
+        assertEquals(List.of(4L, 1L), page.getIds());
+    }
+
+    @Test
+    void testSortsByViewCountAndPages() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", "HOT", 5, 1),
+             row(2, 1L, "PUBLISHED", "HOT", 9, 2),
+             row(3, 2L, "PUBLISHED", "HOT", 1, 3));
+
+        // When
+        ArticleColumnStore.IdPage second = store.query(null, null, null, "HOT", true, 1, 2).get();
+
+        // Then
+        assertEquals(3L, second.getTotalElements());
+        assertEquals(List.of(3L), second.getIds());
+    }
+
+    @Test
+    void testUnknownFilterValueMatchesNothing() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 0, 1));
+
+        // When
+        ArticleColumnStore.IdPage page = store.query("ARCHIVED", null, null, null, false, 0, 10).get();
+
+        // Then
+        assertEquals(0L, page.getTotalElements());
+        assertTrue(page.getIds().isEmpty());
+    }
+
+    @Test
+    void testCategoryIdsBeyondIntRangeDoNotCollide() {
+        // Given: 两个分类 id 的低 32 位相同
+        long large = (1L << 32) + 1;
+        load(row(1, 1L, "PUBLISHED", null, 0, 1),
+             row(2, large, "PUBLISHED", null, 0, 2),
+             row(3, null, "PUBLISHED", null, 0, 3));
+
+        // When
+        ArticleColumnStore.IdPage small = store.query(null, 1L, null, null, false, 0, 10).get();
+        store.onCategoryChanged(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.DELETED, large, null, null));
+        ArticleColumnStore.IdPage deleted = store.query(null, large, null, null, false, 0, 10).get();
+        ArticleColumnStore.IdPage remaining = store.query(null, 1L, null, null, false, 0, 10).get();
+
+        // Then
+        assertEquals(List.of(1L), small.getIds());
+        assertTrue(deleted.getIds().isEmpty());
+        assertEquals(List.of(1L), remaining.getIds());
+        assertEquals(3L, store.query(null, null, null, null, false, 0, 10).get().getTotalElements());
+    }
+
+    @Test
+    void testWritesAndViewsAreApplied() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 0, 1), row(3, 1L, "PUBLISHED", null, 0, 3));
+        ArticleDTO created = new ArticleDTO();
+        created.setId(2L);
+        created.setCategoryId(1L);
+        created.setStatus("PUBLISHED");
+        created.setViewCount(0);
+        created.setCreateTime(base.plusMinutes(2));
+
+        // When
+        store.onArticleChanged(new ArticleChangedEvent(ChangeType.CREATED, 2L, null, created));
+        store.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 3L, created, null));
+        store.onArticleViewed(new ArticleViewedEvent(1L, 50));
+        store.applyViews();
+
+        // Then
+        assertEquals(List.of(2L, 1L), store.query("PUBLISHED", null, null, null, false, 0, 10).get().getIds());
+        assertEquals(List.of(1L, 2L), store.query("PUBLISHED", null, null, null, true, 0, 10).get().getIds());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testFilterKeepsCandidateOrder() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 5, 1),
+             row(2, 1L, "DRAFT", null, 9, 2),
+             row(3, 1L, "PUBLISHED", "HOT", 1, 3));
+
+        // When
+        List<Long> matched = store.filter(List.of(3L, 9L, 2L, 1L), "PUBLISHED", 1L, null, null).get();
+
+        // Then
+        assertEquals(List.of(3L, 1L), matched);
+    }
+
+    @Test
+    void testViewsAreAppliedInBatches() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 5, 1), row(2, 1L, "PUBLISHED", null, 9, 2));
+
+        // When
+        store.onArticleViewed(new ArticleViewedEvent(1L, 20));
+        store.onArticleViewed(new ArticleViewedEvent(1L, 12));
+        List<Long> beforeApply = store.query(null, null, null, null, true, 0, 10).get().getIds();
+        store.applyViews();
+
+        // Then: 乱序到达的较小值不会覆盖较大值
+        assertEquals(List.of(2L, 1L), beforeApply);
+        assertEquals(List.of(1L, 2L), store.query(null, null, null, null, true, 0, 10).get().getIds());
+    }
+
+    @Test
+    void testChangesReplayedOverwritesFromDatabase() {
+        // Given
+        load(row(1, 1L, "PUBLISHED", null, 0, 1), row(2, 1L, "PUBLISHED", null, 0, 2));
+        ArticleDTO moved = new ArticleDTO();
+        moved.setId(1L);
+        moved.setCategoryId(2L);
+        moved.setStatus("PUBLISHED");
+        moved.setViewCount(3);
+        moved.setCreateTime(base.plusMinutes(1));
+        ArticleDTO created = new ArticleDTO();
+        created.setId(5L);
+        created.setCategoryId(2L);
+        created.setStatus("DRAFT");
+        created.setCreateTime(base.plusMinutes(5));
+
+        // When: 文章 2 已被其他节点删除
+        store.onChangesReplayed(new ChangesReplayedEvent(Set.of(1L, 2L, 5L), List.of(moved, created), Set.of(), List.of()));
+
+        // Then
+        assertEquals(List.of(5L, 1L), store.query(null, 2L, null, null, false, 0, 10).get().getIds());
+        assertEquals(List.of(), store.query(null, 1L, null, null, false, 0, 10).get().getIds());
+        assertEquals(2, store.size());
+    }
+}
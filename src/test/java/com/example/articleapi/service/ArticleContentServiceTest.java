@@ -0,0 +1,119 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleContentPageDTO;
+import com.example.articleapi.entity.CompressedTextConverter;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleContentServiceTest {
+
+    private static final String CONTENT = "第一段\n\n第二段\r\n第三段\n   \n第四段\n第五段";
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleContentService contentService;
+
+    @BeforeEach
+    void setUp() {
+        contentService = new ArticleContentService(articleRepository);
+    }
+
+    private void stored(String content) {
+        byte[] bytes = new CompressedTextConverter().convertToDatabaseColumn(content);
+        when(articleRepository.findStoredContent(1L)).thenReturn(Optional.of(bytes));
+    }
+
+    @Test
+    void testContentStreamsDecompressedUtf8() throws IOException {
+        // Given
+        stored(CONTENT);
+        byte[] utf8 = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+        // When
+        ArticleContentService.ContentResource content = contentService.getContent(1L);
+
+        // Then: 长度为解压后的字节数，每次打开都从头读取
+        assertEquals(utf8.length, content.contentLength());
+        try (InputStream in = content.getInputStream()) {
+            assertArrayEquals(utf8, in.readAllBytes());
+        }
+        try (InputStream in = content.getInputStream()) {
+            assertEquals(utf8[0], (byte) in.read());
+        }
+    }
+
+    @Test
+    void testETagChangesWithContent() {
+        // Given
+        when(articleRepository.findStoredContent(1L))
+                .thenReturn(Optional.of("旧正文".getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(Optional.of("旧正文".getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(Optional.of("新正文".getBytes(StandardCharsets.UTF_8)));
+
+        // When
+        String first = contentService.getContent(1L).getETag();
+        String same = contentService.getContent(1L).getETag();
+        String changed = contentService.getContent(1L).getETag();
+
+        // Then
+        assertEquals(first, same);
+        assertNotEquals(first, changed);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+    }
+
+    @Test
+    void testContentPageSkipsBlankLines() {
+        // Given
+        stored(CONTENT);
+
+        // When
+        ArticleContentPageDTO first = contentService.getContentPage(1L, 0, 2);
+        ArticleContentPageDTO last = contentService.getContentPage(1L, 2, 2);
+
+        // Then
+        assertEquals(List.of("第一段", "第二段"), first.getParagraphs());
+        assertTrue(first.getHasMore());
+        assertEquals(List.of("第五段"), last.getParagraphs());
+        assertFalse(last.getHasMore());
+    }
+
+    @Test
+    void testContentPageDefaultsAndEmptyContent() {
+        // Given
+        when(articleRepository.findStoredContent(1L)).thenReturn(Optional.of(new byte[0]));
+
+        // When
+        ArticleContentPageDTO page = contentService.getContentPage(1L, -1, 1000);
+
+        // Then: 页码不小于 0，每页最多 100 段
+        assertEquals(0, page.getPage());
+        assertEquals(100, page.getSize());
+        assertTrue(page.getParagraphs().isEmpty());
+        assertFalse(page.getHasMore());
+    }
+
+    @Test
+    void testMissingArticle() {
+        // Given
+        when(articleRepository.findStoredContent(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> contentService.getContent(9L));
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.articleapi.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleDiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<ArticleDiskCache> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(ArticleDiskCache::close);
+    }
+
+    private ArticleDiskCache open(long maxBytes) {
+        ArticleDiskCache cache = new ArticleDiskCache(true, dir.toString(), DataSize.ofBytes(maxBytes));
+        opened.add(cache);
+        return cache;
+    }
+
+    private static ArticleResponseCache.Entry entry(String json, Long version) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return new ArticleResponseCache.Entry(ByteBuffer.wrap(bytes), (int) crc.getValue(),
+                ByteBuffer.wrap(new byte[]{1, 2, 3}), version);
+    }
+
+    private static String json(ArticleResponseCache.Entry entry) {
+        return StandardCharsets.UTF_8.decode(entry.jsonPrefix()).toString();
+    }
+
+    @Test
+    void testEntriesSurviveRestart() {
+        // Given
+        ArticleDiskCache cache = open(4096);
+        cache.put(1L, entry("{\"id\":1", 1L));
+        cache.put(2L, entry("{\"id\":2", null));
+        cache.put(1L, entry("{\"id\":1,\"v\":2", 2L));
+        cache.close();
+
+        // When
+        ArticleDiskCache reopened = open(4096);
+        ArticleResponseCache.Entry first = reopened.get(1L);
+        ArticleResponseCache.Entry second = reopened.get(2L);
+
+        // Then: 同一篇文章以最后一条记录为准，空值原样恢复
+        assertEquals(2, reopened.size());
+        assertEquals("{\"id\":1,\"v\":2", json(first));
+        assertEquals(2L, first.version());
+        assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 3}), first.deflatedPrefix());
+        assertEquals(entry("{\"id\":1,\"v\":2", 2L).jsonCrc(), first.jsonCrc());
+        assertEquals("{\"id\":2", json(second));
+        assertNull(second.version());
+        assertNull(reopened.get(3L));
+    }
+
+    @Test
+    void testInvalidateAndCompactKeepOnlyLiveRecords() throws Exception {
+        // Given
+        ArticleDiskCache cache = open(4096);
+        for (long id = 1; id <= 4; id++) {
+            cache.put(id, entry("{\"id\":" + id, null));
+        }
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+        ArticleResponseCache.Entry beforeCompaction = cache.get(3L);
+
+        // When
+        cache.compact();
+        cache.put(5L, entry("{\"id\":5", null));
+        cache.close();
+        ArticleDiskCache reopened = open(4096);
+
+        // Then: 压缩前取得的条目仍可读取
+        assertNull(cache.get(3L));
+        assertEquals("{\"id\":3", json(beforeCompaction));
+        assertEquals(3, reopened.size());
+        assertNull(reopened.get(1L));
+        assertNull(reopened.get(2L));
+        assertEquals("{\"id\":4", json(reopened.get(4L)));
+        assertEquals("{\"id\":5", json(reopened.get(5L)));
+        assertFalse(Files.exists(dir.resolve("articles.seg.tmp")));
+    }
+
+    @Test
+    void testWritesDuringCompactionAreKept() throws Exception {
+        // Given
+        ArticleDiskCache cache = open(4096);
+        for (long id = 1; id <= 4; id++) {
+            cache.put(id, entry("{\"id\":" + id, 1L));
+        }
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+
+        // When: 复制有效记录之后、替换之前发生写入和失效
+        cache.compact(() -> {
+            cache.put(3L, entry("{\"id\":3,\"v\":2", 2L));
+            cache.invalidate(4L);
+            cache.put(5L, entry("{\"id\":5", 1L));
+        });
+        int size = cache.size();
+        ArticleResponseCache.Entry invalidated = cache.get(4L);
+        cache.close();
+        ArticleDiskCache reopened = open(4096);
+
+        // Then: 新文件包含补写的记录
+        assertEquals(2, size);
+        assertNull(invalidated);
+        assertEquals("{\"id\":3,\"v\":2", json(reopened.get(3L)));
+        assertEquals(2L, reopened.get(3L).version());
+        assertEquals("{\"id\":5", json(reopened.get(5L)));
+        assertNull(reopened.get(1L));
+    }
+
+    @Test
+    void testFullFileStopsAppendingUntilCompacted() {
+        // Given: 每条记录 28 + 4 + 200 + 4 + 3 字节，只放得下一条
+        ArticleDiskCache cache = open(400);
+        String large = "x".repeat(200);
+        cache.put(1L, entry(large, null));
+
+        // When
+        cache.put(2L, entry(large, null));
+        boolean rejected = cache.get(2L) == null;
+        cache.invalidate(1L);
+        cache.compact();
+        cache.put(2L, entry(large, null));
+
+        // Then
+        assertTrue(rejected);
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(2L));
+    }
+
+    @Test
+    void testCorruptedRecordStopsScan() throws Exception {
+        // Given
+        ArticleDiskCache cache = open(4096);
+        cache.put(1L, entry("{\"id\":1", null));
+        cache.put(2L, entry("{\"id\":2", null));
+        cache.close();
+        // 第二条记录从 16 + 第一条记录长度处开始，改写其中的 JSON
+        try (FileChannel channel = FileChannel.open(dir.resolve("articles.seg"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, 16);
+            int second = 16 + length.flip().getInt();
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), second + 32);
+        }
+
+        // When
+        ArticleDiskCache reopened = open(4096);
+        reopened.put(3L, entry("{\"id\":3", null));
+
+        // Then: 损坏的记录及之后的空间被重新使用
+        assertEquals(2, reopened.size());
+        assertNotNull(reopened.get(1L));
+        assertNull(reopened.get(2L));
+        assertEquals("{\"id\":3", json(reopened.get(3L)));
+    }
+
+    @Test
+    void testDirectoryIsUsedByOneInstanceOnly() {
+        // Given
+        ArticleDiskCache first = open(4096);
+
+        // When
+        ArticleDiskCache second = open(4096);
+        second.put(1L, entry("{\"id\":1", null));
+
+        // Then
+        assertTrue(first.isEnabled());
+        assertFalse(second.isEnabled());
+        assertNull(second.get(1L));
+    }
+
+    @Test
+    void testDisabledCacheIsNoOp() {
+        // Given
+        ArticleDiskCache cache = new ArticleDiskCache(false, null, null);
+
+        // When
+        cache.put(1L, entry("{\"id\":1", null));
+        cache.compact();
+
+        // Then
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleFacetsDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleFacetServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArchivedArticleRepository archivedArticleRepository;
+
+    private ArticleFacetService facetService;
+
+    @BeforeEach
+    void setUp() {
+        facetService = new ArticleFacetService(articleRepository, archivedArticleRepository, true);
+    }
+
+    private void load() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 1L, "PUBLISHED", "NEWS", "HOT", 0, null});
+        rows.add(new Object[]{2L, 1L, "PUBLISHED", "BLOG", null, 0, null});
+        rows.add(new Object[]{3L, 2L, "DRAFT", "NEWS", "LATEST", 0, null});
+        when(articleRepository.findMetadataAfter(eq(0L), any(Pageable.class))).thenReturn(rows);
+        facetService.load();
+    }
+
+    @Test
+    void testFacetsWithoutFilters() {
+        // Given
+        load();
+
+        // When
+        ArticleFacetsDTO facets = facetService.getFacets(new ArticleListRequest());
+
+        // Then
+        assertEquals(3L, facets.getTotal());
+        assertEquals(2L, facets.getStatus().get("PUBLISHED"));
+        assertEquals(2L, facets.getArticleType().get("NEWS"));
+        assertEquals(1L, facets.getTag().get("HOT"));
+        assertEquals(2L, facets.getCategoryId().get(1L));
+    }
+
+    @Test
+    void testFacetsWithFilterAndIncrementalUpdate() {
+        // Given
+        load();
+        ArticleDTO before = new ArticleDTO();
+        before.setStatus("DRAFT");
+        before.setArticleType("NEWS");
+        before.setTag("LATEST");
+        before.setCategoryId(2L);
+        ArticleDTO after = new ArticleDTO();
+        after.setId(3L);
+        after.setStatus("PUBLISHED");
+        after.setArticleType("NEWS");
+        after.setCategoryId(2L);
+        facetService.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 3L, before, after));
+
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("PUBLISHED");
+
+        // When
+        ArticleFacetsDTO facets = facetService.getFacets(request);
+
+        // Then
+        assertEquals(3L, facets.getTotal());
+        assertFalse(facets.getStatus().containsKey("DRAFT"));
+        assertFalse(facets.getTag().containsKey("LATEST"));
+        assertEquals(1L, facets.getCategoryId().get(2L));
+    }
+
+    @Test
+    void testFallsBackToDatabaseBeforeLoad() {
+        // Given
+        List<Object[]> groups = new ArrayList<>();
+        groups.add(new Object[]{"PUBLISHED", "NEWS", null, 1L, 4L});
+        groups.add(new Object[]{"PUBLISHED", "BLOG", "HOT", 1L, 1L});
+        when(articleRepository.countFacetsByFilters(any(), any(), any(), any())).thenReturn(groups);
+
+        // When
+        ArticleFacetsDTO facets = facetService.getFacets(new ArticleListRequest());
+
+        // Then
+        assertEquals(5L, facets.getTotal());
+        assertEquals(5L, facets.getStatus().get("PUBLISHED"));
+        assertEquals(1L, facets.getTag().get("HOT"));
+    }
+
+    @Test
+    void testArchivedFacetsCountedFromArchiveTable() {
+        // Given
+        load();
+        List<Object[]> groups = new ArrayList<>();
+        groups.add(new Object[]{"ARCHIVED", "NEWS", null, 1L, 2L});
+        groups.add(new Object[]{"PUBLISHED", "NEWS", null, 1L, 5L});
+        when(archivedArticleRepository.countFacetsByFilters(isNull(), isNull(), isNull())).thenReturn(groups);
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("ARCHIVED");
+
+        // When
+        ArticleFacetsDTO facets = facetService.getFacets(request);
+
+        // Then: 与列表相同，按表而不是按状态统计，老化归档的已发布文章保留原状态
+        assertEquals(7L, facets.getTotal());
+        assertEquals(7L, facets.getCategoryId().get(1L));
+        assertEquals(5L, facets.getStatus().get("PUBLISHED"));
+    }
+
+    @Test
+    void testIdBeyondIntRangeFallsBackToDatabase() {
+        // Given
+        load();
+        ArticleDTO after = new ArticleDTO();
+        after.setId(1L << 32);
+        after.setStatus("PUBLISHED");
+        when(articleRepository.countFacetsByFilters(any(), any(), any(), any())).thenReturn(new ArrayList<>());
+
+        // When: 折回为 int 后会与文章 0 冲突，停用位图
+        facetService.onArticleChanged(new ArticleChangedEvent(ChangeType.CREATED, 1L << 32, null, after));
+        ArticleFacetsDTO facets = facetService.getFacets(new ArticleListRequest());
+
+        // Then
+        assertEquals(0L, facets.getTotal());
+        verify(articleRepository).countFacetsByFilters(isNull(), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void testChangesReplayedReplacesUnknownPreviousValues() {
+        // Given: 其他节点把文章 3 发布到分类 1 并删除了文章 2
+        load();
+        ArticleDTO published = new ArticleDTO();
+        published.setId(3L);
+        published.setStatus("PUBLISHED");
+        published.setArticleType("NEWS");
+        published.setCategoryId(1L);
+
+        // When
+        facetService.onChangesReplayed(new ChangesReplayedEvent(Set.of(2L, 3L), List.of(published), Set.of(), List.of()));
+        ArticleFacetsDTO facets = facetService.getFacets(new ArticleListRequest());
+
+        // Then: 空了的位图不再出现在分面中
+        assertEquals(2L, facets.getTotal());
+        assertEquals(2L, facets.getStatus().get("PUBLISHED"));
+        assertFalse(facets.getStatus().containsKey("DRAFT"));
+        assertFalse(facets.getArticleType().containsKey("BLOG"));
+        assertFalse(facets.getTag().containsKey("LATEST"));
+        assertEquals(2L, facets.getCategoryId().get(1L));
+        assertFalse(facets.getCategoryId().containsKey(2L));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.config.JacksonConfig;
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleResponseCacheTest {
+
+    private ObjectMapper objectMapper;
+    private ArticleResponseCache cache;
+    private Article article;
+    private ArticleDTO dto;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().fieldFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+        cache = new ArticleResponseCache(objectMapper, new ArticleDiskCache(false, null, null), 2);
+
+        article = new Article();
+        article.setId(1L);
+        article.setCategoryId(1L);
+        article.setCategoryName("技术");
+        article.setUpdateTime(LocalDateTime.of(2024, 1, 1, 10, 0));
+        article.setVersion(3L);
+
+        dto = new ArticleDTO();
+        dto.setId(1L);
+        dto.setTitle("测试文章");
+        dto.setContent("正文内容".repeat(500));
+        dto.setImages(List.of("a.jpg"));
+        dto.setCategoryId(1L);
+        dto.setCategoryName("技术");
+        dto.setStatus("PUBLISHED");
+        dto.setUpdateTime(article.getUpdateTime());
+    }
+
+    @Test
+    void testGzipAndIdentityResponsesCarryCurrentCounts() throws Exception {
+        // Given
+        ArticleResponseCache.Entry entry = cache.put(cache.stamp(), article, dto);
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(42);
+        MockHttpServletResponse identity = new MockHttpServletResponse();
+        MockHttpServletResponse gzip = new MockHttpServletResponse();
+
+        // When
+        new ArticleResponseCache.Response(entry, stats).writeTo(identity, false);
+        new ArticleResponseCache.Response(entry, stats).writeTo(gzip, true);
+
+        // Then
+        ArticleDTO decoded = objectMapper.readValue(identity.getContentAsByteArray(), ArticleDTO.class);
+        assertEquals(42, decoded.getViewCount());
+        assertEquals(dto.getContent(), decoded.getContent());
+        assertEquals(identity.getContentLength(), identity.getContentAsByteArray().length);
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        assertTrue(gzip.getContentAsByteArray().length < identity.getContentAsByteArray().length / 10);
+        byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray())).readAllBytes();
+        assertArrayEquals(identity.getContentAsByteArray(), inflated);
+    }
+
+    @Test
+    void testFindChecksVersion() {
+        // Given
+        cache.put(cache.stamp(), article, dto);
+
+        // When
+        ArticleResponseCache.Entry hit = cache.find(article);
+        // 同一秒内的修改：更新时间不变，只有版本变化
+        article.setVersion(4L);
+        ArticleResponseCache.Entry modified = cache.find(article);
+
+        // Then
+        assertNotNull(hit);
+        assertNull(modified);
+    }
+
+    @Test
+    void testChangeInvalidatesAndBlocksStalePut() {
+        // Given
+        cache.put(cache.stamp(), article, dto);
+        long stamp = cache.stamp();
+
+        // When
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 1L, dto, dto));
+        cache.put(stamp, article, dto);
+
+        // Then
+        assertNull(cache.find(article));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testDiskTierServesEntriesAfterRestart(@TempDir Path dir) throws Exception {
+        // Given
+        ArticleDiskCache disk = new ArticleDiskCache(true, dir.toString(), DataSize.ofMegabytes(1));
+        ArticleResponseCache.Entry entry = new ArticleResponseCache(objectMapper, disk, 2).put(cache.stamp(), article, dto);
+        MockHttpServletResponse expected = new MockHttpServletResponse();
+        new ArticleResponseCache.Response(entry, new ArticleStats()).writeTo(expected, false);
+        disk.close();
+
+        // When: 重启后堆内缓存为空，从磁盘读取
+        ArticleDiskCache reopened = new ArticleDiskCache(true, dir.toString(), DataSize.ofMegabytes(1));
+        ArticleResponseCache restarted = new ArticleResponseCache(objectMapper, reopened, 2);
+        ArticleResponseCache.Entry hit = restarted.find(article);
+        MockHttpServletResponse actual = new MockHttpServletResponse();
+        new ArticleResponseCache.Response(hit, new ArticleStats()).writeTo(actual, false);
+        MockHttpServletResponse gzip = new MockHttpServletResponse();
+        new ArticleResponseCache.Response(hit, new ArticleStats()).writeTo(gzip, true);
+        article.setVersion(article.getVersion() + 1);
+        ArticleResponseCache.Entry stale = new ArticleResponseCache(objectMapper, reopened, 2).find(article);
+        reopened.close();
+
+        // Then
+        assertEquals(1, restarted.size());
+        assertArrayEquals(expected.getContentAsByteArray(), actual.getContentAsByteArray());
+        // GZIPInputStream 校验结尾的 CRC32，磁盘中保存的 JSON 校验和与重新计算的一致
+        byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray())).readAllBytes();
+        assertArrayEquals(expected.getContentAsByteArray(), inflated);
+        assertNull(stale);
+    }
+
+    @Test
+    void testCrc32CombineMatchesWholeInput() {
+        // Given
+        byte[] data = "正文内容,\"viewCount\":42}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        for (int split : new int[]{0, 1, 37, data.length - 1, data.length}) {
+            CRC32 first = new CRC32();
+            first.update(data, 0, split);
+            CRC32 second = new CRC32();
+            second.update(data, split, data.length - split);
+            CRC32 whole = new CRC32();
+            whole.update(data);
+
+            // When
+            int combined = ArticleResponseCache.crc32Combine((int) first.getValue(), (int) second.getValue(),
+                    data.length - split);
+
+            // Then
+            assertEquals((int) whole.getValue(), combined, "split at " + split);
+        }
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(ArticleResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ArticleResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(ArticleResponseCache.acceptsGzip("*"));
+        assertFalse(ArticleResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ArticleResponseCache.acceptsGzip("identity"));
+        assertFalse(ArticleResponseCache.acceptsGzip(null));
+    }
+}
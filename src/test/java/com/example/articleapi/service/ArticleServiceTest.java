@@ -1,10 +1,16 @@
 package com.example.articleapi.service;
 
+import com.example.articleapi.dto.ArticleBatchDTO;
 import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleDeleteResultDTO;
 import com.example.articleapi.dto.ArticleListRequest;
 import com.example.articleapi.dto.PageResult;
 import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.ArticleStats;
 import com.example.articleapi.entity.Category;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.event.ChangesReplayedEvent;
 import com.example.articleapi.exception.ResourceNotFoundException;
 import com.example.articleapi.exception.ValidationException;
 import com.example.articleapi.repository.ArticleRepository;
@@ -15,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,8 +29,12 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +49,30 @@ class ArticleServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LatestFeedCache latestFeedCache;
+
+    @Mock
+    private ArticleColumnStore articleColumnStore;
+
+    @Mock
+    private ArticleStatsService articleStatsService;
+
+    @Mock
+    private ArticleArchiveService articleArchiveService;
+
+    @Mock
+    private ArticleResponseCache articleResponseCache;
+
+    @Mock
+    private BulkDeleteService bulkDeleteService;
+
+    @Mock
+    private TrendingService trendingService;
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -58,7 +93,7 @@ class ArticleServiceTest {
         article.setContent("测试内容");
         article.setCategory(category);
         article.setCategoryId(1L);
-        article.setViewCount(10);
+        article.setCategoryName("技术");
         article.setStatus("PUBLISHED");
         article.setArticleType("NEWS");
         article.setTag("HOT");
@@ -71,6 +106,16 @@ class ArticleServiceTest {
         articleDTO.setCategoryId(1L);
         articleDTO.setStatus("PUBLISHED");
         articleDTO.setArticleType("NEWS");
+
+        lenient().when(articleStatsService.getStats(anyLong()))
+                .thenAnswer(invocation -> new ArticleStats(invocation.getArgument(0)));
+        lenient().when(articleStatsService.getStats(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, ArticleStats> stats = new HashMap<>();
+            for (Object id : invocation.<Collection<?>>getArgument(0)) {
+                stats.put((Long) id, new ArticleStats((Long) id));
+            }
+            return stats;
+        });
     }
 
     @Test
@@ -103,7 +148,9 @@ class ArticleServiceTest {
     void testGetArticleById() {
         // Given
         when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
-        when(articleRepository.save(any(Article.class))).thenReturn(article);
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(11);
+        when(articleStatsService.recordView(1L)).thenReturn(stats);
 
         // When
         ArticleDTO result = articleService.getArticleById(1L);
@@ -111,8 +158,62 @@ class ArticleServiceTest {
         // Then
         assertNotNull(result);
         assertEquals("测试文章", result.getTitle());
-        assertEquals(11, article.getViewCount()); // 应该增加1
-        verify(articleRepository, times(1)).save(article);
+        assertEquals("技术", result.getCategoryName());
+        assertEquals(11, result.getViewCount()); // 计数表中累加后的值
+        verify(articleRepository, never()).save(any(Article.class)); // 浏览不改写文章行
+    }
+
+    @Test
+    void testGetArticleByIdFallsBackToArchive() {
+        // Given
+        ArticleDTO archived = new ArticleDTO();
+        archived.setId(9L);
+        archived.setStatus("ARCHIVED");
+        ArticleStats stats = new ArticleStats(9L);
+        stats.setViewCount(3);
+        when(articleRepository.findById(9L)).thenReturn(Optional.empty());
+        when(articleArchiveService.getArticle(9L)).thenReturn(Optional.of(archived));
+        when(articleStatsService.recordView(9L)).thenReturn(stats);
+
+        // When
+        ArticleDTO result = articleService.getArticleById(9L);
+
+        // Then
+        assertEquals("ARCHIVED", result.getStatus());
+        assertEquals(3, result.getViewCount());
+    }
+
+    @Test
+    void testGetArticleListArchivedRoutedToArchive() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("ARCHIVED");
+        PageResult<ArticleDTO> archived = new PageResult<>(new ArrayList<>(), 0, 10, 0L);
+        when(articleArchiveService.getArticleList(request, 0, 10)).thenReturn(archived);
+
+        // When
+        PageResult<ArticleDTO> result = articleService.getArticleList(request);
+
+        // Then
+        assertSame(archived, result);
+        verify(articleRepository, never()).findByFilters(any(), any(), any(), any(), any(Pageable.class));
+        verify(articleColumnStore, never()).query(any(), any(), any(), any(), anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testUpdateArchivedArticleRestoresItFirst() {
+        // Given
+        articleDTO.setStatus("PUBLISHED");
+        when(articleRepository.findById(1L)).thenReturn(Optional.empty());
+        when(articleArchiveService.restore(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(Article.class))).thenReturn(article);
+
+        // When
+        ArticleDTO result = articleService.updateArticle(1L, articleDTO);
+
+        // Then
+        assertEquals("新文章", result.getTitle());
+        verify(articleArchiveService, times(1)).restore(1L);
     }
 
     @Test
@@ -136,8 +237,10 @@ class ArticleServiceTest {
 
         // Then
         assertNotNull(result);
+        assertEquals(0, result.getViewCount());
         verify(categoryRepository, times(1)).findById(1L);
         verify(articleRepository, times(1)).save(any(Article.class));
+        verify(articleStatsService, times(1)).create(1L);
     }
 
     @Test
@@ -221,21 +324,20 @@ class ArticleServiceTest {
     @Test
     void testDeleteArticle() {
         // Given
-        when(articleRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(articleRepository).deleteById(1L);
+        when(bulkDeleteService.deleteArticles(List.of(1L))).thenReturn(new ArticleDeleteResultDTO(1, List.of()));
 
         // When
         articleService.deleteArticle(1L);
 
         // Then
-        verify(articleRepository, times(1)).existsById(1L);
-        verify(articleRepository, times(1)).deleteById(1L);
+        verify(bulkDeleteService, times(1)).deleteArticles(List.of(1L));
+        verify(articleRepository, never()).delete(any(Article.class));
     }
 
     @Test
     void testDeleteArticleNotFound() {
         // Given
-        when(articleRepository.existsById(999L)).thenReturn(false);
+        when(bulkDeleteService.deleteArticles(List.of(999L))).thenReturn(new ArticleDeleteResultDTO(0, List.of(999L)));
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> articleService.deleteArticle(999L));
@@ -253,7 +355,7 @@ class ArticleServiceTest {
         articles.add(article);
         Page<Article> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
-        when(articleRepository.findByFilters(any(), any(), any(), eq("HOT"), any(Pageable.class)))
+        when(articleRepository.findByFiltersOrderByViewCount(any(), any(), any(), eq("HOT"), any(Pageable.class)))
                 .thenReturn(page);
 
         // When
@@ -263,4 +365,383 @@ class ArticleServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
     }
+
+    @Test
+    void testGetArticleListSortedByTrending() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("PUBLISHED");
+        request.setSort("trending");
+        when(trendingService.isEnabled()).thenReturn(true);
+        when(trendingService.getRanking()).thenReturn(List.of(7L, 1L, 3L));
+        when(articleColumnStore.filter(List.of(7L, 1L, 3L), "PUBLISHED", null, null, null))
+                .thenReturn(Optional.of(List.of(7L, 1L)));
+        Article trending = new Article();
+        trending.setId(7L);
+        trending.setTitle("热度最高");
+        when(articleRepository.findAllById(List.of(7L, 1L))).thenReturn(List.of(article, trending));
+
+        // When
+        PageResult<ArticleDTO> result = articleService.getArticleList(request);
+
+        // Then
+        assertEquals(2L, result.getTotalElements());
+        assertEquals(7L, result.getContent().get(0).getId());
+        assertEquals(1L, result.getContent().get(1).getId());
+        verify(latestFeedCache, never()).findPage(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testGetArticleListRejectsUnknownSort() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setSort("random");
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> articleService.getArticleList(request));
+    }
+
+    @Test
+    void testGetArticleListServedFromLatestFeed() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("PUBLISHED");
+        ArticleDTO item = new ArticleDTO();
+        item.setId(1L);
+        item.setViewCount(3);
+        PageResult<ArticleDTO> cached = new PageResult<>(List.of(item), 0, 10, 1L);
+        when(latestFeedCache.findPage(request, 0, 10)).thenReturn(Optional.of(cached));
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(42);
+        stats.setLikeCount(5);
+        when(articleStatsService.getStats(List.of(1L))).thenReturn(Map.of(1L, stats));
+        List<Object[]> contents = new ArrayList<>();
+        contents.add(new Object[]{1L, "正文"});
+        when(articleRepository.findContentByIdIn(List.of(1L))).thenReturn(contents);
+
+        // When
+        PageResult<ArticleDTO> result = articleService.getArticleList(request);
+
+        // Then: 计数和当前页的正文合并到副本，缓冲中的 DTO 不变
+        assertEquals(1L, result.getTotalElements());
+        assertEquals(42, result.getContent().get(0).getViewCount());
+        assertEquals(5, result.getContent().get(0).getLikeCount());
+        assertEquals("正文", result.getContent().get(0).getContent());
+        assertEquals(3, item.getViewCount());
+        assertNull(item.getContent());
+        verify(articleRepository, never()).findByFilters(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void testChangesReplayedAppliedToAffectedFeeds() {
+        // Given: 文章 1 被其他节点从分类 2 移到分类 1，分类 3 被删除；分类 2 的缓冲移出文章后不足一页
+        ArticleDTO moved = new ArticleDTO();
+        moved.setId(1L);
+        moved.setCategoryId(1L);
+        moved.setStatus("PUBLISHED");
+        when(latestFeedCache.isReady()).thenReturn(true);
+        when(categoryRepository.findAllById(Set.of(3L))).thenReturn(List.of());
+        when(articleRepository.findAllById(List.of(1L))).thenReturn(List.of(article));
+        when(latestFeedCache.findCategories(Set.of(1L))).thenReturn(Set.of(2L));
+        when(articleRepository.countByFilters(eq("PUBLISHED"), any(), isNull(), isNull())).thenReturn(5L);
+        when(latestFeedCache.needsReseed(any())).thenAnswer(invocation -> Long.valueOf(2L).equals(invocation.getArgument(0)));
+        when(latestFeedCache.getCapacity()).thenReturn(200);
+        when(articleRepository.findByFilters(eq("PUBLISHED"), eq(2L), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        articleService.onChangesReplayed(new ChangesReplayedEvent(Set.of(1L), List.of(moved), Set.of(3L), List.of()));
+
+        // Then: 按 id 应用到现有缓冲，缓冲中只有摘要，只重新加载缩小的缓冲
+        verify(latestFeedCache).drop(3L);
+        verify(latestFeedCache).apply(isNull(), eq(Set.of(1L)),
+                argThat(items -> items.size() == 1 && items.get(0).getContent() == null), eq(5L));
+        verify(latestFeedCache).apply(eq(1L), eq(Set.of(1L)), argThat(items -> items.size() == 1), eq(5L));
+        verify(latestFeedCache).apply(eq(2L), eq(Set.of(1L)), eq(List.of()), eq(5L));
+        verify(latestFeedCache).seed(eq(2L), anyList(), eq(0L));
+        verify(latestFeedCache, never()).seed(isNull(), anyList(), anyLong());
+        verify(articleRepository, never()).findContentByIdIn(any());
+    }
+
+    @Test
+    void testGetArticleListServedFromColumnStore() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setTag("HOT");
+        Article second = new Article();
+        second.setId(2L);
+        second.setTitle("第二篇");
+        when(articleColumnStore.query(isNull(), isNull(), isNull(), eq("HOT"), eq(true), eq(0), eq(10)))
+                .thenReturn(Optional.of(new ArticleColumnStore.IdPage(List.of(2L, 1L), 5L)));
+        when(articleRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(article, second));
+
+        // When
+        PageResult<ArticleDTO> result = articleService.getArticleList(request);
+
+        // Then
+        assertEquals(5L, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getId());
+        assertEquals(1L, result.getContent().get(1).getId());
+        verify(articleRepository, never()).findByFilters(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void testUpdateArticleKeepsUnchangedImageList() {
+        // Given
+        List<String> images = new ArrayList<>(List.of("a.jpg", "b.jpg"));
+        article.setImages(images);
+        ArticleDTO updateDTO = new ArticleDTO();
+        updateDTO.setTitle("只改标题");
+        updateDTO.setImages(List.of("a.jpg", "b.jpg"));
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(Article.class))).thenReturn(article);
+
+        // When
+        articleService.updateArticle(1L, updateDTO);
+
+        // Then
+        assertSame(images, article.getImages());
+        assertEquals(List.of("a.jpg", "b.jpg"), article.getImages());
+    }
+
+    @Test
+    void testUpdateArticleMergesImagesInPlace() {
+        // Given
+        List<String> images = new ArrayList<>(List.of("a.jpg", "b.jpg", "c.jpg"));
+        article.setImages(images);
+        ArticleDTO updateDTO = new ArticleDTO();
+        updateDTO.setTitle("换图");
+        updateDTO.setImages(List.of("a.jpg", "x.jpg"));
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(Article.class))).thenReturn(article);
+
+        // When
+        articleService.updateArticle(1L, updateDTO);
+
+        // Then
+        assertSame(images, article.getImages());
+        assertEquals(List.of("a.jpg", "x.jpg"), article.getImages());
+    }
+
+    @Test
+    void testPatchArticleOnlyChangesSuppliedFields() {
+        // Given
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("tag", null);
+        patch.put("status", "DRAFT");
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(Article.class))).thenReturn(article);
+
+        // When
+        ArticleDTO result = articleService.patchArticle(1L, patch);
+
+        // Then
+        assertEquals("DRAFT", article.getStatus());
+        assertNull(article.getTag());
+        assertEquals("测试文章", article.getTitle());
+        assertEquals("测试内容", article.getContent());
+        assertNull(result.getContent());
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+                e instanceof ArticleChangedEvent && ((ArticleChangedEvent) e).isPartial()));
+    }
+
+    @Test
+    void testPatchArticleRepublishLoadsFullArticle() {
+        // Given
+        article.setStatus("DRAFT");
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("status", "PUBLISHED");
+
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleRepository.save(any(Article.class))).thenReturn(article);
+
+        // When
+        ArticleDTO result = articleService.patchArticle(1L, patch);
+
+        // Then
+        assertEquals("测试内容", result.getContent());
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+                e instanceof ArticleChangedEvent && !((ArticleChangedEvent) e).isPartial()));
+    }
+
+    @Test
+    void testPatchArticleRejectsUnknownField() {
+        // Given
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("viewCount", 100);
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> articleService.patchArticle(1L, patch));
+        verify(articleRepository, never()).findById(any());
+    }
+
+    @Test
+    void testPatchArticleRejectsBlankTitle() {
+        // Given
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("title", " ");
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> articleService.patchArticle(1L, patch));
+    }
+
+    @Test
+    void testGetArticlesByIdsPreservesOrderAndReportsMissing() {
+        // Given
+        Article second = new Article();
+        second.setId(2L);
+        second.setTitle("第二篇");
+        ArticleDTO archived = new ArticleDTO();
+        archived.setId(9L);
+        archived.setStatus("ARCHIVED");
+        when(articleRepository.findAllById(any())).thenReturn(List.of(article, second));
+        when(articleRepository.findContentByIdIn(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, "测试内容"}, new Object[]{2L, "第二篇内容"}));
+        when(articleArchiveService.getArticles(List.of(9L, 5L))).thenReturn(List.of(archived));
+
+        // When
+        ArticleBatchDTO result = articleService.getArticlesByIds(List.of(2L, 9L, 1L, 5L, 2L), false);
+
+        // Then
+        assertEquals(List.of(2L, 9L, 1L), result.getArticles().stream().map(ArticleDTO::getId).toList());
+        assertEquals("第二篇内容", result.getArticles().get(0).getContent());
+        assertEquals(List.of(5L), result.getMissingIds());
+        verify(articleRepository, times(1)).findAllById(any());
+        verify(articleStatsService, never()).recordViews(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testGetArticlesByIdsRecordsViewsInOneUpdate() {
+        // Given
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(8);
+        when(articleRepository.findAllById(any())).thenReturn(List.of(article));
+        when(articleStatsService.recordViews(Set.of(1L))).thenReturn(Map.of(1L, stats));
+
+        // When
+        ArticleBatchDTO result = articleService.getArticlesByIds(List.of(1L), true);
+
+        // Then
+        assertEquals(8, result.getArticles().get(0).getViewCount());
+        verify(articleStatsService, times(1)).recordViews(Set.of(1L));
+        verify(articleStatsService, never()).recordView(anyLong());
+        verify(articleStatsService, never()).getStats(anyCollection());
+        verify(articleArchiveService, never()).getArticles(any());
+    }
+
+    @Test
+    void testGetArticlesByIdsRejectsTooManyIds() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= 101; i++) {
+            ids.add(i);
+        }
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> articleService.getArticlesByIds(ids, false));
+        verify(articleRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testGetArticleListWithFieldsSkipsContentImagesAndStats() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setFields("title,coverImage");
+        Page<Article> page = new PageImpl<>(List.of(article), PageRequest.of(0, 10), 1);
+        when(articleRepository.findByFilters(any(), any(), any(), any(), any(Pageable.class))).thenReturn(page);
+
+        // When
+        PageResult<ArticleDTO> result = articleService.getArticleList(request);
+
+        // Then
+        assertEquals("测试文章", result.getContent().get(0).getTitle());
+        assertNull(result.getContent().get(0).getImages());
+        verify(articleRepository, never()).findContentByIdIn(any());
+        verify(articleStatsService, never()).getStats(anyCollection());
+    }
+
+    @Test
+    void testGetArticleListRejectsUnknownField() {
+        // Given
+        ArticleListRequest request = new ArticleListRequest();
+        request.setFields("title,password");
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> articleService.getArticleList(request));
+        verify(articleRepository, never()).findByFilters(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetArticleByIdWithFieldsSkipsBody() {
+        // Given
+        Article lazy = spy(article);
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(lazy));
+        when(articleStatsService.recordView(1L)).thenReturn(new ArticleStats(1L));
+
+        // When
+        ArticleDTO result = articleService.getArticleById(1L, "title,viewCount");
+
+        // Then
+        assertEquals("测试文章", result.getTitle());
+        assertNull(result.getContent());
+        verify(lazy, never()).getContent();
+        verify(lazy, never()).getImages();
+    }
+
+    @Test
+    void testGetArticleResponseReusesCachedBytes() {
+        // Given
+        Article lazy = spy(article);
+        ArticleStats stats = new ArticleStats(1L);
+        ArticleResponseCache.Entry entry = mock(ArticleResponseCache.Entry.class);
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(lazy));
+        when(articleStatsService.recordView(1L)).thenReturn(stats);
+        when(articleResponseCache.find(lazy)).thenReturn(entry);
+
+        // When
+        ArticleResponseCache.Response response = articleService.getArticleResponse(1L);
+
+        // Then
+        assertNotNull(response);
+        verify(articleResponseCache, never()).put(anyLong(), any(), any());
+        verify(lazy, never()).getContent();
+        verify(lazy, never()).getImages();
+        verify(eventPublisher, times(1)).publishEvent(any(ArticleViewedEvent.class));
+    }
+
+    @Test
+    void testGetArticleResponseCachesOnMiss() {
+        // Given
+        when(articleResponseCache.stamp()).thenReturn(7L);
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleStatsService.recordView(1L)).thenReturn(new ArticleStats(1L));
+
+        // When
+        articleService.getArticleResponse(1L);
+
+        // Then
+        verify(articleResponseCache, times(1)).put(eq(7L), eq(article), argThat(dto -> "测试内容".equals(dto.getContent())));
+    }
+
+    @Test
+    void testPreloadArticleResponseDoesNotRecordView() {
+        // Given
+        when(articleResponseCache.stamp()).thenReturn(3L);
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(articleStatsService.getStats(1L)).thenReturn(new ArticleStats(1L));
+
+        // When
+        boolean loaded = articleService.preloadArticleResponse(1L);
+
+        // Then
+        assertTrue(loaded);
+        verify(articleResponseCache, times(1)).put(eq(3L), eq(article), any());
+        verify(articleStatsService, never()).recordView(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.entity.ArticleStats;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleStatsServiceTest {
+
+    @Mock
+    private ArticleStatsRepository articleStatsRepository;
+
+    @InjectMocks
+    private ArticleStatsService articleStatsService;
+
+    @Test
+    void testRecordViewIncrementsInDatabase() {
+        // Given
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(6);
+        when(articleStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        ArticleStats result = articleStatsService.recordView(1L);
+
+        // Then
+        verify(articleStatsRepository, times(1)).increment(1L, 1, 0, 0);
+        assertEquals(6, result.getViewCount());
+    }
+
+    @Test
+    void testBatchLookupFillsMissingRowsWithZero() {
+        // Given
+        ArticleStats stats = new ArticleStats(1L);
+        stats.setViewCount(3);
+        when(articleStatsRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(stats));
+
+        // When
+        Map<Long, ArticleStats> result = articleStatsService.getStats(List.of(1L, 2L));
+
+        // Then
+        assertEquals(3, result.get(1L).getViewCount());
+        assertEquals(0, result.get(2L).getViewCount());
+        verify(articleStatsRepository, times(1)).findAllById(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ChangeDTO;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleStreamServiceTest {
+
+    /**
+     * 记录发送内容的连接，不经过 servlet 异步请求
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> sent = new ArrayList<>();
+        boolean completed = false;
+        Runnable duringSend;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            if (duringSend != null) {
+                duringSend.run();
+            }
+            StringBuilder text = new StringBuilder();
+            items.forEach(item -> text.append(item.getData()));
+            sent.add(text.toString());
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private boolean deferSends;
+    private ArticleStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = newService(Duration.ofMinutes(1));
+    }
+
+    private ArticleStreamService newService(Duration sendTimeout) {
+        Executor executor = task -> {
+            if (deferSends) {
+                pendingSends.add(task);
+            } else {
+                task.run();
+            }
+        };
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new ArticleStreamService(objectMapper, articleRepository, executor, Duration.ofMinutes(1),
+                sendTimeout, 2, 10);
+    }
+
+    private static Article article(long id, Long categoryId, String status) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("文章" + id);
+        article.setContent("正文不推送");
+        article.setCategoryId(categoryId);
+        article.setStatus(status);
+        return article;
+    }
+
+    private static ChangeDTO change(long seq, long articleId, boolean published) {
+        ChangeDTO change = new ChangeDTO();
+        change.setSeq(seq);
+        change.setEntityType("ARTICLE");
+        change.setEntityId(articleId);
+        change.setChangeType(published ? "CREATED" : "UPDATED");
+        change.setPublished(published);
+        return change;
+    }
+
+    private static ChangesReplayedEvent replayed(ChangeDTO... changes) {
+        return new ChangesReplayedEvent(Set.of(), List.of(), Set.of(), List.of(changes));
+    }
+
+    /**
+     * 回放一条让文章变为已发布的变更，文章 id 同时作为 seq
+     */
+    private void publish(long id, Long categoryId) {
+        when(articleRepository.findAllById(Set.of(id))).thenReturn(List.of(article(id, categoryId, "PUBLISHED")));
+        streamService.onChangesReplayed(replayed(change(id, id, true)));
+    }
+
+    @Test
+    void testPushesNewlyPublishedSummaryToMatchingSubscribers() {
+        // Given
+        RecordingEmitter all = new RecordingEmitter();
+        RecordingEmitter category2 = new RecordingEmitter();
+        streamService.subscribe(all, null, null, null);
+        streamService.subscribe(category2, 2L, null, null);
+
+        // When
+        publish(1L, 1L);
+
+        // Then
+        assertEquals(1, all.sent.size());
+        assertTrue(all.sent.get(0).contains("\"title\":\"文章1\""));
+        assertFalse(all.sent.get(0).contains("正文不推送"));
+        assertTrue(category2.sent.isEmpty());
+    }
+
+    @Test
+    void testIgnoresUpdatesToAlreadyPublishedArticles() {
+        // When
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamService.subscribe(emitter, null, null, null);
+        streamService.onChangesReplayed(replayed(change(5L, 1L, false)));
+
+        // Then
+        assertTrue(emitter.sent.isEmpty());
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void testSkipsArticlesNoLongerPublishedAndUsesChangeSeqAsEventId() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamService.subscribe(emitter, null, null, null);
+        when(articleRepository.findAllById(Set.of(2L, 1L))).thenReturn(List.of(
+                article(1L, null, "PUBLISHED"), article(2L, null, "DRAFT")));
+
+        // When: 文章 2 发布后又改回草稿
+        streamService.onChangesReplayed(replayed(change(7L, 2L, true), change(8L, 1L, true), change(9L, 2L, false)));
+
+        // Then
+        assertEquals(1, emitter.sent.size());
+        assertTrue(emitter.sent.get(0).startsWith("id:8\n"));
+        assertTrue(emitter.sent.get(0).contains("文章1"));
+    }
+
+    @Test
+    void testResumesAfterLastEventId() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        streamService.subscribe(first, null, null, null);
+        publish(1L, null);
+        publish(2L, null);
+        publish(3L, null);
+        String firstId = first.sent.get(0).split("\n")[0].substring("id:".length());
+
+        // When
+        RecordingEmitter resumed = new RecordingEmitter();
+        streamService.subscribe(resumed, null, null, firstId);
+
+        // Then
+        assertEquals(2, resumed.sent.size());
+        assertTrue(resumed.sent.get(0).contains("文章2"));
+        assertTrue(resumed.sent.get(1).contains("文章3"));
+    }
+
+    @Test
+    void testDisconnectsSlowConsumer() {
+        // Given
+        deferSends = true;
+        RecordingEmitter slow = new RecordingEmitter();
+        streamService.subscribe(slow, null, null, null);
+
+        // When
+        publish(1L, null);
+        publish(2L, null);
+        publish(3L, null);
+
+        // Then
+        assertTrue(slow.completed);
+        assertEquals(0, streamService.getSubscriberCount());
+    }
+
+    @Test
+    void testDisconnectsSubscriberWhoseSendStalls() {
+        // Given: 发送超时为 0，发送进行中触发的心跳即视为卡住
+        streamService = newService(Duration.ZERO);
+        RecordingEmitter stalled = new RecordingEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        streamService.subscribe(stalled, null, null, null);
+        streamService.subscribe(healthy, null, null, null);
+        stalled.duringSend = streamService::heartbeat;
+
+        // When
+        publish(1L, null);
+        publish(2L, null);
+
+        // Then
+        assertTrue(stalled.completed);
+        assertEquals(1, stalled.sent.size());
+        assertEquals(1, streamService.getSubscriberCount());
+        assertEquals(2, healthy.sent.stream().filter(text -> text.contains("文章")).count());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleWriteCoalescerTest {
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static ArticleDTO article(String title) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private static ArticleWriteCoalescer.PendingWrite create(ArticleDTO dto) {
+        return new ArticleWriteCoalescer.PendingWrite(service -> service.createArticle(dto));
+    }
+
+    @Test
+    void testFailedItemIsRetriedAloneAndOthersCommitTogether() throws Exception {
+        // Given
+        ArticleWriteCoalescer coalescer = new ArticleWriteCoalescer(
+                articleService, transactionManager, false, 32, Duration.ZERO);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        ArticleDTO first = article("a");
+        ArticleDTO bad = article("");
+        ArticleDTO third = article("c");
+        when(articleService.createArticle(first)).thenReturn(first);
+        when(articleService.createArticle(bad)).thenThrow(new ValidationException("文章标题不能为空"));
+        when(articleService.createArticle(third)).thenReturn(third);
+        List<ArticleWriteCoalescer.PendingWrite> batch = List.of(create(first), create(bad), create(third));
+
+        // When
+        coalescer.commit(batch);
+
+        // Then
+        assertSame(first, batch.get(0).getResult().get());
+        assertSame(third, batch.get(2).getResult().get());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> batch.get(1).getResult().get());
+        assertInstanceOf(ValidationException.class, failure.getCause());
+        // 第一次合并提交在第二项失败后回滚，第二次只包含第一、三项
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(articleService, times(2)).createArticle(first);
+        verify(articleService, times(2)).createArticle(bad);
+        verify(articleService, times(1)).createArticle(third);
+    }
+
+    @Test
+    void testCommitFailureFallsBackToSingleWrites() throws Exception {
+        // Given
+        ArticleWriteCoalescer coalescer = new ArticleWriteCoalescer(
+                articleService, transactionManager, false, 32, Duration.ZERO);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        doThrow(new TransactionSystemException("commit failed")).when(transactionManager).commit(any());
+        ArticleDTO first = article("a");
+        ArticleDTO second = article("b");
+        when(articleService.createArticle(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<ArticleWriteCoalescer.PendingWrite> batch = List.of(create(first), create(second));
+
+        // When
+        coalescer.commit(batch);
+
+        // Then
+        assertSame(first, batch.get(0).getResult().get());
+        assertSame(second, batch.get(1).getResult().get());
+        verify(articleService, times(2)).createArticle(first);
+    }
+
+    @Test
+    void testConcurrentWritesShareTransactions() throws Exception {
+        // Given
+        ArticleWriteCoalescer coalescer = new ArticleWriteCoalescer(
+                articleService, transactionManager, true, 32, Duration.ofMillis(20));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(articleService.createArticle(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        int writers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        try {
+            // When
+            List<Future<ArticleDTO>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                ArticleDTO dto = article("t" + i);
+                results.add(executor.submit(() -> coalescer.createArticle(dto)));
+            }
+
+            // Then
+            for (int i = 0; i < writers; i++) {
+                assertEquals("t" + i, results.get(i).get().getTitle());
+            }
+            verify(articleService, times(writers)).createArticle(any());
+            verify(transactionManager, atMost(writers / 2)).commit(any());
+        } finally {
+            executor.shutdownNow();
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    void testDisabledCoalescerCallsServiceDirectly() {
+        // Given
+        ArticleWriteCoalescer coalescer = new ArticleWriteCoalescer(
+                articleService, transactionManager, false, 32, Duration.ZERO);
+        ArticleDTO dto = article("a");
+        when(articleService.updateArticle(1L, dto)).thenReturn(dto);
+
+        // When
+        ArticleDTO result = coalescer.updateArticle(1L, dto);
+
+        // Then
+        assertSame(dto, result);
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDeleteResultDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArchivedArticleRepository archivedArticleRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ArticleStatsService articleStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+    private BulkDeleteService bulkDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        // 后台任务在调用线程中同步执行
+        bulkDeleteService = new BulkDeleteService(articleRepository, archivedArticleRepository, categoryRepository,
+                articleStatsService, jobService, eventPublisher, transactionManager, Runnable::run, 2);
+    }
+
+    private Object[] row(long id, String status) {
+        return new Object[]{id, 1L, status, "NEWS", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0)};
+    }
+
+    private Article article(long id, String status) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("标题" + id);
+        article.setCategoryId(1L);
+        article.setCategoryName("技术");
+        article.setStatus(status);
+        article.setCreateTime(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return article;
+    }
+
+    @Test
+    void testDeleteArticlesByIdsInChunks() {
+        // Given
+        when(articleRepository.findMetadataByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.<Object[]>of(row(1, "PUBLISHED"), row(2, "DRAFT")));
+        when(articleRepository.findMetadataByIdIn(List.of(3L))).thenReturn(List.of());
+        when(archivedArticleRepository.findMetadataByIdIn(List.of(3L))).thenReturn(List.of());
+
+        // When
+        ArticleDeleteResultDTO result = bulkDeleteService.deleteArticles(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(2, result.getDeleted());
+        assertEquals(List.of(3L), result.getMissingIds());
+        InOrder inOrder = inOrder(articleRepository);
+        inOrder.verify(articleRepository).deleteImagesByArticleIdIn(List.of(1L, 2L));
+        inOrder.verify(articleRepository).deleteRowsByIdIn(List.of(1L, 2L));
+        verify(articleStatsService, times(1)).delete(List.of(1L, 2L));
+        verify(articleRepository, never()).deleteRowsByIdIn(List.of(3L));
+
+        ArgumentCaptor<ArticleChangedEvent> events = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(ChangeType.DELETED, events.getValue().getType());
+        assertEquals("DRAFT", events.getValue().getBefore().getStatus());
+        assertNull(events.getValue().getAfter());
+    }
+
+    @Test
+    void testDeleteArticlesFallsBackToArchive() {
+        // Given
+        when(articleRepository.findMetadataByIdIn(List.of(8L))).thenReturn(List.of());
+        when(archivedArticleRepository.findMetadataByIdIn(List.of(8L)))
+                .thenReturn(List.<Object[]>of(row(8, "ARCHIVED")));
+
+        // When
+        ArticleDeleteResultDTO result = bulkDeleteService.deleteArticles(List.of(8L));
+
+        // Then
+        assertEquals(1, result.getDeleted());
+        verify(archivedArticleRepository, times(1)).deleteImagesByArticleIdIn(List.of(8L));
+        verify(archivedArticleRepository, times(1)).deleteRowsByIdIn(List.of(8L));
+        verify(articleStatsService, times(1)).delete(List.of(8L));
+    }
+
+    @Test
+    void testDeleteArticlesRejectsEmptyIds() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> bulkDeleteService.deleteArticles(new ArrayList<Long>()));
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void testDeleteArticlesByFiltersRunsChunkedJob() {
+        // Given
+        ArticleListRequest filters = new ArticleListRequest();
+        filters.setStatus("DRAFT");
+        when(articleRepository.countByFilters("DRAFT", null, null, null)).thenReturn(3L);
+        when(articleRepository.findMetadataByFilters(eq("DRAFT"), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(1, "DRAFT"), row(2, "DRAFT")))
+                .thenReturn(List.<Object[]>of(row(5, "DRAFT")));
+
+        // When
+        JobDTO job = bulkDeleteService.deleteArticles(filters);
+
+        // Then
+        JobDTO finished = jobService.getJob(job.getId());
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals(3, finished.getProcessed());
+        verify(articleRepository, times(1)).deleteRowsByIdIn(List.of(1L, 2L));
+        verify(articleRepository, times(1)).deleteRowsByIdIn(List.of(5L));
+        verify(archivedArticleRepository, never()).findMetadataByFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteArticlesByFiltersRequiresFilter() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> bulkDeleteService.deleteArticles(new ArticleListRequest()));
+    }
+
+    @Test
+    void testDeleteSmallCategoryInline() {
+        // Given
+        when(articleRepository.countByCategoryId(1L)).thenReturn(1L);
+        when(archivedArticleRepository.countByCategoryId(1L)).thenReturn(1L);
+        when(articleRepository.findByCategoryIdForUpdate(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(article(1, "PUBLISHED"), article(2, "DRAFT")))
+                .thenReturn(List.of());
+        when(archivedArticleRepository.findIdsByCategoryId(eq(1L), anyInt()))
+                .thenReturn(List.of(9L))
+                .thenReturn(List.of());
+
+        // When
+        JobDTO job = bulkDeleteService.deleteCategory(1L);
+
+        // Then: 每篇文章发布分类被置空的 UPDATED 事件，最后删除分类
+        assertNull(job);
+        verify(articleRepository, times(1)).detachCategory(List.of(1L, 2L));
+        verify(archivedArticleRepository, times(1)).detachCategory(List.of(9L));
+        verify(categoryRepository, times(1)).deleteById(1L);
+        ArgumentCaptor<ArticleChangedEvent> events = ArgumentCaptor.forClass(ArticleChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        ArticleChangedEvent first = events.getAllValues().get(0);
+        assertEquals(ChangeType.UPDATED, first.getType());
+        assertTrue(first.isPartial());
+        assertEquals(1L, first.getBefore().getCategoryId());
+        assertNull(first.getAfter().getCategoryId());
+        assertNull(first.getAfter().getCategoryName());
+        assertEquals("标题1", first.getAfter().getTitle());
+        assertEquals("PUBLISHED", first.getAfter().getStatus());
+        verify(eventPublisher, times(1)).publishEvent(any(CategoryChangedEvent.class));
+    }
+
+    @Test
+    void testDeleteLargeCategoryDetachesInChunks() {
+        // Given
+        when(articleRepository.countByCategoryId(1L)).thenReturn(5L);
+        when(archivedArticleRepository.countByCategoryId(1L)).thenReturn(3L);
+        when(articleRepository.findByCategoryIdForUpdate(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(article(1, "PUBLISHED"), article(2, "PUBLISHED")))
+                .thenReturn(List.of(article(3, "PUBLISHED"), article(4, "PUBLISHED")))
+                .thenReturn(List.of(article(5, "PUBLISHED")))
+                .thenReturn(List.of());
+        when(archivedArticleRepository.findIdsByCategoryId(eq(1L), anyInt()))
+                .thenReturn(List.of(10L, 11L))
+                .thenReturn(List.of(12L))
+                .thenReturn(List.of());
+
+        // When
+        JobDTO job = bulkDeleteService.deleteCategory(1L);
+
+        // Then
+        JobDTO finished = jobService.getJob(job.getId());
+        assertEquals("COMPLETED", finished.getStatus());
+        assertEquals(8, finished.getProcessed());
+        InOrder inOrder = inOrder(articleRepository, archivedArticleRepository, categoryRepository);
+        inOrder.verify(articleRepository).detachCategory(List.of(1L, 2L));
+        inOrder.verify(articleRepository).detachCategory(List.of(3L, 4L));
+        inOrder.verify(articleRepository).detachCategory(List.of(5L));
+        inOrder.verify(archivedArticleRepository).detachCategory(List.of(10L, 11L));
+        inOrder.verify(archivedArticleRepository).detachCategory(List.of(12L));
+        inOrder.verify(categoryRepository).deleteById(1L);
+        verify(eventPublisher, times(5)).publishEvent(any(ArticleChangedEvent.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.CategoryDTO;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent.ChangeType;
+import com.example.articleapi.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryNameSyncServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private JobService jobService;
+    private CategoryNameSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        syncService = new CategoryNameSyncService(articleRepository, jobService, 2);
+    }
+
+    private CategoryDTO category(String name) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(1L);
+        dto.setName(name);
+        return dto;
+    }
+
+    @Test
+    void testRenamePropagatesInChunks() {
+        // Given
+        when(articleRepository.countByCategoryId(1L)).thenReturn(3L);
+        when(articleRepository.findIdsByCategoryIdAfter(1L, 0L, 2)).thenReturn(List.of(3L, 8L));
+        when(articleRepository.findIdsByCategoryIdAfter(1L, 8L, 2)).thenReturn(List.of(9L));
+
+        // When
+        syncService.onCategoryChanged(new CategoryChangedEvent(ChangeType.UPDATED, 1L, category("旧"), category("新")));
+
+        // Then: 下一块从上一块最大的 id 之后读取
+        verify(articleRepository, times(1)).syncCategoryName(1L, List.of(3L, 8L));
+        verify(articleRepository, times(1)).syncCategoryName(1L, List.of(9L));
+        JobDTO job = jobService.getRecentJobs().get(0);
+        assertEquals("CATEGORY_RENAME", job.getType());
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(3L, job.getProcessed());
+        assertEquals(3L, job.getTotal());
+    }
+
+    @Test
+    void testUnchangedNameDoesNothing() {
+        // When
+        syncService.onCategoryChanged(new CategoryChangedEvent(ChangeType.UPDATED, 1L, category("同名"), category("同名")));
+
+        // Then
+        verifyNoInteractions(articleRepository);
+        assertTrue(jobService.getRecentJobs().isEmpty());
+    }
+
+    @Test
+    void testDeleteClearsOrphanNames() {
+        // Given
+        when(articleRepository.findOrphanCategoryNameIds(0L, 2)).thenReturn(List.of(4L));
+
+        // When
+        syncService.onCategoryChanged(new CategoryChangedEvent(ChangeType.DELETED, 1L, null, null));
+
+        // Then
+        verify(articleRepository, times(1)).clearOrphanCategoryNames(List.of(4L));
+        assertEquals("COMPLETED", jobService.getRecentJobs().get(0).getStatus());
+    }
+
+    @Test
+    void testFailureIsRecordedOnJob() {
+        // Given
+        when(articleRepository.findOrphanCategoryNameIds(anyLong(), anyInt())).thenThrow(new RuntimeException("连接断开"));
+
+        // When
+        syncService.onCategoryChanged(new CategoryChangedEvent(ChangeType.DELETED, 1L, null, null));
+
+        // Then
+        JobDTO job = jobService.getRecentJobs().get(0);
+        assertEquals("FAILED", job.getStatus());
+        assertEquals("连接断开", job.getMessage());
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,6 +28,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BulkDeleteService bulkDeleteService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -63,6 +70,13 @@ class CategoryServiceTest {
         assertEquals("技术", result.get(0).getName());
     }
 
+    @Test
+    void testGetAllCategoriesRejectsUnknownField() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> categoryService.getAllCategories("name,articles"));
+        verify(categoryRepository, never()).findAll();
+    }
+
     @Test
     void testGetCategoryById() {
         // Given
@@ -195,14 +209,13 @@ class CategoryServiceTest {
     void testDeleteCategory() {
         // Given
         when(categoryRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(categoryRepository).deleteById(1L);
 
         // When
         categoryService.deleteCategory(1L);
 
         // Then
         verify(categoryRepository, times(1)).existsById(1L);
-        verify(categoryRepository, times(1)).deleteById(1L);
+        verify(bulkDeleteService, times(1)).deleteCategory(1L);
     }
 
     @Test
@@ -212,5 +225,6 @@ class CategoryServiceTest {
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> categoryService.deleteCategory(999L));
+        verify(bulkDeleteService, never()).deleteCategory(any());
     }
 }
@@ -0,0 +1,207 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.entity.ChangeLogEntry;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.CategoryChangedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ChangeLogRepository;
+import com.example.articleapi.repository.ChangeLogVisibilityRepository.ActiveTransactions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PermissionDeniedDataAccessException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void setUp() {
+        changeLogService = new ChangeLogService(changeLogRepository, Duration.ofSeconds(5),
+                Duration.ofSeconds(2), Duration.ofDays(7));
+    }
+
+    private ChangeLogEntry entry(long seq, LocalDateTime time) {
+        ChangeLogEntry entry = new ChangeLogEntry();
+        entry.setSeq(seq);
+        entry.setEntityType("ARTICLE");
+        entry.setEntityId(seq * 10);
+        entry.setChangeType("UPDATED");
+        entry.setChangeTime(time);
+        return entry;
+    }
+
+    @Test
+    void testRecordsArticleAndCategoryChanges() {
+        // When
+        changeLogService.onArticleChanged(new ArticleChangedEvent(ArticleChangedEvent.ChangeType.DELETED, 7L, null, null));
+        changeLogService.onCategoryChanged(new CategoryChangedEvent(CategoryChangedEvent.ChangeType.CREATED, 2L, null, null));
+
+        // Then
+        ArgumentCaptor<ChangeLogEntry> saved = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(changeLogRepository, times(2)).save(saved.capture());
+        assertEquals("ARTICLE", saved.getAllValues().get(0).getEntityType());
+        assertEquals("DELETED", saved.getAllValues().get(0).getChangeType());
+        assertEquals(2L, saved.getAllValues().get(1).getEntityId());
+    }
+
+    @Test
+    void testMarksChangesThatPublishAnArticle() {
+        // Given
+        ArticleDTO draft = new ArticleDTO();
+        draft.setStatus("DRAFT");
+        ArticleDTO published = new ArticleDTO();
+        published.setStatus("PUBLISHED");
+
+        // When
+        changeLogService.onArticleChanged(new ArticleChangedEvent(ArticleChangedEvent.ChangeType.UPDATED, 7L, draft, published));
+        changeLogService.onArticleChanged(new ArticleChangedEvent(ArticleChangedEvent.ChangeType.UPDATED, 7L, published, published));
+
+        // Then
+        ArgumentCaptor<ChangeLogEntry> saved = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(changeLogRepository, times(2)).save(saved.capture());
+        assertTrue(saved.getAllValues().get(0).isPublished());
+        assertFalse(saved.getAllValues().get(1).isPublished());
+    }
+
+    @Test
+    void testPagesWithResumableToken() {
+        // Given
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(changeLogRepository.findFirstByOrderBySeqAsc()).thenReturn(Optional.of(entry(1, old)));
+        when(changeLogRepository.findActiveTransactions()).thenReturn(new ActiveTransactions(LocalDateTime.now(), null));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(entry(4, old), entry(5, old), entry(6, old)));
+
+        // When
+        ChangeFeedDTO feed = changeLogService.getChanges("3", 2);
+
+        // Then
+        assertEquals(2, feed.getChanges().size());
+        assertEquals(40L, feed.getChanges().get(0).getEntityId());
+        assertEquals("5", feed.getNextToken());
+        assertTrue(feed.getHasMore());
+    }
+
+    @Test
+    void testStopsBeforeGapWhileOlderTransactionIsActive() {
+        // Given: 记录 3 已写入一分钟，但持有 seq 2 的事务开始得更早，仍未提交
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findActiveTransactions())
+                .thenReturn(new ActiveTransactions(now, now.minusMinutes(2)));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entry(1, now.minusMinutes(3)), entry(3, now.minusMinutes(1))));
+
+        // When
+        ChangeFeedDTO feed = changeLogService.getChanges(null, 10);
+
+        // Then
+        assertEquals(1, feed.getChanges().size());
+        assertEquals("1", feed.getNextToken());
+        assertTrue(feed.getHasMore());
+    }
+
+    @Test
+    void testSkipsGapWhenWritersHaveFinished() {
+        // Given: 数据库时钟比应用慢一小时，活动事务都在记录 3 写入之后才开始
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dbNow = now.minusHours(1);
+        when(changeLogRepository.findActiveTransactions())
+                .thenReturn(new ActiveTransactions(dbNow, dbNow.minusSeconds(5)));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entry(1, now.minusSeconds(20)), entry(3, now.minusSeconds(10))));
+
+        // When
+        ChangeFeedDTO feed = changeLogService.getChanges("0", 10);
+
+        // Then
+        assertEquals(2, feed.getChanges().size());
+        assertEquals("3", feed.getNextToken());
+        assertFalse(feed.getHasMore());
+    }
+
+    @Test
+    void testStopsBeforeGapWrittenWithinTolerance() {
+        // Given: 没有活动事务，但记录 3 在查询前 1 秒内写入，持有空洞的事务可能在查询后才结束
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findActiveTransactions()).thenReturn(new ActiveTransactions(now, null));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entry(1, now.minusMinutes(1)), entry(3, now.minusSeconds(1))));
+
+        // When
+        ChangeFeedDTO feed = changeLogService.getChanges(null, 10);
+
+        // Then
+        assertEquals("1", feed.getNextToken());
+        assertTrue(feed.getHasMore());
+    }
+
+    @Test
+    void testFallsBackToGapWaitWithoutTransactionView() {
+        // Given
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(changeLogRepository.findActiveTransactions())
+                .thenThrow(new PermissionDeniedDataAccessException("PROCESS privilege required", null));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entry(1, old), entry(3, old), entry(5, LocalDateTime.now())));
+
+        // When
+        ChangeFeedDTO feed = changeLogService.getChanges(null, 10);
+
+        // Then: 早于 gap-wait 的空洞越过，新的空洞暂不越过
+        assertEquals(2, feed.getChanges().size());
+        assertEquals("3", feed.getNextToken());
+        assertTrue(feed.getHasMore());
+    }
+
+    @Test
+    void testRejectsTokenBehindPurgedEntries() {
+        // Given
+        when(changeLogRepository.findFirstByOrderBySeqAsc())
+                .thenReturn(Optional.of(entry(100, LocalDateTime.now())));
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> changeLogService.getChanges("50", 10));
+    }
+
+    @Test
+    void testPurgeDeletesExpiredEntriesInSeqOrder() {
+        // Given
+        LocalDateTime expired = LocalDateTime.now().minusDays(8);
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(entry(1, expired), entry(2, expired), entry(3, LocalDateTime.now()),
+                        entry(4, expired)));
+        when(changeLogRepository.deleteUpTo(2L)).thenReturn(2);
+
+        // When
+        changeLogService.purge();
+
+        // Then: 遇到未过期的记录即停止
+        verify(changeLogRepository).deleteUpTo(2L);
+        verify(changeLogRepository, times(1)).findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void testRejectsInvalidToken() {
+        assertThrows(ValidationException.class, () -> changeLogService.getChanges("abc", 10));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ChangeDTO;
+import com.example.articleapi.dto.ChangeFeedDTO;
+import com.example.articleapi.entity.ChangeLogEntry;
+import com.example.articleapi.event.ChangesReplayedEvent;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.ChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeReplayServiceTest {
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ChangeReplayService changeReplayService;
+
+    @BeforeEach
+    void setUp() {
+        changeReplayService = new ChangeReplayService(changeLogService, changeLogRepository, articleRepository,
+                eventPublisher, true);
+    }
+
+    private static ChangeDTO change(String entityType, long entityId) {
+        ChangeDTO change = new ChangeDTO();
+        change.setEntityType(entityType);
+        change.setEntityId(entityId);
+        change.setChangeType("UPDATED");
+        return change;
+    }
+
+    private void startAt(long seq) {
+        ChangeLogEntry latest = new ChangeLogEntry();
+        latest.setSeq(seq);
+        when(changeLogRepository.findFirstByOrderBySeqDesc()).thenReturn(Optional.of(latest));
+        changeReplayService.start();
+        changeReplayService.onReadiness(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+    }
+
+    @Test
+    void testReplaysFromPositionTakenBeforeLoading() {
+        // Given
+        startAt(10);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 10, 0);
+        when(changeLogService.getChanges("10", 500)).thenReturn(new ChangeFeedDTO(
+                List.of(change("ARTICLE", 1), change("ARTICLE", 2), change("ARTICLE", 1), change("CATEGORY", 3)),
+                "14", false));
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 3L, "PUBLISHED", "NEWS", "HOT", 7, created});
+        when(articleRepository.findMetadataWithViewsByIdIn(Set.of(1L, 2L))).thenReturn(rows);
+        when(changeLogService.getChanges("14", 500)).thenReturn(new ChangeFeedDTO(List.of(), "14", false));
+
+        // When
+        changeReplayService.replay();
+        changeReplayService.replay();
+
+        // Then: 文章 2 不在 articles 中，说明已删除或归档
+        ArgumentCaptor<ChangesReplayedEvent> published = ArgumentCaptor.forClass(ChangesReplayedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        ChangesReplayedEvent event = published.getValue();
+        assertEquals(Set.of(1L, 2L), event.getArticleIds());
+        assertEquals(Set.of(3L), event.getCategoryIds());
+        assertEquals(4, event.getChanges().size());
+        assertEquals(1, event.getArticles().size());
+        assertEquals(3L, event.getArticles().get(0).getCategoryId());
+        assertEquals(7, event.getArticles().get(0).getViewCount());
+        assertEquals(created, event.getArticles().get(0).getCreateTime());
+    }
+
+    @Test
+    void testContinuesWhileMoreChangesAreAvailable() {
+        // Given
+        startAt(0);
+        when(changeLogService.getChanges("0", 500))
+                .thenReturn(new ChangeFeedDTO(List.of(change("CATEGORY", 1)), "1", true));
+        when(changeLogService.getChanges("1", 500))
+                .thenReturn(new ChangeFeedDTO(List.of(change("CATEGORY", 2)), "2", false));
+
+        // When
+        changeReplayService.replay();
+
+        // Then
+        verify(eventPublisher, times(2)).publishEvent(any(ChangesReplayedEvent.class));
+        verify(articleRepository, never()).findMetadataWithViewsByIdIn(any());
+    }
+
+    @Test
+    void testSkipsAheadWhenPositionWasPurged() {
+        // Given
+        startAt(10);
+        when(changeLogService.getChanges("10", 500)).thenThrow(new ValidationException("同步令牌之后的变更记录已被清理"));
+
+        // When
+        changeReplayService.replay();
+
+        // Then: 从最新位置继续
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(changeLogRepository, times(2)).findFirstByOrderBySeqDesc();
+    }
+
+    @Test
+    void testWaitsUntilReady() {
+        // When
+        changeReplayService.replay();
+
+        // Then
+        verifyNoInteractions(changeLogService);
+    }
+}
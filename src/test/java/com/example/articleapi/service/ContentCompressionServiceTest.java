@@ -0,0 +1,75 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.entity.CompressedTextConverter;
+import com.example.articleapi.repository.ArchivedArticleRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentCompressionServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArchivedArticleRepository archivedArticleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+    private ContentCompressionService contentCompressionService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        contentCompressionService = new ContentCompressionService(
+            articleRepository, archivedArticleRepository, jobService, transactionManager, false, 2);
+    }
+
+    @Test
+    void testMigrateRewritesLegacyRowsInChunks() {
+        // Given
+        when(articleRepository.findUncompressedContentIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(articleRepository.findUncompressedContentIds(2L, 2)).thenReturn(List.of(5L));
+        when(articleRepository.findUncompressedContentIds(5L, 2)).thenReturn(List.of());
+        when(articleRepository.findContentByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new Object[]{1L, "正文一"}, new Object[]{2L, "正文二"}));
+        when(articleRepository.findContentByIdIn(List.of(5L))).thenReturn(List.<Object[]>of(new Object[]{5L, "正文五"}));
+        when(articleRepository.compressContent(anyLong(), any(), any())).thenReturn(1);
+        when(archivedArticleRepository.findUncompressedContentIds(0L, 2)).thenReturn(List.of());
+
+        // When
+        contentCompressionService.migrate();
+
+        // Then
+        verify(articleRepository, times(1)).compressContent(eq(1L),
+                aryEq("正文一".getBytes(StandardCharsets.UTF_8)),
+                argThat((byte[] bytes) -> "正文一".equals(new CompressedTextConverter().convertToEntityAttribute(bytes))));
+        verify(articleRepository, times(3)).compressContent(anyLong(), any(), any());
+        assertEquals("COMPLETED", jobService.getRecentJobs().get(0).getStatus());
+        assertEquals(3L, jobService.getRecentJobs().get(0).getProcessed());
+    }
+
+    @Test
+    void testStartupMigrationIsOptIn() {
+        // When
+        contentCompressionService.onApplicationReady();
+
+        // Then
+        verifyNoInteractions(articleRepository, archivedArticleRepository);
+    }
+}
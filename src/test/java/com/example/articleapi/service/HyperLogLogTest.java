@@ -0,0 +1,82 @@
+package com.example.articleapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.offer(HyperLogLog.hash("visitor-" + i));
+        }
+        return sketch;
+    }
+
+    @Test
+    void testEstimateWithinErrorBound() {
+        // Given
+        HyperLogLog small = sketchOf(0, 100);
+        HyperLogLog large = sketchOf(0, 100_000);
+
+        // When & Then: 标准误差约 1.6%，按三倍标准误差校验
+        assertEquals(100, small.estimate(), 3);
+        assertEquals(100_000, large.estimate(), 5_000);
+    }
+
+    @Test
+    void testDuplicatesAreCountedOnce() {
+        // Given
+        HyperLogLog sketch = sketchOf(0, 1_000);
+        long before = sketch.estimate();
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer(HyperLogLog.hash("visitor-" + i));
+        }
+
+        // Then
+        assertEquals(before, sketch.estimate());
+    }
+
+    @Test
+    void testMergeEqualsUnion() {
+        // Given: 两个节点各自记录，有一半访客重叠
+        HyperLogLog nodeA = sketchOf(0, 20_000);
+        HyperLogLog nodeB = sketchOf(10_000, 30_000);
+        HyperLogLog union = sketchOf(0, 30_000);
+
+        // When
+        nodeA.merge(nodeB);
+        nodeA.merge(nodeB);
+
+        // Then: 合并结果与一起记录相同，重复合并不改变结果
+        assertArrayEquals(union.toBytes(), nodeA.toBytes());
+        assertEquals(union.estimate(), nodeA.estimate());
+    }
+
+    @Test
+    void testBytesRoundTrip() {
+        // Given
+        HyperLogLog sketch = sketchOf(0, 5_000);
+
+        // When
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        // Then
+        assertEquals(HyperLogLog.SERIALIZED_SIZE, bytes.length);
+        assertEquals(sketch.estimate(), restored.estimate());
+        assertArrayEquals(bytes, restored.toBytes());
+        assertEquals(0, HyperLogLog.fromBytes(new HyperLogLog().toBytes()).estimate());
+    }
+
+    @Test
+    void testRejectsInvalidBytes() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[10]));
+        assertThrows(IllegalArgumentException.class,
+                () -> HyperLogLog.fromBytes(new byte[HyperLogLog.SERIALIZED_SIZE]));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.ArticleListRequest;
+import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatestFeedCacheTest {
+
+    private LatestFeedCache cache;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LatestFeedCache(3);
+        base = LocalDateTime.of(2024, 1, 1, 10, 0);
+    }
+
+    private ArticleDTO article(long id, Long categoryId, String status, int minutes) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setId(id);
+        dto.setTitle("文章" + id);
+        dto.setCategoryId(categoryId);
+        dto.setStatus(status);
+        dto.setCreateTime(base.plusMinutes(minutes));
+        return dto;
+    }
+
+    private ArticleListRequest published(Long categoryId) {
+        ArticleListRequest request = new ArticleListRequest();
+        request.setStatus("PUBLISHED");
+        request.setCategoryId(categoryId);
+        return request;
+    }
+
+    @Test
+    void testNotServedBeforeReady() {
+        // Given
+        cache.seed(null, new ArrayList<>(), 0);
+
+        // When & Then
+        assertTrue(cache.findPage(published(null), 0, 10).isEmpty());
+    }
+
+    @Test
+    void testServesNewestFirstFromSeed() {
+        // Given
+        List<ArticleDTO> seed = List.of(article(1, 1L, "PUBLISHED", 1), article(2, 1L, "PUBLISHED", 2));
+        cache.seed(null, seed, 2);
+        cache.markReady();
+
+        // When
+        Optional<PageResult<ArticleDTO>> page = cache.findPage(published(null), 0, 10);
+
+        // Then
+        assertTrue(page.isPresent());
+        assertEquals(2L, page.get().getTotalElements());
+        assertEquals(2L, page.get().getContent().get(0).getId());
+    }
+
+    @Test
+    void testFallsBackWhenPageExceedsBuffer() {
+        // Given
+        List<ArticleDTO> seed = List.of(
+                article(3, null, "PUBLISHED", 3), article(2, null, "PUBLISHED", 2), article(1, null, "PUBLISHED", 1));
+        cache.seed(null, seed, 10);
+        cache.markReady();
+
+        // When & Then
+        assertTrue(cache.findPage(published(null), 0, 3).isPresent());
+        assertTrue(cache.findPage(published(null), 1, 3).isEmpty());
+    }
+
+    @Test
+    void testCreateAndUnpublishUpdateBuffer() {
+        // Given
+        cache.seed(null, new ArrayList<>(), 0);
+        cache.seed(1L, new ArrayList<>(), 0);
+        cache.markReady();
+        ArticleDTO created = article(5, 1L, "PUBLISHED", 5);
+
+        // When
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.CREATED, 5L, null, created));
+
+        // Then
+        assertEquals(1, cache.findPage(published(1L), 0, 10).get().getContent().size());
+
+        // When
+        ArticleDTO draft = article(5, 1L, "DRAFT", 5);
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 5L, created, draft));
+
+        // Then
+        PageResult<ArticleDTO> page = cache.findPage(published(1L), 0, 10).get();
+        assertEquals(0, page.getContent().size());
+        assertEquals(0L, page.getTotalElements());
+    }
+
+    @Test
+    void testOlderArticleNotAppendedToTruncatedBuffer() {
+        // Given
+        List<ArticleDTO> seed = List.of(article(3, null, "PUBLISHED", 3), article(2, null, "PUBLISHED", 2));
+        cache.seed(null, seed, 5);
+        cache.markReady();
+
+        // When
+        ArticleDTO old = article(9, null, "PUBLISHED", -10);
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 9L, article(9, null, "DRAFT", -10), old));
+
+        // Then
+        PageResult<ArticleDTO> page = cache.findPage(published(null), 0, 2).get();
+        assertEquals(6L, page.getTotalElements());
+        assertTrue(page.getContent().stream().noneMatch(a -> a.getId() == 9L));
+    }
+
+    @Test
+    void testDetachedArticleLeavesCategoryBufferOutsideGlobalWindow() {
+        // Given: 全局缓冲已被更新的文章占满，文章 1 只在分类 1 的缓冲中
+        cache.seed(null, List.of(article(7, 2L, "PUBLISHED", 7), article(6, 2L, "PUBLISHED", 6),
+                article(5, 2L, "PUBLISHED", 5)), 4);
+        cache.seed(1L, List.of(article(1, 1L, "PUBLISHED", 1)), 1);
+        cache.markReady();
+
+        // When: 删除分类时逐块解除关联，事件只带局部数据
+        ArticleDTO detached = article(1, null, "PUBLISHED", 1);
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 1L,
+                article(1, 1L, "PUBLISHED", 1), detached, true));
+
+        // Then
+        PageResult<ArticleDTO> category = cache.findPage(published(1L), 0, 10).get();
+        assertEquals(0, category.getContent().size());
+        assertEquals(0L, category.getTotalElements());
+        assertEquals(4L, cache.findPage(published(null), 0, 3).get().getTotalElements());
+    }
+
+    @Test
+    void testFindCategoriesAndDrop() {
+        // Given
+        cache.seed(1L, List.of(article(1, 1L, "PUBLISHED", 1)), 1);
+        cache.seed(2L, List.of(article(2, 2L, "PUBLISHED", 2)), 1);
+        cache.markReady();
+
+        // When
+        Set<Long> categories = cache.findCategories(List.of(2L, 3L));
+        cache.drop(2L);
+
+        // Then
+        assertEquals(Set.of(2L), categories);
+        assertTrue(cache.findPage(published(2L), 0, 10).isEmpty());
+        assertTrue(cache.findPage(published(1L), 0, 10).isPresent());
+    }
+
+    @Test
+    void testApplyReplayedChangesById() {
+        // Given: 缓冲不完整，数据库中还有更旧的文章
+        cache.seed(null, List.of(article(3, 1L, "PUBLISHED", 3), article(2, 1L, "PUBLISHED", 2)), 5);
+        cache.markReady();
+        ArticleDTO updated = article(2, 1L, "PUBLISHED", 2);
+        updated.setTitle("新标题");
+        ArticleDTO created = article(6, 1L, "PUBLISHED", 6);
+        ArticleDTO older = article(9, 1L, "PUBLISHED", -10);
+
+        // When: 文章 3 下线，文章 2 修改，文章 6 新发布，文章 9 比缓冲中最旧的还旧
+        cache.apply(null, Set.of(2L, 3L, 6L, 9L), List.of(updated, created, older), 5);
+
+        // Then
+        PageResult<ArticleDTO> page = cache.findPage(published(null), 0, 2).get();
+        assertEquals(List.of(6L, 2L), page.getContent().stream().map(ArticleDTO::getId).toList());
+        assertEquals("新标题", page.getContent().get(1).getTitle());
+        assertEquals(5L, page.getTotalElements());
+        assertTrue(cache.needsReseed(null));
+    }
+
+    @Test
+    void testCreatedArticleStoredWithoutContent() {
+        // Given
+        cache.seed(null, new ArrayList<>(), 0);
+        cache.markReady();
+        ArticleDTO created = article(5, null, "PUBLISHED", 5);
+        created.setContent("正文");
+
+        // When
+        cache.onArticleChanged(new ArticleChangedEvent(ChangeType.CREATED, 5L, null, created));
+
+        // Then
+        assertNull(cache.findPage(published(null), 0, 10).get().getContent().get(0).getContent());
+        assertEquals("正文", created.getContent());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.articleapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHashTest {
+
+    private static int[] signatureOf(String text) {
+        return MinHash.signature(MinHash.shingles(text));
+    }
+
+    @Test
+    void testShinglesSplitCjkIntoBigramsAndWordsByWord() {
+        // When
+        Set<String> shingles = MinHash.shingles("Spring Boot 入门教程，好！a");
+
+        // Then: 中文按相邻两字，单独的汉字取该字，单个字母忽略
+        assertEquals(Set.of("spring", "boot", "入门", "门教", "教程", "好"), shingles);
+    }
+
+    @Test
+    void testNearDuplicatesAreMoreSimilarThanUnrelatedText() {
+        // Given
+        int[] original = signatureOf("Spring Boot 入门教程：从零开始搭建第一个 Web 应用，配置数据源并编写接口");
+        int[] edited = signatureOf("Spring Boot 入门教程：从零开始搭建第一个 Web 应用，配置数据源并编写测试");
+        int[] unrelated = signatureOf("周末去西湖边散步，顺便尝了几家杭州本地的小吃");
+
+        // When
+        double near = MinHash.similarity(original, edited);
+        double far = MinHash.similarity(original, unrelated);
+
+        // Then
+        assertEquals(1.0, MinHash.similarity(original, original));
+        assertTrue(near > 0.6, "near = " + near);
+        assertTrue(far < 0.2, "far = " + far);
+    }
+
+    @Test
+    void testIdenticalSignaturesShareAllBands() {
+        // Given
+        int[] a = signatureOf("文章相似度计算");
+        int[] b = signatureOf("文章相似度计算");
+
+        // When & Then
+        assertArrayEquals(MinHash.bandHashes(a), MinHash.bandHashes(b));
+        assertEquals(MinHash.BANDS, MinHash.bandHashes(a).length);
+    }
+
+    @Test
+    void testSerializationRoundTrip() {
+        // Given
+        int[] signature = signatureOf("序列化 round trip");
+
+        // When
+        byte[] bytes = MinHash.toBytes(signature);
+
+        // Then
+        assertEquals(MinHash.SERIALIZED_SIZE, bytes.length);
+        assertArrayEquals(signature, MinHash.fromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> MinHash.fromBytes(new byte[3]));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.dto.RelatedArticleDTO;
+import com.example.articleapi.entity.ArticleRelation;
+import com.example.articleapi.entity.ArticleSignature;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.repository.ArticleLshBucketRepository;
+import com.example.articleapi.repository.ArticleRelationRepository;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.ArticleSignatureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RelatedArticleServiceTest {
+
+    private static final String TEXT = "Spring Boot 入门教程\n从零开始搭建第一个 Web 应用，配置数据源并编写接口";
+    private static final String SIMILAR = "Spring Boot 入门教程\n从零开始搭建第一个 Web 应用，配置数据源并编写测试";
+    private static final String UNRELATED = "西湖游记\n周末去西湖边散步，顺便尝了几家杭州本地的小吃";
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleSignatureRepository signatureRepository;
+
+    @Mock
+    private ArticleLshBucketRepository bucketRepository;
+
+    @Mock
+    private ArticleRelationRepository relationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+    private RelatedArticleService relatedArticleService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        relatedArticleService = new RelatedArticleService(articleRepository, signatureRepository, bucketRepository,
+                relationRepository, jobService, transactionManager, true, 2, 10, 0.3);
+    }
+
+    private static Object[] textRow(long id, String status, String text) {
+        String[] parts = text.split("\n", 2);
+        return new Object[]{id, status, parts[0], parts[1]};
+    }
+
+    private static ArticleSignature signature(long id, String text) {
+        return new ArticleSignature(id, MinHash.toBytes(MinHash.signature(MinHash.shingles(text))), LocalDateTime.now());
+    }
+
+    private static ArticleDTO article(String status) {
+        ArticleDTO dto = new ArticleDTO();
+        dto.setStatus(status);
+        return dto;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testIndexKeepsTopKAndInsertsIntoNeighbourLists() {
+        // Given: 2 与 1 正文相同，3 相近，4 无关；2 的列表已满，3 的列表为空
+        when(articleRepository.findTextByIdIn(List.of(1L))).thenReturn(List.<Object[]>of(textRow(1L, "PUBLISHED", TEXT)));
+        when(signatureRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bucketRepository.findCandidates(anyCollection(), eq(1L), eq(10))).thenReturn(List.of(2L, 3L, 4L));
+        when(signatureRepository.findAllById(List.of(2L, 3L, 4L))).thenReturn(List.of(
+                signature(2L, TEXT), signature(3L, SIMILAR), signature(4L, UNRELATED)));
+        when(relationRepository.findByArticleIdIn(List.of(2L, 3L))).thenReturn(List.of(
+                new ArticleRelation(2L, 5L, 0.9), new ArticleRelation(2L, 6L, 0.2)));
+
+        // When
+        relatedArticleService.onArticleChanged(new ArticleChangedEvent(ChangeType.CREATED, 1L, null, article("PUBLISHED")));
+        relatedArticleService.processPending();
+
+        // Then
+        verify(signatureRepository).save(any(ArticleSignature.class));
+        verify(bucketRepository).insertBuckets(eq(1L), any(long[].class));
+        ArgumentCaptor<List<ArticleRelation>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(relationRepository).upsertRelations(upserts.capture());
+        List<ArticleRelation> rows = upserts.getValue();
+        assertEquals(4, rows.size());
+        assertEquals(new ArticleRelation(1L, 2L, 1.0), rows.get(0));
+        assertEquals(3L, rows.get(1).getRelatedId());
+        assertEquals(new ArticleRelation(2L, 1L, 1.0), rows.get(2));
+        assertEquals(3L, rows.get(3).getArticleId());
+        verify(relationRepository).deleteRelations(List.of(new ArticleRelation(2L, 6L, 0.2)));
+    }
+
+    @Test
+    void testUnchangedSignatureWritesNothing() {
+        // Given
+        when(articleRepository.findTextByIdIn(List.of(1L))).thenReturn(List.<Object[]>of(textRow(1L, "PUBLISHED", TEXT)));
+        when(signatureRepository.findById(1L)).thenReturn(Optional.of(signature(1L, TEXT)));
+
+        // When
+        relatedArticleService.process(List.of(1L));
+
+        // Then
+        verifyNoInteractions(bucketRepository, relationRepository);
+        verify(signatureRepository, never()).save(any());
+    }
+
+    @Test
+    void testUnpublishedAndDeletedArticlesAreRemoved() {
+        // Given: 1 改为草稿，2 已删除
+        when(articleRepository.findTextByIdIn(anyCollection())).thenReturn(List.<Object[]>of(textRow(1L, "DRAFT", TEXT)));
+
+        // When
+        relatedArticleService.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 1L,
+                article("PUBLISHED"), article("DRAFT")));
+        relatedArticleService.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 2L, article("PUBLISHED"), null));
+        relatedArticleService.onArticleChanged(new ArticleChangedEvent(ChangeType.UPDATED, 3L,
+                article("DRAFT"), article("DRAFT")));
+        relatedArticleService.processPending();
+
+        // Then: 草稿之间的修改不会记入待处理集合
+        List<Long> removed = List.of(1L, 2L);
+        verify(signatureRepository).deleteByArticleIdIn(argThat(ids -> ids.containsAll(removed) && ids.size() == 2));
+        verify(bucketRepository).deleteByArticleIdIn(argThat(ids -> ids.containsAll(removed) && ids.size() == 2));
+        verify(relationRepository).deleteByArticleIdIn(argThat(ids -> ids.containsAll(removed) && ids.size() == 2));
+        verify(signatureRepository, never()).findById(any());
+    }
+
+    @Test
+    void testFailedBatchIsRetried() {
+        // Given
+        when(articleRepository.findTextByIdIn(anyCollection()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new ArrayList<>());
+        relatedArticleService.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 1L, article("PUBLISHED"), null));
+
+        // When
+        relatedArticleService.processPending();
+        relatedArticleService.processPending();
+
+        // Then
+        verify(articleRepository, times(2)).findTextByIdIn(List.of(1L));
+        verify(signatureRepository).deleteByArticleIdIn(List.of(1L));
+    }
+
+    @Test
+    void testBackfillIndexesUnsignedArticlesAsJob() {
+        // Given
+        when(articleRepository.findUnsignedPublishedIds(eq(0L), any())).thenReturn(List.of(1L));
+        when(articleRepository.findUnsignedPublishedIds(eq(1L), any())).thenReturn(List.of());
+        when(articleRepository.findTextByIdIn(List.of(1L))).thenReturn(List.<Object[]>of(textRow(1L, "PUBLISHED", TEXT)));
+        when(signatureRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        relatedArticleService.backfill();
+
+        // Then
+        verify(signatureRepository).save(any(ArticleSignature.class));
+        JobDTO job = jobService.getRecentJobs().get(0);
+        assertEquals("RELATED_ARTICLES_BACKFILL", job.getType());
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(1L, job.getProcessed());
+    }
+
+    @Test
+    void testGetRelatedArticlesKeepsOrderAndSkipsUnpublished() {
+        // Given: 3 已不再发布
+        when(relationRepository.findByArticleIdOrderBySimilarityDescRelatedIdDesc(1L)).thenReturn(List.of(
+                new ArticleRelation(1L, 3L, 0.8), new ArticleRelation(1L, 2L, 0.5), new ArticleRelation(1L, 4L, 0.4)));
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(articleRepository.findPublishedSummariesByIdIn(List.of(3L, 2L, 4L))).thenReturn(List.of(
+                new Object[]{4L, "四", null, 1L, "技术", "ORIGINAL", null, created},
+                new Object[]{2L, "二", null, 1L, "技术", "ORIGINAL", "java", created}));
+
+        // When
+        List<RelatedArticleDTO> related = relatedArticleService.getRelatedArticles(1L);
+
+        // Then
+        assertEquals(2, related.size());
+        assertEquals(2L, related.get(0).getId());
+        assertEquals(0.5, related.get(0).getSimilarity());
+        assertEquals("java", related.get(0).getTag());
+        assertEquals(4L, related.get(1).getId());
+    }
+
+    @Test
+    void testGetRelatedArticlesOfMissingArticle() {
+        // Given
+        when(relationRepository.findByArticleIdOrderBySimilarityDescRelatedIdDesc(9L)).thenReturn(List.of());
+        when(articleRepository.existsById(9L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> relatedArticleService.getRelatedArticles(9L));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleDTO;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.repository.ArticleViewRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendingServiceTest {
+
+    private AtomicLong minute;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        minute = new AtomicLong(1_000);
+        trendingService = new TrendingService(true, Duration.ofMinutes(10), Duration.ofMinutes(60), 100, 50, minute::get);
+    }
+
+    private void view(long articleId, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingService.onArticleViewed(new ArticleViewedEvent(articleId, null));
+        }
+    }
+
+    @Test
+    void testRecentViewsOutrankOlderViews() {
+        // Given: 文章 1 在两小时前有 10 次浏览，文章 2 刚刚有 4 次浏览
+        view(1L, 10);
+        minute.addAndGet(120);
+        view(2L, 4);
+
+        // When
+        trendingService.refresh();
+
+        // Then: 两个半衰期后 10 次浏览只相当于 2.5 次
+        assertEquals(List.of(2L, 1L), trendingService.getRanking());
+    }
+
+    @Test
+    void testInactiveArticlesAreEvicted() {
+        // Given
+        view(1L, 1);
+        view(2L, 100);
+        minute.addAndGet(6 * 60);
+
+        // When
+        trendingService.refresh();
+
+        // Then: 单次浏览在六个半衰期后低于阈值，被移除
+        assertEquals(List.of(2L), trendingService.getRanking());
+        assertEquals(1, trendingService.getTrackedCount());
+    }
+
+    @Test
+    void testTrackedArticlesAreBounded() {
+        // Given
+        trendingService = new TrendingService(true, Duration.ofMinutes(10), Duration.ofMinutes(60), 10, 50, minute::get);
+        for (long id = 1; id <= 20; id++) {
+            view(id, (int) id);
+        }
+
+        // When
+        trendingService.refresh();
+
+        // Then: 超出上限的新文章不被跟踪，计算后保留九成空间
+        assertEquals(9, trendingService.getTrackedCount());
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L), trendingService.getRanking());
+    }
+
+    @Test
+    void testDeletedArticleLeavesRanking() {
+        // Given
+        view(1L, 3);
+        view(2L, 1);
+        trendingService.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 1L, new ArticleDTO(), null));
+
+        // When
+        trendingService.refresh();
+
+        // Then
+        assertEquals(List.of(2L), trendingService.getRanking());
+    }
+
+    @Test
+    void testSharedRankingComesFromHourlyRollups() {
+        // Given
+        ArticleViewRollupRepository rollupRepository = mock(ArticleViewRollupRepository.class);
+        trendingService = new TrendingService(true, Duration.ofMinutes(10), Duration.ofMinutes(60), 100, 50,
+                minute::get, rollupRepository, Duration.ofDays(2));
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(minute.get() * 60),
+                ZoneId.systemDefault());
+        when(rollupRepository.findTrending(now.minusDays(2), now, 60.0, 50)).thenReturn(List.of(3L, 1L));
+
+        // When: 本节点的浏览不参与计算
+        view(2L, 100);
+        trendingService.refresh();
+
+        // Then
+        assertEquals(List.of(3L, 1L), trendingService.getRanking());
+        assertEquals(0, trendingService.getTrackedCount());
+    }
+
+    @Test
+    void testSharedRankingKeptWhenQueryFails() {
+        // Given
+        ArticleViewRollupRepository rollupRepository = mock(ArticleViewRollupRepository.class);
+        trendingService = new TrendingService(true, Duration.ofMinutes(10), Duration.ofMinutes(60), 100, 50,
+                minute::get, rollupRepository, Duration.ofDays(2));
+        when(rollupRepository.findTrending(any(), any(), anyDouble(), anyInt()))
+                .thenReturn(List.of(1L))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        trendingService.refresh();
+        trendingService.refresh();
+
+        // Then
+        assertEquals(List.of(1L), trendingService.getRanking());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.entity.ArticleVisitorSketch;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import com.example.articleapi.repository.ArticleVisitorSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueVisitorServiceTest {
+
+    @Mock
+    private ArticleVisitorSketchRepository sketchRepository;
+
+    @Mock
+    private ArticleStatsRepository articleStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UniqueVisitorService uniqueVisitorService;
+
+    @BeforeEach
+    void setUp() {
+        uniqueVisitorService = new UniqueVisitorService(sketchRepository, articleStatsRepository,
+                transactionManager, true, 2);
+    }
+
+    private void view(long articleId, String visitorKey) {
+        uniqueVisitorService.onArticleViewed(new ArticleViewedEvent(articleId, 1, visitorKey));
+    }
+
+    @Test
+    void testFlushMergesIntoStoredSketch() {
+        // Given: 其他节点已写入 visitor-a、visitor-b，本节点记录了 visitor-b、visitor-c
+        HyperLogLog stored = new HyperLogLog();
+        stored.offer(HyperLogLog.hash("visitor-a"));
+        stored.offer(HyperLogLog.hash("visitor-b"));
+        ArticleVisitorSketch row = new ArticleVisitorSketch();
+        row.setArticleId(1L);
+        row.setSketch(stored.toBytes());
+        when(articleStatsRepository.existsById(1L)).thenReturn(true);
+        when(sketchRepository.findForUpdate(1L)).thenReturn(Optional.of(row));
+        view(1L, "visitor-b");
+        view(1L, "visitor-c");
+        view(1L, "visitor-c");
+
+        // When
+        uniqueVisitorService.flush();
+
+        // Then
+        verify(sketchRepository, times(1)).insertIfAbsent(eq(1L), any(byte[].class), any());
+        verify(articleStatsRepository, times(1)).setUniqueViews(1L, 3);
+        assertEquals(3, HyperLogLog.fromBytes(row.getSketch()).estimate());
+        assertEquals(0, uniqueVisitorService.getPendingCount());
+    }
+
+    @Test
+    void testFailedFlushKeepsSketchForRetry() {
+        // Given
+        when(articleStatsRepository.existsById(1L)).thenReturn(true);
+        when(sketchRepository.findForUpdate(1L)).thenThrow(new IllegalStateException("lock timeout"));
+        view(1L, "visitor-a");
+
+        // When
+        uniqueVisitorService.flush();
+
+        // Then
+        assertEquals(1, uniqueVisitorService.getPendingCount());
+        verify(articleStatsRepository, never()).setUniqueViews(anyLong(), anyInt());
+    }
+
+    @Test
+    void testPendingArticlesAreBounded() {
+        // Given
+        view(1L, "visitor-a");
+        view(2L, "visitor-a");
+
+        // When
+        view(3L, "visitor-a");
+        view(1L, "visitor-b");
+
+        // Then: 已在内存中的文章照常记录，新文章被丢弃
+        assertEquals(2, uniqueVisitorService.getPendingCount());
+    }
+
+    @Test
+    void testViewsWithoutVisitorAndDeletedArticlesAreSkipped() {
+        // Given
+        view(1L, null);
+        view(2L, "visitor-a");
+
+        // When
+        uniqueVisitorService.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 2L, null, null));
+        uniqueVisitorService.flush();
+
+        // Then
+        assertEquals(0, uniqueVisitorService.getPendingCount());
+        verifyNoInteractions(sketchRepository);
+    }
+}
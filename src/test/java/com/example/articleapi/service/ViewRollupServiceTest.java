@@ -0,0 +1,198 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleViewStatsDTO;
+import com.example.articleapi.entity.ArticleViewRollup;
+import com.example.articleapi.event.ArticleChangedEvent;
+import com.example.articleapi.event.ArticleChangedEvent.ChangeType;
+import com.example.articleapi.event.ArticleViewedEvent;
+import com.example.articleapi.exception.ResourceNotFoundException;
+import com.example.articleapi.exception.ValidationException;
+import com.example.articleapi.repository.ArticleStatsRepository;
+import com.example.articleapi.repository.ArticleViewRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewRollupServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 14, 25);
+
+    @Mock
+    private ArticleViewRollupRepository rollupRepository;
+
+    @Mock
+    private ArticleStatsRepository articleStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+    private ViewRollupService viewRollupService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = Clock.fixed(NOW.atZone(zone).toInstant(), zone);
+        viewRollupService = new ViewRollupService(rollupRepository, articleStatsRepository, jobService,
+                transactionManager, true, Duration.ofDays(7), 100, clock);
+    }
+
+    private void view(long articleId, int times) {
+        for (int i = 0; i < times; i++) {
+            viewRollupService.onArticleViewed(new ArticleViewedEvent(articleId, null));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testFlushWritesHourlyBucketsInOneBatch() {
+        // Given
+        when(articleStatsRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        view(2L, 3);
+        view(1L, 2);
+
+        // When
+        viewRollupService.flush();
+        viewRollupService.flush();
+
+        // Then: 按文章 id 排序的一批，第二次没有新浏览不再写入
+        ArgumentCaptor<List<ArticleViewRollup>> rows = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository, times(1)).addViews(rows.capture());
+        LocalDateTime hour = LocalDateTime.of(2024, 3, 10, 14, 0);
+        assertEquals(List.of(new ArticleViewRollup(1L, "HOUR", hour, 2), new ArticleViewRollup(2L, "HOUR", hour, 3)),
+                rows.getValue());
+    }
+
+    @Test
+    void testFailedFlushKeepsViewsForRetry() {
+        // Given
+        when(articleStatsRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        doThrow(new IllegalStateException("db down")).doNothing().when(rollupRepository).addViews(anyList());
+        view(1L, 2);
+        viewRollupService.flush();
+        view(1L, 1);
+
+        // When
+        viewRollupService.flush();
+
+        // Then: 重试时与新的浏览合并到同一个小时桶
+        LocalDateTime hour = LocalDateTime.of(2024, 3, 10, 14, 0);
+        verify(rollupRepository, times(1)).addViews(List.of(new ArticleViewRollup(1L, "HOUR", hour, 2)));
+        verify(rollupRepository, times(1)).addViews(List.of(new ArticleViewRollup(1L, "HOUR", hour, 3)));
+    }
+
+    @Test
+    void testDeletedArticlesAreNotWritten() {
+        // Given
+        view(1L, 1);
+
+        // When
+        viewRollupService.onArticleChanged(new ArticleChangedEvent(ChangeType.DELETED, 1L, null, null));
+        viewRollupService.flush();
+
+        // Then
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void testCompactionFoldsOldHoursIntoDays() {
+        // Given: 7 天前的 3 月 3 日之前还有 3 月 1 日的小时桶
+        LocalDateTime cutoff = LocalDateTime.of(2024, 3, 3, 0, 0);
+        LocalDateTime day = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(rollupRepository.countHourlyBefore(cutoff)).thenReturn(5L);
+        when(rollupRepository.findOldestHourlyBefore(cutoff)).thenReturn(day.plusHours(7), (LocalDateTime) null);
+        when(rollupRepository.sumHourly(day, day.plusDays(1))).thenReturn(List.<Object[]>of(new Object[]{1L, 40L, 5L}));
+        when(rollupRepository.deleteHourly(day, day.plusDays(1))).thenReturn(5);
+
+        // When
+        viewRollupService.compact();
+
+        // Then
+        verify(rollupRepository, times(1)).addViews(List.of(new ArticleViewRollup(1L, "DAY", day, 40)));
+        assertEquals("COMPLETED", jobService.getRecentJobs().get(0).getStatus());
+    }
+
+    @Test
+    void testCompactionYieldsWhenAnotherNodeFoldedTheDay() {
+        // Given: 汇总读到 5 行，删除时其他节点已提交了同一天的汇总
+        LocalDateTime cutoff = LocalDateTime.of(2024, 3, 3, 0, 0);
+        LocalDateTime day = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(rollupRepository.countHourlyBefore(cutoff)).thenReturn(5L);
+        when(rollupRepository.findOldestHourlyBefore(cutoff)).thenReturn(day.plusHours(7));
+        when(rollupRepository.sumHourly(day, day.plusDays(1))).thenReturn(List.<Object[]>of(new Object[]{1L, 40L, 5L}));
+        when(rollupRepository.deleteHourly(day, day.plusDays(1))).thenReturn(0);
+
+        // When
+        viewRollupService.compact();
+
+        // Then: 事务回滚本次累加，不再继续汇总
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(rollupRepository, times(1)).findOldestHourlyBefore(cutoff);
+        assertEquals("COMPLETED", jobService.getRecentJobs().get(0).getStatus());
+    }
+
+    @Test
+    void testDailyStatsMergeHourAndDayBuckets() {
+        // Given
+        when(articleStatsRepository.existsById(1L)).thenReturn(true);
+        when(rollupRepository.findRange(1L, LocalDateTime.of(2024, 3, 1, 0, 0), NOW)).thenReturn(List.of(
+                new ArticleViewRollup(1L, "DAY", LocalDateTime.of(2024, 3, 1, 0, 0), 40),
+                new ArticleViewRollup(1L, "HOUR", LocalDateTime.of(2024, 3, 10, 9, 0), 5),
+                new ArticleViewRollup(1L, "HOUR", LocalDateTime.of(2024, 3, 10, 13, 0), 7)));
+
+        // When
+        ArticleViewStatsDTO stats = viewRollupService.getViewStats(1L, "2024-03-01", null, "day");
+
+        // Then: 3 月 1 日至 10 日共 10 个天桶
+        assertEquals("DAY", stats.getGranularity());
+        assertEquals(52L, stats.getTotalViews());
+        assertEquals(10, stats.getPoints().size());
+        assertEquals(40L, stats.getPoints().get(0).getViews());
+        assertEquals(0L, stats.getPoints().get(1).getViews());
+        assertEquals(12L, stats.getPoints().get(9).getViews());
+    }
+
+    @Test
+    void testHourlyStatsSkipDayBuckets() {
+        // Given
+        when(articleStatsRepository.existsById(1L)).thenReturn(true);
+        LocalDateTime from = LocalDateTime.of(2024, 3, 10, 12, 0);
+        when(rollupRepository.findRange(1L, from, NOW)).thenReturn(List.of(
+                new ArticleViewRollup(1L, "HOUR", LocalDateTime.of(2024, 3, 10, 13, 0), 7)));
+
+        // When
+        ArticleViewStatsDTO stats = viewRollupService.getViewStats(1L, "2024-03-10T12:30:00", null, "HOUR");
+
+        // Then: 12 时、13 时、14 时三个小时桶
+        assertEquals(from, stats.getFrom());
+        assertEquals(List.of(0L, 7L, 0L), stats.getPoints().stream().map(p -> p.getViews()).toList());
+    }
+
+    @Test
+    void testInvalidStatsRequests() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> viewRollupService.getViewStats(1L, null, null, "WEEK"));
+        assertThrows(ValidationException.class, () -> viewRollupService.getViewStats(1L, "yesterday", null, "DAY"));
+        assertThrows(ValidationException.class,
+                () -> viewRollupService.getViewStats(1L, "2020-01-01", null, "HOUR"));
+        when(articleStatsRepository.existsById(9L)).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> viewRollupService.getViewStats(9L, null, null, null));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.articleapi.service;
+
+import com.example.articleapi.dto.ArticleBatchDTO;
+import com.example.articleapi.dto.JobDTO;
+import com.example.articleapi.dto.PageResult;
+import com.example.articleapi.entity.Article;
+import com.example.articleapi.entity.Category;
+import com.example.articleapi.repository.ArticleRepository;
+import com.example.articleapi.repository.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService();
+    }
+
+    private WarmUpService warmUpService(boolean enabled, Duration maxDuration) {
+        return new WarmUpService(articleService, articleRepository, categoryRepository,
+                new ObjectMapper().findAndRegisterModules(), jobService, transactionManager, enabled, 2, 5, 2, maxDuration);
+    }
+
+    @Test
+    void testWarmUpTouchesListsAndTopArticlesWithoutRecordingViews() {
+        // Given
+        Article hot = new Article();
+        hot.setId(9L);
+        hot.setArticleType("NEWS");
+        Category category = new Category();
+        category.setId(1L);
+        when(articleRepository.findByFiltersOrderByViewCount(any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(hot)));
+        when(categoryRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(category)));
+        when(articleService.preloadArticleResponse(9L)).thenReturn(true);
+        when(articleService.getArticleList(any())).thenReturn(new PageResult<>(List.of(), 0, 10, 0L));
+        when(articleService.getArticlesByIds(List.of(9L), false)).thenReturn(new ArticleBatchDTO(List.of(), List.of()));
+
+        // When
+        warmUpService(true, Duration.ofMinutes(1)).warmUp();
+
+        // Then
+        // 状态 2 × 分类 2 × 类型 2 × 标签 3 × 页码 2 = 48 种组合，2 个线程各 2 轮
+        verify(articleService, times(48 * 2 * 2)).getArticleList(any());
+        verify(articleRepository, atLeastOnce()).findByFilters(any(), any(), eq("NEWS"), any(), any());
+        verify(articleService, times(1)).preloadArticleResponse(9L);
+        verify(articleService, times(4)).getArticlesByIds(List.of(9L), false);
+        verify(articleService, never()).getArticleById(anyLong(), any());
+        verify(articleService, never()).getArticleResponse(anyLong());
+
+        JobDTO job = jobService.getRecentJobs().get(0);
+        assertEquals("WARM_UP", job.getType());
+        assertEquals("COMPLETED", job.getStatus());
+        assertTrue(job.getMessage().contains("详情预加载 1 篇"));
+    }
+
+    @Test
+    void testWarmUpStopsAtDeadline() {
+        // Given
+        when(articleRepository.findByFiltersOrderByViewCount(any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(categoryRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        warmUpService(true, Duration.ofMillis(-1)).warmUp();
+
+        // Then
+        verify(articleService, never()).getArticleList(any());
+        assertTrue(jobService.getRecentJobs().get(0).getMessage().contains("达到时限"));
+    }
+
+    @Test
+    void testDisabledWarmUpDoesNothing() {
+        // When
+        warmUpService(false, Duration.ofMinutes(1)).onApplicationReady();
+
+        // Then
+        verifyNoInteractions(articleService, articleRepository, categoryRepository, transactionManager);
+        assertTrue(jobService.getRecentJobs().isEmpty());
+    }
+}
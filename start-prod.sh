@@ -5,6 +5,10 @@
 #   ./start-prod.sh
 #   或者设置环境变量后启动：
 #   DB_USER=article_db DB_PASSWORD=DsjfmS4mMTacHLmX DB_HOST=localhost DB_PORT=3306 DB_NAME=article_db SERVER_PORT=8083 ./start-prod.sh
+#
+# 快速启动（./deploy.sh --fast-start 生成的 target/fast-start 目录）：
+#   FAST_START_DIR=/www/wwwroot/resource/resourse-api/target/fast-start ./start-prod.sh
+#   使用 prod 配置（Flyway 迁移 + 表结构校验）、AOT 处理过的 Bean 定义和 AppCDS 归档启动
 
 # 设置默认值
 export DB_HOST="${DB_HOST:-localhost}"
@@ -41,6 +45,27 @@ if [ ! -f "$JAVA_CMD" ]; then
     exit 1
 fi
 
+# 快速启动模式
+if [ -n "$FAST_START_DIR" ]; then
+    FAST_START_JAR=$(find "$FAST_START_DIR" -maxdepth 1 -name "*-fast-start.jar" | head -n 1)
+    if [ -z "$FAST_START_JAR" ] || [ ! -f "$FAST_START_DIR/application.jsa" ]; then
+        echo "错误: 快速启动目录不完整: $FAST_START_DIR"
+        echo "请先运行: ./deploy.sh --fast-start"
+        exit 1
+    fi
+    echo "正在以快速启动模式启动应用..."
+    echo "Java 路径: $JAVA_CMD"
+    echo "启动目录: $FAST_START_DIR"
+    echo ""
+    # AppCDS 归档按训练启动时的类路径校验，需与构建时一样在该目录下以相对路径启动
+    cd "$FAST_START_DIR" || exit 1
+    exec "$JAVA_CMD" -Xmx1024M -Xms256M \
+        -XX:SharedArchiveFile=application.jsa \
+        -Dspring.aot.enabled=true \
+        -Dspring.profiles.active=prod \
+        -jar "$(basename "$FAST_START_JAR")" --server.port="${SERVER_PORT}"
+fi
+
 # 检查 JAR 文件是否存在
 if [ ! -f "$JAR_FILE" ]; then
     echo "错误: JAR文件不存在: $JAR_FILE"
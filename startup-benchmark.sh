@@ -0,0 +1,68 @@
+#!/bin/bash
+
+# 启动耗时基准：从启动 JVM 到第一个请求成功返回（time-to-first-request）
+# 使用方法：
+#   ./startup-benchmark.sh [default|fast-start] [次数]
+#   default     target/article-api-1.0.0.jar，默认配置（ddl-auto: update）
+#   fast-start  target/fast-start（./deploy.sh --fast-start 生成），prod 配置 + AOT + AppCDS
+# 数据库配置与 start-prod.sh 相同，通过 DB_* 环境变量传入；fast-start 需要库中已有迁移记录或可执行迁移
+
+MODE="${1:-default}"
+RUNS="${2:-5}"
+PORT="${BENCH_PORT:-18080}"
+URL="http://localhost:${PORT}/api/categories"
+JAVA_CMD="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+LOG_FILE="${LOG_FILE:-/tmp/article-api-startup.log}"
+
+case "$MODE" in
+    default)
+        WORK_DIR="target"
+        CMD=("$JAVA_CMD" -Xmx1024M -Xms256M -jar article-api-1.0.0.jar)
+        ;;
+    fast-start)
+        WORK_DIR="target/fast-start"
+        CMD=("$JAVA_CMD" -Xmx1024M -Xms256M -XX:SharedArchiveFile=application.jsa
+             -Dspring.aot.enabled=true -Dspring.profiles.active=prod
+             -jar article-api-1.0.0-fast-start.jar)
+        ;;
+    *)
+        echo "未知模式: $MODE（可选 default、fast-start）"
+        exit 1
+        ;;
+esac
+
+if [ ! -d "$WORK_DIR" ]; then
+    echo "错误: 目录不存在: $WORK_DIR，请先运行 ./deploy.sh$([ "$MODE" = fast-start ] && echo " --fast-start")"
+    exit 1
+fi
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+echo "模式: $MODE，次数: $RUNS，探测地址: $URL"
+TOTAL=0
+for i in $(seq 1 "$RUNS"); do
+    START=$(now_ms)
+    (cd "$WORK_DIR" && exec "${CMD[@]}" --server.port="$PORT") > "$LOG_FILE" 2>&1 &
+    PID=$!
+
+    # 每 20ms 探测一次，直到第一个请求返回 200
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL")" = "200" ]; do
+        if ! kill -0 "$PID" 2>/dev/null; then
+            echo "第 $i 次启动失败，日志: $LOG_FILE"
+            exit 1
+        fi
+        sleep 0.02
+    done
+    ELAPSED=$(( $(now_ms) - START ))
+    TOTAL=$(( TOTAL + ELAPSED ))
+
+    STARTED=$(grep -o "Started ArticleApiApplication in [0-9.]* seconds" "$LOG_FILE" | head -n 1)
+    echo "第 $i 次: 首个请求 ${ELAPSED}ms（${STARTED:-未找到启动日志}）"
+
+    kill "$PID"
+    wait "$PID" 2>/dev/null
+done
+
+echo "平均首个请求耗时: $(( TOTAL / RUNS ))ms"